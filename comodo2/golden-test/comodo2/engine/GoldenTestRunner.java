@@ -0,0 +1,257 @@
+package comodo2.engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Runs the golden output tests of build.gradle (defineTargetTestingTask) in a single JVM:
+ * each test model is loaded once per target, the targets generate in memory (see Comodo) and the
+ * outputs are compared with the reference directories ignoring changes in the amount of
+ * white space, as "diff -rb" does.
+ *
+ * Generations are sequential since they share the Config singleton, the comparisons
+ * run in parallel with the generation of the next target.
+ *
+ * Usage: GoldenTestRunner [<test name> ...], all tests by default.
+ * Exit code 1 if at least one test fails.
+ */
+public class GoldenTestRunner {
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	/**
+	 * Maximum number of differences reported per test.
+	 */
+	private static final int MAX_REPORTED_DIFFS = 20;
+
+	/**
+	 * Test of a target on a model, see defineTargetTestingTask in build.gradle.
+	 */
+	public static class TestCase {
+		public final String name;
+		public final String model;
+		public final Comodo.Options options = new Comodo.Options();
+		public final String referencePath;
+
+		public TestCase(final String name, final String target, final String model, final String modules,
+				final String generationMode, final String referencePath) {
+			this.name = name;
+			this.model = model;
+			this.referencePath = referencePath;
+			options.setTargetPlatform(target);
+			options.setModules(modules);
+			options.setGenerationMode(generationMode);
+			options.setFullyQualifiedStateNames(false);
+		}
+
+		public TestCase(final String name, final String target, final String model, final String modules,
+				final String generationMode, final String referencePath, final String targetPlatformCfg) {
+			this(name, target, model, modules, generationMode, referencePath);
+			options.setTargetPlatformCfg(targetPlatformCfg);
+		}
+	}
+
+	/**
+	 * Result of a test.
+	 */
+	public static class Result {
+		public final String name;
+		public long generationNanos;
+		public long compareNanos;
+		public int files;
+		public final List<String> diffs = new ArrayList<String>();
+
+		public Result(final String name) {
+			this.name = name;
+		}
+
+		public boolean isPassed() {
+			return diffs.isEmpty();
+		}
+	}
+
+	public static List<TestCase> getTestCases() {
+		return Arrays.asList(
+			new TestCase("QPC-C", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref"),
+			new TestCase("QPC-C-TABLE", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-table", Config.QPC_C_OPT_TABLE),
+			new TestCase("QPC-C-DENSE", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-dense-signals", Config.QPC_C_OPT_DENSE_SIGNALS),
+			new TestCase("QPC-C-SIZING", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-sizing", Config.QPC_OPT_SIZING),
+			new TestCase("QPC-C-POOL", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-string-pool", Config.QPC_C_OPT_STRING_POOL),
+			new TestCase("QPC-C-TIMERS", Config.TARGET_PLATFORM_QPC_C, "./test/qpc/model/timer-test-model/timer-test-model.uml",
+					"Oven", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-coalesce-timers", Config.QPC_OPT_COALESCE_TIMERS),
+			new TestCase("SCXML-COMPACT", Config.TARGET_PLATFORM_SCXML, "./test/qpc/model/qpc-test-model/qpc-test-model.uml",
+					"BlinkyChoice", Config.GEN_MODE_DEFAULT, "./test/qpc/ref-scxml-compact", Config.SCXML_OPT_COMPACT),
+			new TestCase("ELT-RAD1", Config.TARGET_PLATFORM_ELT_RAD, "./test/elt/model/hello/EELT_ICS_ApplicationFramework.uml",
+					"hellomalif hellomal", Config.GEN_MODE_ALL, "./test/elt/ref/hello"),
+			new TestCase("ELT-RAD2", Config.TARGET_PLATFORM_ELT_RAD, "./test/elt/model/hello/EELT_ICS_ApplicationFramework.uml",
+					"hellomalif2 externalif2 hellomal2", Config.GEN_MODE_ALL, "./test/elt/ref/hello2"),
+			new TestCase("ELT-RAD-CPPTABLES", Config.TARGET_PLATFORM_ELT_RAD, "./test/elt/model/hello/EELT_ICS_ApplicationFramework.uml",
+					"hellomalif hellomal", Config.GEN_MODE_ALL, "./test/elt/ref/hello-cpptables", Config.ELT_RAD_OPT_CPPTABLES),
+			new TestCase("ELT-RAD-ACTIONIDS", Config.TARGET_PLATFORM_ELT_RAD, "./test/elt/model/hello/EELT_ICS_ApplicationFramework.uml",
+					"hellomalif hellomal", Config.GEN_MODE_ALL, "./test/elt/ref/hello-actionids", Config.ELT_RAD_OPT_ACTIONIDS));
+	}
+
+	public static void main(String[] args) {
+		mLogger.setLevel(Level.WARN);
+		List<TestCase> tests = new ArrayList<TestCase>();
+		for (TestCase t : getTestCases()) {
+			if (args.length == 0 || Arrays.asList(args).contains(t.name)) {
+				tests.add(t);
+			}
+		}
+		try {
+			List<Result> results = new GoldenTestRunner().run(tests);
+			System.exit(printResults(results) ? 0 : 1);
+		} catch (Throwable throwable) {
+			mLogger.error(throwable.getMessage(), throwable);
+			System.exit(1);
+		}
+	}
+
+	public List<Result> run(final List<TestCase> tests) throws InterruptedException, ExecutionException {
+		Comodo comodo = new Comodo();
+		Map<String, Resource> models = new HashMap<String, Resource>();
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		List<Future<Result>> futures = new ArrayList<Future<Result>>();
+		try {
+			for (final TestCase t : tests) {
+				long startTime = System.nanoTime();
+				// QPC-C names the unnamed states of the model (see Qpc): a loaded model is only reused by the same target
+				String key = t.model + " " + t.options.getTargetPlatform();
+				Resource model = models.get(key);
+				if (model == null) {
+					model = comodo.load(Paths.get(t.model));
+					models.put(key, model);
+					System.out.println(String.format("Loaded %s (%.3fs)", t.model, (System.nanoTime() - startTime)/1e9));
+					startTime = System.nanoTime();
+				}
+				final Map<String, CharSequence> files = comodo.generate(model, t.options);
+				final long generationNanos = System.nanoTime() - startTime;
+				futures.add(executor.submit(() -> {
+					Result r = compare(t, files);
+					r.generationNanos = generationNanos;
+					return r;
+				}));
+			}
+			List<Result> results = new ArrayList<Result>();
+			for (Future<Result> f : futures) {
+				results.add(f.get());
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Compares the generated files with the reference directory of the test.
+	 */
+	public Result compare(final TestCase test, final Map<String, CharSequence> files) throws IOException {
+		long startTime = System.nanoTime();
+		Result r = new Result(test.name);
+		r.files = files.size();
+		Path ref = Paths.get(test.referencePath);
+		TreeSet<String> paths = new TreeSet<String>(files.keySet());
+		try (Stream<Path> s = Files.walk(ref)) {
+			paths.addAll(s.filter(Files::isRegularFile)
+					.map(p -> ref.relativize(p).toString().replace('\\', '/'))
+					.collect(Collectors.toList()));
+		}
+		for (String p : paths) {
+			CharSequence generated = files.get(p);
+			Path refFile = ref.resolve(p);
+			if (generated == null) {
+				r.diffs.add("Only in reference: " + p);
+			} else if (!Files.isRegularFile(refFile)) {
+				r.diffs.add("Only in generated: " + p);
+			} else {
+				String diff = diff(generated.toString(), new String(Files.readAllBytes(refFile), StandardCharsets.UTF_8));
+				if (diff != null) {
+					r.diffs.add(p + ": " + diff);
+				}
+			}
+		}
+		r.compareNanos = System.nanoTime() - startTime;
+		return r;
+	}
+
+	/**
+	 * Compares two texts line by line ignoring changes in the amount of white space.
+	 * @return first difference, null if none.
+	 */
+	public static String diff(final String generated, final String reference) {
+		String[] g = generated.split("\n", -1);
+		String[] r = reference.split("\n", -1);
+		int gl = trimEmptyEnd(g);
+		int rl = trimEmptyEnd(r);
+		for (int i = 0; i < Math.max(gl, rl); i++) {
+			String a = (i < gl) ? normalize(g[i]) : null;
+			String b = (i < rl) ? normalize(r[i]) : null;
+			if (a == null || b == null || !a.contentEquals(b)) {
+				return "line " + (i + 1) + " generated <" + (a == null ? "EOF" : a) + "> reference <" + (b == null ? "EOF" : b) + ">";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Sequences of white spaces are equivalent to one space, trailing white spaces are ignored.
+	 */
+	private static String normalize(final String line) {
+		return line.replaceAll("\\s+", " ").replaceAll(" $", "");
+	}
+
+	/**
+	 * @return number of lines without the empty line after the last new line.
+	 */
+	private static int trimEmptyEnd(final String[] lines) {
+		return (lines.length > 0 && lines[lines.length - 1].isEmpty()) ? lines.length - 1 : lines.length;
+	}
+
+	/**
+	 * Prints the results and the timings of each test.
+	 * @return true if all tests passed.
+	 */
+	public static boolean printResults(final List<Result> results) {
+		boolean passed = true;
+		System.out.println(String.format("%-18s %6s %6s %14s %12s", "Test", "Result", "Files", "Generation[ms]", "Compare[ms]"));
+		for (Result r : results) {
+			System.out.println(String.format("%-18s %6s %6d %14.3f %12.3f", r.name, r.isPassed() ? "PASS" : "FAIL", r.files,
+					r.generationNanos/1e6, r.compareNanos/1e6));
+		}
+		for (Result r : results) {
+			if (!r.isPassed()) {
+				passed = false;
+				System.out.println("[FAIL] " + r.name + ": " + r.diffs.size() + " file(s) differ from the reference.");
+				for (String d : r.diffs.subList(0, Math.min(r.diffs.size(), MAX_REPORTED_DIFFS))) {
+					System.out.println("  " + d);
+				}
+			}
+		}
+		System.out.println(passed ? "[PASS] All tests succeeded." : "[FAIL] At least one test failed.");
+		return passed;
+	}
+}
@@ -0,0 +1,215 @@
+package comodo2.engine;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+import comodo2.queries.CrossReferenceIndex;
+import comodo2.templates.Root;
+import comodo2.workflows.GeneratorConfig;
+import comodo2.workflows.GeneratorStandaloneSetup;
+
+import com.google.inject.Injector;
+
+/**
+ * Entry point for the tools embedding COMODO2 (instead of Main.run).
+ *
+ * The generated files are returned as a map (path relative to the output directory
+ * -> content) or passed one by one to the given IFileSystemAccess: nothing is written
+ * to disk and no backup is made.
+ *
+ * The injector is created once per instance. Since the options are applied to the
+ * Config singleton, the generations of all instances are serialized.
+ *
+ * Example:
+ *   Comodo.Options o = new Comodo.Options();
+ *   o.setTargetPlatform(Config.TARGET_PLATFORM_SCXML);
+ *   o.setModules("hellomal");
+ *   Map<String, CharSequence> files = new Comodo().generate(Paths.get("model.uml"), o);
+ */
+public class Comodo {
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	/**
+	 * Generation options, same meaning as the command line options of Main.
+	 */
+	public static class Options {
+		private String mTargetPlatform = Config.TARGET_PLATFORM_SCXML;
+		private String mTargetPlatformCfg = "";
+		private String mModules = "";
+		private String mGenerationMode = Config.GEN_MODE_DEFAULT;
+		private boolean mFullyQualifiedStateNames = true;
+		private String mOutputDirectory = null;
+
+		public String getTargetPlatform() {
+			return mTargetPlatform;
+		}
+
+		/**
+		 * @param target one of Config.TARGET_PLATFORM_* (-t).
+		 */
+		public void setTargetPlatform(String target) {
+			mTargetPlatform = target;
+		}
+
+		public String getTargetPlatformCfg() {
+			return mTargetPlatformCfg;
+		}
+
+		/**
+		 * @param cfg target platform options, e.g. "TABLE SIZING" (-c).
+		 */
+		public void setTargetPlatformCfg(String cfg) {
+			mTargetPlatformCfg = cfg;
+		}
+
+		public String getModules() {
+			return mModules;
+		}
+
+		/**
+		 * @param modules modules to generate, separated by spaces (-m).
+		 */
+		public void setModules(String modules) {
+			mModules = modules;
+		}
+
+		public String getGenerationMode() {
+			return mGenerationMode;
+		}
+
+		/**
+		 * @param mode one of Config.GEN_MODE_* (-g). In UPDATE mode the files found in
+		 * the output directory are not generated, see setOutputDirectory.
+		 */
+		public void setGenerationMode(String mode) {
+			mGenerationMode = mode;
+		}
+
+		public boolean isFullyQualifiedStateNames() {
+			return mFullyQualifiedStateNames;
+		}
+
+		/**
+		 * @param fullyQualified false is the same as -a.
+		 */
+		public void setFullyQualifiedStateNames(boolean fullyQualified) {
+			mFullyQualifiedStateNames = fullyQualified;
+		}
+
+		public String getOutputDirectory() {
+			return mOutputDirectory;
+		}
+
+		/**
+		 * @param dir directory the files were generated in (-o), where the UPDATE mode looks
+		 * for the existing files. Nothing is written there. When null (default) no file
+		 * exists, so all files are generated.
+		 */
+		public void setOutputDirectory(String dir) {
+			mOutputDirectory = dir;
+		}
+	}
+
+	private Injector mInjector;
+
+	public synchronized Injector getInjector() {
+		if (mInjector == null) {
+			GeneratorConfig config = new GeneratorConfig();
+			config.setOutputPath("");
+			GeneratorStandaloneSetup setup = new GeneratorStandaloneSetup();
+			setup.setConfig(config);
+			mInjector = setup.createInjectorAndDoEMFRegistration();
+		}
+		return mInjector;
+	}
+
+	/**
+	 * Loads the model file and its dependencies in a new resource set.
+	 */
+	public Resource load(final Path model) {
+		XtextResourceSet resourceSet = getInjector().getInstance(XtextResourceSet.class);
+		return resourceSet.getResource(URI.createFileURI(model.toAbsolutePath().toString()), true);
+	}
+
+	/**
+	 * Loads and generates the given model file.
+	 * @return path relative to the output directory (e.g. "hellomal/resource/config/hellomal/sm.xml") -> content.
+	 */
+	public Map<String, CharSequence> generate(final Path model, final Options options) {
+		return generate(load(model), options);
+	}
+
+	/**
+	 * Generates the given model, e.g. already loaded or modified in memory.
+	 * @return path relative to the output directory -> content.
+	 */
+	public Map<String, CharSequence> generate(final Resource model, final Options options) {
+		InMemoryFileSystemAccess fsa = getInjector().getInstance(InMemoryFileSystemAccess.class);
+		generate(model, options, fsa);
+		Map<String, CharSequence> files = new TreeMap<String, CharSequence>();
+		for (Map.Entry<String, CharSequence> f : fsa.getTextFiles().entrySet()) {
+			files.put(toRelativePath(f.getKey()), f.getValue());
+		}
+		return files;
+	}
+
+	/**
+	 * Generates the given model, each file is passed to fsa as soon as it is generated
+	 * (file names start with "/<module>/").
+	 * The model must be stored in a file (file URI), as with Main.
+	 */
+	public void generate(final Resource model, final Options options, final IFileSystemAccess fsa) {
+		if (!model.getURI().isFile()) {
+			throw new IllegalArgumentException("Model <" + model.getURI() + "> is not a file resource.");
+		}
+		synchronized (Config.getInstance()) {
+			configure(model, options);
+			long startTime = System.nanoTime();
+			getInjector().getInstance(CrossReferenceIndex.class).build(model);
+			getInjector().getInstance(Root.class).doGenerate(model, fsa);
+			mLogger.debug("Generated " + options.getTargetPlatform() + " for modules <" + options.getModules() + "> in memory (" +
+					(System.nanoTime() - startTime)/1e9 + "s)");
+		}
+	}
+
+	/**
+	 * Applies the options to the Config singleton and disables the features
+	 * of Main that read or write files (backup, model cache, complexity report).
+	 */
+	private void configure(final Resource model, final Options options) {
+		Config cfg = Config.getInstance();
+		cfg.setStartTime();
+		cfg.setModelFilepath(Paths.get(model.getURI().toFileString()));
+		cfg.setTargetPlatform(options.getTargetPlatform());
+		cfg.setTargetPlatformCfg(options.getTargetPlatformCfg());
+		cfg.setModules(options.getModules());
+		cfg.setCurrentModule("");
+		cfg.setGenerationMode(options.getGenerationMode());
+		cfg.setGenerateFullyQualifiedStateNames(options.isFullyQualifiedStateNames());
+		cfg.setOutputDirectory(options.getOutputDirectory());
+		cfg.DisableFileBackup();
+		cfg.setModelCacheFilepath(null);
+		cfg.setComplexityReportEnabled(false);
+	}
+
+	/**
+	 * "DEFAULT_OUTPUT/hellomal/src//include/..." -> "hellomal/src/include/..."
+	 */
+	private static String toRelativePath(final String fileName) {
+		String path = fileName;
+		if (path.startsWith(IFileSystemAccess.DEFAULT_OUTPUT)) {
+			path = path.substring(IFileSystemAccess.DEFAULT_OUTPUT.length());
+		}
+		path = path.replaceAll("/+", "/");
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+}
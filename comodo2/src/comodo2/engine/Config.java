@@ -21,6 +21,13 @@ public class Config {
 	public final static  String GEN_MODE_UPDATE = "UPDATE"; // generate (fully generated) files not to be modified by the developer and actionMgr + new actions/activities
 	public final static  String GEN_MODE_ALL = "ALL"; // generate all files also what is responsibility of the developer (i.e. actions/activities etc.)
 
+	/**
+	 * Model validation modes
+	 */
+	public final static  String VALIDATION_MODE_OFF = "OFF";   // no validation (default)
+	public final static  String VALIDATION_MODE_FULL = "FULL"; // validate all elements of the input model
+	public final static  String VALIDATION_MODE_FAST = "FAST"; // validate only the elements of the modules to generate
+
 	/**
 	 * Supported Platforms
 	 */
@@ -34,6 +41,14 @@ public class Config {
 	 * Platforms specific configuration options
 	 */
 	public final static  String ELT_RAD_OPT_NOACTIONSTD = "NOACTIONSSTD";      // Don't add hard coded actionsStd implementation
+	public final static  String ELT_RAD_OPT_CPPTABLES = "CPPTABLES";           // ELT-RAD: C++ header with precomputed state machine tables
+	public final static  String ELT_RAD_OPT_ACTIONIDS = "ACTIONIDS";           // ELT-RAD: compile-time ids and sorted name table for actions/guards
+	public final static  String QPC_C_OPT_TABLE = "TABLE";                     // QPC-C: transition tables and generic dispatcher instead of switch statements
+	public final static  String QPC_C_OPT_DENSE_SIGNALS = "DENSE_SIGNALS";     // QPC-C: signals grouped by subscription set, bitmask region dispatch
+	public final static  String QPC_OPT_SIZING = "SIZING";                     // QPC-C/QM: event pool and queue sizing header and report
+	public final static  String QPC_OPT_COALESCE_TIMERS = "COALESCE_TIMERS";   // QPC-C: mutually exclusive timed states share a QTimeEvt
+	public final static  String QPC_C_OPT_STRING_POOL = "STRING_POOL";         // QPC-C: per-module interned table of the state, region and signal names
+	public final static  String SCXML_OPT_COMPACT = "SCXML_COMPACT";           // SCXML/ELT-RAD: short state ids, no comments/indentation
 	
 	/**
 	 * Configuration Parameters
@@ -46,6 +61,15 @@ public class Config {
 	private String mGenerationMode = GEN_MODE_DEFAULT;
 	private String mOutputDirectory = "";	
 	private Boolean mFileBackupEnabled = true;	
+	private Path mMetricsFilepath;
+	private String mValidationMode = VALIDATION_MODE_OFF;
+	private Path mValidationCacheFilepath;
+	private boolean mComplexityReportEnabled = false;
+	private Path mModelCacheFilepath;
+	private boolean mStaticWiringEnabled = false;
+	private boolean mLowMemoryEnabled = false;
+	private Path mModelSliceFilepath;
+	private boolean mParallelLoadEnabled = false;
 	/*
 	 * By default we use fully qualified state names to avoid
 	 * problems with duplicated state names.
@@ -94,6 +118,14 @@ public class Config {
 		return mGenerationMode.contentEquals(GEN_MODE_UPDATE);
 	}
 
+	public boolean isValidationEnabled() {
+		return !mValidationMode.contentEquals(VALIDATION_MODE_OFF);
+	}
+
+	public boolean isValidationModeFast() {
+		return mValidationMode.contentEquals(VALIDATION_MODE_FAST);
+	}
+
 	public Boolean isFileBackupEnabled() {
 		return mFileBackupEnabled;
 	}
@@ -106,6 +138,87 @@ public class Config {
 		return mModelFilepath;
 	}
 
+	/**
+	 * @return path of the JSON metrics report or null if not requested.
+	 */
+	public Path getMetricsFilepath() {
+		return mMetricsFilepath;
+	}
+
+	/**
+	 * @return true if the complexity report of each module has to be generated.
+	 */
+	public boolean isComplexityReportEnabled() {
+		return mComplexityReportEnabled;
+	}
+
+	public String getValidationMode() {
+		return mValidationMode;
+	}
+
+	/**
+	 * @return path of the validation results cache or null if results are not cached.
+	 */
+	public Path getValidationCacheFilepath() {
+		return mValidationCacheFilepath;
+	}
+
+	/**
+	 * @return path of the state machine model cache or null if not configured.
+	 */
+	public Path getModelCacheFilepath() {
+		return mModelCacheFilepath;
+	}
+
+	/**
+	 * @return true if the state machine models are cached between runs:
+	 * only the SCXML target renders from the models alone.
+	 */
+	public boolean isModelCacheEnabled() {
+		return (mModelCacheFilepath != null) && getTargetPlatform().contentEquals(TARGET_PLATFORM_SCXML);
+	}
+
+	/**
+	 * @return true if the generator is created without the Guice injector (see GeneratorComponents).
+	 */
+	public boolean isStaticWiringEnabled() {
+		return mStaticWiringEnabled;
+	}
+
+	/**
+	 * @return true if the memory footprint is reduced at the cost of throughput:
+	 * profiles unloaded before generation and caches released after each state machine.
+	 */
+	public boolean isLowMemoryEnabled() {
+		return mLowMemoryEnabled;
+	}
+
+	/**
+	 * @return path of the model slice or null if not configured.
+	 */
+	public Path getModelSliceFilepath() {
+		return mModelSliceFilepath;
+	}
+
+	/**
+	 * @return true if the elements needed by the selected modules are stored
+	 * in the model slice file and loaded from it instead of the model (see ModelSlicer).
+	 */
+	public boolean isModelSliceEnabled() {
+		return (mModelSliceFilepath != null) && !getModulesStr().trim().isEmpty();
+	}
+
+	/**
+	 * @return true if the model and its profiles are parsed in parallel
+	 * while the model is loaded (see ResourcePreloader).
+	 */
+	public boolean isParallelLoadEnabled() {
+		return mParallelLoadEnabled;
+	}
+
+	/**
+	 * @return the output directory (-o), null when generating in memory without one (see Comodo).
+	 */
 	public String getOutputDirectory() {
 		return mOutputDirectory;
 	}
@@ -130,8 +243,17 @@ public class Config {
 		return mTargetPlatformCfg;
 	}
 
+	/**
+	 * @return true if the given option is one of the options (separated by spaces, commas or semicolons)
+	 * given with -c.
+	 */
 	public Boolean hasTargetPlatformCfgOption(String option) {
-		return mTargetPlatformCfg.contains(option);
+		for (String o : mTargetPlatformCfg.split("[\\s,;]+")) {
+			if (o.contentEquals(option)) {
+				return true;
+			}
+		}
+		return false;
 	}
 	
 	public String getGenerationMode() {
@@ -154,10 +276,52 @@ public class Config {
 		}
 	}
 
+	public void setValidationMode(String mode) {
+		if (mode.contentEquals(VALIDATION_MODE_FULL)) {
+			mValidationMode = VALIDATION_MODE_FULL;
+		} else if (mode.contentEquals(VALIDATION_MODE_FAST)) {
+			mValidationMode = VALIDATION_MODE_FAST;
+		} else {
+			mValidationMode = VALIDATION_MODE_OFF;
+		}
+	}
+
+	public void setValidationCacheFilepath(Path cacheFilepath) {
+		mValidationCacheFilepath = cacheFilepath;
+	}
+
+	public void setModelCacheFilepath(Path cacheFilepath) {
+		mModelCacheFilepath = cacheFilepath;
+	}
+
+	public void setStaticWiringEnabled(boolean enabled) {
+		mStaticWiringEnabled = enabled;
+	}
+
+	public void setLowMemoryEnabled(boolean enabled) {
+		mLowMemoryEnabled = enabled;
+	}
+
+	public void setModelSliceFilepath(Path sliceFilepath) {
+		mModelSliceFilepath = sliceFilepath;
+	}
+
+	public void setParallelLoadEnabled(boolean enabled) {
+		mParallelLoadEnabled = enabled;
+	}
+
 	public void setModelFilepath(Path modelFilepath) {
 		mModelFilepath = modelFilepath;
 	}
 
+	public void setMetricsFilepath(Path metricsFilepath) {
+		mMetricsFilepath = metricsFilepath;
+	}
+
+	public void setComplexityReportEnabled(boolean enabled) {
+		mComplexityReportEnabled = enabled;
+	}
+
 	public void setGenerateFullyQualifiedStateNames(boolean fullyQualified) {
 		mGenerateFullyQualifiedStateNames = fullyQualified;
 	}
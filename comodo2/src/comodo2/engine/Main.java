@@ -1,9 +1,11 @@
 package comodo2.engine;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.cli.CommandLine;
@@ -18,12 +20,27 @@ import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.resource.XtextResourceSet;
-
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+
+import comodo2.ir.ModelCache;
+import comodo2.metrics.Metrics;
+import comodo2.queries.CrossReferenceIndex;
+import comodo2.queries.ModelIndex;
+import comodo2.queries.StereotypeIndex;
 import comodo2.templates.Root;
+import comodo2.workflows.GeneratorComponents;
 import comodo2.workflows.GeneratorConfig;
 import comodo2.workflows.GeneratorStandaloneSetup;
+import comodo2.workflows.ModelSlicer;
+import comodo2.workflows.ProfileUnloader;
+import comodo2.workflows.ResourcePreloader;
 import comodo2.workflows.XMIVersionHandler;
 
 import com.google.inject.Injector;
@@ -58,7 +75,7 @@ public class Main {
 		opt.addOption("i", "input-model", true, "Filepath of the model to transform. Model should be in EMF XMI (.uml) format.");
 		opt.addOption("o", "output-path", true, "Output directory path.");
 		opt.addOption("t", "target-platform", true, "Target platform [SCXML|ELT-RAD|ELT-MAL|QPC-QM|QPC-C].");		
-		opt.addOption("c", "target-platform-config", true, "Configuration parameters specific to the target platform [NOACTIONSSTD].");
+		opt.addOption("c", "target-platform-config", true, "Configuration parameters specific to the target platform [NOACTIONSSTD|CPPTABLES|ACTIONIDS|TABLE|DENSE_SIGNALS|SIZING|COALESCE_TIMERS|STRING_POOL|SCXML_COMPACT].");
 		opt.addOption("g", "generation-mode", true, "Generation mode [DEFAULT|UPDATE|ALL].");
 		opt.addOption("n", "no-backup", false, "Disable automatic backup of overwritten files.");
 		opt.addOption("a", "avoid-fully-qualified", false, "Avoid using fully qualified names.");
@@ -72,9 +89,77 @@ public class Main {
 			    .argName( "modules" )
 			    .build();
 		opt.addOption(option);
+
+		opt.addOption(Option.builder()
+			    .longOpt( "metrics" )
+			    .desc( "Write timings and counters of the run to the given JSON file."  )
+			    .hasArg()
+			    .argName( "file" )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "complexity" )
+			    .desc( "Write a footprint and complexity report of the state machines of each module (<module>/complexity.txt)."  )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "model-cache" )
+			    .desc( "File where the state machine models are cached between runs (SCXML target): when the model file and the options are unchanged, the model is not loaded."  )
+			    .hasArg()
+			    .argName( "file" )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "model-slice" )
+			    .desc( "File where the elements needed by the selected modules are stored: when the model file and the modules are unchanged, the file is loaded instead of the model."  )
+			    .hasArg()
+			    .argName( "file" )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "parallel-load" )
+			    .desc( "Parse the model and its profiles in parallel while the model is loaded."  )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "static-wiring" )
+			    .desc( "Create the generator without the dependency injector (faster startup). Not supported with --validation."  )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "low-memory" )
+			    .desc( "Reduce the memory used for large models at the cost of speed: profiles are unloaded before generation and caches are released after each state machine."  )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "validation" )
+			    .desc( "Validate the input model before generation [OFF|FULL|FAST]. FAST validates only the selected modules."  )
+			    .hasArg()
+			    .argName( "mode" )
+			    .build());
+		opt.addOption(Option.builder()
+			    .longOpt( "validation-cache" )
+			    .desc( "File where validation results are cached between runs (no cache by default)."  )
+			    .hasArg()
+			    .argName( "file" )
+			    .build());
 		return opt;
 	}
 
+	/**
+	 * Validates the input model and logs the issues found.
+	 * Validation issues are reported but do not stop the generation.
+	 */
+	public void validate(IResourceValidator validator, Resource inputModel) {
+		List<Issue> issues = validator.validate(inputModel, CheckMode.ALL, CancelIndicator.NullImpl);
+		int errors = 0;
+		for (Issue issue : issues) {
+			String msg = "Validation: " + issue.getMessage() + " <" + issue.getUriToProblem() + ">";
+			if (issue.getSeverity() == Severity.ERROR) {
+				mLogger.error(msg);
+				errors++;
+			} else if (issue.getSeverity() == Severity.WARNING) {
+				mLogger.warn(msg);
+			} else {
+				mLogger.info(msg);
+			}
+		}
+		mLogger.info("Validation completed: " + errors + " error(s), " + (issues.size() - errors) + " warning(s)/info(s).");
+	}
+
 	public void run(String[] args) {	
 		mLogger.setLevel(Level.INFO);
 
@@ -104,6 +189,15 @@ public class Main {
 				mLogger.debug("Logging level set to: DEBUG");
 			}
 
+			/*
+			 * Collect metrics: summary table in debug mode, JSON report if requested.
+			 */
+			if (line.hasOption("metrics")) {
+				Config.getInstance().setMetricsFilepath(Paths.get(line.getOptionValue("metrics")));
+			}
+			Metrics.getInstance().setEnabled(line.hasOption('d') || line.hasOption("metrics"));
+			Config.getInstance().setComplexityReportEnabled(line.hasOption("complexity"));
+
 			/*
 			 * Disable automatic backup of overwritten files.
 			 */
@@ -177,6 +271,62 @@ public class Main {
 			}
 			mLogger.debug("Generation Mode: <" + Config.getInstance().getGenerationMode() + ">");			
 
+			/*
+			 * Get validation mode
+			 */
+			if (line.hasOption("validation")) {
+				Config.getInstance().setValidationMode(line.getOptionValue("validation"));
+			}
+			if (line.hasOption("validation-cache")) {
+				Config.getInstance().setValidationCacheFilepath(Paths.get(line.getOptionValue("validation-cache")));
+			}
+			mLogger.debug("Validation Mode: <" + Config.getInstance().getValidationMode() + ">");
+
+			/*
+			 * Get model cache
+			 */
+			if (line.hasOption("model-cache")) {
+				Config.getInstance().setModelCacheFilepath(Paths.get(line.getOptionValue("model-cache")));
+				if (!Config.getInstance().isModelCacheEnabled()) {
+					mLogger.warn("Model cache is only supported by the " + Config.TARGET_PLATFORM_SCXML + " target, ignored.");
+				}
+			}
+
+			/*
+			 * Get model slice
+			 */
+			if (line.hasOption("model-slice")) {
+				Config.getInstance().setModelSliceFilepath(Paths.get(line.getOptionValue("model-slice")));
+				if (!Config.getInstance().isModelSliceEnabled()) {
+					mLogger.warn("Model slice requires the modules to generate (-m), ignored.");
+				}
+			}
+
+			/*
+			 * Get parallel load
+			 */
+			if (line.hasOption("parallel-load")) {
+				Config.getInstance().setParallelLoadEnabled(true);
+			}
+
+			/*
+			 * Get static wiring
+			 */
+			if (line.hasOption("static-wiring")) {
+				if (Config.getInstance().isValidationEnabled()) {
+					mLogger.warn("Static wiring is not supported with the model validation, ignored.");
+				} else {
+					Config.getInstance().setStaticWiringEnabled(true);
+				}
+			}
+
+			/*
+			 * Get low memory mode
+			 */
+			if (line.hasOption("low-memory")) {
+				Config.getInstance().setLowMemoryEnabled(true);
+			}
+
 			/*
 			 * Get output path
 			 */
@@ -214,37 +364,158 @@ public class Main {
 			setup.setConfig(config);
 			setup.setDoInit(true);
 
-			Injector injector = setup.createInjectorAndDoEMFRegistration();
+			long stageTime = System.nanoTime();
+			Injector injector = null;
+			GeneratorComponents components = null;
+			JavaIoFileSystemAccess fsa;
+			Root templatesRoot;
+			if (Config.getInstance().isStaticWiringEnabled()) {
+				components = new GeneratorComponents();
+				components.register();
+				fsa = components.createFileSystemAccess(outputPath);
+				templatesRoot = components.getRoot();
+			} else {
+				injector = setup.createInjectorAndDoEMFRegistration();
 
-			// File System Access for file generation
-			JavaIoFileSystemAccess fsa = injector.getInstance(JavaIoFileSystemAccess.class);
-			fsa.setOutputPath(outputPath);
+				// File System Access for file generation
+				fsa = injector.getInstance(JavaIoFileSystemAccess.class);
+				fsa.setOutputPath(outputPath);
+				templatesRoot = injector.getInstance(Root.class);
+			}
+			Metrics.getInstance().addStageTime(Metrics.STAGE_INJECTOR_SETUP, stageTime);
 			
-			// retrieves the model by URI. This also loads all its dependencies when needed
-			XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
-			Resource inputModel = resourceSet.getResource(URI.createFileURI(modelFilePath.toAbsolutePath().toString()), true);
+			/**
+			 * MODEL CACHE
+			 * The state machine models of the previous run are used when the model file
+			 * and the options did not change (the complexity report needs the model).
+			 */
+			ModelCache modelCache = (components != null) ? components.getModelCache() : injector.getInstance(ModelCache.class);
+			String modelCacheKey = null;
+			if (Config.getInstance().isModelCacheEnabled() && !Config.getInstance().isComplexityReportEnabled()) {
+				try {
+					modelCacheKey = ModelCache.getKey();
+				} catch (IOException e) {
+					mLogger.warn("Could not compute the model cache key of <" + modelFilePath + ">: " + e.getMessage());
+				}
+			}
+			Path modelCachePath = Config.getInstance().getModelCacheFilepath();
+			if (modelCacheKey != null && modelCache.load(modelCachePath, modelCacheKey) && modelCache.hasAllModules()) {
+				mLogger.info("State machine models loaded from <" + modelCachePath + ">, model not loaded.");
+				stageTime = System.nanoTime();
+				templatesRoot.doGenerate(modelCache, Metrics.getInstance().meter(fsa));
+				Metrics.getInstance().addStageTime(Metrics.STAGE_GENERATION, stageTime);
+			} else {
+				modelCache.clear();
+				// retrieves the model by URI. This also loads all its dependencies when needed
+				stageTime = System.nanoTime();
+				ResourceSet resourceSet = (components != null) ? components.createResourceSet() : injector.getInstance(XtextResourceSet.class);
+				URI modelURI = URI.createFileURI(modelFilePath.toAbsolutePath().toString());
+				Resource inputModel = null;
+				String modelSliceKey = null;
+				Path modelSlicePath = Config.getInstance().getModelSliceFilepath();
+				if (Config.getInstance().isModelSliceEnabled()) {
+					try {
+						modelSliceKey = ModelSlicer.getKey();
+						inputModel = new ModelSlicer().load(resourceSet, modelSlicePath, modelURI, modelSliceKey);
+					} catch (IOException e) {
+						mLogger.warn("Could not compute the model slice key of <" + modelFilePath + ">: " + e.getMessage());
+					}
+				}
+				if (inputModel != null) {
+					mLogger.info("Model slice loaded from <" + modelSlicePath + ">, model not loaded.");
+					Metrics.getInstance().addStageTime(Metrics.STAGE_MODEL_LOAD, stageTime);
+				} else {
+					ResourcePreloader preloader = new ResourcePreloader();
+					if (Config.getInstance().isParallelLoadEnabled()) {
+						preloader.preload(resourceSet, modelURI);
+					}
+					inputModel = resourceSet.getResource(modelURI, true);
+					preloader.release(resourceSet);
+					Metrics.getInstance().addStageTime(Metrics.STAGE_MODEL_LOAD, stageTime);
+					if (modelSliceKey != null) {
+						stageTime = System.nanoTime();
+						ModelIndex modelIndex = (components != null) ? components.getModelIndex() : injector.getInstance(ModelIndex.class);
+						new ModelSlicer().save(inputModel, modelIndex, modelSlicePath, modelSliceKey);
+						Metrics.getInstance().addStageTime(Metrics.STAGE_MODEL_SLICE, stageTime);
+					}
+				}
 			
-			// Enhanced Cameo 2024r3 compatibility: Analyze XMI version
-			XMIVersionHandler.XMIVersionInfo xmiInfo = XMIVersionHandler.analyzeXMIVersion(inputModel);
-			mLogger.info("Detected XMI version info: " + xmiInfo.toString());
+				// Enhanced Cameo 2024r3 compatibility: Analyze XMI version
+				stageTime = System.nanoTime();
+				XMIVersionHandler.XMIVersionInfo xmiInfo = XMIVersionHandler.analyzeXMIVersion(inputModel);
+				Metrics.getInstance().addStageTime(Metrics.STAGE_XMI_ANALYSIS, stageTime);
+				mLogger.info("Detected XMI version info: " + xmiInfo.toString());
 			
-			if (!XMIVersionHandler.isCompatibleVersion(xmiInfo)) {
-				mLogger.warn("Potentially incompatible XMI version detected!");
-				mLogger.warn(XMIVersionHandler.getCompatibilityRecommendation(xmiInfo));
-				mLogger.warn("Proceeding with translation attempt...");
-			} else {
-				mLogger.info("XMI version appears compatible");
+				if (!XMIVersionHandler.isCompatibleVersion(xmiInfo)) {
+					mLogger.warn("Potentially incompatible XMI version detected!");
+					mLogger.warn(XMIVersionHandler.getCompatibilityRecommendation(xmiInfo));
+					mLogger.warn("Proceeding with translation attempt...");
+				} else {
+					mLogger.info("XMI version appears compatible");
+				}
+
+				/**
+				 * VALIDATION
+				 */
+				if (Config.getInstance().isValidationEnabled()) {
+					stageTime = System.nanoTime();
+					validate(injector.getInstance(IResourceValidator.class), inputModel);
+					Metrics.getInstance().addStageTime(Metrics.STAGE_VALIDATION, stageTime);
+				}
+
+				/**
+				 * LOW MEMORY
+				 * Stereotypes are resolved from the index from now on.
+				 */
+				if (Config.getInstance().isLowMemoryEnabled()) {
+					stageTime = System.nanoTime();
+					StereotypeIndex stereotypeIndex = (components != null) ? components.getStereotypeIndex() : injector.getInstance(StereotypeIndex.class);
+					new ProfileUnloader().unload(inputModel, stereotypeIndex);
+					Metrics.getInstance().addStageTime(Metrics.STAGE_PROFILE_UNLOAD, stageTime);
+				}
+
+				/**
+				 * MODEL RESOLUTION
+				 * Proxies of the modules selected with -m resolved at once, their cross references indexed.
+				 */
+				if (!Config.getInstance().getModulesStr().trim().isEmpty()) {
+					stageTime = System.nanoTime();
+					CrossReferenceIndex crossReferenceIndex = (components != null) ? components.getCrossReferenceIndex() : injector.getInstance(CrossReferenceIndex.class);
+					crossReferenceIndex.build(inputModel);
+					Metrics.getInstance().addStageTime(Metrics.STAGE_MODEL_RESOLVE, stageTime);
+					mLogger.debug("Resolved " + crossReferenceIndex.getResolvedCount() + " proxies of the modules ("
+							+ crossReferenceIndex.getUnresolvedCount() + " unresolved), " + resourceSet.getResources().size() + " resource(s) loaded.");
+				}
+
+				/**
+				 * GENERATION
+				 * Could also use injector.getInstance(GeneratorDelegate.class) but using Root
+				 * improves readability.
+				 */
+				stageTime = System.nanoTime();
+				templatesRoot.doGenerate(inputModel, Metrics.getInstance().meter(fsa));
+				Metrics.getInstance().addStageTime(Metrics.STAGE_GENERATION, stageTime);
+				if (modelCacheKey != null) {
+					try {
+						modelCache.setDependencies(resourceSet, modelURI);
+						modelCache.save(modelCachePath, modelCacheKey);
+					} catch (IOException e) {
+						mLogger.warn("Could not hash the resources loaded with <" + modelFilePath + ">, model cache not written: " + e.getMessage());
+					}
+				}
 			}
-
-			/**
-			 * GENERATION
-			 * Could also use injector.getInstance(GeneratorDelegate.class) but using Root
-			 * improves readability.
-			 */
-			Root templatesRoot = injector.getInstance(Root.class);
-			templatesRoot.doGenerate(inputModel, fsa);
+			Metrics.getInstance().addStageTime(Metrics.STAGE_TOTAL, startTime);
 
 			mLogger.info("Execution completed (" + (System.nanoTime() - startTime)/1e9 + "s).");			
+			Metrics.getInstance().printSummary(mLogger);
+			if (Config.getInstance().getMetricsFilepath() != null) {
+				try {
+					Metrics.getInstance().writeJson(Config.getInstance().getMetricsFilepath());
+					mLogger.info("Metrics written to <" + Config.getInstance().getMetricsFilepath() + ">");
+				} catch (IOException e) {
+					mLogger.error("Could not write metrics to <" + Config.getInstance().getMetricsFilepath() + ">: " + e.getMessage());
+				}
+			}
 		} catch(NoClassDefFoundError e) {
 			if ("org/eclipse/core/runtime/OperationCanceledException".equals(e.getMessage())) {
 				mLogger.error("Could not load class: org.eclipse.core.runtime.OperationCanceledException");
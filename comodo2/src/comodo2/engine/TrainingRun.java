@@ -0,0 +1,44 @@
+package comodo2.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Runs several generations in the same JVM, as Main would run them one by one.
+ * Used by the cdsArchive task of build.gradle to load the classes of all the targets
+ * before the Class Data Sharing archive is written.
+ *
+ * Usage: TrainingRun <Main arguments> [-- <Main arguments> ...]
+ * Exit code 1 if a generation fails.
+ */
+public class TrainingRun {
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	public static final String SEPARATOR = "--";
+
+	public static void main(String[] args) {
+		try {
+			List<String> runArgs = new ArrayList<String>();
+			for (String a : args) {
+				if (a.equals(SEPARATOR)) {
+					run(runArgs);
+					runArgs.clear();
+				} else {
+					runArgs.add(a);
+				}
+			}
+			run(runArgs);
+		} catch(Throwable throwable) {
+			mLogger.error(throwable.getMessage(), throwable);
+			System.exit(1);
+		}
+	}
+
+	private static void run(final List<String> args) {
+		if (!args.isEmpty()) {
+			new Main().run(args.toArray(new String[args.size()]));
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package comodo2.ir;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+import comodo2.engine.Config;
+import comodo2.engine.Main;
+
+/**
+ * State machine models of the generated modules (--model-cache option), stored in
+ * a binary file so that the next run with the same model file and options can
+ * render the templates that support it (SCXML) without loading the model with EMF.
+ *
+ * File layout (DataOutputStream):
+ *   int magic, short version, UTF key,
+ *   int dependencies, then for each dependency: UTF path, long hash,
+ *   int modules, then for each module: UTF name, int models, models (see StateMachineModel.write)
+ * The key is a hash of the content of the model file followed by the options
+ * affecting the models; a file with a different key is ignored. The dependencies
+ * are the other files loaded with the model (profiles, libraries), with the hash
+ * of their content: the file is ignored as well when one of them changed.
+ * Resources read from the jars of the generator (pathmap URIs) are not recorded.
+ *
+ * Only the SCXML target is rendered from the models: the QPC, QM and ELT-RAD
+ * templates and the interfaces (signals) still read the UML model.
+ */
+public class ModelCache {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	private static final int MAGIC = 0x434d4952; // "CMIR"
+	private static final short VERSION = 2;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * Module -> models of the state machines, in generation order.
+	 */
+	private final Map<String, List<StateMachineModel>> mModules = new LinkedHashMap<String, List<StateMachineModel>>();
+
+	/**
+	 * Path -> hash of the content of the files loaded with the model.
+	 */
+	private final Map<String, Long> mDependencies = new TreeMap<String, Long>();
+
+	/**
+	 * Starts (again) the list of models of a module, a module without
+	 * state machines is stored with an empty list.
+	 */
+	public void putModule(final String module) {
+		mModules.put(module, new ArrayList<StateMachineModel>());
+	}
+
+	public void put(final String module, final StateMachineModel model) {
+		List<StateMachineModel> models = mModules.get(module);
+		if (models == null) {
+			models = new ArrayList<StateMachineModel>();
+			mModules.put(module, models);
+		}
+		models.add(model);
+	}
+
+	/**
+	 * @return the models of the module, null if the module is not in the cache.
+	 */
+	public List<StateMachineModel> get(final String module) {
+		return mModules.get(module);
+	}
+
+	public void clear() {
+		mModules.clear();
+		mDependencies.clear();
+	}
+
+	/**
+	 * Records the files of the resources loaded with the model, to be called
+	 * before save.
+	 */
+	public void setDependencies(final ResourceSet resourceSet, final URI modelURI) throws IOException {
+		mDependencies.clear();
+		for (Resource r : resourceSet.getResources()) {
+			URI uri = resourceSet.getURIConverter().normalize(r.getURI());
+			if (uri.isFile() && !uri.equals(modelURI)) {
+				Path path = Paths.get(uri.toFileString());
+				if (Files.exists(path)) {
+					mDependencies.put(path.toAbsolutePath().toString(), hashFile(path));
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return true if all the configured modules are in the cache.
+	 */
+	public boolean hasAllModules() {
+		for (String m : Config.getInstance().getModules()) {
+			if (!mModules.containsKey(m)) {
+				return false;
+			}
+		}
+		return !mModules.isEmpty();
+	}
+
+	/**
+	 * Loads the models stored for the given key.
+	 * @return true if the file exists and was written for the key.
+	 */
+	public boolean load(final Path path, final String key) {
+		clear();
+		if (path == null || !Files.exists(path)) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION || !in.readUTF().contentEquals(key)) {
+				mLogger.debug("Model cache <" + path + "> written for another model or configuration, ignored.");
+				return false;
+			}
+			int dependencies = in.readInt();
+			for (int i = 0; i < dependencies; i++) {
+				String dependency = in.readUTF();
+				long hash = in.readLong();
+				Path dependencyPath = Paths.get(dependency);
+				if (!Files.exists(dependencyPath) || hashFile(dependencyPath) != hash) {
+					mLogger.debug("Model cache <" + path + "> ignored, <" + dependency + "> changed.");
+					clear();
+					return false;
+				}
+				mDependencies.put(dependency, hash);
+			}
+			int modules = in.readInt();
+			for (int i = 0; i < modules; i++) {
+				String module = in.readUTF();
+				int models = in.readInt();
+				putModule(module);
+				for (int j = 0; j < models; j++) {
+					put(module, StateMachineModel.read(in));
+				}
+			}
+			mLogger.debug("Loaded " + modules + " module(s) from model cache <" + path + ">");
+			return true;
+		} catch (IOException e) {
+			mLogger.warn("Could not read model cache <" + path + ">: " + e.getMessage());
+			clear();
+			return false;
+		}
+	}
+
+	public void save(final Path path, final String key) {
+		if (path == null) {
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeUTF(key);
+			out.writeInt(mDependencies.size());
+			for (Map.Entry<String, Long> e : mDependencies.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeLong(e.getValue());
+			}
+			out.writeInt(mModules.size());
+			for (Map.Entry<String, List<StateMachineModel>> e : mModules.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeInt(e.getValue().size());
+				for (StateMachineModel m : e.getValue()) {
+					m.write(out);
+				}
+			}
+			mLogger.debug("Model cache written to <" + path + ">");
+		} catch (IOException e) {
+			mLogger.warn("Could not write model cache <" + path + ">: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return the key of the models generated from the configured model file
+	 * with the current options.
+	 */
+	public static String getKey() throws IOException {
+		return Long.toHexString(hashFile(Config.getInstance().getModelFilepath())) + " " + Config.getInstance().getTargetPlatform() + " " + Config.getInstance().getTargetPlatformCfg()
+				+ " " + Config.getInstance().getModulesStr() + " " + Config.getInstance().generateFullyQualifiedStateNames();
+	}
+
+	/**
+	 * @return FNV-1a hash of the content of the file.
+	 */
+	public static long hashFile(final Path path) throws IOException {
+		long hash = FNV_OFFSET;
+		byte[] buffer = new byte[65536];
+		try (InputStream in = Files.newInputStream(path)) {
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				for (int i = 0; i < n; i++) {
+					hash ^= (buffer[i] & 0xff);
+					hash *= FNV_PRIME;
+				}
+			}
+		}
+		return hash;
+	}
+}
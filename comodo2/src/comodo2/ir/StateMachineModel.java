@@ -0,0 +1,431 @@
+package comodo2.ir;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Compact representation of a state machine, independent of EMF.
+ *
+ * States, regions, history nodes and transitions are identified by their index
+ * in primitive arrays, names by their index in the interned name table (-1 for null).
+ * Names are resolved as the templates see them (see QState.getStateName) with the
+ * naming configuration the model was built with.
+ *
+ * Lists are stored in model order except:
+ * - topStates: sorted by name (StateComparator)
+ * - sortedOutgoing: sorted by TransitionComparator, transitions comparing equal dropped
+ *
+ * Built by StateMachineModelBuilder, stored between runs by ModelCache.
+ */
+public class StateMachineModel {
+
+	public static final byte KIND_SIMPLE = 0;
+	public static final byte KIND_FINAL = 1;
+	public static final byte KIND_COMPOSITE = 2;
+	public static final byte KIND_ORTHOGONAL = 3;
+	/* neither simple nor composite, e.g. submachine state */
+	public static final byte KIND_OTHER = 4;
+
+	public static final byte STATE_HAS_DO_ACTIVITY = 0x01;
+	public static final byte STATE_HAS_TIMER_TRANSITION = 0x02;
+	public static final byte STATE_HAS_HISTORY = 0x04;
+	public static final byte STATE_HAS_NON_FINAL_SUBSTATES = 0x08;
+	public static final byte STATE_HAS_ENTRY = 0x10;
+	public static final byte STATE_HAS_EXIT = 0x20;
+
+	public static final byte HISTORY_SHALLOW = 0;
+	public static final byte HISTORY_DEEP = 1;
+
+	public static final byte TRANSITION_MALFORMED = 0x01;
+	public static final byte TRANSITION_TIMER_WITH_EVENT = 0x02;
+	public static final byte TRANSITION_INTERNAL = 0x04;
+	public static final byte TRANSITION_SIGNAL_EVENT = 0x08;
+	public static final byte TRANSITION_TIME_EVENT = 0x10;
+
+	String name;
+	boolean fullyQualifiedNames;
+	/* counts of the UML model (all states and transitions), for the metrics */
+	int modelStates;
+	int modelTransitions;
+
+	String[] names;
+
+	/* initial state name of the document: the initial state or the first top state */
+	int initialStateName;
+	int[] topStates;
+	int[] signals;
+
+	/* states */
+	int[] stateName;
+	byte[] stateKind;
+	byte[] stateFlags;
+	int[] stateParent;
+	int[] stateInitial;
+	int[] stateEntry;
+	int[] stateExit;
+	int[] stateDoActivity;
+	int[][] stateChildren;
+	int[][] stateRegions;
+	int[][] stateHistory;
+	int[][] stateOutgoing;
+	int[][] stateSortedOutgoing;
+
+	/* regions of the orthogonal states */
+	int[] regionName;
+	int[] regionInitial;
+	int[][] regionStates;
+
+	/* history pseudostates: name, "<region>:<name>" id and target */
+	int[] historyName;
+	int[] historyId;
+	byte[] historyKind;
+	int[] historyTarget;
+
+	/* outgoing transitions of the states */
+	int[] transitionSource;
+	int[] transitionTarget;
+	int[] transitionTargetName;
+	int[] transitionEvent;
+	int[] transitionGuard;
+	int[] transitionAction;
+	int[] transitionDuration;
+	byte[] transitionFlags;
+
+	StateMachineModel() {
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return true if the names were resolved with fully qualified state names.
+	 */
+	public boolean hasFullyQualifiedNames() {
+		return fullyQualifiedNames;
+	}
+
+	public int getModelStateCount() {
+		return modelStates;
+	}
+
+	public int getModelTransitionCount() {
+		return modelTransitions;
+	}
+
+	public String getString(final int nameIndex) {
+		return nameIndex < 0 ? null : names[nameIndex];
+	}
+
+	public int getNameCount() {
+		return names.length;
+	}
+
+	public String getInitialStateName() {
+		return getString(initialStateName);
+	}
+
+	public int[] getTopStates() {
+		return topStates;
+	}
+
+	public int getSignalCount() {
+		return signals.length;
+	}
+
+	public String getSignalName(final int i) {
+		return getString(signals[i]);
+	}
+
+	public int getStateCount() {
+		return stateName.length;
+	}
+
+	public String getStateName(final int s) {
+		return getString(stateName[s]);
+	}
+
+	public byte getStateKind(final int s) {
+		return stateKind[s];
+	}
+
+	public boolean isComposite(final int s) {
+		return stateKind[s] == KIND_COMPOSITE || stateKind[s] == KIND_ORTHOGONAL;
+	}
+
+	public boolean hasStateFlag(final int s, final byte flag) {
+		return (stateFlags[s] & flag) != 0;
+	}
+
+	/**
+	 * @return parent state, -1 for top states.
+	 */
+	public int getParent(final int s) {
+		return stateParent[s];
+	}
+
+	/**
+	 * @return initial substate, -1 if none.
+	 */
+	public int getInitialSubstate(final int s) {
+		return stateInitial[s];
+	}
+
+	/**
+	 * @return name of the entry behavior, null if none (see STATE_HAS_ENTRY).
+	 */
+	public String getEntryName(final int s) {
+		return getString(stateEntry[s]);
+	}
+
+	public String getExitName(final int s) {
+		return getString(stateExit[s]);
+	}
+
+	public String getDoActivityName(final int s) {
+		return getString(stateDoActivity[s]);
+	}
+
+	/**
+	 * @return direct substates of a composite state.
+	 */
+	public int[] getChildren(final int s) {
+		return stateChildren[s];
+	}
+
+	public int[] getRegions(final int s) {
+		return stateRegions[s];
+	}
+
+	public int[] getHistory(final int s) {
+		return stateHistory[s];
+	}
+
+	public int[] getOutgoing(final int s) {
+		return stateOutgoing[s];
+	}
+
+	public int[] getSortedOutgoing(final int s) {
+		return stateSortedOutgoing[s];
+	}
+
+	public int getRegionCount() {
+		return regionName.length;
+	}
+
+	public String getRegionName(final int r) {
+		return getString(regionName[r]);
+	}
+
+	public int getRegionInitialState(final int r) {
+		return regionInitial[r];
+	}
+
+	public int[] getRegionStates(final int r) {
+		return regionStates[r];
+	}
+
+	public String getHistoryName(final int h) {
+		return getString(historyName[h]);
+	}
+
+	public String getHistoryId(final int h) {
+		return getString(historyId[h]);
+	}
+
+	public byte getHistoryKind(final int h) {
+		return historyKind[h];
+	}
+
+	/**
+	 * @return "<region>:<name>" of the target of the history default transition, null if none.
+	 */
+	public String getHistoryTarget(final int h) {
+		return getString(historyTarget[h]);
+	}
+
+	public int getTransitionCount() {
+		return transitionSource.length;
+	}
+
+	public int getTransitionSource(final int t) {
+		return transitionSource[t];
+	}
+
+	/**
+	 * @return target state, -1 if the target is not a state.
+	 */
+	public int getTransitionTarget(final int t) {
+		return transitionTarget[t];
+	}
+
+	/**
+	 * @return see TransitionInfo.getTargetName().
+	 */
+	public String getTransitionTargetName(final int t) {
+		return getString(transitionTargetName[t]);
+	}
+
+	public String getTransitionEvent(final int t) {
+		return getString(transitionEvent[t]);
+	}
+
+	public String getTransitionGuard(final int t) {
+		return getString(transitionGuard[t]);
+	}
+
+	public String getTransitionAction(final int t) {
+		return getString(transitionAction[t]);
+	}
+
+	public String getTransitionDuration(final int t) {
+		return getString(transitionDuration[t]);
+	}
+
+	public boolean hasTransitionFlag(final int t, final byte flag) {
+		return (transitionFlags[t] & flag) != 0;
+	}
+
+	public void write(final DataOutputStream out) throws IOException {
+		out.writeUTF(name);
+		out.writeBoolean(fullyQualifiedNames);
+		out.writeInt(modelStates);
+		out.writeInt(modelTransitions);
+		out.writeInt(names.length);
+		for (String n : names) {
+			out.writeUTF(n);
+		}
+		out.writeInt(initialStateName);
+		write(out, topStates);
+		write(out, signals);
+
+		write(out, stateName);
+		write(out, stateKind);
+		write(out, stateFlags);
+		write(out, stateParent);
+		write(out, stateInitial);
+		write(out, stateEntry);
+		write(out, stateExit);
+		write(out, stateDoActivity);
+		write(out, stateChildren);
+		write(out, stateRegions);
+		write(out, stateHistory);
+		write(out, stateOutgoing);
+		write(out, stateSortedOutgoing);
+
+		write(out, regionName);
+		write(out, regionInitial);
+		write(out, regionStates);
+
+		write(out, historyName);
+		write(out, historyId);
+		write(out, historyKind);
+		write(out, historyTarget);
+
+		write(out, transitionSource);
+		write(out, transitionTarget);
+		write(out, transitionTargetName);
+		write(out, transitionEvent);
+		write(out, transitionGuard);
+		write(out, transitionAction);
+		write(out, transitionDuration);
+		write(out, transitionFlags);
+	}
+
+	public static StateMachineModel read(final DataInputStream in) throws IOException {
+		StateMachineModel m = new StateMachineModel();
+		m.name = in.readUTF();
+		m.fullyQualifiedNames = in.readBoolean();
+		m.modelStates = in.readInt();
+		m.modelTransitions = in.readInt();
+		m.names = new String[in.readInt()];
+		for (int i = 0; i < m.names.length; i++) {
+			m.names[i] = in.readUTF();
+		}
+		m.initialStateName = in.readInt();
+		m.topStates = readInts(in);
+		m.signals = readInts(in);
+
+		m.stateName = readInts(in);
+		m.stateKind = readBytes(in);
+		m.stateFlags = readBytes(in);
+		m.stateParent = readInts(in);
+		m.stateInitial = readInts(in);
+		m.stateEntry = readInts(in);
+		m.stateExit = readInts(in);
+		m.stateDoActivity = readInts(in);
+		m.stateChildren = readLists(in);
+		m.stateRegions = readLists(in);
+		m.stateHistory = readLists(in);
+		m.stateOutgoing = readLists(in);
+		m.stateSortedOutgoing = readLists(in);
+
+		m.regionName = readInts(in);
+		m.regionInitial = readInts(in);
+		m.regionStates = readLists(in);
+
+		m.historyName = readInts(in);
+		m.historyId = readInts(in);
+		m.historyKind = readBytes(in);
+		m.historyTarget = readInts(in);
+
+		m.transitionSource = readInts(in);
+		m.transitionTarget = readInts(in);
+		m.transitionTargetName = readInts(in);
+		m.transitionEvent = readInts(in);
+		m.transitionGuard = readInts(in);
+		m.transitionAction = readInts(in);
+		m.transitionDuration = readInts(in);
+		m.transitionFlags = readBytes(in);
+		return m;
+	}
+
+	private static void write(final DataOutputStream out, final int[] values) throws IOException {
+		out.writeInt(values.length);
+		for (int v : values) {
+			out.writeInt(v);
+		}
+	}
+
+	private static void write(final DataOutputStream out, final byte[] values) throws IOException {
+		out.writeInt(values.length);
+		out.write(values);
+	}
+
+	private static void write(final DataOutputStream out, final int[][] lists) throws IOException {
+		out.writeInt(lists.length);
+		for (int[] l : lists) {
+			write(out, l);
+		}
+	}
+
+	private static int[] readInts(final DataInputStream in) throws IOException {
+		int[] values = new int[checkLength(in.readInt())];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = in.readInt();
+		}
+		return values;
+	}
+
+	private static byte[] readBytes(final DataInputStream in) throws IOException {
+		byte[] values = new byte[checkLength(in.readInt())];
+		in.readFully(values);
+		return values;
+	}
+
+	private static int[][] readLists(final DataInputStream in) throws IOException {
+		int[][] lists = new int[checkLength(in.readInt())][];
+		for (int i = 0; i < lists.length; i++) {
+			lists[i] = readInts(in);
+		}
+		return lists;
+	}
+
+	private static int checkLength(final int length) throws IOException {
+		if (length < 0 || length > (1 << 24)) {
+			throw new IOException("invalid array length " + length);
+		}
+		return length;
+	}
+}
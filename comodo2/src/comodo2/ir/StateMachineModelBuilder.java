@@ -0,0 +1,378 @@
+package comodo2.ir;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Iterables;
+
+import org.apache.log4j.Logger;
+import org.eclipse.uml2.uml.Pseudostate;
+import org.eclipse.uml2.uml.PseudostateKind;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.Vertex;
+
+import comodo2.engine.Config;
+import comodo2.engine.Main;
+import comodo2.queries.QRegion;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.queries.QTransition;
+import comodo2.queries.TransitionInfo;
+import comodo2.utils.StateComparator;
+import comodo2.utils.TransitionComparator;
+
+/**
+ * Builds the StateMachineModel of a UML state machine using the queries,
+ * so that the model contains the names and relations the templates would get
+ * from the queries with the current naming configuration.
+ */
+public class StateMachineModelBuilder {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QRegion mQRegion;
+
+	@Inject
+	private QTransition mQTransition;
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	/* state of the model being built */
+	private StateMachineModel mModel;
+	private final Map<String, Integer> mNameIndex = new HashMap<String, Integer>();
+	private final List<String> mNames = new ArrayList<String>();
+	private final Map<State, Integer> mStateIndex = new HashMap<State, Integer>();
+	private final Map<Pseudostate, Integer> mHistoryIndex = new HashMap<Pseudostate, Integer>();
+	private final List<Region> mRegions = new ArrayList<Region>();
+	private final List<Pseudostate> mHistory = new ArrayList<Pseudostate>();
+	private final List<Transition> mTransitions = new ArrayList<Transition>();
+
+	public StateMachineModel build(final StateMachine sm) {
+		mModel = new StateMachineModel();
+		mNameIndex.clear();
+		mNames.clear();
+		mStateIndex.clear();
+		mHistoryIndex.clear();
+		mRegions.clear();
+		mHistory.clear();
+		mTransitions.clear();
+
+		StateMachineModel m = mModel;
+		m.name = sm.getName();
+		m.fullyQualifiedNames = Config.getInstance().generateFullyQualifiedStateNames();
+		m.modelStates = Iterables.size(mQStateMachine.getAllStates(sm));
+		m.modelTransitions = Iterables.size(mQStateMachine.getAllTransitions(sm));
+
+		List<State> states = new ArrayList<State>();
+		Iterables.addAll(states, mQStateMachine.getAllStates(sm));
+		for (State s : states) {
+			mStateIndex.put(s, mStateIndex.size());
+		}
+		int n = states.size();
+		m.stateName = new int[n];
+		m.stateKind = new byte[n];
+		m.stateFlags = new byte[n];
+		m.stateParent = new int[n];
+		m.stateInitial = new int[n];
+		m.stateEntry = new int[n];
+		m.stateExit = new int[n];
+		m.stateDoActivity = new int[n];
+		m.stateChildren = new int[n][];
+		m.stateRegions = new int[n][];
+		m.stateHistory = new int[n][];
+		m.stateOutgoing = new int[n][];
+		m.stateSortedOutgoing = new int[n][];
+		for (int i = 0; i < n; i++) {
+			addState(i, states.get(i));
+		}
+
+		m.regionName = new int[mRegions.size()];
+		m.regionInitial = new int[mRegions.size()];
+		m.regionStates = new int[mRegions.size()][];
+		for (int i = 0; i < mRegions.size(); i++) {
+			addRegion(i, mRegions.get(i));
+		}
+
+		m.historyName = new int[mHistory.size()];
+		m.historyId = new int[mHistory.size()];
+		m.historyKind = new byte[mHistory.size()];
+		m.historyTarget = new int[mHistory.size()];
+		for (int i = 0; i < mHistory.size(); i++) {
+			addHistory(i, mHistory.get(i));
+		}
+
+		int t = mTransitions.size();
+		m.transitionSource = new int[t];
+		m.transitionTarget = new int[t];
+		m.transitionTargetName = new int[t];
+		m.transitionEvent = new int[t];
+		m.transitionGuard = new int[t];
+		m.transitionAction = new int[t];
+		m.transitionDuration = new int[t];
+		m.transitionFlags = new byte[t];
+		for (int i = 0; i < t; i++) {
+			addTransition(i, mTransitions.get(i));
+		}
+
+		TreeSet<State> sortedTopStates = new TreeSet<State>(new StateComparator());
+		for (final State s : Iterables.<State>filter(sm.allOwnedElements(), State.class)) {
+			if (mQState.isTopState(s)) {
+				sortedTopStates.add(s);
+			}
+		}
+		m.topStates = toIndexes(sortedTopStates, mStateIndex);
+		m.initialStateName = intern(getInitialStateName(sm));
+
+		List<String> signals = new ArrayList<String>();
+		Iterables.addAll(signals, mQStateMachine.getAllSignalNames(sm));
+		m.signals = new int[signals.size()];
+		for (int i = 0; i < signals.size(); i++) {
+			m.signals[i] = intern(signals.get(i));
+		}
+
+		m.names = mNames.toArray(new String[mNames.size()]);
+		mModel = null;
+		return m;
+	}
+
+	private void addState(final int i, final State s) {
+		StateMachineModel m = mModel;
+		m.stateName[i] = intern(mQState.getStateName(s));
+		if (mQState.isFinal(s)) {
+			m.stateKind[i] = StateMachineModel.KIND_FINAL;
+		} else if (s.isSimple()) {
+			m.stateKind[i] = StateMachineModel.KIND_SIMPLE;
+		} else if (s.isComposite()) {
+			m.stateKind[i] = s.isOrthogonal() ? StateMachineModel.KIND_ORTHOGONAL : StateMachineModel.KIND_COMPOSITE;
+		} else {
+			m.stateKind[i] = StateMachineModel.KIND_OTHER;
+		}
+		State parent = mQState.getParentState(s);
+		m.stateParent[i] = (parent == null) ? -1 : mStateIndex.get(parent);
+		m.stateEntry[i] = mQState.hasOnEntryActions(s) ? intern(s.getEntry().getName()) : -1;
+		m.stateExit[i] = mQState.hasOnExitActions(s) ? intern(s.getExit().getName()) : -1;
+		m.stateDoActivity[i] = (s.getDoActivity() != null) ? intern(s.getDoActivity().getName()) : -1;
+
+		byte flags = 0;
+		if (mQState.hasOnEntryActions(s)) {
+			flags |= StateMachineModel.STATE_HAS_ENTRY;
+		}
+		if (mQState.hasOnExitActions(s)) {
+			flags |= StateMachineModel.STATE_HAS_EXIT;
+		}
+		if (mQState.hasDoActivities(s)) {
+			flags |= StateMachineModel.STATE_HAS_DO_ACTIVITY;
+		}
+		if (mQState.hasTimerTransition(s)) {
+			flags |= StateMachineModel.STATE_HAS_TIMER_TRANSITION;
+		}
+		if (mQState.hasHistory(s)) {
+			flags |= StateMachineModel.STATE_HAS_HISTORY;
+		}
+		if (s.isComposite() && !Iterables.isEmpty(mQState.getAllNonFinalSubstates(s))) {
+			flags |= StateMachineModel.STATE_HAS_NON_FINAL_SUBSTATES;
+		}
+		m.stateFlags[i] = flags;
+
+		m.stateInitial[i] = -1;
+		m.stateChildren[i] = new int[0];
+		m.stateRegions[i] = new int[0];
+		m.stateHistory[i] = new int[0];
+		if (s.isComposite()) {
+			m.stateChildren[i] = toIndexes(mQState.getAllDirectSubstates(s), mStateIndex);
+			if (s.isOrthogonal()) {
+				List<Integer> regions = new ArrayList<Integer>();
+				for (Region r : Iterables.<Region>filter(s.allOwnedElements(), Region.class)) {
+					if (r.getOwner() == s) {
+						regions.add(mRegions.size());
+						mRegions.add(r);
+					}
+				}
+				m.stateRegions[i] = toArray(regions);
+			} else {
+				m.stateInitial[i] = getInitialIndex(s, null);
+			}
+			if ((flags & StateMachineModel.STATE_HAS_HISTORY) != 0) {
+				List<Integer> history = new ArrayList<Integer>();
+				for (Pseudostate hs : mQState.getHistory(s)) {
+					Integer h = mHistoryIndex.get(hs);
+					if (h == null) {
+						h = mHistory.size();
+						mHistoryIndex.put(hs, h);
+						mHistory.add(hs);
+					}
+					history.add(h);
+				}
+				m.stateHistory[i] = toArray(history);
+			}
+		}
+
+		m.stateOutgoing[i] = new int[s.getOutgoings().size()];
+		Map<Transition, Integer> outgoing = new HashMap<Transition, Integer>();
+		for (int j = 0; j < s.getOutgoings().size(); j++) {
+			Transition t = s.getOutgoings().get(j);
+			outgoing.put(t, mTransitions.size());
+			m.stateOutgoing[i][j] = mTransitions.size();
+			mTransitions.add(t);
+		}
+		TreeSet<Transition> sortedTrans = new TreeSet<Transition>(new TransitionComparator());
+		sortedTrans.addAll(s.getOutgoings());
+		m.stateSortedOutgoing[i] = toIndexes(sortedTrans, outgoing);
+	}
+
+	private void addRegion(final int i, final Region r) {
+		StateMachineModel m = mModel;
+		m.regionName[i] = intern(mQRegion.getRegionName(r));
+		m.regionInitial[i] = getInitialIndex(null, r);
+		List<Integer> substates = new ArrayList<Integer>();
+		for (State substate : Iterables.<State>filter(r.allOwnedElements(), State.class)) {
+			if (Objects.equal(substate.getOwner(), r)) {
+				substates.add(mStateIndex.get(substate));
+			}
+		}
+		m.regionStates[i] = toArray(substates);
+	}
+
+	private void addHistory(final int i, final Pseudostate hs) {
+		StateMachineModel m = mModel;
+		m.historyName[i] = intern(hs.getName());
+		m.historyId[i] = intern(mQRegion.getRegionName(hs.getContainer()) + ":" + hs.getName());
+		m.historyKind[i] = (hs.getKind() == PseudostateKind.SHALLOW_HISTORY_LITERAL) ? StateMachineModel.HISTORY_SHALLOW : StateMachineModel.HISTORY_DEEP;
+		m.historyTarget[i] = -1;
+		if (hs.getOutgoings() != null && !hs.getOutgoings().isEmpty() && hs.getOutgoings().get(0).getTarget() != null) {
+			Vertex target = hs.getOutgoings().get(0).getTarget();
+			m.historyTarget[i] = intern(mQRegion.getRegionName(target.getContainer()) + ":" + target.getName());
+		}
+	}
+
+	private void addTransition(final int i, final Transition t) {
+		StateMachineModel m = mModel;
+		TransitionInfo info = mQTransition.getInfo(t);
+		m.transitionSource[i] = (t.getSource() instanceof State) ? mStateIndex.get(t.getSource()) : -1;
+		Integer target = (t.getTarget() instanceof State) ? mStateIndex.get(t.getTarget()) : null;
+		m.transitionTarget[i] = (target == null) ? -1 : target;
+		m.transitionTargetName[i] = intern(info.getTargetName());
+		m.transitionEvent[i] = intern(info.getEventName());
+		m.transitionGuard[i] = intern(info.getGuardName());
+		m.transitionAction[i] = intern(info.getFirstActionName());
+		m.transitionDuration[i] = intern(info.getTimeEventDuration());
+
+		byte flags = 0;
+		if (mQTransition.isMalformed(t)) {
+			flags |= StateMachineModel.TRANSITION_MALFORMED;
+		}
+		if (mQTransition.isTimerTransitionWithEvent(t)) {
+			flags |= StateMachineModel.TRANSITION_TIMER_WITH_EVENT;
+		}
+		if (info.isInternal()) {
+			flags |= StateMachineModel.TRANSITION_INTERNAL;
+		}
+		if (info.hasSignalEventImpl()) {
+			flags |= StateMachineModel.TRANSITION_SIGNAL_EVENT;
+		}
+		if (info.hasTimeEventImpl()) {
+			flags |= StateMachineModel.TRANSITION_TIME_EVENT;
+		}
+		m.transitionFlags[i] = flags;
+	}
+
+	/**
+	 * @return index of the state targeted by the initial pseudostate of the composite
+	 * state s or of the region r, -1 if none or if it targets a pseudostate.
+	 */
+	private int getInitialIndex(final State s, final Region r) {
+		State initial;
+		try {
+			initial = (s != null) ? mQState.getInitialSubstate(s) : mQRegion.getInitialState(r);
+		} catch (ClassCastException e) {
+			// initial transition to a pseudostate
+			mLogger.warn("Initial transition of " + ((s != null) ? mQState.getStateName(s) : mQRegion.getRegionName(r))
+					+ " does not target a state, ignored.");
+			return -1;
+		}
+		Integer i = (initial == null) ? null : mStateIndex.get(initial);
+		return (i == null) ? -1 : i;
+	}
+
+	/**
+	 * @return name of the initial state of the state machine or, if there is none,
+	 * the name of the first top state.
+	 */
+	private String getInitialStateName(final StateMachine sm) {
+		String initialState = mQStateMachine.getInitialStateName(sm);
+		if (initialState == null || initialState.isEmpty()) {
+			for (final State s : Iterables.<State>filter(sm.allOwnedElements(), State.class)) {
+				if (mQState.isTopState(s)) {
+					initialState = mQState.getStateName(s);
+					break;
+				}
+			}
+		}
+		return (initialState == null) ? "" : initialState;
+	}
+
+	/**
+	 * @return index of the name in the name table, -1 for null.
+	 */
+	private int intern(final String name) {
+		if (name == null) {
+			return -1;
+		}
+		Integer i = mNameIndex.get(name);
+		if (i == null) {
+			i = mNames.size();
+			mNameIndex.put(name, i);
+			mNames.add(name);
+		}
+		return i;
+	}
+
+	private static <T> int[] toIndexes(final Iterable<T> elements, final Map<T, Integer> index) {
+		List<Integer> res = new ArrayList<Integer>();
+		for (T e : elements) {
+			Integer i = index.get(e);
+			if (i != null) {
+				res.add(i);
+			}
+		}
+		return toArray(res);
+	}
+
+	private static int[] toArray(final List<Integer> values) {
+		int[] res = new int[values.size()];
+		for (int i = 0; i < res.length; i++) {
+			res[i] = values.get(i);
+		}
+		return res;
+	}
+}
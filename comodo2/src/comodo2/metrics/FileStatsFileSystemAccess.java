@@ -0,0 +1,59 @@
+package comodo2.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.xtext.generator.IFileSystemAccess;
+
+/**
+ * File system access decorator that records the number of lines and bytes (UTF-8)
+ * of each generated file, used by the complexity report of a module.
+ */
+public class FileStatsFileSystemAccess implements IFileSystemAccess {
+
+	private final IFileSystemAccess mDelegate;
+
+	/**
+	 * Generated file -> {lines, bytes}, in generation order.
+	 */
+	private final Map<String, long[]> mFiles = new LinkedHashMap<String, long[]>();
+
+	public FileStatsFileSystemAccess(final IFileSystemAccess delegate) {
+		mDelegate = delegate;
+	}
+
+	@Override
+	public void generateFile(String fileName, CharSequence contents) {
+		mDelegate.generateFile(fileName, contents);
+		record(fileName, contents);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputConfigurationName, CharSequence contents) {
+		mDelegate.generateFile(fileName, outputConfigurationName, contents);
+		record(fileName, contents);
+	}
+
+	@Override
+	public void deleteFile(String fileName) {
+		mDelegate.deleteFile(fileName);
+		mFiles.remove(fileName);
+	}
+
+	public Map<String, long[]> getFiles() {
+		return mFiles;
+	}
+
+	private void record(final String fileName, final CharSequence contents) {
+		long lines = 0;
+		for (int i = 0; i < contents.length(); i++) {
+			if (contents.charAt(i) == '\n') {
+				lines++;
+			}
+		}
+		if (contents.length() > 0 && contents.charAt(contents.length() - 1) != '\n') {
+			lines++;
+		}
+		mFiles.put(fileName, new long[] { lines, Metrics.utf8Length(contents) });
+	}
+}
@@ -0,0 +1,24 @@
+package comodo2.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for each generated file.
+ */
+@Name("comodo2.FileWrite")
+@Label("File Write")
+@Category({"COMODO2", "Generation"})
+@Description("Write of a generated file")
+public class FileWriteEvent extends jdk.jfr.Event {
+
+	@Label("Path")
+	public String path;
+
+	@Label("Bytes")
+	@DataAmount
+	public long bytes;
+}
@@ -0,0 +1,51 @@
+package comodo2.metrics;
+
+import org.eclipse.xtext.generator.IFileSystemAccess;
+
+/**
+ * File system access decorator that records, for each generated file,
+ * the time spent writing it and its size in bytes (UTF-8), both in the
+ * Metrics report and as a FileWriteEvent.
+ */
+public class MeteredFileSystemAccess implements IFileSystemAccess {
+
+	private final IFileSystemAccess mDelegate;
+
+	public MeteredFileSystemAccess(final IFileSystemAccess delegate) {
+		mDelegate = delegate;
+	}
+
+	@Override
+	public void generateFile(String fileName, CharSequence contents) {
+		FileWriteEvent event = new FileWriteEvent();
+		long startTime = System.nanoTime();
+		event.begin();
+		mDelegate.generateFile(fileName, contents);
+		record(event, fileName, contents, startTime);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputConfigurationName, CharSequence contents) {
+		FileWriteEvent event = new FileWriteEvent();
+		long startTime = System.nanoTime();
+		event.begin();
+		mDelegate.generateFile(fileName, outputConfigurationName, contents);
+		record(event, fileName, contents, startTime);
+	}
+
+	@Override
+	public void deleteFile(String fileName) {
+		mDelegate.deleteFile(fileName);
+	}
+
+	private void record(final FileWriteEvent event, final String fileName, final CharSequence contents, final long startTime) {
+		event.end();
+		if (Metrics.getInstance().isEnabled() || event.shouldCommit()) {
+			long bytes = Metrics.utf8Length(contents);
+			Metrics.getInstance().addFile(fileName, bytes, startTime);
+			event.path = fileName;
+			event.bytes = bytes;
+			event.commit();
+		}
+	}
+}
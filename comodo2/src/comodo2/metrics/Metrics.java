@@ -0,0 +1,430 @@
+package comodo2.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.IGenerator;
+
+/**
+ * Collects timings and counters of a transformation run.
+ *
+ * Singleton based on Bill Pugh (see Config).
+ *
+ * Recording is disabled by default and all record methods return immediately
+ * in that case, so the instrumented code paths do not need to check for it.
+ * It is enabled by the --metrics option (JSON report) or by the debug option
+ * (summary table only).
+ *
+ * Independently of this report, the same units of work are emitted as JFR events
+ * (see the *Event classes in this package) when a flight recording is active.
+ *
+ * Stages and templates accumulate their elapsed time, so a template invoked once
+ * per module reports the sum over all modules.
+ *
+ * The peak heap of a stage is the sum of the peak usage of the heap memory pools
+ * since the end of the previous stage (an upper bound, the pools may peak at
+ * different times); the one of the total is the maximum over all stages.
+ */
+public class Metrics {
+
+	/**
+	 * Pipeline stages
+	 */
+	public final static String STAGE_INJECTOR_SETUP = "injector-setup";
+	public final static String STAGE_MODEL_LOAD = "model-load";
+	public final static String STAGE_XMI_ANALYSIS = "xmi-analysis";
+	public final static String STAGE_VALIDATION = "validation";
+	public final static String STAGE_PROFILE_UNLOAD = "profile-unload";
+	public final static String STAGE_MODEL_SLICE = "model-slice";
+	public final static String STAGE_MODEL_RESOLVE = "model-resolve";
+	public final static String STAGE_GENERATION = "generation";
+	public final static String STAGE_TOTAL = "total";
+
+	/**
+	 * Counters. Elements visited are the model elements traversed by the
+	 * state machine templates while looking for classes to generate.
+	 */
+	public final static String COUNTER_ELEMENTS_VISITED = "elements-visited";
+	public final static String COUNTER_STATE_MACHINES = "state-machines";
+	public final static String COUNTER_STATES = "states";
+	public final static String COUNTER_TRANSITIONS = "transitions";
+	public final static String COUNTER_RESOURCES_LOADED = "resources-loaded";
+	public final static String COUNTER_BYTES_LOADED = "bytes-loaded";
+
+	private boolean mEnabled = false;
+	private final Map<String, Long> mStageNanos = new LinkedHashMap<String, Long>();
+	private final Map<String, Long> mStagePeakHeap = new LinkedHashMap<String, Long>();
+	private final Map<String, Long> mModuleNanos = new LinkedHashMap<String, Long>();
+	private final Map<String, Long> mTemplateNanos = new LinkedHashMap<String, Long>();
+	private final Map<String, Long> mTemplateCalls = new LinkedHashMap<String, Long>();
+	private final Map<String, Long> mCounters = new LinkedHashMap<String, Long>();
+	private final Map<String, long[]> mCaches = new LinkedHashMap<String, long[]>();
+	private final List<StateMachineRecord> mStateMachines = new ArrayList<StateMachineRecord>();
+	private final List<FileRecord> mFiles = new ArrayList<FileRecord>();
+
+	private Metrics() {}
+
+	private static class MetricsHelper {
+		private static final Metrics instance = new Metrics();
+	}
+
+	public static Metrics getInstance() {
+		return MetricsHelper.instance;
+	}
+
+	/**
+	 * Timing and size of a generated state machine.
+	 */
+	public static class StateMachineRecord {
+		public final String target;
+		public final String module;
+		public final String name;
+		public final int states;
+		public final int transitions;
+		public final long nanos;
+
+		StateMachineRecord(String target, String module, String name, int states, int transitions, long nanos) {
+			this.target = target;
+			this.module = module;
+			this.name = name;
+			this.states = states;
+			this.transitions = transitions;
+			this.nanos = nanos;
+		}
+	}
+
+	/**
+	 * Timing and size of a written file.
+	 */
+	public static class FileRecord {
+		public final String path;
+		public final long bytes;
+		public final long nanos;
+
+		FileRecord(String path, long bytes, long nanos) {
+			this.path = path;
+			this.bytes = bytes;
+			this.nanos = nanos;
+		}
+	}
+
+	public boolean isEnabled() {
+		return mEnabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		mEnabled = enabled;
+		if (enabled) {
+			resetPeakHeap();
+		}
+	}
+
+	/**
+	 * Adds the time elapsed since startNanos (System.nanoTime()) to the given stage.
+	 */
+	public synchronized void addStageTime(String stage, long startNanos) {
+		if (mEnabled) {
+			add(mStageNanos, stage, System.nanoTime() - startNanos);
+			recordPeakHeap(stage);
+		}
+	}
+
+	public synchronized void addModuleTime(String target, String module, long startNanos) {
+		if (mEnabled) {
+			add(mModuleNanos, target + ":" + module, System.nanoTime() - startNanos);
+		}
+	}
+
+	public synchronized void addTemplateTime(String template, long startNanos) {
+		if (mEnabled) {
+			add(mTemplateNanos, template, System.nanoTime() - startNanos);
+			add(mTemplateCalls, template, 1);
+		}
+	}
+
+	public synchronized void addStateMachine(String target, String module, String name, int states, int transitions, long nanos) {
+		if (mEnabled) {
+			mStateMachines.add(new StateMachineRecord(target, module, name, states, transitions, nanos));
+			add(mCounters, COUNTER_STATE_MACHINES, 1);
+			add(mCounters, COUNTER_STATES, states);
+			add(mCounters, COUNTER_TRANSITIONS, transitions);
+		}
+	}
+
+	public synchronized void addFile(String path, long bytes, long startNanos) {
+		if (mEnabled) {
+			mFiles.add(new FileRecord(path, bytes, System.nanoTime() - startNanos));
+		}
+	}
+
+	public synchronized void count(String counter, long n) {
+		if (mEnabled) {
+			add(mCounters, counter, n);
+		}
+	}
+
+	public synchronized void cacheHit(String cache) {
+		if (mEnabled) {
+			cacheEntry(cache)[0]++;
+		}
+	}
+
+	public synchronized void cacheMiss(String cache) {
+		if (mEnabled) {
+			cacheEntry(cache)[1]++;
+		}
+	}
+
+	/**
+	 * Invokes the given template and records its rendering time.
+	 */
+	public void render(final IGenerator template, final Resource input, final IFileSystemAccess fsa) {
+		long startTime = System.nanoTime();
+		template.doGenerate(input, fsa);
+		addTemplateTime(template.getClass().getSimpleName(), startTime);
+	}
+
+	/**
+	 * Wraps the file system access so that written files are recorded
+	 * in the report and as JFR events.
+	 */
+	public IFileSystemAccess meter(final IFileSystemAccess fsa) {
+		return new MeteredFileSystemAccess(fsa);
+	}
+
+	public synchronized long getCounter(String counter) {
+		Long v = mCounters.get(counter);
+		return (v == null) ? 0 : v;
+	}
+
+	/**
+	 * Logs the collected metrics as a set of tables.
+	 */
+	public synchronized void printSummary(Logger logger) {
+		if (!mEnabled) {
+			return;
+		}
+		logger.info("Metrics summary:");
+		logger.info(String.format("  %-40s %12s %15s", "Stage", "Time [ms]", "Peak heap [MB]"));
+		for (Map.Entry<String, Long> e : mStageNanos.entrySet()) {
+			logger.info(String.format("  %-40s %12.3f %15.1f", e.getKey(), toMillis(e.getValue()), mStagePeakHeap.get(e.getKey()) / 1048576.0));
+		}
+		if (!mModuleNanos.isEmpty()) {
+			logger.info(String.format("  %-40s %12s", "Target:Module", "Time [ms]"));
+			for (Map.Entry<String, Long> e : mModuleNanos.entrySet()) {
+				logger.info(String.format("  %-40s %12.3f", e.getKey(), toMillis(e.getValue())));
+			}
+		}
+		if (!mTemplateNanos.isEmpty()) {
+			logger.info(String.format("  %-40s %12s %6s", "Template", "Time [ms]", "Calls"));
+			for (Map.Entry<String, Long> e : mTemplateNanos.entrySet()) {
+				logger.info(String.format("  %-40s %12.3f %6d", e.getKey(), toMillis(e.getValue()), mTemplateCalls.get(e.getKey())));
+			}
+		}
+		if (!mStateMachines.isEmpty()) {
+			logger.info(String.format("  %-40s %12s %6s %6s", "State Machine", "Time [ms]", "States", "Trans."));
+			for (StateMachineRecord r : mStateMachines) {
+				logger.info(String.format("  %-40s %12.3f %6d %6d", r.target + ":" + r.name, toMillis(r.nanos), r.states, r.transitions));
+			}
+		}
+		long bytes = 0;
+		long nanos = 0;
+		for (FileRecord r : mFiles) {
+			bytes += r.bytes;
+			nanos += r.nanos;
+		}
+		logger.info(String.format("  %-40s %12.3f %6d files %d bytes", "File writes", toMillis(nanos), mFiles.size(), bytes));
+		for (Map.Entry<String, Long> e : mCounters.entrySet()) {
+			logger.info(String.format("  %-40s %12d", e.getKey(), e.getValue()));
+		}
+		for (Map.Entry<String, long[]> e : mCaches.entrySet()) {
+			long[] c = e.getValue();
+			logger.info(String.format("  %-40s %6d hits %6d misses (%.1f%%)", "Cache " + e.getKey(), c[0], c[1], hitRate(c)));
+		}
+	}
+
+	/**
+	 * Writes the collected metrics as a JSON document.
+	 */
+	public synchronized void writeJson(Path path) throws IOException {
+		StringBuilder str = new StringBuilder();
+		str.append("{\n");
+		str.append("  \"stages\": ").append(toJsonMillis(mStageNanos)).append(",\n");
+		str.append("  \"stagePeakHeapBytes\": {");
+		String sep = "\n";
+		for (Map.Entry<String, Long> e : mStagePeakHeap.entrySet()) {
+			str.append(sep).append("    ").append(quote(e.getKey())).append(": ").append(e.getValue());
+			sep = ",\n";
+		}
+		str.append("\n  },\n");
+		str.append("  \"modules\": ").append(toJsonMillis(mModuleNanos)).append(",\n");
+		str.append("  \"templates\": [");
+		sep = "\n";
+		for (Map.Entry<String, Long> e : mTemplateNanos.entrySet()) {
+			str.append(sep).append("    {\"name\": ").append(quote(e.getKey()))
+			   .append(", \"ms\": ").append(format(toMillis(e.getValue())))
+			   .append(", \"calls\": ").append(mTemplateCalls.get(e.getKey())).append("}");
+			sep = ",\n";
+		}
+		str.append("\n  ],\n");
+		str.append("  \"stateMachines\": [");
+		sep = "\n";
+		for (StateMachineRecord r : mStateMachines) {
+			str.append(sep).append("    {\"target\": ").append(quote(r.target))
+			   .append(", \"module\": ").append(quote(r.module))
+			   .append(", \"name\": ").append(quote(r.name))
+			   .append(", \"states\": ").append(r.states)
+			   .append(", \"transitions\": ").append(r.transitions)
+			   .append(", \"ms\": ").append(format(toMillis(r.nanos))).append("}");
+			sep = ",\n";
+		}
+		str.append("\n  ],\n");
+		str.append("  \"files\": [");
+		sep = "\n";
+		for (FileRecord r : mFiles) {
+			str.append(sep).append("    {\"path\": ").append(quote(r.path))
+			   .append(", \"bytes\": ").append(r.bytes)
+			   .append(", \"ms\": ").append(format(toMillis(r.nanos))).append("}");
+			sep = ",\n";
+		}
+		str.append("\n  ],\n");
+		str.append("  \"counters\": {");
+		sep = "\n";
+		for (Map.Entry<String, Long> e : mCounters.entrySet()) {
+			str.append(sep).append("    ").append(quote(e.getKey())).append(": ").append(e.getValue());
+			sep = ",\n";
+		}
+		str.append("\n  },\n");
+		str.append("  \"caches\": {");
+		sep = "\n";
+		for (Map.Entry<String, long[]> e : mCaches.entrySet()) {
+			long[] c = e.getValue();
+			str.append(sep).append("    ").append(quote(e.getKey()))
+			   .append(": {\"hits\": ").append(c[0])
+			   .append(", \"misses\": ").append(c[1])
+			   .append(", \"hitRate\": ").append(format(hitRate(c) / 100.0)).append("}");
+			sep = ",\n";
+		}
+		str.append("\n  }\n");
+		str.append("}\n");
+		Files.write(path, str.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Number of bytes of the UTF-8 encoding of the given text,
+	 * computed without encoding it.
+	 */
+	public static long utf8Length(CharSequence text) {
+		long n = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				n += 1;
+			} else if (c < 0x800) {
+				n += 2;
+			} else if (Character.isHighSurrogate(c)) {
+				n += 4;
+				i++;
+			} else {
+				n += 3;
+			}
+		}
+		return n;
+	}
+
+	private void recordPeakHeap(String stage) {
+		long peak = 0;
+		for (MemoryPoolMXBean p : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (p.getType() == MemoryType.HEAP && p.isValid()) {
+				peak += p.getPeakUsage().getUsed();
+			}
+		}
+		if (STAGE_TOTAL.equals(stage)) {
+			for (Long v : mStagePeakHeap.values()) {
+				peak = Math.max(peak, v);
+			}
+		} else {
+			resetPeakHeap();
+		}
+		Long v = mStagePeakHeap.get(stage);
+		mStagePeakHeap.put(stage, (v == null) ? peak : Math.max(v, peak));
+	}
+
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean p : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (p.getType() == MemoryType.HEAP && p.isValid()) {
+				p.resetPeakUsage();
+			}
+		}
+	}
+
+	private long[] cacheEntry(String cache) {
+		long[] c = mCaches.get(cache);
+		if (c == null) {
+			c = new long[2];
+			mCaches.put(cache, c);
+		}
+		return c;
+	}
+
+	private static void add(Map<String, Long> map, String key, long value) {
+		Long v = map.get(key);
+		map.put(key, (v == null) ? value : v + value);
+	}
+
+	private static double hitRate(long[] c) {
+		return (c[0] + c[1] == 0) ? 0.0 : (100.0 * c[0]) / (c[0] + c[1]);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1e6;
+	}
+
+	private static String format(double v) {
+		return String.format(Locale.ROOT, "%.3f", v);
+	}
+
+	private static String toJsonMillis(Map<String, Long> map) {
+		StringBuilder str = new StringBuilder("{");
+		String sep = "\n";
+		for (Map.Entry<String, Long> e : map.entrySet()) {
+			str.append(sep).append("    ").append(quote(e.getKey())).append(": ").append(format(toMillis(e.getValue())));
+			sep = ",\n";
+		}
+		return str.append("\n  }").toString();
+	}
+
+	private static String quote(String s) {
+		StringBuilder str = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '"':  str.append("\\\""); break;
+			case '\\': str.append("\\\\"); break;
+			case '\n': str.append("\\n"); break;
+			case '\r': str.append("\\r"); break;
+			case '\t': str.append("\\t"); break;
+			default:
+				if (c < 0x20) {
+					str.append(String.format("\\u%04x", (int)c));
+				} else {
+					str.append(c);
+				}
+			}
+		}
+		return str.append("\"").toString();
+	}
+}
@@ -0,0 +1,24 @@
+package comodo2.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for each EMF resource parsed (model, profiles, libraries).
+ */
+@Name("comodo2.ResourceLoad")
+@Label("Resource Load")
+@Category({"COMODO2", "Model"})
+@Description("Parsing of a UML resource")
+public class ResourceLoadEvent extends jdk.jfr.Event {
+
+	@Label("URI")
+	public String uri;
+
+	@Label("Bytes")
+	@DataAmount
+	public long bytes;
+}
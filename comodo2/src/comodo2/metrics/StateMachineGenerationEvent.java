@@ -0,0 +1,31 @@
+package comodo2.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for each state machine transformed by a template.
+ */
+@Name("comodo2.StateMachineGeneration")
+@Label("State Machine Generation")
+@Category({"COMODO2", "Generation"})
+@Description("Transformation of a UML state machine into target code")
+public class StateMachineGenerationEvent extends jdk.jfr.Event {
+
+	@Label("Target")
+	public String target;
+
+	@Label("Module")
+	public String module;
+
+	@Label("State Machine")
+	public String stateMachine;
+
+	@Label("States")
+	public int states;
+
+	@Label("Transitions")
+	public int transitions;
+}
@@ -0,0 +1,51 @@
+package comodo2.metrics;
+
+import comodo2.engine.Config;
+
+/**
+ * Measures the generation of one state machine by a template and records it
+ * in the Metrics report and as a StateMachineGenerationEvent.
+ *
+ * The measure is stopped before the generated files are written: the writes
+ * are recorded separately, per file (see MeteredFileSystemAccess).
+ */
+public class StateMachineRecorder {
+
+	private final StateMachineGenerationEvent mEvent = new StateMachineGenerationEvent();
+	private final long mStartTime;
+	private long mNanos = -1;
+
+	/**
+	 * Starts the measure.
+	 */
+	public StateMachineRecorder() {
+		mStartTime = System.nanoTime();
+		mEvent.begin();
+	}
+
+	/**
+	 * Stops the measure, to be called once the contents are generated and before they are written.
+	 */
+	public void stop() {
+		if (mNanos < 0) {
+			mEvent.end();
+			mNanos = System.nanoTime() - mStartTime;
+		}
+	}
+
+	/**
+	 * Records the state machine for the current target and module.
+	 */
+	public void record(final String stateMachine, final int states, final int transitions) {
+		stop();
+		if (Metrics.getInstance().isEnabled() || mEvent.shouldCommit()) {
+			mEvent.target = Config.getInstance().getTargetPlatform();
+			mEvent.module = Config.getInstance().getCurrentModule();
+			mEvent.stateMachine = stateMachine;
+			mEvent.states = states;
+			mEvent.transitions = transitions;
+			mEvent.commit();
+			Metrics.getInstance().addStateMachine(mEvent.target, mEvent.module, stateMachine, states, transitions, mNanos);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package comodo2.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for each stereotype query on a model element.
+ *
+ * Stereotype queries are issued for almost every visited element, therefore
+ * the event is disabled by default and has to be enabled explicitly in the
+ * recording settings (comodo2.StereotypeResolution#enabled=true).
+ */
+@Name("comodo2.StereotypeResolution")
+@Label("Stereotype Resolution")
+@Category({"COMODO2", "Model"})
+@Description("Lookup of applied stereotypes on a model element")
+@Enabled(false)
+public class StereotypeResolutionEvent extends jdk.jfr.Event {
+
+	@Label("Element")
+	public String element;
+
+	@Label("Stereotypes")
+	public String stereotypes;
+
+	@Label("Found")
+	public boolean found;
+}
@@ -0,0 +1,253 @@
+package comodo2.queries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.uml2.uml.Event;
+import org.eclipse.uml2.uml.Namespace;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageImport;
+import org.eclipse.uml2.uml.Reception;
+import org.eclipse.uml2.uml.Signal;
+import org.eclipse.uml2.uml.SignalEvent;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.Trigger;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.TypedElement;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Cross references of the modules to generate, built once the model is
+ * loaded (bound as singleton in UMLGeneratorModule):
+ * - signal -> receptions, and reception -> signal (see QInterface.getSignal),
+ * - signal -> transitions it triggers,
+ * - type -> typed elements (properties, parameters, ...),
+ * - transition -> signal of its first trigger (see QTransition.getFirstEvent),
+ * - namespace -> imported packages (see QPackage.getImportedPackages).
+ *
+ * Building the index first resolves all the proxies of the modules, so that the
+ * referenced libraries are loaded at once instead of in the middle of a template.
+ * Only the cmdoModule packages selected with -m are visited: without -m nothing
+ * is resolved nor indexed.
+ *
+ * The index is only written by build/clear, before the generation: the lookups
+ * are not synchronized.
+ */
+public class CrossReferenceIndex {
+
+	@Inject
+	private ModelIndex mModelIndex;
+
+	private final Map<Signal, List<Reception>> mReceptions = new IdentityHashMap<Signal, List<Reception>>();
+	private final Map<Reception, Signal> mReceptionSignals = new IdentityHashMap<Reception, Signal>();
+	private final Map<Signal, List<Transition>> mTransitions = new IdentityHashMap<Signal, List<Transition>>();
+	private final Map<Type, List<TypedElement>> mUsers = new IdentityHashMap<Type, List<TypedElement>>();
+	private final Map<Transition, Signal> mFirstSignals = new IdentityHashMap<Transition, Signal>();
+	private final Map<Namespace, List<Package>> mImportedPackages = new IdentityHashMap<Namespace, List<Package>>();
+	private int mResolved;
+	private int mUnresolved;
+
+	public void setModelIndex(final ModelIndex modelIndex) {
+		mModelIndex = modelIndex;
+	}
+
+	/**
+	 * Resolves the proxies of the modules to generate and indexes their cross references.
+	 * The previous index is dropped.
+	 */
+	public void build(final Resource model) {
+		clear();
+		for (EObject root : mModelIndex.getSelectedModulePackages(model)) {
+			visit(root);
+			for (TreeIterator<EObject> it = root.eAllContents(); it.hasNext();) {
+				visit(it.next());
+			}
+		}
+	}
+
+	public void clear() {
+		mReceptions.clear();
+		mReceptionSignals.clear();
+		mTransitions.clear();
+		mUsers.clear();
+		mFirstSignals.clear();
+		mImportedPackages.clear();
+		mResolved = 0;
+		mUnresolved = 0;
+	}
+
+	/**
+	 * @return number of proxies resolved by the last build.
+	 */
+	public int getResolvedCount() {
+		return mResolved;
+	}
+
+	/**
+	 * @return number of proxies that could not be resolved by the last build.
+	 */
+	public int getUnresolvedCount() {
+		return mUnresolved;
+	}
+
+	/**
+	 * @return the receptions of the signal in the modules.
+	 */
+	public List<Reception> getReceptions(final Signal s) {
+		return get(mReceptions, s);
+	}
+
+	/**
+	 * @return true if the reception is indexed.
+	 */
+	public boolean hasSignal(final Reception r) {
+		return mReceptionSignals.containsKey(r);
+	}
+
+	/**
+	 * @return the signal of the reception, null if it has none.
+	 */
+	public Signal getSignal(final Reception r) {
+		return mReceptionSignals.get(r);
+	}
+
+	/**
+	 * @return the transitions of the modules having a trigger on the signal.
+	 */
+	public List<Transition> getTriggeringTransitions(final Signal s) {
+		return get(mTransitions, s);
+	}
+
+	/**
+	 * @return the elements of the modules typed by the given type.
+	 */
+	public List<TypedElement> getUsers(final Type t) {
+		return get(mUsers, t);
+	}
+
+	/**
+	 * @return true if the package imports of the namespace are indexed (packages of the modules).
+	 */
+	public boolean hasImportedPackages(final Namespace n) {
+		return mImportedPackages.containsKey(n);
+	}
+
+	/**
+	 * @return the packages imported by the namespace, in the order of the imports.
+	 */
+	public List<Package> getImportedPackages(final Namespace n) {
+		return get(mImportedPackages, n);
+	}
+
+	/**
+	 * @return true if the first trigger of the transition is an indexed signal event.
+	 */
+	public boolean hasFirstSignal(final Transition t) {
+		return mFirstSignals.containsKey(t);
+	}
+
+	/**
+	 * @return the signal of the first trigger of the transition, null if it has no signal.
+	 */
+	public Signal getFirstSignal(final Transition t) {
+		return mFirstSignals.get(t);
+	}
+
+	private void visit(final EObject o) {
+		resolve(o);
+		if (o instanceof Reception) {
+			Signal s = ((Reception) o).getSignal();
+			mReceptionSignals.put((Reception) o, s);
+			if (s != null) {
+				add(mReceptions, s, (Reception) o);
+			}
+		} else if (o instanceof Transition) {
+			Transition t = (Transition) o;
+			for (Trigger trigger : t.getTriggers()) {
+				Event e = trigger.getEvent();
+				if (!(e instanceof SignalEvent)) {
+					continue;
+				}
+				Signal s = ((SignalEvent) e).getSignal();
+				if (trigger == t.getTriggers().get(0)) {
+					mFirstSignals.put(t, s);
+				}
+				if (s != null && !get(mTransitions, s).contains(t)) {
+					add(mTransitions, s, t);
+				}
+			}
+		} else if (o instanceof TypedElement) {
+			Type type = ((TypedElement) o).getType();
+			if (type != null) {
+				add(mUsers, type, (TypedElement) o);
+			}
+		} else if (o instanceof Package) {
+			if (!mImportedPackages.containsKey(o)) {
+				mImportedPackages.put((Package) o, new ArrayList<Package>(1));
+			}
+		} else if (o instanceof PackageImport) {
+			PackageImport pi = (PackageImport) o;
+			if (pi.getImportingNamespace() != null && pi.getImportedPackage() != null) {
+				add(mImportedPackages, pi.getImportingNamespace(), pi.getImportedPackage());
+			}
+		}
+	}
+
+	/**
+	 * Resolves the proxies referred to by the element. The applied profiles and
+	 * annotation references are left as they are: they are not read by the
+	 * generation and may have been unloaded (see ProfileUnloader).
+	 */
+	private void resolve(final EObject o) {
+		for (EReference ref : o.eClass().getEAllReferences()) {
+			if (ref.isContainment() || ref.isContainer() || ref.isDerived() || !ref.isChangeable() || !ref.isResolveProxies()
+					|| ref == UMLPackage.Literals.PROFILE_APPLICATION__APPLIED_PROFILE || ref == EcorePackage.Literals.EANNOTATION__REFERENCES
+					|| !o.eIsSet(ref)) {
+				continue;
+			}
+			if (ref.isMany()) {
+				InternalEList<?> values = (InternalEList<?>) o.eGet(ref, false);
+				for (int i = 0; i < values.size(); i++) {
+					if (((EObject) values.basicGet(i)).eIsProxy()) {
+						count((EObject) values.get(i));
+					}
+				}
+			} else if (((EObject) o.eGet(ref, false)).eIsProxy()) {
+				count((EObject) o.eGet(ref, true));
+			}
+		}
+	}
+
+	private void count(final EObject resolved) {
+		if (resolved.eIsProxy()) {
+			mUnresolved++;
+		} else {
+			mResolved++;
+		}
+	}
+
+	private static <K, V> List<V> get(final Map<K, List<V>> map, final K key) {
+		List<V> values = map.get(key);
+		return (values == null) ? Collections.<V>emptyList() : values;
+	}
+
+	private static <K, V> void add(final Map<K, List<V>> map, final K key, final V value) {
+		List<V> values = map.get(key);
+		if (values == null) {
+			values = new ArrayList<V>(1);
+			map.put(key, values);
+		}
+		values.add(value);
+	}
+}
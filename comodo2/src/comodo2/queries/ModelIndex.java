@@ -0,0 +1,133 @@
+package comodo2.queries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+
+import comodo2.engine.Config;
+
+/**
+ * Index of the input model shared by the components that need to
+ * locate the cmdoModule packages (bound as singleton in UMLGeneratorModule).
+ *
+ * The index is built on first use by visiting only the package hierarchy
+ * of the input model resource: profiles and libraries (other resources,
+ * Profile packages) are never visited.
+ */
+public class ModelIndex {
+
+	@Inject
+	private QStereotype mQStereotype;
+
+	private Resource mResource;
+	private final Map<String, List<Package>> mModules = new LinkedHashMap<String, List<Package>>();
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	/**
+	 * @return true if the given resource is the input model
+	 * (i.e. not a profile or a library).
+	 */
+	public boolean isModelResource(final Resource r) {
+		return r != null && r.getURI() != null && r.getURI().isFile()
+				&& Config.getInstance().isModelConfigured(r.getURI().toFileString());
+	}
+
+	/**
+	 * @return true if the given package is a profile or belongs to a profile or library resource.
+	 */
+	public boolean isLibrary(final Package p) {
+		return (p instanceof Profile) || !isModelResource(p.eResource());
+	}
+
+	/**
+	 * @return the cmdoModule packages with the given name.
+	 */
+	public synchronized List<Package> getModulePackages(final Resource r, final String moduleName) {
+		index(r);
+		List<Package> packages = mModules.get(moduleName);
+		return (packages == null) ? Collections.<Package>emptyList() : packages;
+	}
+
+	/**
+	 * @return the cmdoModule packages selected with the -m option, in the order of the option.
+	 */
+	public synchronized List<Package> getSelectedModulePackages(final Resource r) {
+		List<Package> packages = new ArrayList<Package>();
+		for (String m : Config.getInstance().getModules()) {
+			packages.addAll(getModulePackages(r, m));
+		}
+		return packages;
+	}
+
+	/**
+	 * @return true if the element is contained in one of the cmdoModule packages selected with the -m option.
+	 */
+	public synchronized boolean isInSelectedModule(final Element e) {
+		if (e == null) {
+			return false;
+		}
+		List<Package> modules = getSelectedModulePackages(e.eResource());
+		for (EObject c = e; c != null; c = c.eContainer()) {
+			if (c instanceof Package && modules.contains(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the index, to be called when the package structure of the model changes.
+	 */
+	public synchronized void clear() {
+		mResource = null;
+		mModules.clear();
+	}
+
+	private void index(final Resource r) {
+		if (r == mResource) {
+			return;
+		}
+		clear();
+		mResource = r;
+		if (r == null || !isModelResource(r)) {
+			return;
+		}
+		for (EObject root : r.getContents()) {
+			if (root instanceof Package) {
+				indexPackage((Package) root);
+			}
+		}
+	}
+
+	private void indexPackage(final Package p) {
+		if (p instanceof Profile) {
+			return;
+		}
+		if (p.getName() != null && mQStereotype.isComodoModule(p)) {
+			List<Package> packages = mModules.get(p.getName());
+			if (packages == null) {
+				packages = new ArrayList<Package>();
+				mModules.put(p.getName(), packages);
+			}
+			packages.add(p);
+		}
+		for (EObject c : p.eContents()) {
+			if (c instanceof Package) {
+				indexPackage((Package) c);
+			}
+		}
+	}
+}
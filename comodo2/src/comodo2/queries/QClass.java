@@ -15,6 +15,14 @@ public class QClass {
 	@Inject
 	private QPackage mQPackage;
 
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setQPackage(final QPackage qPackage) {
+		mQPackage = qPackage;
+	}
+
 	/**
 	 * This function check whether a class has associated
 	 * state machine as classifier behavior.
@@ -6,6 +6,7 @@ import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Interface;
 import org.eclipse.uml2.uml.Class;
 import org.eclipse.uml2.uml.Reception;
+import org.eclipse.uml2.uml.Signal;
 
 public class QInterface {
 	@Inject
@@ -14,6 +15,32 @@ public class QInterface {
 	@Inject
 	private QPackage mQPackage;
 
+	@Inject
+	private CrossReferenceIndex mCrossReferenceIndex;
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setQPackage(final QPackage qPackage) {
+		mQPackage = qPackage;
+	}
+
+	public void setCrossReferenceIndex(final CrossReferenceIndex crossReferenceIndex) {
+		mCrossReferenceIndex = crossReferenceIndex;
+	}
+
+	/**
+	 * @return the signal of the reception, from the CrossReferenceIndex for the
+	 * receptions of the modules (already resolved), from the model otherwise.
+	 */
+	public Signal getSignal(final Reception r) {
+		if (mCrossReferenceIndex != null && mCrossReferenceIndex.hasSignal(r)) {
+			return mCrossReferenceIndex.getSignal(r);
+		}
+		return r.getSignal();
+	}
+
 	public org.eclipse.uml2.uml.Package getContainerPackage(final Interface i) {
 		return i.getNearestPackage();
 	}
@@ -53,7 +80,7 @@ public class QInterface {
 
 	public boolean hasRequests(final Interface i) {
 		for (final Reception r : i.getOwnedReceptions()) {
-			if (mQStereotype.isComodoCommand(((Element) r.getSignal()))) {
+			if (mQStereotype.isComodoCommand(((Element) getSignal(r)))) {
 				return true;
 			}
 		}
@@ -62,7 +89,7 @@ public class QInterface {
 
 	public boolean hasRequests(final Class c) {
 		for (final Reception r : c.getOwnedReceptions()) {
-			if (mQStereotype.isComodoCommand(((Element) r.getSignal()))) {
+			if (mQStereotype.isComodoCommand(((Element) getSignal(r)))) {
 				return true;
 			}
 		}
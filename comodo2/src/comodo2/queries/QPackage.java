@@ -1,14 +1,45 @@
 package comodo2.queries;
 
 import com.google.common.base.Objects;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.PackageImport;
 
 public class QPackage {
 	@Inject
 	private QStereotype mQStereotype;
 
+	@Inject
+	private CrossReferenceIndex mCrossReferenceIndex;
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setCrossReferenceIndex(final CrossReferenceIndex crossReferenceIndex) {
+		mCrossReferenceIndex = crossReferenceIndex;
+	}
+
+	/**
+	 * @return the packages imported by p, from the CrossReferenceIndex for the
+	 * packages of the modules (already resolved), from the model otherwise.
+	 */
+	public List<org.eclipse.uml2.uml.Package> getImportedPackages(final org.eclipse.uml2.uml.Package p) {
+		if (mCrossReferenceIndex != null && mCrossReferenceIndex.hasImportedPackages(p)) {
+			return mCrossReferenceIndex.getImportedPackages(p);
+		}
+		List<org.eclipse.uml2.uml.Package> res = new ArrayList<org.eclipse.uml2.uml.Package>();
+		for (PackageImport pi : p.getPackageImports()) {
+			if (pi.getImportedPackage() != null) {
+				res.add(pi.getImportedPackage());
+			}
+		}
+		return res;
+	}
+
 	/**
 	 * @param p Package where to look for the cmdoComponent classes.
 	 * @return The cmdoComponent classes inside the given package.
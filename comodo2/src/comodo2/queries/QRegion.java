@@ -8,12 +8,17 @@ import org.eclipse.uml2.uml.Pseudostate;
 import org.eclipse.uml2.uml.PseudostateKind;
 import org.eclipse.uml2.uml.Region;
 import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.Transition;
 import org.eclipse.uml2.uml.Vertex;
 
 public class QRegion {
 	@Inject
 	private QState mQState;
 
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
 	public State getParentState(final Region r) {
 		if (r == null) {
 			return null;
@@ -80,6 +85,20 @@ public class QRegion {
 		return null;
 	}
 
+	/**
+	 * @return The transition going out of the initial node of the region, null if there is none.
+	 */
+	public Transition getInitialTransition(final Region r) {
+		for (final Pseudostate ps : Iterables.<Pseudostate>filter(r.allOwnedElements(), Pseudostate.class)) {
+			if ((ps.getKind() == PseudostateKind.INITIAL_LITERAL) &&
+			    Objects.equal(ps.getContainer().getOwner(), this.getParentState(r)) &&
+				(ps.getOutgoings().size() == 1) && (ps.getOutgoings().get(0).getTarget() != null)) {
+				return ps.getOutgoings().get(0);
+			}
+		}
+		return null;
+	}
+
 	public boolean isTopState(final Region r) {
 		if (r == null) {
 			return false;
@@ -25,6 +25,18 @@ public class QState {
 	@Inject
 	private QStereotype mQStereotype;
 
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
 	public Region getParentRegion(final State s) {
 		return s.getContainer();
 	}
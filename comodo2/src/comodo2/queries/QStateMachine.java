@@ -30,6 +30,18 @@ public class QStateMachine {
 	@Inject
 	private QStereotype mQStereotype;
 
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
 	/**
 	 * This function returns the name a state machine.
 	 * 
@@ -102,6 +114,17 @@ public class QStateMachine {
 		return Iterables.<Pseudostate>filter(sm.allOwnedElements(), Pseudostate.class);
 	}
 
+	/**
+	 * This function returns all transitions contained in the
+	 * given state machine.
+	 * 
+	 * @param sm State machine.
+	 * @return All transitions contained in the given state machine.
+	 */
+	public Iterable<Transition> getAllTransitions(final StateMachine sm) {
+		return Iterables.<Transition>filter(sm.allOwnedElements(), Transition.class);
+	}
+
 
 	public Iterable<State> getAllStatesSorted(final StateMachine sm) {
 		TreeSet<State> sortedStates = new TreeSet<State>(new StateComparator());
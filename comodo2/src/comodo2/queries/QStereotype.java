@@ -6,7 +6,10 @@ import java.util.Set;
 import java.util.List;
 
 import com.google.common.collect.Iterables;
+import comodo2.metrics.StereotypeResolutionEvent;
+import javax.inject.Inject;
 import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.Profile;
 import org.eclipse.uml2.uml.Stereotype;
 
@@ -15,6 +18,13 @@ import org.eclipse.uml2.uml.Stereotype;
  * Supports modern Cameo stereotypes and legacy MagicDraw stereotypes
  */
 public class QStereotype {
+
+	@Inject
+	private StereotypeIndex mIndex;
+
+	public void setIndex(final StereotypeIndex index) {
+		mIndex = index;
+	}
 	
 	// Known Cameo/MagicDraw stereotype variations
 	private static final Set<String> CAMEO_COMPONENT_VARIATIONS = new HashSet<>(Arrays.asList(
@@ -81,9 +91,25 @@ public class QStereotype {
 	 * Checks for stereotype variations and qualified names
 	 */
 	public boolean hasStereotype(final Element e, final String stereotypeName) {
+		StereotypeResolutionEvent event = new StereotypeResolutionEvent();
+		event.begin();
+		boolean found = findStereotype(e, stereotypeName);
+		commitEvent(event, e, stereotypeName, found);
+		return found;
+	}
+
+	private boolean findStereotype(final Element e, final String stereotypeName) {
 		if ((e == null)) {
 			return false;
 		}
+		if (isIndexed()) {
+			for (StereotypeIndex.Entry s : mIndex.get(e)) {
+				if (matchesStereotype(s, stereotypeName)) {
+					return true;
+				}
+			}
+			return false;
+		}
 		if (e.getAppliedStereotypes() == null) {
 			return false;
 		}
@@ -100,9 +126,27 @@ public class QStereotype {
 	 * Checks if element has any of the given stereotype variations
 	 */
 	public boolean hasAnyStereotype(final Element e, final Set<String> stereotypeNames) {
+		StereotypeResolutionEvent event = new StereotypeResolutionEvent();
+		event.begin();
+		boolean found = findAnyStereotype(e, stereotypeNames);
+		commitEvent(event, e, stereotypeNames, found);
+		return found;
+	}
+
+	private boolean findAnyStereotype(final Element e, final Set<String> stereotypeNames) {
 		if ((e == null) || stereotypeNames == null || stereotypeNames.isEmpty()) {
 			return false;
 		}
+		if (isIndexed()) {
+			for (StereotypeIndex.Entry s : mIndex.get(e)) {
+				for (String stereotypeName : stereotypeNames) {
+					if (matchesStereotype(s, stereotypeName)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
 		if (e.getAppliedStereotypes() == null) {
 			return false;
 		}
@@ -121,9 +165,27 @@ public class QStereotype {
 	 * Checks if element has any of the given stereotype variations (List version)
 	 */
 	public boolean hasAnyStereotype(final Element e, final List<String> stereotypeNames) {
+		StereotypeResolutionEvent event = new StereotypeResolutionEvent();
+		event.begin();
+		boolean found = findAnyStereotype(e, stereotypeNames);
+		commitEvent(event, e, stereotypeNames, found);
+		return found;
+	}
+
+	private boolean findAnyStereotype(final Element e, final List<String> stereotypeNames) {
 		if ((e == null) || stereotypeNames == null || stereotypeNames.isEmpty()) {
 			return false;
 		}
+		if (isIndexed()) {
+			for (StereotypeIndex.Entry s : mIndex.get(e)) {
+				for (String stereotypeName : stereotypeNames) {
+					if (matchesStereotype(s, stereotypeName)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
 		if (e.getAppliedStereotypes() == null) {
 			return false;
 		}
@@ -138,6 +200,20 @@ public class QStereotype {
 		return false;
 	}
 	
+	/**
+	 * Completes the JFR event of a stereotype query. Element and stereotype
+	 * names are only computed when the event is going to be recorded.
+	 */
+	private void commitEvent(final StereotypeResolutionEvent event, final Element e, final Object stereotypeNames, final boolean found) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.element = (e instanceof NamedElement) ? ((NamedElement)e).getQualifiedName() : String.valueOf(e);
+			event.stereotypes = String.valueOf(stereotypeNames);
+			event.found = found;
+			event.commit();
+		}
+	}
+
 	/**
 	 * Enhanced stereotype matching that handles qualified names and variations
 	 */
@@ -183,6 +259,32 @@ public class QStereotype {
 		return false;
 	}
 	
+	/**
+	 * Same as matchesStereotype(Stereotype, String) on the names recorded by the index.
+	 */
+	private boolean matchesStereotype(StereotypeIndex.Entry stereotype, String targetName) {
+		if (stereotype.name == null || targetName == null) {
+			return false;
+		}
+		if (stereotype.name.equals(targetName)) {
+			return true;
+		}
+		if (stereotype.qualifiedName != null && stereotype.qualifiedName.equals(targetName)) {
+			return true;
+		}
+		if (targetName.contains("::") && targetName.endsWith("::" + stereotype.name)) {
+			return true;
+		}
+		return stereotype.profileName != null && (stereotype.profileName + "::" + stereotype.name).equals(targetName);
+	}
+
+	/**
+	 * @return true if the stereotypes are resolved from the index (profiles may be unloaded).
+	 */
+	private boolean isIndexed() {
+		return mIndex != null && mIndex.isBuilt();
+	}
+
 	/**
 	 * Check if element is a SysML Block
 	 */
@@ -2,6 +2,15 @@ package comodo2.queries;
 
 import com.google.common.base.Objects;
 import com.google.inject.Inject;
+
+import comodo2.engine.Config;
+import comodo2.queries.TransitionInfo.EventKind;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Event;
 import org.eclipse.uml2.uml.FunctionBehavior;
@@ -11,6 +20,7 @@ import org.eclipse.uml2.uml.Pseudostate;
 import org.eclipse.uml2.uml.PseudostateKind;
 import org.eclipse.uml2.uml.Signal;
 import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
 import org.eclipse.uml2.uml.TimeEvent;
 import org.eclipse.uml2.uml.Transition;
 import org.eclipse.uml2.uml.TransitionKind;
@@ -29,7 +39,28 @@ public class QTransition {
 	private QEvent mQEvent;
 
 	@Inject
-	private QStereotype mQStereotype;
+	private CrossReferenceIndex mCrossReferenceIndex;
+
+	/**
+	 * State machine of the last TransitionInfo cache created in low memory mode (see getInfo).
+	 */
+	private StateMachine mCachedStateMachine;
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQEvent(final QEvent qEvent) {
+		mQEvent = qEvent;
+	}
+
+	public void setCrossReferenceIndex(final CrossReferenceIndex crossReferenceIndex) {
+		mCrossReferenceIndex = crossReferenceIndex;
+	}
 
 	public String getEventName(final Transition t) {
 		return getFirstEventName(t);
@@ -50,13 +81,17 @@ public class QTransition {
 	}
 
 	public String getTimeEventDuration(final Transition t) {
+		return getInfo(t).getTimeEventDuration();
+	}
+
+	private String computeTimeEventDuration(final Transition t, final String eventName) {
 		/*
 		if ((this.hasEvent(t) && mQEvent.isTimeEvent(IterableExtensions.<Trigger>head(t.getTriggers()).getEvent()))) {
 			return ((TimeEvent) IterableExtensions.<Trigger>head(t.getTriggers()).getEvent()).getWhen().getExpr().stringValue();
 		}
 		return "";
 		*/
-		if (hasEvent(t) == false) {
+		if (Objects.equal(eventName, "")) {
 			return "";			
 		}
 		Trigger trigger = t.getTriggers().get(0);
@@ -77,6 +112,10 @@ public class QTransition {
 		if (t == null) {
 			return "";
 		}
+		return getInfo(t).getEventName();
+	}
+
+	private String computeFirstEventName(final Transition t) {
 		if (t.getTriggers().isEmpty()) {
 			return "";
 		}
@@ -106,6 +145,9 @@ public class QTransition {
 	}
 
 	public Signal getFirstEvent(final Transition t) {
+		if (mCrossReferenceIndex != null && mCrossReferenceIndex.hasFirstSignal(t)) {
+			return mCrossReferenceIndex.getFirstSignal(t);
+		}
 		if (t.getTriggers().isEmpty()) {
 			return null;
 		}
@@ -154,6 +196,10 @@ public class QTransition {
 	}
 
 	public String getGuardName(final Transition t) {
+		return getInfo(t).getGuardName();
+	}
+
+	private String computeGuardName(final Transition t) {
 		if (t.getGuard() == null) {
 			return "";
 		}
@@ -172,6 +218,10 @@ public class QTransition {
 	}
 
 	public String getFirstActionName(final Transition t) {
+		return getInfo(t).getFirstActionName();
+	}
+
+	private String computeFirstActionName(final Transition t) {
 		/*
 		if (IterableExtensions.isEmpty(Iterables.<Activity>filter(t.allOwnedElements(), Activity.class))) {
 			return "";
@@ -179,12 +229,10 @@ public class QTransition {
 		return IterableExtensions.<Activity>head(Iterables.<Activity>filter(t.allOwnedElements(), Activity.class)).getName();
 		*/
 		for (Element e : t.allOwnedElements()) {
+			// Both UML and SysML (<<streaming>>, <<nonStreaming>>, <<effbd>>) activities are supported,
+			// no need to look at the stereotypes
 			if (e instanceof Activity) {
-				Activity activity = (Activity) e;
-				// Support both UML and SysML activities
-				if (isSysMLActivity(activity) || isUMLActivity(activity)) {
-					return activity.getName();
-				}
+				return ((Activity) e).getName();
 			}
 			if (e instanceof FunctionBehavior) {
 				return ((FunctionBehavior)e).getName();
@@ -194,6 +242,10 @@ public class QTransition {
 	}
 
 	public String getSourceName(final Transition t) {
+		return getInfo(t).getSourceName();
+	}
+
+	private String computeSourceName(final Transition t) {
 		if (t.getSource() == null) {
 			return "";
 		}
@@ -201,12 +253,16 @@ public class QTransition {
 			return mQState.getStateName(((State) t.getSource()));
 		}
 		if ((t.getSource() instanceof Pseudostate)) {
-			return mQState.getStateName(((Pseudostate) t.getTarget()));
+			return mQState.getStateName(((Pseudostate) t.getSource()));
 		}
 		return "";
 	}
 
 	public String getTargetName(final Transition t) {
+		return getInfo(t).getTargetName();
+	}
+
+	private String computeTargetName(final Transition t) {
 		if (((t.getTarget() == null) || (this.isInternal(t) == true))) {
 			return "";
 		}
@@ -227,10 +283,7 @@ public class QTransition {
 	}
 
 	public boolean isTimerTransition(final Transition t) {
-		if (t.getTriggers().isEmpty() == true) {
-			return false;
-		}
-		return mQEvent.isTimeEvent(t.getTriggers().get(0).getEvent());
+		return getInfo(t).isTimerTransition();
 	}
 
 	public boolean isInternal(final Transition t) {
@@ -252,15 +305,16 @@ public class QTransition {
 	 * be skipped!
 	 */
 	public boolean isMalformed(final Transition t) {
-		if ((((this.hasEvent(t) == false) && 
-				(this.hasGuard(t) == false)) && 
-				(this.hasTarget(t) == false))) {
+		TransitionInfo info = getInfo(t);
+		if ((((info.hasEvent() == false) && 
+				(info.hasGuard() == false)) && 
+				(info.hasTarget() == false))) {
 			return true;
 		}
-		if (((((this.hasEvent(t) == false) && 
-				(this.hasGuard(t) == false)) && 
-				(this.hasTarget(t) == true)) && 
-				Objects.equal(this.getTargetName(t), this.getSourceName(t)))) {
+		if (((((info.hasEvent() == false) && 
+				(info.hasGuard() == false)) && 
+				(info.hasTarget() == true)) && 
+				Objects.equal(info.getTargetName(), info.getSourceName()))) {
 			return true;
 		}
 		return false;
@@ -316,34 +370,30 @@ public class QTransition {
 	}
 
 	public boolean hasEvent(final Transition t) {
-		if (Objects.equal(getFirstEventName(t), "")) {
-			return false;
-		}
-		return true;
+		return getInfo(t).hasEvent();
 	}
 
 	public boolean hasGuard(final Transition t) {
-		if (Objects.equal(getGuardName(t), "")) {
-			return false;
-		}
-		return true;
+		return getInfo(t).hasGuard();
 	}
 
 	public boolean hasTarget(final Transition t) {
-		if (Objects.equal(getTargetName(t), "")) {
-			return false;
-		}
-		return true;
+		return getInfo(t).hasTarget();
 	}
 
 	public boolean hasAction(final Transition t) {
-		if (Objects.equal(getFirstActionName(t), "")) {
-			return false;
-		}
-		return true;
+		return getInfo(t).hasAction();
 	}
 
 	public boolean hasSignalEvent(final Transition t) {
+		return getInfo(t).hasSignalEventImpl();
+	}
+
+	public boolean hasTimeEvent(final Transition t) {
+		return getInfo(t).hasTimeEventImpl();
+	}
+
+	private boolean computeHasSignalEvent(final Transition t) {
 		if (t.getTriggers().isEmpty()) {
 			return false;
 		} else if (t.getTriggers().get(0).getEvent()==null) {
@@ -353,7 +403,7 @@ public class QTransition {
 		}
 	}
 
-	public boolean hasTimeEvent(final Transition t) {
+	private boolean computeHasTimeEvent(final Transition t) {
 		if (t.getTriggers().isEmpty()) {
 			return false;
 		} else if (t.getTriggers().get(0).getEvent()==null) {
@@ -363,23 +413,92 @@ public class QTransition {
 		}
 	}
 
+
 	/**
-	 * Check if an Activity is a SysML activity based on stereotypes
-	 * SysML activities can have stereotypes like <<streaming>>, <<nonStreaming>>, <<effbd>>
+	 * @return the descriptor of the transition, computed on first use and cached
+	 * on the containing state machine until releaseInfo is called for it (e.g. when
+	 * its states are renamed by the templates).
+	 * In low memory mode the cache of the previous state machine is released
+	 * when the one of the next state machine is created.
 	 */
-	private boolean isSysMLActivity(final Activity activity) {
-		return mQStereotype.hasAnyStereotype(activity, java.util.Arrays.asList(
-			"streaming", "nonStreaming", "effbd", "SysML::Activities::streaming", 
-			"SysML::Activities::nonStreaming", "SysML::Activities::effbd"
-		));
+	public TransitionInfo getInfo(final Transition t) {
+		StateMachine sm = t.containingStateMachine();
+		if (sm == null) {
+			return computeInfo(t);
+		}
+		TransitionInfoCache cache = (TransitionInfoCache) EcoreUtil.getExistingAdapter(sm, TransitionInfoCache.class);
+		if (cache == null) {
+			if (Config.getInstance().isLowMemoryEnabled()) {
+				if (mCachedStateMachine != null) {
+					releaseInfo(mCachedStateMachine);
+				}
+				mCachedStateMachine = sm;
+			}
+			cache = new TransitionInfoCache();
+			sm.eAdapters().add(cache);
+		}
+		TransitionInfo info = cache.get(t);
+		if (info == null) {
+			info = computeInfo(t);
+			cache.put(t, info);
+		}
+		return info;
 	}
 
 	/**
-	 * Check if an Activity is a standard UML activity (no special SysML stereotypes)
+	 * Drops the TransitionInfo cached on the state machine, to be called after
+	 * modifying it.
 	 */
-	private boolean isUMLActivity(final Activity activity) {
-		// Standard UML activities are those without SysML-specific stereotypes
-		return !isSysMLActivity(activity);
+	public void releaseInfo(final StateMachine sm) {
+		TransitionInfoCache cache = (TransitionInfoCache) EcoreUtil.getExistingAdapter(sm, TransitionInfoCache.class);
+		if (cache != null) {
+			sm.eAdapters().remove(cache);
+		}
+		if (sm == mCachedStateMachine) {
+			mCachedStateMachine = null;
+		}
+	}
+
+	private TransitionInfo computeInfo(final Transition t) {
+		String eventName = computeFirstEventName(t);
+		EventKind kind = EventKind.NONE;
+		if (!t.getTriggers().isEmpty()) {
+			Event e = t.getTriggers().get(0).getEvent();
+			if (mQEvent.isSignalEvent(e)) {
+				kind = EventKind.SIGNAL;
+			} else if (mQEvent.isTimeEvent(e)) {
+				kind = EventKind.TIME;
+			}
+		}
+		return new TransitionInfo(eventName, kind, computeTimeEventDuration(t, eventName),
+				computeGuardName(t), computeFirstActionName(t), computeSourceName(t), computeTargetName(t),
+				isInternal(t), computeHasSignalEvent(t), computeHasTimeEvent(t));
+	}
+
+	/**
+	 * TransitionInfo of the transitions of a state machine, attached to the state
+	 * machine only: it is collected with the model. The descriptors are dropped
+	 * when the state naming configuration changes.
+	 */
+	private static class TransitionInfoCache extends AdapterImpl {
+		private final Map<Transition, TransitionInfo> mInfos = new HashMap<Transition, TransitionInfo>();
+		private boolean mFullyQualifiedNames = Config.getInstance().generateFullyQualifiedStateNames();
+
+		synchronized TransitionInfo get(final Transition t) {
+			if (mFullyQualifiedNames != Config.getInstance().generateFullyQualifiedStateNames()) {
+				mFullyQualifiedNames = Config.getInstance().generateFullyQualifiedStateNames();
+				mInfos.clear();
+			}
+			return mInfos.get(t);
+		}
+
+		synchronized void put(final Transition t, final TransitionInfo info) {
+			mInfos.put(t, info);
+		}
+
+		@Override
+		public boolean isAdapterForType(final Object type) {
+			return type == TransitionInfoCache.class;
+		}
 	}
-	
 }
@@ -0,0 +1,117 @@
+package comodo2.queries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.util.UMLUtil;
+
+/**
+ * Names of the stereotypes applied to the model elements, extracted from the
+ * stereotype applications so that the profiles can be unloaded (--low-memory
+ * option, see ProfileUnloader). Bound as singleton in UMLGeneratorModule.
+ *
+ * While the index is not built QStereotype resolves the applied stereotypes
+ * through the profiles.
+ */
+public class StereotypeIndex {
+
+	/**
+	 * Names of an applied stereotype, the ones compared by QStereotype.
+	 */
+	public static class Entry {
+		public final String name;
+		public final String qualifiedName;
+		public final String profileName;
+
+		Entry(final String name, final String qualifiedName, final String profileName) {
+			this.name = name;
+			this.qualifiedName = qualifiedName;
+			this.profileName = profileName;
+		}
+	}
+
+	private final Map<Element, List<Entry>> mEntries = new IdentityHashMap<Element, List<Entry>>();
+	private boolean mBuilt = false;
+
+	/**
+	 * @return true if the stereotypes are resolved from the index.
+	 */
+	public boolean isBuilt() {
+		return mBuilt;
+	}
+
+	/**
+	 * Records the stereotype applications of all the resources of the set.
+	 * Applications whose stereotype cannot be resolved are ignored, as
+	 * done by Element.getAppliedStereotypes().
+	 */
+	public synchronized void build(final ResourceSet resourceSet) {
+		mEntries.clear();
+		for (Resource r : new ArrayList<Resource>(resourceSet.getResources())) {
+			for (EObject o : r.getContents()) {
+				Element base = UMLUtil.getBaseElement(o);
+				if (base == null) {
+					continue;
+				}
+				Stereotype s = UMLUtil.getStereotype(o);
+				if (s == null) {
+					continue;
+				}
+				List<Entry> entries = mEntries.get(base);
+				if (entries == null) {
+					entries = new ArrayList<Entry>(1);
+					mEntries.put(base, entries);
+				}
+				entries.add(new Entry(s.getName(), s.getQualifiedName(), getProfileName(s)));
+			}
+		}
+		mBuilt = true;
+	}
+
+	/**
+	 * Drops the elements that are no longer part of a loaded resource.
+	 */
+	public synchronized void prune() {
+		for (Iterator<Element> it = mEntries.keySet().iterator(); it.hasNext();) {
+			if (it.next().eIsProxy()) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the stereotypes applied to the element, in no particular order.
+	 */
+	public synchronized List<Entry> get(final Element e) {
+		List<Entry> entries = mEntries.get(e);
+		return (entries == null) ? Collections.<Entry>emptyList() : entries;
+	}
+
+	public synchronized int size() {
+		return mEntries.size();
+	}
+
+	public synchronized void clear() {
+		mEntries.clear();
+		mBuilt = false;
+	}
+
+	private static String getProfileName(final Stereotype s) {
+		try {
+			Profile profile = s.getProfile();
+			return (profile != null) ? profile.getName() : null;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package comodo2.queries;
+
+import com.google.common.base.Objects;
+
+/**
+ * Immutable description of a Transition as seen by the templates:
+ * trigger, guard, effect and resolved source/target names.
+ *
+ * Computed once per Transition by QTransition.getInfo() and cached
+ * on the containing StateMachine until the state machine is modified.
+ */
+public class TransitionInfo {
+
+	public enum EventKind { NONE, SIGNAL, TIME }
+
+	private final String mEventName;
+	private final EventKind mEventKind;
+	private final String mTimeEventDuration;
+	private final String mGuardName;
+	private final String mFirstActionName;
+	private final String mSourceName;
+	private final String mTargetName;
+	private final boolean mInternal;
+	private final boolean mSignalEventImpl;
+	private final boolean mTimeEventImpl;
+
+	public TransitionInfo(final String eventName, final EventKind eventKind, final String timeEventDuration,
+			final String guardName, final String firstActionName, final String sourceName, final String targetName,
+			final boolean internal, final boolean signalEventImpl, final boolean timeEventImpl) {
+		mEventName = eventName;
+		mEventKind = eventKind;
+		mTimeEventDuration = timeEventDuration;
+		mGuardName = guardName;
+		mFirstActionName = firstActionName;
+		mSourceName = sourceName;
+		mTargetName = targetName;
+		mInternal = internal;
+		mSignalEventImpl = signalEventImpl;
+		mTimeEventImpl = timeEventImpl;
+	}
+
+	/**
+	 * @return name of the first trigger event, "" if there is no (supported) event.
+	 */
+	public String getEventName() {
+		return mEventName;
+	}
+
+	/**
+	 * @return kind of the event of the first trigger.
+	 */
+	public EventKind getEventKind() {
+		return mEventKind;
+	}
+
+	/**
+	 * @return duration expression of the first trigger when it is a TimeEvent, "" otherwise.
+	 */
+	public String getTimeEventDuration() {
+		return mTimeEventDuration;
+	}
+
+	/**
+	 * @return body of the guard, "" if there is no guard.
+	 */
+	public String getGuardName() {
+		return mGuardName;
+	}
+
+	/**
+	 * @return name of the first Activity or FunctionBehavior owned by the transition, "" if none.
+	 */
+	public String getFirstActionName() {
+		return mFirstActionName;
+	}
+
+	public String getSourceName() {
+		return mSourceName;
+	}
+
+	/**
+	 * @return name of the target state, "" for internal transitions.
+	 */
+	public String getTargetName() {
+		return mTargetName;
+	}
+
+	public boolean isInternal() {
+		return mInternal;
+	}
+
+	/**
+	 * @return true if the event of the first trigger is exactly a UML2 SignalEventImpl.
+	 */
+	public boolean hasSignalEventImpl() {
+		return mSignalEventImpl;
+	}
+
+	/**
+	 * @return true if the event of the first trigger is exactly a UML2 TimeEventImpl.
+	 */
+	public boolean hasTimeEventImpl() {
+		return mTimeEventImpl;
+	}
+
+	public boolean hasEvent() {
+		return !Objects.equal(mEventName, "");
+	}
+
+	public boolean hasGuard() {
+		return !Objects.equal(mGuardName, "");
+	}
+
+	public boolean hasTarget() {
+		return !Objects.equal(mTargetName, "");
+	}
+
+	public boolean hasAction() {
+		return !Objects.equal(mFirstActionName, "");
+	}
+
+	public boolean isTimerTransition() {
+		return mEventKind == EventKind.TIME;
+	}
+}
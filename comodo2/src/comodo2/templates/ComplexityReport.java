@@ -0,0 +1,250 @@
+package comodo2.templates;
+
+import com.google.common.collect.Iterables;
+import comodo2.engine.Config;
+import comodo2.queries.QClass;
+import comodo2.queries.QRegion;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.queries.QTransition;
+import comodo2.utils.FilesHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+
+/**
+ * Footprint and complexity report of the state machines of the current module
+ * (--complexity option), written in <module>/complexity.txt for all targets.
+ *
+ * The dispatch cost is estimated from the model:
+ * - transitions per state: outgoing transitions of the state,
+ * - scanned: outgoing transitions of the state and its parents, i.e. the transitions
+ *   examined for an event that is not handled,
+ * - exit/entry chain: states exited/entered by the longest transition, including
+ *   the initial substates entered by default in every region of the orthogonal states.
+ */
+public class ComplexityReport {
+
+	@Inject
+	private QClass mQClass;
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QRegion mQRegion;
+
+	@Inject
+	private QTransition mQTransition;
+
+	@Inject
+	private FilesHelper mFilesHelper;
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	/**
+	 * Metrics of a state machine.
+	 */
+	public static class Record {
+		public String name;
+		public int states;
+		public int depth;
+		public int orthogonalRegions;
+		public int transitions;
+		public int guards;
+		public int actions;
+		public int timers;
+		public int history;
+		public int maxTransitionsPerState;
+		public int maxScanned;
+		public int maxExitChain;
+		public int maxEntryChain;
+	}
+
+	/**
+	 * Writes the report of the current module.
+	 * @param files lines and bytes of the files generated for the module.
+	 */
+	public void generate(final Resource input, final IFileSystemAccess fsa, final Map<String, long[]> files) {
+		List<Record> records = new ArrayList<Record>();
+		final TreeIterator<EObject> allContents = input.getAllContents();
+		while (allContents.hasNext()) {
+			EObject e = allContents.next();
+			if (e instanceof org.eclipse.uml2.uml.Class) {
+				org.eclipse.uml2.uml.Class c = (org.eclipse.uml2.uml.Class)e;
+				if ((mQClass.isToBeGenerated((Element)c) && mQClass.hasStateMachines((Element)c))) {
+					for (final StateMachine sm : mQClass.getStateMachines((Element)c)) {
+						records.add(analyze(c.getName() + "::" + sm.getName(), sm));
+					}
+				}
+			}
+		}
+		fsa.generateFile(mFilesHelper.toComplexityReportFilePath(), print(records, files));
+	}
+
+	public Record analyze(final String name, final StateMachine sm) {
+		Record r = new Record();
+		r.name = name;
+		r.states = Iterables.size(mQStateMachine.getAllStates(sm));
+		r.transitions = Iterables.size(mQStateMachine.getAllTransitions(sm));
+		r.guards = mQStateMachine.getAllGuardNames(sm).size();
+		r.actions = mQStateMachine.getAllActionNames(sm).size();
+		r.history = Iterables.size(mQStateMachine.getAllHistoryPseudostates(sm));
+		for (State s : mQStateMachine.getAllOrthogonalStates(sm)) {
+			r.orthogonalRegions += s.getRegions().size();
+		}
+		for (State s : mQStateMachine.getAllStates(sm)) {
+			r.depth = Math.max(r.depth, getDepth(s));
+			r.maxTransitionsPerState = Math.max(r.maxTransitionsPerState, s.getOutgoings().size());
+			int scanned = 0;
+			for (State p = s; p != null; p = mQState.getParentState(p)) {
+				scanned += p.getOutgoings().size();
+			}
+			r.maxScanned = Math.max(r.maxScanned, scanned);
+		}
+		for (Transition t : mQStateMachine.getAllTransitions(sm)) {
+			if (mQTransition.hasTimeEvent(t)) {
+				r.timers++;
+			}
+			if (!(t.getSource() instanceof State) || !(t.getTarget() instanceof State) || mQTransition.isInternal(t)) {
+				continue;
+			}
+			State source = (State) t.getSource();
+			State target = (State) t.getTarget();
+			State lca = getCommonParent(source, target);
+			int lcaDepth = getDepth(lca);
+			r.maxExitChain = Math.max(r.maxExitChain, getDepth(source) - lcaDepth);
+			r.maxEntryChain = Math.max(r.maxEntryChain, getEntryChain(target, lca));
+		}
+		return r;
+	}
+
+	/**
+	 * @return number of states from the top state down to s (1 for top states, 0 for null).
+	 */
+	private int getDepth(final State s) {
+		int depth = 0;
+		for (State p = s; p != null; p = mQState.getParentState(p)) {
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * @return innermost state containing both source and target (excluding source itself), null if none.
+	 */
+	private State getCommonParent(final State source, final State target) {
+		for (State p = mQState.getParentState(source); p != null; p = mQState.getParentState(p)) {
+			for (State q = mQState.getParentState(target); q != null; q = mQState.getParentState(q)) {
+				if (p == q) {
+					return p;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return number of states entered by a transition from inside lca to target: the states
+	 * from lca (excluded) down to target, the states entered by default in the other regions
+	 * of the orthogonal states crossed, and the states entered by default below target.
+	 */
+	private int getEntryChain(final State target, final State lca) {
+		int n = 1 + getInitialDescent(target);
+		State child = target;
+		for (State p = mQState.getParentState(target); p != lca && p != null; p = mQState.getParentState(p)) {
+			n++;
+			if (p.isOrthogonal()) {
+				for (Region region : p.getRegions()) {
+					if (region != mQState.getParentRegion(child)) {
+						n += getInitialDescent(region);
+					}
+				}
+			}
+			child = p;
+		}
+		return n;
+	}
+
+	/**
+	 * @return number of states entered by default when entering s, in all the regions of s.
+	 */
+	private int getInitialDescent(final State s) {
+		int n = 0;
+		for (Region region : s.getRegions()) {
+			n += getInitialDescent(region);
+		}
+		return n;
+	}
+
+	/**
+	 * @return number of states entered by default when entering region r: its initial state and,
+	 * recursively, their initial substates. An initial transition to a pseudostate (e.g. choice)
+	 * is not followed.
+	 */
+	private int getInitialDescent(final Region r) {
+		Transition t = mQRegion.getInitialTransition(r);
+		if (t == null || !(t.getTarget() instanceof State)) {
+			return 0;
+		}
+		return 1 + getInitialDescent((State) t.getTarget());
+	}
+
+	public CharSequence print(final List<Record> records, final Map<String, long[]> files) {
+		StringBuilder str = new StringBuilder();
+		str.append("Complexity report of module " + Config.getInstance().getCurrentModule() + " (" + Config.getInstance().getTargetPlatform() + ")\n\n");
+		str.append(String.format("%-40s %6s %5s %7s %6s %6s %7s %6s %7s %9s %7s %6s %6s\n",
+				"State Machine", "States", "Depth", "Regions", "Trans.", "Guards", "Actions", "Timers", "History",
+				"Trans/St.", "Scanned", "Exit", "Entry"));
+		for (Record r : records) {
+			str.append(String.format("%-40s %6d %5d %7d %6d %6d %7d %6d %7d %9d %7d %6d %6d\n",
+					r.name, r.states, r.depth, r.orthogonalRegions, r.transitions, r.guards, r.actions, r.timers, r.history,
+					r.maxTransitionsPerState, r.maxScanned, r.maxExitChain, r.maxEntryChain));
+		}
+		str.append(String.format("\n%-80s %8s %10s\n", "Generated File", "Lines", "Bytes"));
+		long lines = 0;
+		long bytes = 0;
+		for (Map.Entry<String, long[]> f : files.entrySet()) {
+			str.append(String.format("%-80s %8d %10d\n", f.getKey(), f.getValue()[0], f.getValue()[1]));
+			lines += f.getValue()[0];
+			bytes += f.getValue()[1];
+		}
+		str.append(String.format("%-80s %8d %10d\n", "Total (" + files.size() + " files)", lines, bytes));
+		return str;
+	}
+}
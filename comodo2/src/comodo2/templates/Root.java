@@ -1,11 +1,15 @@
 package comodo2.templates;
 
 import comodo2.engine.Config;
+import comodo2.ir.ModelCache;
+import comodo2.metrics.FileStatsFileSystemAccess;
+import comodo2.metrics.Metrics;
 import comodo2.templates.elt.Elt;
 import comodo2.templates.scxml.Scxml;
 import comodo2.templates.qpc.Qpc;
 import javax.inject.Inject;
 import org.apache.log4j.Logger;
+import org.eclipse.uml2.common.util.CacheAdapter;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IGenerator;
@@ -20,6 +24,25 @@ public class Root implements IGenerator {
 	@Inject
 	private Qpc mQpcTemplate;
 
+	@Inject
+	private ComplexityReport mComplexityReport;
+
+	public void setScxmlTemplate(final Scxml scxmlTemplate) {
+		mScxmlTemplate = scxmlTemplate;
+	}
+
+	public void setEltTemplate(final Elt eltTemplate) {
+		mEltTemplate = eltTemplate;
+	}
+
+	public void setQpcTemplate(final Qpc qpcTemplate) {
+		mQpcTemplate = qpcTemplate;
+	}
+
+	public void setComplexityReport(final ComplexityReport complexityReport) {
+		mComplexityReport = complexityReport;
+	}
+
 	private static final Logger mLogger = Logger.getLogger(comodo2.engine.Main.class);
 
 	@Override
@@ -28,17 +51,52 @@ public class Root implements IGenerator {
 			for (final String m : Config.getInstance().getModules()) {
 				Config.getInstance().setCurrentModule(m);
 				generate(input, fsa);
+				releaseCaches();
 			}
 		} else {
 			generate(input, fsa);
 		}
 	}
 
-	public void generate(final Resource input, final IFileSystemAccess fsa) {
+	/**
+	 * In low memory mode, drops the derived features cached by UML2 for the
+	 * model elements visited while generating a module.
+	 */
+	private void releaseCaches() {
+		if (Config.getInstance().isLowMemoryEnabled()) {
+			CacheAdapter.getInstance().clear();
+		}
+	}
+
+	/**
+	 * Generates the modules from the state machine models of the model cache,
+	 * without the UML model (see Config.isModelCacheEnabled).
+	 */
+	public void doGenerate(final ModelCache cache, final IFileSystemAccess fsa) {
+		if (Config.getInstance().getModules().length > 0) {
+			for (final String m : Config.getInstance().getModules()) {
+				Config.getInstance().setCurrentModule(m);
+				generate(cache, fsa);
+			}
+		} else {
+			generate(cache, fsa);
+		}
+	}
+
+	public void generate(final ModelCache cache, final IFileSystemAccess fsa) {
+		long startTime = System.nanoTime();
+		mScxmlTemplate.doGenerate(cache.get(Scxml.getCacheModule()), fsa);
+		Metrics.getInstance().addModuleTime(Config.getInstance().getTargetPlatform(), Config.getInstance().getCurrentModule(), startTime);
+		mLogger.debug("Processed module <" + Config.getInstance().getCurrentModule() + "> from the model cache (" + 
+				(System.nanoTime() - startTime)/1e9 + "s)");
+	}
+
+	public void generate(final Resource input, final IFileSystemAccess outputFsa) {
 		if (Config.getInstance().isModelConfigured(input.getURI().toFileString())) {
 			long startTime = System.nanoTime();	
+			final IFileSystemAccess fsa = Config.getInstance().isComplexityReportEnabled() ? new FileStatsFileSystemAccess(outputFsa) : outputFsa;
 			if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_SCXML)) {
-				mScxmlTemplate.doGenerate(input, fsa);
+				Metrics.getInstance().render(mScxmlTemplate, input, fsa);
 			} else if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_QPC_QM) ||
 					   Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_QPC_C)) {
 				mQpcTemplate.doGenerate(input, fsa);
@@ -50,6 +108,10 @@ public class Root implements IGenerator {
 					mLogger.error("Unsupported target: <" + Config.getInstance().getTargetPlatform() + "> for module <" + Config.getInstance().getCurrentModule() + ">");
 				}
 			}
+			if (fsa instanceof FileStatsFileSystemAccess) {
+				mComplexityReport.generate(input, outputFsa, ((FileStatsFileSystemAccess) fsa).getFiles());
+			}
+			Metrics.getInstance().addModuleTime(Config.getInstance().getTargetPlatform(), Config.getInstance().getCurrentModule(), startTime);
 			mLogger.debug("Processed module <" + Config.getInstance().getCurrentModule() + "> from resource URI <" + input.getURI().toString() + "> (" + 
 					(System.nanoTime() - startTime)/1e9 + "s)");
 		}
@@ -1,6 +1,7 @@
 package comodo2.templates.elt;
 
 import comodo2.engine.Config;
+import comodo2.metrics.Metrics;
 import comodo2.templates.elt.cpp.MalAsync;
 import comodo2.templates.elt.cpp.RadAction;
 import comodo2.templates.elt.cpp.RadActionMgr;
@@ -11,6 +12,7 @@ import comodo2.templates.elt.cpp.RadDataContext;
 import comodo2.templates.elt.cpp.RadDbInterface;
 import comodo2.templates.elt.cpp.RadLogger;
 import comodo2.templates.elt.cpp.RadMain;
+import comodo2.templates.elt.cpp.RadStateTables;
 import comodo2.templates.elt.txt.RadLog;
 import comodo2.templates.elt.waf.MalWscript;
 import comodo2.templates.elt.waf.RadWscript;
@@ -27,6 +29,9 @@ public class Elt implements IGenerator {
 	@Inject
 	private Scxml mScxmlTemplate;
 
+	@Inject
+	private RadStateTables mRadStateTablesTemplate;
+
 	@Inject
 	private RadCfg mRadCfgTemplate;
 
@@ -75,35 +80,117 @@ public class Elt implements IGenerator {
 	@Inject
 	private MalWscript mMalWscriptTemplate;
 
+	public void setScxmlTemplate(final Scxml scxmlTemplate) {
+		mScxmlTemplate = scxmlTemplate;
+	}
+
+	public void setRadStateTablesTemplate(final RadStateTables radStateTablesTemplate) {
+		mRadStateTablesTemplate = radStateTablesTemplate;
+	}
+
+	public void setRadCfgTemplate(final RadCfg radCfgTemplate) {
+		mRadCfgTemplate = radCfgTemplate;
+	}
+
+	public void setRadEvTemplate(final RadEv radEvTemplate) {
+		mRadEvTemplate = radEvTemplate;
+	}
+
+	public void setRadLogTemplate(final RadLog radLogTemplate) {
+		mRadLogTemplate = radLogTemplate;
+	}
+
+	public void setRadActivityTemplate(final RadActivity radActivityTemplate) {
+		mRadActivityTemplate = radActivityTemplate;
+	}
+
+	public void setRadActionTemplate(final RadAction radActionTemplate) {
+		mRadActionTemplate = radActionTemplate;
+	}
+
+	public void setRadActionsStdTemplate(final RadActionsStd radActionsStdTemplate) {
+		mRadActionsStdTemplate = radActionsStdTemplate;
+	}
+
+	public void setRadActionMgrTemplate(final RadActionMgr radActionMgrTemplate) {
+		mRadActionMgrTemplate = radActionMgrTemplate;
+	}
+
+	public void setRadConfigTemplate(final RadConfig radConfigTemplate) {
+		mRadConfigTemplate = radConfigTemplate;
+	}
+
+	public void setRadDataContextTemplate(final RadDataContext radDataContextTemplate) {
+		mRadDataContextTemplate = radDataContextTemplate;
+	}
+
+	public void setRadDbInterfaceTemplate(final RadDbInterface radDbInterfaceTemplate) {
+		mRadDbInterfaceTemplate = radDbInterfaceTemplate;
+	}
+
+	public void setRadLoggerTemplate(final RadLogger radLoggerTemplate) {
+		mRadLoggerTemplate = radLoggerTemplate;
+	}
+
+	public void setRadMainTemplate(final RadMain radMainTemplate) {
+		mRadMainTemplate = radMainTemplate;
+	}
+
+	public void setRadWscriptTemplate(final RadWscript radWscriptTemplate) {
+		mRadWscriptTemplate = radWscriptTemplate;
+	}
+
+	public void setMalTemplate(final Mal malTemplate) {
+		mMalTemplate = malTemplate;
+	}
+
+	public void setMalAsyncTemplate(final MalAsync malAsyncTemplate) {
+		mMalAsyncTemplate = malAsyncTemplate;
+	}
+
+	public void setMalWscriptTemplate(final MalWscript malWscriptTemplate) {
+		mMalWscriptTemplate = malWscriptTemplate;
+	}
+
 	@Override
 	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
 		if ((Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_ELT_RAD) || 
 			 Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_ELT_MAL))) {
-			mMalTemplate.doGenerate(input, fsa);
+			render(mMalTemplate, input, fsa);
 		}
 		if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_ELT_RAD)) {
-			mScxmlTemplate.doGenerate(input, fsa);
-			mRadEvTemplate.doGenerate(input, fsa);
-			mMalAsyncTemplate.doGenerate(input, fsa);
+			render(mScxmlTemplate, input, fsa);
+			if (Config.getInstance().hasTargetPlatformCfgOption(Config.ELT_RAD_OPT_CPPTABLES)) {
+				render(mRadStateTablesTemplate, input, fsa);
+			}
+			render(mRadEvTemplate, input, fsa);
+			render(mMalAsyncTemplate, input, fsa);
 			if ((Config.getInstance().isGenerationModeAll() || Config.getInstance().isGenerationModeUpdate())) {
-				mRadActivityTemplate.doGenerate(input, fsa);
-				mRadActionTemplate.doGenerate(input, fsa);
-				mRadActionMgrTemplate.doGenerate(input, fsa);
+				render(mRadActivityTemplate, input, fsa);
+				render(mRadActionTemplate, input, fsa);
+				render(mRadActionMgrTemplate, input, fsa);
 				if (Config.getInstance().isGenerationModeAll()) {
-					mMalWscriptTemplate.doGenerate(input, fsa);
-					mRadWscriptTemplate.doGenerate(input, fsa);
-					mRadCfgTemplate.doGenerate(input, fsa);
-					mRadLogTemplate.doGenerate(input, fsa);
-					mRadLoggerTemplate.doGenerate(input, fsa);
-					mRadConfigTemplate.doGenerate(input, fsa);
-					mRadDataContextTemplate.doGenerate(input, fsa);
-					mRadDbInterfaceTemplate.doGenerate(input, fsa);
+					render(mMalWscriptTemplate, input, fsa);
+					render(mRadWscriptTemplate, input, fsa);
+					render(mRadCfgTemplate, input, fsa);
+					render(mRadLogTemplate, input, fsa);
+					render(mRadLoggerTemplate, input, fsa);
+					render(mRadConfigTemplate, input, fsa);
+					render(mRadDataContextTemplate, input, fsa);
+					render(mRadDbInterfaceTemplate, input, fsa);
 					if (Config.getInstance().hasTargetPlatformCfgOption(Config.ELT_RAD_OPT_NOACTIONSTD) == false) {
-						mRadActionsStdTemplate.doGenerate(input, fsa);
+						render(mRadActionsStdTemplate, input, fsa);
 					}
-					mRadMainTemplate.doGenerate(input, fsa);
+					render(mRadMainTemplate, input, fsa);
 				}
 			}
 		}
 	}
+
+	/**
+	 * Renders a single template recording its execution time.
+	 */
+	private void render(final IGenerator template, final Resource input, final IFileSystemAccess fsa) {
+		Metrics.getInstance().render(template, input, fsa);
+	}
 }
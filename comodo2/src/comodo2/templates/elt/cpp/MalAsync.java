@@ -41,6 +41,26 @@ public class MalAsync implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQSignal(final QSignal qSignal) {
+		mQSignal = qSignal;
+	}
+
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setTypes(final Types types) {
+		mTypes = types;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform UML Interfaces realized by a <<cmodComponent>> Class
 	 * into a RAD implementation of CII/MAL Asynchronous interface.
@@ -117,7 +137,7 @@ public class MalAsync implements IGenerator {
 		}*/
 		TreeSet<Signal> allSignals = new TreeSet<Signal>(new SignalComparator());
 		for (final Reception r : i.getOwnedReceptions()) {
-			allSignals.add(r.getSignal());
+			allSignals.add(mQInterface.getSignal(r));
 		}
 		/*
 		for (Signal s : allSignals) {
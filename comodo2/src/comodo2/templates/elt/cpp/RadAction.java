@@ -7,6 +7,8 @@ import comodo2.queries.QClass;
 import comodo2.queries.QStateMachine;
 import comodo2.utils.Actions;
 import comodo2.utils.FilesHelper;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import javax.inject.Inject;
 import org.apache.log4j.Logger;
@@ -36,6 +38,22 @@ public class RadAction implements IGenerator {
 	@Inject
 	private Actions mActions;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setActions(final Actions actions) {
+		mActions = actions;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into RAD actions classes.
@@ -83,8 +101,8 @@ public class RadAction implements IGenerator {
 			st.add("moduleNameLowerCase", moduleName.toLowerCase());
 			st.add("className", className);	
 			st.add("classNameUpperCase", className.toUpperCase());	
-			st.add("actionMethodsDeclaration" , printActionMethodsDeclaration(mActions.getMethodNames(actionNames, className)));
-			st.add("guardMethodsDeclaration" , printGuardMethodsDeclaration(mActions.getMethodNames(guardNames, className)));			
+			st.add("actionMethodsDeclaration" , printActionMethodsDeclaration(mActions.getCallees(actionNames, className)));
+			st.add("guardMethodsDeclaration" , printGuardMethodsDeclaration(mActions.getCallees(guardNames, className)));			
 			return st.render();
 		} catch(Throwable throwable) {
 			mLogger.error("Generating header file for " + className + " class (" + throwable.getMessage() + ").");
@@ -92,29 +110,31 @@ public class RadAction implements IGenerator {
 		return "";
 	}
 
-	public CharSequence printActionMethodsDeclaration(final TreeSet<String> actionNames) {
+	public CharSequence printActionMethodsDeclaration(final TreeMap<String, List<String>> actionNames) {
 		String str = "";
-		for (final String name : actionNames) {
+		for (final String name : actionNames.keySet()) {
 			str += "\n";
 			str += "/**\n";
 		    str += " * Method implementing the " + name + " action.\n";		    
 		    str += " * @param[in] c Context containing the last event received by the State Machine.\n";
+		    str += printArgumentsDoc(actionNames.get(name));
 		    str += " */\n";
-		    str += "void " + name + "(scxml4cpp::Context* c);";
+		    str += "void " + name + "(scxml4cpp::Context* c" + printArguments(actionNames.get(name)) + ");";
 		}
 		return str;		
 	}
 
-	public CharSequence printGuardMethodsDeclaration(final TreeSet<String> guardNames) {
+	public CharSequence printGuardMethodsDeclaration(final TreeMap<String, List<String>> guardNames) {
 		String str = "";
-		for (final String name : guardNames) {
+		for (final String name : guardNames.keySet()) {
 		    str += "\n";
 		    str += "/**\n";
 		    str += " * Method implementing the " + name + " guard.\n";		    
 		    str += " * @param[in] c Context containing the last event received by the State Machine.\n";
+		    str += printArgumentsDoc(guardNames.get(name));
 		    str += " * @return true If the guard is satisfied, false otherwise.\n";
 		    str += " */\n";
-		    str += "bool " + name + "(scxml4cpp::Context* c);";
+		    str += "bool " + name + "(scxml4cpp::Context* c" + printArguments(guardNames.get(name)) + ");";
 		}
 		return str;		
 	}
@@ -130,8 +150,8 @@ public class RadAction implements IGenerator {
 			st.add("moduleNameLowerCase", moduleName.toLowerCase());
 			st.add("className", className);	
 			st.add("classFileName", mFilesHelper.toFileName(className));
-			st.add("actionMethodsImpl", printActionMethodsImpl(className, mActions.getMethodNames(actionNames, className)));
-			st.add("guardMethodsImpl", printGuardMethodsImpl(className, mActions.getMethodNames(guardNames, className)));
+			st.add("actionMethodsImpl", printActionMethodsImpl(className, mActions.getCallees(actionNames, className)));
+			st.add("guardMethodsImpl", printGuardMethodsImpl(className, mActions.getCallees(guardNames, className)));
 			return st.render();
 		} catch(Throwable throwable) {
 			mLogger.error("Generating source file for " + className + " class (" + throwable.getMessage() + ").");
@@ -140,26 +160,45 @@ public class RadAction implements IGenerator {
 	}
 	
 
-	public CharSequence printActionMethodsImpl(final String className, final TreeSet<String> actionNames) {
+	public CharSequence printActionMethodsImpl(final String className, final TreeMap<String, List<String>> actionNames) {
 		String str = "";
-		for (final String name : actionNames) {
+		for (final String name : actionNames.keySet()) {
 			str += "\n";
-			str += "void " + className + "::" + name + "(scxml4cpp::Context* c) {\n";
+			str += "void " + className + "::" + name + "(scxml4cpp::Context* c" + printArguments(actionNames.get(name)) + ") {\n";
 			str += "    RAD_TRACE(GetLogger());\n";
 			str += "}\n";
 		}
 		return str;		
 	}
 
-	public CharSequence printGuardMethodsImpl(final String className, final TreeSet<String> guardNames) {
+	public CharSequence printGuardMethodsImpl(final String className, final TreeMap<String, List<String>> guardNames) {
 		String str = "";
-		for (final String name : guardNames) {
+		for (final String name : guardNames.keySet()) {
 			str += "\n";
-			str += "bool " + className + "::" + name + "(scxml4cpp::Context* c) {\n";
+			str += "bool " + className + "::" + name + "(scxml4cpp::Context* c" + printArguments(guardNames.get(name)) + ") {\n";
 			str += "    RAD_TRACE(GetLogger());\n";
 			str += "    return false;\n";			
 			str += "}\n";
 		}
 		return str;		
 	}
+
+	/**
+	 * Arguments of a method shared by the calls of the same action/guard with different arguments.
+	 */
+	public String printArguments(final List<String> argTypes) {
+		String str = "";
+		for (int i = 0; i < argTypes.size(); i++) {
+			str += ", " + argTypes.get(i) + " arg" + i;
+		}
+		return str;
+	}
+
+	public String printArgumentsDoc(final List<String> argTypes) {
+		String str = "";
+		for (int i = 0; i < argTypes.size(); i++) {
+			str += " * @param[in] arg" + i + " Argument " + i + " of the calls in the model.\n";
+		}
+		return str;
+	}
 }
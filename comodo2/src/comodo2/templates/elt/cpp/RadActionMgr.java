@@ -6,6 +6,12 @@ import comodo2.queries.QClass;
 import comodo2.queries.QStateMachine;
 import comodo2.utils.Actions;
 import comodo2.utils.FilesHelper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
 import javax.inject.Inject;
 import org.eclipse.emf.ecore.EObject;
@@ -35,6 +41,22 @@ public class RadActionMgr implements IGenerator {
 	@Inject
 	private Actions mActions;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setActions(final Actions actions) {
+		mActions = actions;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into a RAD ActionMgr class.
@@ -44,9 +66,6 @@ public class RadActionMgr implements IGenerator {
 		Iterable<org.eclipse.uml2.uml.Class> _filter = Iterables.<org.eclipse.uml2.uml.Class>filter(IteratorExtensions.<EObject>toIterable(input.getAllContents()), org.eclipse.uml2.uml.Class.class);
 		for (final org.eclipse.uml2.uml.Class e : _filter) {
 			if ((mQClass.isToBeGenerated(e) && mQClass.hasStateMachines(e))) {
-				mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toHppFilePath("actionMgr")));
-				fsa.generateFile(mFilesHelper.toHppFilePath("actionMgr"), this.generateHeader(Config.getInstance().getCurrentModule(), "ActionMgr"));
-
 				Iterable<StateMachine> stateMachines = mQClass.getStateMachines(e);
 				TreeSet<String> activityNames = new TreeSet<String>();
 				TreeSet<String> actionNames = new TreeSet<String>();
@@ -61,16 +80,26 @@ public class RadActionMgr implements IGenerator {
 					TreeSet<String> allGuardNames = mQStateMachine.getAllGuardNames(sm);
 					Iterables.<String>addAll(guardNames, allGuardNames);
 				}
+				Map<String, String> actionIds = new LinkedHashMap<String, String>();
+				Map<String, String> guardIds = new LinkedHashMap<String, String>();
+				if (Config.getInstance().hasTargetPlatformCfgOption(Config.ELT_RAD_OPT_ACTIONIDS)) {
+					actionIds = toCallbackIds("ACTION_", actionNames);
+					guardIds = toCallbackIds("GUARD_", guardNames);
+				}
+				mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toHppFilePath("actionMgr")));
+				fsa.generateFile(mFilesHelper.toHppFilePath("actionMgr"), this.generateHeader(Config.getInstance().getCurrentModule(), "ActionMgr", actionIds, guardIds));
 				mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toCppFilePath("actionMgr")));
-				fsa.generateFile(mFilesHelper.toCppFilePath("actionMgr"), this.generateSource(Config.getInstance().getCurrentModule(), "ActionMgr", activityNames, actionNames, guardNames));
+				fsa.generateFile(mFilesHelper.toCppFilePath("actionMgr"), this.generateSource(Config.getInstance().getCurrentModule(), "ActionMgr", activityNames, actionNames, guardNames, actionIds, guardIds));
 			}
 		}
 	}
 
 	/**
 	 * ActionMgr.hpp
+	 * With -c ACTIONIDS actionIds and guardIds map the sorted action and guard names to their
+	 * enumerator in the generated CallbackId enumeration: the actions first, then the guards.
 	 */
-	public CharSequence generateHeader(final String moduleName, final String className) {
+	public CharSequence generateHeader(final String moduleName, final String className, final Map<String, String> actionIds, final Map<String, String> guardIds) {
 		try {
 			STGroup g = new STGroupFile("resources/tpl/EltRadCppActionMgr.stg");
 			ST st = g.getInstanceOf("ActionMgrHeader");
@@ -79,6 +108,8 @@ public class RadActionMgr implements IGenerator {
 			st.add("moduleNameLowerCase", moduleName.toLowerCase());
 			st.add("className", className);	
 			st.add("classNameUpperCase", className.toUpperCase());	
+			st.add("callbackIds", printCallbackIds(actionIds, guardIds));
+			st.add("actionCount", actionIds.size());
 			return st.render();
 		} catch(Throwable throwable) {
 			mLogger.error("Generating header file for " + className + " class (" + throwable.getMessage() + ").");
@@ -89,7 +120,7 @@ public class RadActionMgr implements IGenerator {
 	/**
 	 * ActionMgr.cpp
 	 */
-	public CharSequence generateSource(final String moduleName, final String className, final TreeSet<String> activityNames, final TreeSet<String> actionNames, final TreeSet<String> guardNames) {
+	public CharSequence generateSource(final String moduleName, final String className, final TreeSet<String> activityNames, final TreeSet<String> actionNames, final TreeSet<String> guardNames, final Map<String, String> actionIds, final Map<String, String> guardIds) {
 		try {
 			STGroup g = new STGroupFile("resources/tpl/EltRadCppActionMgr.stg");
 			ST st = g.getInstanceOf("ActionMgrSource");
@@ -99,8 +130,13 @@ public class RadActionMgr implements IGenerator {
 			st.add("classNameFilename", mFilesHelper.toFileName(className));
 			st.add("actionsInclude", printActionsInclude(moduleName, actionNames, guardNames));
 			st.add("activitiesInclude", printActivitiesInclude(moduleName, activityNames));
-			st.add("createActions", printCreateActions(actionNames, guardNames));
+			st.add("createActions", printCreateActions(actionNames, guardNames, actionIds, guardIds));
 			st.add("createActivities", printCreateActivities(activityNames));
+			List<String> callbackStrings = new ArrayList<String>();
+			for (final String name : Iterables.concat(actionIds.keySet(), guardIds.keySet())) {
+				callbackStrings.add(toCppString(name));
+			}
+			st.add("callbackNames", callbackStrings.isEmpty() ? null : callbackStrings);
 			return st.render();
 		} catch(Throwable throwable) {
 			mLogger.error("Generating source file for " + className + " class (" + throwable.getMessage() + ").");
@@ -125,7 +161,7 @@ public class RadActionMgr implements IGenerator {
 		return str;
 	}
 
-	public CharSequence printCreateActions(final TreeSet<String> actionNames, final TreeSet<String> guardNames) {
+	public CharSequence printCreateActions(final TreeSet<String> actionNames, final TreeSet<String> guardNames, final Map<String, String> actionIds, final Map<String, String> guardIds) {
 		String str = "";
 		TreeSet<String> mergeClassNames = mActions.getMergeClassNames(mActions.getClassNames(actionNames), mActions.getClassNames(guardNames));
 		for (final String group : mergeClassNames) {
@@ -140,21 +176,81 @@ public class RadActionMgr implements IGenerator {
 			TreeSet<String> methodNames = mActions.getMethodNames(actionNames, group);
 			for(final String method : methodNames) {
 				str += "\n";
-				str += "the_action = new rad::ActionCallback(\"" + group + "." + method + "\",\n";
-				str += "                                     std::bind(&" + group + "::" + method + ", my_" + group.toLowerCase() + ", _1));\n";
+				str += "the_action = new rad::ActionCallback(\"" + toCppString(group + "." + method) + "\",\n";
+				str += "                                     std::bind(&" + group + "::" + mActions.getCalleeName(method) + ", my_" + group.toLowerCase() + ", _1" + printBoundArguments(method) + "));\n";
 				str += "AddAction(the_action);\n";
+				str += printRegisterCallback(actionIds, group + "." + method);
 			}
 			TreeSet<String> methodNames2 = mActions.getMethodNames(guardNames, group);
 			for(final String method2 : methodNames2) {
 				str += "\n";
-				str += "the_action = new rad::GuardCallback(\"" + group + "." + method2 + "\",\n";
-				str += "                                    std::bind(&" + group + "::" + method2 + ", my_" + group.toLowerCase() + ", _1));\n";
+				str += "the_action = new rad::GuardCallback(\"" + toCppString(group + "." + method2) + "\",\n";
+				str += "                                    std::bind(&" + group + "::" + mActions.getCalleeName(method2) + ", my_" + group.toLowerCase() + ", _1" + printBoundArguments(method2) + "));\n";
 				str += "AddAction(the_action);\n";
+				str += printRegisterCallback(guardIds, group + "." + method2);
 			}
 		}
 		return str;
 	}
 
+	/**
+	 * Arguments of an action/guard call (e.g. "IsReady(1)") bound to the shared method after the context.
+	 */
+	public String printBoundArguments(final String method) {
+		String str = "";
+		for (final String arg : mActions.getCallArguments(method)) {
+			str += ", " + arg;
+		}
+		return str;
+	}
+
+	/**
+	 * Escapes an action/guard name (which may contain string arguments) for a C++ string literal.
+	 */
+	public String toCppString(final String name) {
+		return name.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	public String printRegisterCallback(final Map<String, String> callbackIds, final String name) {
+		if (!callbackIds.containsKey(name)) {
+			return "";
+		}
+		return "m_callbacks[" + callbackIds.get(name) + "] = the_action;\n";
+	}
+
+	public List<String> printCallbackIds(final Map<String, String> actionIds, final Map<String, String> guardIds) {
+		if (actionIds.isEmpty() && guardIds.isEmpty()) {
+			return null;
+		}
+		List<String> ids = new ArrayList<String>();
+		int index = 0;
+		for (final String id : Iterables.concat(actionIds.values(), guardIds.values())) {
+			ids.add(id + " = " + index++);
+		}
+		return ids;
+	}
+
+	/**
+	 * Actions and guards get enumerators with their own prefix since an action and a guard
+	 * may have the same name, e.g. "ActionsStd.Init" -> "ACTION_ActionsStd_Init".
+	 * Names mapping to the same identifier (e.g. "A.b_c" and "A_b.c") get a numeric suffix.
+	 * @return the enumerator of each name, in name order.
+	 */
+	public Map<String, String> toCallbackIds(final String prefix, final TreeSet<String> names) {
+		Map<String, String> ids = new LinkedHashMap<String, String>();
+		Set<String> used = new HashSet<String>();
+		for (final String name : names) {
+			String id = prefix + name.replaceAll("[^A-Za-z0-9_]", "_");
+			String unique = id;
+			for (int i = 2; used.contains(unique); i++) {
+				unique = id + "_" + i;
+			}
+			used.add(unique);
+			ids.put(name, unique);
+		}
+		return ids;
+	}
+
 	public CharSequence printCreateActivities(final TreeSet<String> activityNames) {
 		String str = "";
 		if (activityNames.size() > 0) {
@@ -26,6 +26,14 @@ public class RadActionsStd implements IGenerator {
 	@Inject
 	private FilesHelper _filesHelper;
 
+	public void setQClass(final QClass qClass) {
+		_qClass = qClass;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		_filesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into a RAD ActionMgr class.
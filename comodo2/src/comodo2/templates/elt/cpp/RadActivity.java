@@ -32,6 +32,18 @@ public class RadActivity implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into an RAD do-activities C++ class.
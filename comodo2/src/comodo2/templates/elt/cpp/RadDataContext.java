@@ -26,6 +26,14 @@ public class RadDataContext implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into a RAD ActionMgr class.
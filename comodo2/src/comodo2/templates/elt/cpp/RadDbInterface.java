@@ -26,6 +26,14 @@ public class RadDbInterface implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	private STGroup mTemplates = new STGroupFile("resources/tpl/EltRadCppDbInterface.stg");
 	
 	/**
@@ -42,6 +42,26 @@ public class RadMain implements IGenerator {
 	@Inject
 	private QStereotype mQStereotype;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setQSignal(final QSignal qSignal) {
+		mQSignal = qSignal;
+	}
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into a RAD ActionMgr class.
@@ -104,7 +124,7 @@ public class RadMain implements IGenerator {
 		String str = "";
 		for (final Interface i : c.allRealizedInterfaces()) {
 			for (final Reception r : i.getOwnedReceptions()) {
-				Signal s = r.getSignal();
+				Signal s = mQInterface.getSignal(r);
 				if (s != null) {
 					if (mQStereotype.isComodoCommand(((Element) s))) {
 						str += "state_machine.RegisterDefaultRequestRejectHandler<" + mQSignal.nameWithNamespace(s) + ">();\n";
@@ -0,0 +1,528 @@
+package comodo2.templates.elt.cpp;
+
+import com.google.common.collect.Iterables;
+import comodo2.engine.Config;
+import comodo2.queries.QClass;
+import comodo2.queries.QRegion;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.queries.QTransition;
+import comodo2.queries.TransitionInfo;
+import comodo2.utils.FilesHelper;
+import comodo2.utils.StateComparator;
+import comodo2.utils.TransitionComparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.IGenerator;
+import org.eclipse.xtext.xbase.lib.IteratorExtensions;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.STGroupFile;
+
+/**
+ * Generates (-c CPPTABLES) for each state machine a C++ header with the states and
+ * events as enumerations and the precomputed transition, entry-set and exit-set
+ * tables of the SCXML document generated by Scxml.
+ *
+ * States are numbered in document order (regions of parallel states are compound
+ * states, as in the SCXML document). Variable length data (transitions of a state,
+ * entry/exit set of a transition) is stored in flat arrays indexed by offset tables.
+ */
+public class RadStateTables implements IGenerator {
+
+	private static final Logger mLogger = Logger.getLogger(comodo2.engine.Main.class);
+
+	private static final int NONE = -1;
+
+	enum Kind { ATOMIC, COMPOUND, PARALLEL, FINAL }
+
+	@Inject
+	private QClass mQClass;
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QRegion mQRegion;
+
+	@Inject
+	private QTransition mQTransition;
+
+	@Inject
+	private FilesHelper mFilesHelper;
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	/**
+	 * State (or region) of the SCXML document.
+	 */
+	private static class Node {
+		String id;
+		String identifier;
+		Kind kind;
+		int parent = NONE;
+		int initial = NONE;
+		int entryAction = 0;
+		int exitAction = 0;
+		List<Integer> children = new ArrayList<Integer>();
+		State state;
+	}
+
+	/**
+	 * Tables of the state machine being generated.
+	 */
+	private List<Node> mNodes;
+	private Map<EObject, Integer> mIndex;
+	private Set<String> mIdentifiers;
+	private Map<String, String> mEvents;
+	private Set<String> mEventIdentifiers;
+	private Map<String, Integer> mGuards;
+	private Map<String, Integer> mActions;
+
+	@Override
+	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
+		Iterable<org.eclipse.uml2.uml.Class> _filter = Iterables.<org.eclipse.uml2.uml.Class>filter(IteratorExtensions.<EObject>toIterable(input.getAllContents()), org.eclipse.uml2.uml.Class.class);
+		for (final org.eclipse.uml2.uml.Class e : _filter) {
+			if ((mQClass.isToBeGenerated(e) && mQClass.hasStateMachines(e))) {
+				for (final StateMachine sm : mQClass.getStateMachines(e)) {
+					String fileName = mFilesHelper.toHppFilePath(sm.getName() + "Tables");
+					fsa.generateFile(fileName, this.generate(Config.getInstance().getCurrentModule(), sm));
+				}
+			}
+		}
+	}
+
+	public CharSequence generate(final String moduleName, final StateMachine sm) {
+		mNodes = new ArrayList<Node>();
+		mIndex = new HashMap<EObject, Integer>();
+		mIdentifiers = new HashSet<String>();
+		mEvents = new LinkedHashMap<String, String>();
+		mEventIdentifiers = new HashSet<String>();
+		mGuards = new LinkedHashMap<String, Integer>();
+		mActions = new LinkedHashMap<String, Integer>();
+
+		TreeSet<State> sortedTopStates = new TreeSet<State>(new StateComparator());
+		for (final State s : Iterables.<State>filter(sm.allOwnedElements(), State.class)) {
+			if (mQState.isTopState(s)) {
+				sortedTopStates.add(s);
+			}
+		}
+		for (final State s : sortedTopStates) {
+			addState(s, NONE);
+		}
+		for (Node n : mNodes) {
+			if (n.state != null) {
+				n.entryAction = mQState.hasOnEntryActions(n.state) ? add(mActions, n.state.getEntry().getName()) : 0;
+				n.exitAction = mQState.hasOnExitActions(n.state) ? add(mActions, n.state.getExit().getName()) : 0;
+			}
+		}
+
+		List<String> transitions = new ArrayList<String>();
+		List<Integer> transitionOffsets = new ArrayList<Integer>();
+		List<Integer> exitSet = new ArrayList<Integer>();
+		List<Integer> exitOffsets = new ArrayList<Integer>();
+		List<Integer> entrySet = new ArrayList<Integer>();
+		List<Integer> entryOffsets = new ArrayList<Integer>();
+		for (int i = 0; i < mNodes.size(); i++) {
+			transitionOffsets.add(transitions.size());
+			if (mNodes.get(i).state == null) {
+				continue;
+			}
+			TreeSet<Transition> sortedTrans = new TreeSet<Transition>(new TransitionComparator());
+			sortedTrans.addAll(mNodes.get(i).state.getOutgoings());
+			for (final Transition t : sortedTrans) {
+				TransitionInfo info = mQTransition.getInfo(t);
+				if (mQTransition.isMalformed(t) || (!info.hasTarget() && !info.hasEvent() && !info.hasGuard())) {
+					// skipped by the SCXML generator as well
+					continue;
+				}
+				int target = NONE;
+				boolean dynamic = false;
+				if (info.hasTarget()) {
+					Integer index = mIndex.get(t.getTarget());
+					if (index != null) {
+						target = index;
+					} else {
+						dynamic = true;
+						mLogger.warn("Transition from state " + mNodes.get(i).id + " to " + info.getTargetName() + " is not a state, resolved at run-time.");
+					}
+				}
+				exitOffsets.add(exitSet.size());
+				entryOffsets.add(entrySet.size());
+				if (target != NONE) {
+					int domain = getTransitionDomain(i, target);
+					for (int s = i; s != domain; s = mNodes.get(s).parent) {
+						exitSet.add(s);
+					}
+					List<Integer> path = new ArrayList<Integer>();
+					for (int s = target; s != domain; s = mNodes.get(s).parent) {
+						path.add(0, s);
+					}
+					addEntryPath(path, 0, entrySet);
+				}
+				transitions.add(printTransition(i, info, target, dynamic));
+			}
+		}
+		transitionOffsets.add(transitions.size());
+		exitOffsets.add(exitSet.size());
+		entryOffsets.add(entrySet.size());
+
+		List<Integer> initialConfiguration = new ArrayList<Integer>();
+		Integer initial = mIndex.get(mQStateMachine.getInitialState(sm));
+		if (initial != null) {
+			List<Integer> path = new ArrayList<Integer>();
+			for (int s = initial; s != NONE; s = mNodes.get(s).parent) {
+				path.add(0, s);
+			}
+			addEntryPath(path, 0, initialConfiguration);
+		}
+
+		STGroup g = new STGroupFile("resources/tpl/EltRadCppStateTables.stg");
+		ST st = g.getInstanceOf("StateTablesHeader");
+		st.add("moduleName", moduleName);
+		st.add("moduleNameUpperCase", moduleName.toUpperCase());
+		st.add("moduleNameLowerCase", moduleName.toLowerCase());
+		st.add("smName", sm.getName());
+		st.add("smNameUpperCase", toIdentifier(sm.getName()).toUpperCase());
+		st.add("smNamespace", toIdentifier(mFilesHelper.toFileName(sm.getName())) + "_tables");
+		st.add("states", printEnumerators("STATE_", nodeIdentifiers()));
+		st.add("events", printEnumerators("EVENT_", new ArrayList<String>(mEvents.values())));
+		st.add("stateIds", printStrings(nodeIds()));
+		st.add("eventNames", printStrings(new ArrayList<String>(mEvents.keySet())));
+		st.add("guardNames", printStrings(withNone(mGuards.keySet())));
+		st.add("actionNames", printStrings(withNone(mActions.keySet())));
+		st.add("stateKinds", printStateKinds());
+		st.add("parents", printStates(nodeParents()));
+		st.add("initials", printStates(nodeInitials()));
+		st.add("entryActions", printNumbers(nodeEntryActions()));
+		st.add("exitActions", printNumbers(nodeExitActions()));
+		st.add("transitions", transitions);
+		st.add("transitionOffsets", printNumbers(transitionOffsets));
+		st.add("exitSet", printStates(exitSet));
+		st.add("exitOffsets", printNumbers(exitOffsets));
+		st.add("entrySet", printStates(entrySet));
+		st.add("entryOffsets", printNumbers(entryOffsets));
+		st.add("initialConfiguration", printStates(initialConfiguration));
+		st.add("stateCount", mNodes.size());
+		st.add("eventCount", mEvents.size());
+		st.add("transitionCount", transitions.size());
+		return st.render();
+	}
+
+	private int addState(final State s, final int parent) {
+		Node n = new Node();
+		n.id = mQState.getStateName(s);
+		if (mQState.isFinal(s) && (n.id == null || n.id.trim().isEmpty())) {
+			n.id = "finalState";
+		}
+		n.state = s;
+		n.parent = parent;
+		n.kind = mQState.isFinal(s) ? Kind.FINAL : s.isOrthogonal() ? Kind.PARALLEL :
+			(s.isComposite() && !Iterables.isEmpty(mQState.getAllNonFinalSubstates(s))) ? Kind.COMPOUND : Kind.ATOMIC;
+		int index = addNode(n, s);
+		if (n.kind == Kind.PARALLEL) {
+			for (final Region r : s.getRegions()) {
+				Node rn = new Node();
+				rn.id = mQRegion.getRegionName(r);
+				rn.parent = index;
+				rn.kind = Kind.COMPOUND;
+				int regionIndex = addNode(rn, r);
+				n.children.add(regionIndex);
+				for (final State ss : Iterables.<State>filter(r.getSubvertices(), State.class)) {
+					rn.children.add(addState(ss, regionIndex));
+				}
+				rn.initial = getIndex(getInitialState(r));
+			}
+		} else if (n.kind == Kind.COMPOUND) {
+			for (final Region r : s.getRegions()) {
+				for (final State ss : Iterables.<State>filter(r.getSubvertices(), State.class)) {
+					n.children.add(addState(ss, index));
+				}
+			}
+			n.initial = getIndex(getInitialSubstate(s));
+		}
+		return index;
+	}
+
+	/**
+	 * Adds a state, its C++ identifier is made unique since SCXML ids may repeat (e.g. unnamed regions).
+	 */
+	private int addNode(final Node n, final EObject element) {
+		n.identifier = toUniqueIdentifier(n.id, mIdentifiers);
+		mNodes.add(n);
+		mIndex.put(element, mNodes.size() - 1);
+		return mNodes.size() - 1;
+	}
+
+	private int getIndex(final EObject element) {
+		Integer index = (element == null) ? null : mIndex.get(element);
+		return (index == null) ? NONE : index;
+	}
+
+	private State getInitialSubstate(final State s) {
+		return getTargetState(mQState.getInitialSubstateTransition(s));
+	}
+
+	private State getInitialState(final Region r) {
+		return getTargetState(mQRegion.getInitialTransition(r));
+	}
+
+	/**
+	 * @return the state targeted by the initial transition, null if there is none or if it
+	 * targets a pseudostate (resolved at run-time).
+	 */
+	private static State getTargetState(final Transition t) {
+		return (t != null && t.getTarget() instanceof State) ? (State) t.getTarget() : null;
+	}
+
+	/**
+	 * @return the innermost compound state that is a proper ancestor of the source and an ancestor
+	 * of the target (SCXML transition domain of an external transition), NONE for the document root.
+	 */
+	private int getTransitionDomain(final int source, final int target) {
+		for (int a = mNodes.get(source).parent; a != NONE; a = mNodes.get(a).parent) {
+			if (mNodes.get(a).kind == Kind.COMPOUND && isDescendant(target, a)) {
+				return a;
+			}
+		}
+		return NONE;
+	}
+
+	private boolean isDescendant(final int s, final int ancestor) {
+		for (int a = mNodes.get(s).parent; a != NONE; a = mNodes.get(a).parent) {
+			if (a == ancestor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the states entered along the path (outermost first): the other regions of the parallel
+	 * states of the path and the target state get their default entry.
+	 */
+	private void addEntryPath(final List<Integer> path, final int i, final List<Integer> entrySet) {
+		int s = path.get(i);
+		entrySet.add(s);
+		if (i == path.size() - 1) {
+			addDefaultEntry(s, entrySet);
+		} else if (mNodes.get(s).kind == Kind.PARALLEL) {
+			for (int region : mNodes.get(s).children) {
+				if (region == path.get(i + 1)) {
+					addEntryPath(path, i + 1, entrySet);
+				} else {
+					entrySet.add(region);
+					addDefaultEntry(region, entrySet);
+				}
+			}
+		} else {
+			addEntryPath(path, i + 1, entrySet);
+		}
+	}
+
+	private void addDefaultEntry(final int s, final List<Integer> entrySet) {
+		Node n = mNodes.get(s);
+		if (n.kind == Kind.PARALLEL) {
+			for (int region : n.children) {
+				entrySet.add(region);
+				addDefaultEntry(region, entrySet);
+			}
+		} else if (n.kind == Kind.COMPOUND && n.initial != NONE) {
+			entrySet.add(n.initial);
+			addDefaultEntry(n.initial, entrySet);
+		}
+	}
+
+	/**
+	 * @return index of the name (1 based, 0 for no name).
+	 */
+	private static int add(final Map<String, Integer> names, final String name) {
+		if (name == null || name.trim().isEmpty()) {
+			return 0;
+		}
+		Integer index = names.get(name);
+		if (index == null) {
+			index = names.size() + 1;
+			names.put(name, index);
+		}
+		return index;
+	}
+
+	private String printTransition(final int source, final TransitionInfo info, final int target, final boolean dynamic) {
+		String event = "NO_EVENT";
+		if (info.hasEvent()) {
+			String identifier = mEvents.get(info.getEventName());
+			if (identifier == null) {
+				identifier = toUniqueIdentifier(info.getEventName(), mEventIdentifiers);
+				mEvents.put(info.getEventName(), identifier);
+			}
+			event = "EVENT_" + identifier;
+		}
+		return "{ " + printState(source) + ", " + event + ", " + add(mGuards, info.getGuardName()) + ", " +
+				add(mActions, info.getFirstActionName()) + ", " + printState(target) + ", " + dynamic + " }";
+	}
+
+	private String printState(final int s) {
+		return (s == NONE) ? "NO_STATE" : "STATE_" + mNodes.get(s).identifier;
+	}
+
+	private String printStateKinds() {
+		List<String> kinds = new ArrayList<String>();
+		for (Node n : mNodes) {
+			kinds.add("KIND_" + n.kind.name());
+		}
+		return String.join(",\n", kinds);
+	}
+
+	private String printStates(final List<Integer> states) {
+		List<String> names = new ArrayList<String>();
+		for (int s : states) {
+			names.add(printState(s));
+		}
+		// C++ does not allow empty arrays
+		return names.isEmpty() ? "NO_STATE" : String.join(",\n", names);
+	}
+
+	private static String printNumbers(final List<Integer> numbers) {
+		List<String> str = new ArrayList<String>();
+		for (int n : numbers) {
+			str.add(Integer.toString(n));
+		}
+		return String.join(", ", str);
+	}
+
+	private static String printStrings(final List<String> strings) {
+		List<String> str = new ArrayList<String>();
+		for (String s : strings) {
+			str.add("\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+		}
+		return str.isEmpty() ? "nullptr" : String.join(",\n", str);
+	}
+
+	private static String printEnumerators(final String prefix, final List<String> identifiers) {
+		List<String> str = new ArrayList<String>();
+		for (int i = 0; i < identifiers.size(); i++) {
+			str.add(prefix + identifiers.get(i) + " = " + i);
+		}
+		return String.join(",\n", str);
+	}
+
+	private static List<String> withNone(final Iterable<String> names) {
+		List<String> list = new ArrayList<String>();
+		list.add("");
+		Iterables.addAll(list, names);
+		return list;
+	}
+
+	private List<String> nodeIds() {
+		List<String> list = new ArrayList<String>();
+		for (Node n : mNodes) {
+			list.add(n.id);
+		}
+		return list;
+	}
+
+	private List<String> nodeIdentifiers() {
+		List<String> list = new ArrayList<String>();
+		for (Node n : mNodes) {
+			list.add(n.identifier);
+		}
+		return list;
+	}
+
+	private List<Integer> nodeParents() {
+		List<Integer> list = new ArrayList<Integer>();
+		for (Node n : mNodes) {
+			list.add(n.parent);
+		}
+		return list;
+	}
+
+	private List<Integer> nodeInitials() {
+		List<Integer> list = new ArrayList<Integer>();
+		for (Node n : mNodes) {
+			list.add(n.initial);
+		}
+		return list;
+	}
+
+	private List<Integer> nodeEntryActions() {
+		List<Integer> list = new ArrayList<Integer>();
+		for (Node n : mNodes) {
+			list.add(n.entryAction);
+		}
+		return list;
+	}
+
+	private List<Integer> nodeExitActions() {
+		List<Integer> list = new ArrayList<Integer>();
+		for (Node n : mNodes) {
+			list.add(n.exitAction);
+		}
+		return list;
+	}
+
+	/**
+	 * @return the C++ identifier of the name, with a numeric suffix if another name already
+	 * maps to the same identifier (e.g. a.b and a_b), added to the used identifiers.
+	 */
+	private static String toUniqueIdentifier(final String name, final Set<String> used) {
+		String identifier = toIdentifier(name);
+		for (int i = 2; used.contains(identifier); i++) {
+			identifier = toIdentifier(name) + "_" + i;
+		}
+		used.add(identifier);
+		return identifier;
+	}
+
+	/**
+	 * @return the given SCXML id or event name as a C++ identifier, e.g. On::Operational -> On_Operational.
+	 */
+	private static String toIdentifier(final String name) {
+		String identifier = (name == null) ? "" : name.replaceAll("[^A-Za-z0-9_]+", "_").replaceAll("_+$", "");
+		if (identifier.isEmpty() || Character.isDigit(identifier.charAt(0))) {
+			identifier = "_" + identifier;
+		}
+		return identifier;
+	}
+}
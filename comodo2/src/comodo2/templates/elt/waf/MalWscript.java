@@ -11,7 +11,6 @@ import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.uml2.uml.Interface;
-import org.eclipse.uml2.uml.PackageImport;
 import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IGenerator;
 import org.stringtemplate.v4.ST;
@@ -31,6 +30,18 @@ public class MalWscript implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setQPackage(final QPackage qPackage) {
+		mQPackage = qPackage;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform <<cmdoModule>> UML package containing <<cmdoInterface>> UML Interface
 	 * into the WAF wscript file for MAL/ICD.
@@ -53,14 +64,12 @@ public class MalWscript implements IGenerator {
 					 */
 					String useModulesStr = "";
 					boolean hasOne = false;
-					for (PackageImport pi : p.getPackageImports()) {
-						if (pi.getImportedPackage() != null) {
-							if (hasOne == false) {
-								useModulesStr += "use=[" + "'" + pi.getImportedPackage().getName() + "'";
-								hasOne = true;
-							} else {
-								useModulesStr += ", '" + pi.getImportedPackage().getName() + "'";
-							}
+					for (org.eclipse.uml2.uml.Package ip : mQPackage.getImportedPackages(p)) {
+						if (hasOne == false) {
+							useModulesStr += "use=[" + "'" + ip.getName() + "'";
+							hasOne = true;
+						} else {
+							useModulesStr += ", '" + ip.getName() + "'";
 						}
 					}
 					if (hasOne) {
@@ -33,6 +33,22 @@ public class RadWscript implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setQPackage(final QPackage qPackage) {
+		mQPackage = qPackage;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform <<cmdoModule>> UML package containing <<cmdoComponent>> UML Class
 	 * into the WAF wscript file for RAD applications.
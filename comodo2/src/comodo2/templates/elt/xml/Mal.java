@@ -1,6 +1,7 @@
 package comodo2.templates.elt.xml;
 
 import comodo2.queries.QInterface;
+import comodo2.queries.QPackage;
 import comodo2.queries.QSignal;
 import comodo2.queries.QStereotype;
 import comodo2.utils.FilesHelper;
@@ -18,7 +19,6 @@ import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Enumeration;
 import org.eclipse.uml2.uml.EnumerationLiteral;
 import org.eclipse.uml2.uml.Interface;
-import org.eclipse.uml2.uml.PackageImport;
 import org.eclipse.uml2.uml.Property;
 import org.eclipse.uml2.uml.Reception;
 import org.eclipse.uml2.uml.Signal;
@@ -38,6 +38,9 @@ public class Mal implements IGenerator {
 	@Inject
 	private QInterface mQInterface;
 
+	@Inject
+	private QPackage mQPackage;
+
 	@Inject
 	private QSignal mQSignal;
 
@@ -47,6 +50,30 @@ public class Mal implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setQPackage(final QPackage qPackage) {
+		mQPackage = qPackage;
+	}
+
+	public void setQSignal(final QSignal qSignal) {
+		mQSignal = qSignal;
+	}
+
+	public void setTypes(final Types types) {
+		mTypes = types;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform a cmdoInterface to a MAL ICD XML.
 	 */
@@ -112,10 +139,8 @@ public class Mal implements IGenerator {
 
 	public CharSequence explorePackageIncludes(final org.eclipse.uml2.uml.Package p) {
 		String str = "";
-		for (PackageImport e : p.getPackageImports()) {
-			if (e.getImportedPackage() != null) {
-				str += "    <include href=\"" + e.getImportedPackage().getName() + ".xml\"/>\n";
-			}
+		for (org.eclipse.uml2.uml.Package ip : mQPackage.getImportedPackages(p)) {
+			str += "    <include href=\"" + ip.getName() + ".xml\"/>\n";
 		}
 		return str;
 	}
@@ -214,7 +239,7 @@ public class Mal implements IGenerator {
 	public CharSequence exploreSignalReceptions(final TreeSet<Reception> allReceptions) {
 		StringConcatenation str = new StringConcatenation();
 		for(final Reception r : allReceptions) {
-			Signal s = r.getSignal();
+			Signal s = mQInterface.getSignal(r);
 			if (s != null && mQStereotype.isComodoCommand(((Element) s))) {
 				str.append(printInterfaceMethod(s, mTypes.typeName(mQSignal.getReplyType(s)), mQSignal.isReplyTypePrimitive(s), getExceptionDataTypeName(r)));
 			}
@@ -48,6 +48,34 @@ public class RadEv implements IGenerator {
 	@Inject
 	private FilesHelper mFilesHelper;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setQSignal(final QSignal qSignal) {
+		mQSignal = qSignal;
+	}
+
+	public void setQInterface(final QInterface qInterface) {
+		mQInterface = qInterface;
+	}
+
+	public void setTypes(final Types types) {
+		mTypes = types;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
 	 * into an RAD Events DSL.
@@ -113,7 +141,7 @@ public class RadEv implements IGenerator {
 		}
 		*/
 		for (final Reception r : i.getOwnedReceptions()) {
-			allSignals.add(r.getSignal());
+			allSignals.add(mQInterface.getSignal(r));
 		}
 		
 		return allSignals;
@@ -142,7 +170,7 @@ public class RadEv implements IGenerator {
 		for (final Interface i : c.allRealizedInterfaces()) {
 			if (mQInterface.isToBeGenerated(i)) {
 				for (final Reception r : i.getOwnedReceptions()) {
-					allSignals.add(r.getSignal());
+					allSignals.add(mQInterface.getSignal(r));
 				}
 			}
 		}
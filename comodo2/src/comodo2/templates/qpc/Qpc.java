@@ -1,11 +1,14 @@
 package comodo2.templates.qpc;
 
 import comodo2.engine.Config;
+import comodo2.metrics.Metrics;
 import comodo2.templates.qpc.c.AnalysisContext;
 import comodo2.templates.qpc.c.StateMachineHeader;
 import comodo2.templates.qpc.c.StateMachineSource;
 import comodo2.templates.qpc.impl.QpcHeaders;
 import comodo2.templates.qpc.impl.QpcImplFiles;
+import comodo2.templates.qpc.impl.QpcSizing;
+import comodo2.templates.qpc.impl.QpcStringPool;
 import comodo2.templates.qpc.qm.Qm;
 
 import javax.inject.Inject;
@@ -33,23 +36,73 @@ public class Qpc implements IGenerator {
 	@Inject
 	private AnalysisContext mAnalysisContext;
 
+	@Inject
+	private QpcSizing mQpcSizing;
+
+	@Inject
+	private QpcStringPool mQpcStringPool;
+
+	public void setQm(final Qm qm) {
+		mQm = qm;
+	}
+
+	public void setStateMachineSource(final StateMachineSource stateMachineSource) {
+		mStateMachineSource = stateMachineSource;
+	}
+
+	public void setStateMachineHeader(final StateMachineHeader stateMachineHeader) {
+		mStateMachineHeader = stateMachineHeader;
+	}
+
+	public void setQpcImplFiles(final QpcImplFiles qpcImplFiles) {
+		mQpcImplFiles = qpcImplFiles;
+	}
+
+	public void setQpcHeaders(final QpcHeaders qpcHeaders) {
+		mQpcHeaders = qpcHeaders;
+	}
+
+	public void setAnalysisContext(final AnalysisContext analysisContext) {
+		mAnalysisContext = analysisContext;
+	}
+
+	public void setQpcSizing(final QpcSizing qpcSizing) {
+		mQpcSizing = qpcSizing;
+	}
+
+	public void setQpcStringPool(final QpcStringPool qpcStringPool) {
+		mQpcStringPool = qpcStringPool;
+	}
+
     @Override
 	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
 		if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_QPC_QM)) {
-			mQm.doGenerate(input, fsa);
+			render(mQm, input, fsa);
 		}
 		else if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_QPC_C)) {
 			// mStateMachineSource.doGenerate() modifies final and unnamed states to give them a name.
 			// This function should be the first one called for this target platform.
-			mStateMachineSource.doGenerate(input, fsa);
-			mStateMachineHeader.doGenerate(input, fsa);
+			render(mStateMachineSource, input, fsa);
+			render(mStateMachineHeader, input, fsa);
 		}
 		
-		mQpcImplFiles.doGenerate(input, fsa);
-		mQpcHeaders.doGenerate(input, fsa);
+		render(mQpcImplFiles, input, fsa);
+		render(mQpcHeaders, input, fsa);
+		if (Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_OPT_SIZING)) {
+			render(mQpcSizing, input, fsa);
+		}
+		if (Config.getInstance().getTargetPlatform().contentEquals(Config.TARGET_PLATFORM_QPC_C)
+				&& Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_STRING_POOL)) {
+			render(mQpcStringPool, input, fsa);
+		}
 
-		mAnalysisContext.doGenerate(input, fsa);
+		render(mAnalysisContext, input, fsa);
 	}
 
-
+	/**
+	 * Renders a single template recording its execution time.
+	 */
+	private void render(final IGenerator template, final Resource input, final IFileSystemAccess fsa) {
+		Metrics.getInstance().render(template, input, fsa);
+	}
 }
@@ -1,26 +1,66 @@
 package comodo2.templates.qpc;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 
+import org.apache.log4j.Logger;
+
 import com.google.common.base.Objects;
 
+import comodo2.engine.Config;
+import comodo2.engine.Main;
 import comodo2.templates.qpc.model.FunctionCall;
+import comodo2.utils.CallSyntax;
 
 
 public class Utils {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	/**
+	 * Function calls parsed from action and guard strings, the same strings
+	 * are formatted for every transition/state using them.
+	 */
+	private final Map<String, List<FunctionCall>> mParsedCalls = new HashMap<String, List<FunctionCall>>();
+
+	/**
+	 * Identifiers of the names of the string pool of the current module, by name: different
+	 * names with the same formatted identifier (e.g. "a:b" and "a_b") get a numbered suffix.
+	 */
+	private final Map<String, String> mNameIds = new HashMap<String, String>();
+	private final Set<String> mUsedNameIds = new HashSet<String>();
     
     /**
 	 * Takes in a guard name and format it in the appropriate format for QPC use of guards.
+	 * Each function called in the guard expression is mapped to its implementation function,
+	 * e.g. "isReady(1) && !isBusy()" -> "sm_impl_isReady(me->impl, 1) && !sm_impl_isBusy(me->impl)".
 	 */
 	public String formatGuardName(String guardName, String smQualifiedName) {
 		if (Objects.equal(guardName, "") || guardName == null){
 			return null;
 		}
-		return smQualifiedName + "_impl_" + insertImplArg(removeTrailingSemicolon(guardName.trim()));
+		String guard = removeTrailingSemicolon(guardName.trim());
+		List<FunctionCall> calls = getAllFunctionCallsFromFunctionString(guard);
+		if (calls.isEmpty()) {
+			return smQualifiedName + "_impl_" + insertImplArg(guard);
+		}
+		StringBuilder str = new StringBuilder();
+		int pos = 0;
+		for (FunctionCall call : calls) {
+			str.append(guard, pos, call.getStart());
+			str.append(smQualifiedName + "_impl_" + insertImplArg(call.toString()));
+			pos = call.getEnd();
+		}
+		str.append(guard.substring(pos));
+		return str.toString();
 	}
 
     /**
@@ -31,10 +71,58 @@ public class Utils {
 		return smClassName.toUpperCase() + "_" + eventName + "_SIG";
 	}
 
+	/**
+	 * Name of the enumerator following the last signal of a class (-c DENSE_SIGNALS),
+	 * used to size the tables indexed by signal.
+	 */
+	public String formatSignalEndName(String smClassName) {
+		return smClassName.toUpperCase() + "_SIG_END";
+	}
+
 	public String formatTimeEventName(String stateName) {
 		return stateName.toUpperCase() + "_TIMER_SIG";
 	}
 
+	/**
+	 * Prefix of the identifiers of the string pool of the current module (-c STRING_POOL).
+	 */
+	public String formatNamePoolPrefix() {
+		return Config.getInstance().getCurrentModule().replaceAll("[^A-Za-z0-9_]", "_");
+	}
+
+	/**
+	 * Identifier of a name (state, region or signal) in the string pool of the current module,
+	 * e.g. "mode:off" -> BlinkyChoice_NAME_mode_off
+	 */
+	public String formatNameId(String name) {
+		String id = mNameIds.get(name);
+		if (id == null) {
+			String base = formatNamePoolPrefix() + "_NAME_" + name.replaceAll("[^A-Za-z0-9_]", "_");
+			id = base;
+			for (int i = 2; mUsedNameIds.contains(id); i++) {
+				id = base + "_" + i;
+			}
+			mNameIds.put(name, id);
+			mUsedNameIds.add(id);
+		}
+		return id;
+	}
+
+	/**
+	 * Forgets the identifiers of the string pool, to be called before generating a module.
+	 */
+	public void clearNameIds() {
+		mNameIds.clear();
+		mUsedNameIds.clear();
+	}
+
+	/**
+	 * C expression returning a name of the string pool of the current module.
+	 */
+	public String formatNameRef(String name) {
+		return formatNamePoolPrefix() + "_name(" + formatNameId(name) + ")";
+	}
+
 	public String formatStateName(String stateQualifiedName, String smQualifiedName){
 		return (smQualifiedName + "_" + stateQualifiedName).replaceAll("::", "_").replaceAll(":", "_");
 	}
@@ -114,29 +202,62 @@ public class Utils {
 	 * Takes in a TreeSet of functionStrings and return a TreeSet of all the functions
 	 * that the actions use, in the form of FunctionCall objects. 
 	 * This is needed because one action can call multiple functions.
+	 * Calls of the same function with different arguments (e.g. isReady(1), isReady(2))
+	 * share one implementation function, so they must have the same number of arguments.
 	 */
 	public TreeSet<FunctionCall> getAllFunctionCalls(TreeSet<String> functionStrings) {
-		TreeSet<FunctionCall> functionNames = new TreeSet<FunctionCall>();
+		TreeMap<String, FunctionCall> callees = new TreeMap<String, FunctionCall>();
 		for (String funcStr : functionStrings){
-			functionNames.addAll(getAllFunctionCallsFromFunctionString(funcStr));
+			for (FunctionCall call : getAllFunctionCallsFromFunctionString(funcStr)) {
+				FunctionCall callee = callees.get(call.getName());
+				if (callee == null) {
+					callees.put(call.getName(), call);
+				} else if (callee.getArgCount() != call.getArgCount()) {
+					throw new RuntimeException("Function \"" + call.getName() + "\" is called with " + callee.getArgCount() + " and "
+							+ call.getArgCount() + " arguments (" + callee + ", " + call + ").");
+				}
+			}
 		}
-		return functionNames;
+		return new TreeSet<FunctionCall>(callees.values());
 	}
 
 	/**
-	 * Returns list of all functions used in an function string, as FunctionCall objects.
+	 * Returns list of all functions called in an function string, as FunctionCall objects,
+	 * in order of appearance. Calls nested in the arguments of another call are part of its arguments.
 	 */
 	public List<FunctionCall> getAllFunctionCallsFromFunctionString(String funcStr) {
-		String tmp_str = funcStr;
-		List<FunctionCall> functionCallList = new ArrayList<FunctionCall>();
-
-		Pattern r = Pattern.compile(".*\\(.*\\)");
-		Matcher m = r.matcher(tmp_str);
+		List<FunctionCall> functionCallList = mParsedCalls.get(funcStr);
+		if (functionCallList != null) {
+			return functionCallList;
+		}
+		functionCallList = new ArrayList<FunctionCall>();
 
-		while(m.find()){
-			functionCallList.add(new FunctionCall(m.group().trim(), false));
+		int i = 0;
+		while (i < funcStr.length()) {
+			if (!Character.isJavaIdentifierStart(funcStr.charAt(i))) {
+				i++;
+				continue;
+			}
+			int start = i;
+			while (i < funcStr.length() && Character.isJavaIdentifierPart(funcStr.charAt(i))) {
+				i++;
+			}
+			int j = i;
+			while (j < funcStr.length() && Character.isWhitespace(funcStr.charAt(j))) {
+				j++;
+			}
+			if (j < funcStr.length() && funcStr.charAt(j) == '(') {
+				int end = CallSyntax.findClosingParenthesis(funcStr, j);
+				if (end < 0) {
+					mLogger.warn("Unbalanced parentheses in: " + funcStr);
+					break;
+				}
+				functionCallList.add(new FunctionCall(funcStr.substring(start, end + 1), false, start, end + 1));
+				i = end + 1;
+			}
 		}
 
+		mParsedCalls.put(funcStr, functionCallList);
 		return functionCallList;
 	}
 
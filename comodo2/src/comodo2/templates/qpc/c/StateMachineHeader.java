@@ -45,10 +45,45 @@ public class StateMachineHeader implements IGenerator {
 	
 	@Inject
 	private FilesHelper mFilesHelper;
+
+	@Inject
+	private TimerCoalescing mTimerCoalescing;
 	
 	@Inject
 	private FileDescriptionHeader mFileDescHeader;
 
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setTimerCoalescing(final TimerCoalescing timerCoalescing) {
+		mTimerCoalescing = timerCoalescing;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
 	public CurrentGeneration current;
 
 	/**
@@ -95,7 +130,7 @@ public class StateMachineHeader implements IGenerator {
 		// Orthogonal regions definitions
 		BasicEList<RegionWrapper> orthogonalRegions = new BasicEList<RegionWrapper>();
 		for (State s : mQStateMachine.getAllOrthogonalStates(sm)){
-			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current);
+			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current, mQState);
 			orthogonalRegions.addAll(orthogonalStateWrapper.getWrappedRegions());
 		}
 		if (!orthogonalRegions.isEmpty()){
@@ -106,7 +141,7 @@ public class StateMachineHeader implements IGenerator {
 		st.add("statesList", statesList);
 		st.add("activeObjectList", activeObjectList);
 		st.add("historyPseudostatesList", mQStateMachine.getAllHistoryPseudostates(sm));
-		st.add("timeEventList", mQStateMachine.getAllStatesWithTimeEvents(sm));
+		st.add("timeEventList", mTimerCoalescing.getTimerGroups(sm));
 
         return st.render();
 	}
@@ -2,7 +2,10 @@ package comodo2.templates.qpc.c;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.Iterables;
+import comodo2.engine.Config;
 import comodo2.engine.Main;
+import comodo2.metrics.Metrics;
+import comodo2.metrics.StateMachineRecorder;
 import comodo2.queries.QClass;
 import comodo2.queries.QRegion;
 import comodo2.queries.QState;
@@ -12,6 +15,8 @@ import comodo2.templates.qpc.Utils;
 import comodo2.templates.qpc.model.CurrentGeneration;
 import comodo2.templates.qpc.model.OrthogonalStateWrapper;
 import comodo2.templates.qpc.model.RegionWrapper;
+import comodo2.templates.qpc.model.TimerGroup;
+import comodo2.templates.qpc.model.TransitionTable;
 import comodo2.templates.qpc.traceability.FileDescriptionHeader;
 import comodo2.utils.FilesHelper;
 import comodo2.utils.StateComparator;
@@ -19,6 +24,8 @@ import comodo2.utils.TransitionComparator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import javax.inject.Inject;
 import org.apache.log4j.Logger;
@@ -66,6 +73,45 @@ public class StateMachineSource implements IGenerator {
 
 	@Inject
 	private FilesHelper mFilesHelper;
+
+	@Inject
+	private TimerCoalescing mTimerCoalescing;
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setTimerCoalescing(final TimerCoalescing timerCoalescing) {
+		mTimerCoalescing = timerCoalescing;
+	}
 	
 
 	/* #########  QPC-specific  ######## */
@@ -74,6 +120,15 @@ public class StateMachineSource implements IGenerator {
 	private CurrentGeneration current;
 
 	private boolean USER_LOGGING = false;
+
+	// Transition tables of the current state machine (-c TABLE), null when generating switch statements.
+	private TransitionTable mTable;
+
+	// Table of the state being generated, null if its transitions are generated as switch-cases.
+	private TransitionTable.StateTable mStateTable;
+
+	// QTimeEvt instance used by each timed state of the current state machine.
+	private Map<String, TimerGroup> mTimerGroups;
 	
 	private static final String Q_HANDLED = "Q_HANDLED()";
 	private static final String Q_TRAN = "Q_TRAN";
@@ -99,25 +154,35 @@ public class StateMachineSource implements IGenerator {
 	@Override
 	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
 		
+		// first generator of the module (see Qpc): string pool identifiers are assigned from here
+		mUtils.clearNameIds();
+		int visited = 0;
 		final TreeIterator<EObject> allContents = input.getAllContents();
 		while (allContents.hasNext()) {
 			EObject e = allContents.next();
+			visited++;
 			if (e instanceof org.eclipse.uml2.uml.Class) {
 				org.eclipse.uml2.uml.Class c = (org.eclipse.uml2.uml.Class)e; 
 				if ((mQClass.isToBeGenerated(c) && mQClass.hasStateMachines(c))) {
 					for (final StateMachine sm : mQClass.getStateMachines(c)) {
 						
 						// Sets current generation context
+						StateMachineRecorder recorder = new StateMachineRecorder();
 						current = new CurrentGeneration(c.getName(), sm.getName());
 						
 						preprocessStateMachine(sm, current);
+						mTimerGroups = mTimerCoalescing.getTimerGroupsByState(sm);
 
 						mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toQmFilePath(current.getSmQualifiedName())));
-						fsa.generateFile(mFilesHelper.toCFilePath(current.getSmQualifiedName()), this.generate(sm));						
+						CharSequence source = this.generate(sm);
+						recorder.stop();
+						fsa.generateFile(mFilesHelper.toCFilePath(current.getSmQualifiedName()), source);
+						recorder.record(sm.getName(), Iterables.size(mQStateMachine.getAllStates(sm)), Iterables.size(mQStateMachine.getAllTransitions(sm)));
 					}
 				}				
 			}
 		}
+		Metrics.getInstance().count(Metrics.COUNTER_ELEMENTS_VISITED, visited);
 	}
 
 
@@ -131,9 +196,20 @@ public class StateMachineSource implements IGenerator {
 
 		str.append(printStateMachineDefinitions(current.getSmQualifiedName(), sm));
 
+		if (Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_TABLE)) {
+			boolean pool = Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_STRING_POOL);
+			mTable = new TransitionTable(USER_LOGGING, pool ? mUtils.formatNamePoolPrefix() : null);
+		}
+		// states are explored first since they fill the transition tables
+		CharSequence states = exploreAllStates(sm);
+		if (mTable != null && !mTable.isEmpty()) {
+			str.append(printTransitionTables());
+		}
+
 		str.append(printInitialTransition(sm));
 
-		str.append(exploreAllStates(sm));
+		str.append(states);
+		mTable = null;
 		
 
 
@@ -180,6 +256,8 @@ public class StateMachineSource implements IGenerator {
 				}
 			}
 		}
+		// descriptors computed with the previous names (e.g. by another target)
+		mQTransition.releaseInfo(sm);
 	}
 
 	/**
@@ -252,6 +330,7 @@ public class StateMachineSource implements IGenerator {
 			st_region.add("smQualifiedName", current.getSmQualifiedName());
 			st_region.add("smQualifiedNameUppercase", current.getSmQualifiedName().toUpperCase());
 			st_region.add("initialState", transitionToStateMacro(mQRegion.getInitialState(r)));
+			addNameRef(st_region, "regionNameRef", mUtils.formatRegionName(mQRegion.getFullyQualifiedName(r)));
 
 			orthogonalStateString.append(st_region.render());
 
@@ -275,8 +354,22 @@ public class StateMachineSource implements IGenerator {
 		st.add("stateName", s.getName()); 
 		st.add("stateQualifiedName", mUtils.formatStateName(mQState.getFullyQualifiedName(s), current.getSmQualifiedName()));
 		st.add("logging", USER_LOGGING);
+		addNameRef(st, "stateNameRef", mQState.getFullyQualifiedName(s));
 		st.add("activeObject", getActiveObjectName(s));
+
+		// States of orthogonal regions have a different active object type than the table functions: they keep the switch-cases.
+		String stateQualifiedName = mUtils.formatStateName(mQState.getFullyQualifiedName(s), current.getSmQualifiedName());
+		mStateTable = (mTable != null && mQState.getParentOrthogonalRegion(s) == null) ? new TransitionTable.StateTable(stateQualifiedName + "_table", s.getName()) : null;
 		st.add("signalSwitchCase", printSwitchCaseStatements(s));
+		if (mStateTable != null && !mStateTable.getRows().isEmpty()) {
+			mTable.addState(mStateTable);
+			st.add("transitionTable", mStateTable.getName());
+			st.add("smQualifiedName", current.getSmQualifiedName());
+		}
+		mStateTable = null;
+		if (s.isOrthogonal() && useRegionMask(s)) {
+			st.add("regionMaskDispatch", printOrthogonalRegionMaskDispatch(s));
+		}
 
 		// Default case if switch check fails
 		if (mQState.isTopState(s)){
@@ -297,7 +390,9 @@ public class StateMachineSource implements IGenerator {
 		
 		// Orthogonal state. This handles the passing of signals to submachines.
 		if (s.isOrthogonal()){
-			str.append(printOrthogonalSignalDispatches(s));
+			if (!useRegionMask(s)) {
+				str.append(printOrthogonalSignalDispatches(s));
+			}
 		} 
 		else if (s.isComposite()) {
 			/*  Only for composite states that are not orthogonal. This is because
@@ -391,10 +486,12 @@ public class StateMachineSource implements IGenerator {
 		
 		st_entry.add("triggerEventName", Q_ENTRY_SIG);
 		st_entry.add("logging", USER_LOGGING);
+		addNameRef(st_entry, "triggerNameRef", Q_ENTRY_SIG);
 		st_entry.add("onEntryStateEnum", mUtils.formatStateEnum(mQState.getFullyQualifiedName(s), current.getSmQualifiedName()));
 		st_entry.add("returnStatement", Q_HANDLED);
 		st_exit.add("triggerEventName", Q_EXIT_SIG);
 		st_exit.add("logging", USER_LOGGING);
+		addNameRef(st_exit, "triggerNameRef", Q_EXIT_SIG);
 		st_exit.add("returnStatement", Q_HANDLED);
 
 		// Handling of Entry actions
@@ -418,14 +515,15 @@ public class StateMachineSource implements IGenerator {
 		// Handling of relative TimeEvents
 		String timeEventDuration = mQState.getFirstTimeEventDurationString(s);
 		if (timeEventDuration != null){
-			st_entry.add("stateName", s.getName());
+			TimerGroup timer = mTimerGroups.get(s.getName());
+			st_entry.add("stateName", timer.getName());
 			st_entry.add("timerDuration", timeEventDuration);
-			st_exit.add("stateName", s.getName());
+			st_exit.add("stateName", timer.getName());
 			st_exit.add("disarmTimeEvent", true);
 		}
 		// Handling of orthogonal states. These need to pass along signals to their regions etc..
 		if (s.isOrthogonal()){
-			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current);
+			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current, mQState);
 			st_entry.add("entryOrthogonalStateWrapper", orthogonalStateWrapper);
 			st_exit.add("exitOrthogonalStateWrapper", orthogonalStateWrapper);
 		}
@@ -450,12 +548,70 @@ public class StateMachineSource implements IGenerator {
 				mQState.getStateName(s) + 
 				" has no trigger event and no guard, skipped since could introduce infinite loop!");
 			} else {
-				str.append(printTransition(t));
+				if (mStateTable != null && isTableTransition(t)) {
+					mStateTable.getRows().add(toTableRow(t));
+				} else {
+					str.append(printTransition(t));
+				}
 				registerEvent(t);
 			}
 		}
 		return str;
 	}
+
+	/**
+	 * @return true if the transition can be dispatched through the transition table:
+	 * triggered by a signal or time event, internal or targeting a (non final) state.
+	 * Choices, pseudostates and final states keep their switch-case.
+	 */
+	public boolean isTableTransition(final Transition t) {
+		if (!mQTransition.hasSignalEvent(t) && !mQTransition.hasTimeEvent(t)) {
+			return false;
+		}
+		if (mQTransition.isInternal(t)) {
+			return true;
+		}
+		return (t.getTarget() instanceof State) && !(t.getTarget() instanceof FinalState);
+	}
+
+	/**
+	 * @return the transition table row of transition t, registering its guard and action.
+	 */
+	public TransitionTable.Row toTableRow(final Transition t) {
+		String signal;
+		if (mQTransition.hasSignalEvent(t)) {
+			signal = mUtils.formatSignalName(mQTransition.getFirstEventName(t), current.getClassName());
+		} else {
+			signal = mUtils.formatTimeEventName(t.getSource().getName());
+		}
+		int guard = mTable.addGuard(mUtils.formatGuardName(mQTransition.getResolvedGuardName(t), current.getSmQualifiedName()));
+		int action = mTable.addAction(mUtils.formatActionName(mQTransition.getFirstActionName(t), current.getSmQualifiedName(), current.getClassName()));
+		String target = null;
+		if (!mQTransition.isInternal(t)) {
+			target = mUtils.formatStateName(mQState.getFullyQualifiedName((State) t.getTarget()), current.getSmQualifiedName());
+		}
+		String name = null;
+		if (mTable.isLogging()) {
+			name = (mTable.getNamePool() != null) ? mUtils.formatNameId(signal) : "\"" + signal + "\"";
+		}
+		return new TransitionTable.Row(signal, guard, action, target, name);
+	}
+
+	/**
+	 * Prints the transition tables, guard/action functions and the generic dispatcher
+	 * of the current state machine and reports their memory footprint.
+	 */
+	public String printTransitionTables() {
+		STGroup g = new STGroupFile("resources/qpc_tpl/StateMachineSource-table.stg");
+		ST st = g.getInstanceOf("TransitionTableDefinitions");
+		st.add("smQualifiedName", current.getSmQualifiedName());
+		st.add("table", mTable);
+
+		mLogger.info("Transition tables of " + current.getSmQualifiedName() + ": " + mTable.getRowCount() + " transitions, " 
+				+ mTable.getGuards().size() + " guards, " + mTable.getActions().size() + " actions, ~" 
+				+ mTable.getFootprint() + " bytes of const data.");
+		return st.render();
+	}
 	
 	/**
 	 * @return Code string for the switch-case of transition t.
@@ -472,9 +628,11 @@ public class StateMachineSource implements IGenerator {
 		if (mQTransition.hasSignalEvent(t)){
 			String signalName = mUtils.formatSignalName(eventName, current.getClassName());
 			st_tran.add("triggerEventName", signalName);
+			addNameRef(st_tran, "triggerNameRef", signalName);
 		} else if (mQTransition.hasTimeEvent(t)){
 			String timeEventName = mUtils.formatTimeEventName(t.getSource().getName());
 			st_tran.add("triggerEventName", timeEventName);
+			addNameRef(st_tran, "triggerNameRef", timeEventName);
 		}
 		String actionStr;
 		String returnStr;
@@ -597,7 +755,7 @@ public class StateMachineSource implements IGenerator {
 		STGroup g = new STGroupFile("resources/qpc_tpl/StateMachineSource-state.stg");
 		StringConcatenation str = new StringConcatenation();
 		
-		OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current);
+		OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current, mQState);
 		HashMap<String, ArrayList<String>> signalDispatchMap = getSignalDispatches(orthogonalStateWrapper);
 
 		for (String triggerEventName : signalDispatchMap.keySet()) {
@@ -614,6 +772,60 @@ public class StateMachineSource implements IGenerator {
 	}
 
 
+	/**
+	 * With -c STRING_POOL, the logging code of the template references the given name
+	 * in the string pool of the module instead of a string literal.
+	 */
+	private void addNameRef(final ST st, final String attribute, final String name) {
+		if (Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_STRING_POOL)) {
+			st.add(attribute, mUtils.formatNameRef(name));
+		}
+	}
+
+	/**
+	 * @return true if the signals of the orthogonal state s are routed to its regions
+	 * through a bitmask table (-c DENSE_SIGNALS, at most 32 regions).
+	 */
+	public boolean useRegionMask(final State s) {
+		return Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_DENSE_SIGNALS)
+				&& new OrthogonalStateWrapper(s, current, mQState).getRegions().size() <= 32;
+	}
+
+	/**
+	 * Returns the bitmask dispatch of an orthogonal state: a const table indexed by the
+	 * dense signal IDs gives the set of regions handling each signal.
+	 */
+	public String printOrthogonalRegionMaskDispatch(final State s) {
+		OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current, mQState);
+		ArrayList<String> regionNames = new ArrayList<String>();
+		for (Region r : orthogonalStateWrapper.getRegions()) {
+			regionNames.add(r.getName());
+		}
+		TreeMap<String, Long> masks = new TreeMap<String, Long>();
+		for (Map.Entry<String, ArrayList<String>> dispatch : getSignalDispatches(orthogonalStateWrapper).entrySet()) {
+			long mask = 0;
+			for (String regionName : dispatch.getValue()) {
+				mask |= 1L << regionNames.indexOf(regionName);
+			}
+			masks.put(dispatch.getKey(), mask);
+		}
+		ArrayList<HashMap<String, String>> maskList = new ArrayList<HashMap<String, String>>();
+		for (Map.Entry<String, Long> m : masks.entrySet()) {
+			HashMap<String, String> entry = new HashMap<String, String>();
+			entry.put("signal", m.getKey());
+			entry.put("value", "0x" + Long.toHexString(m.getValue()).toUpperCase() + "U");
+			maskList.add(entry);
+		}
+
+		STGroup g = new STGroupFile("resources/qpc_tpl/StateMachineSource-orthogonalState.stg");
+		ST st = g.getInstanceOf("OrthogonalRegionMaskDispatch");
+		st.add("maskType", (regionNames.size() <= 8) ? "uint8_t" : (regionNames.size() <= 16) ? "uint16_t" : "uint32_t");
+		st.add("masks", maskList);
+		st.add("regionNames", regionNames);
+		st.add("signalEndName", mUtils.formatSignalEndName(current.getClassName()));
+		return st.render();
+	}
+
 	/**
 	 * IF Transition t points to a FinalState, appends to the "action" field of st_original 
 	 * the code string responsible for dealing with final states. ELSE, does nothing.
@@ -768,8 +980,8 @@ public class StateMachineSource implements IGenerator {
 		
 		// TimeEvents initialization (constructor call)
 		String timeEventInitString = "";
-		for (String stateName : mQStateMachine.getAllStatesWithTimeEvents(sm)){
-			timeEventInitString += "QTimeEvt_ctor(&(me->" + stateName + "RelativeTimer), " + mUtils.formatTimeEventName(stateName) + ");\n";
+		for (TimerGroup timer : mTimerCoalescing.getTimerGroups(sm)){
+			timeEventInitString += "QTimeEvt_ctor(&(me->" + timer.getName() + "RelativeTimer), " + mUtils.formatTimeEventName(timer.getStateNames().get(0)) + ");\n";
 		}
 		if (!timeEventInitString.equals("")){
 			st.add("timeEventInitString", timeEventInitString);
@@ -778,7 +990,7 @@ public class StateMachineSource implements IGenerator {
 		// Orthogonal regions definitions
 		BasicEList<RegionWrapper> orthogonalRegions = new BasicEList<RegionWrapper>();
 		for (State s : mQStateMachine.getAllOrthogonalStates(sm)){
-			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current);
+			OrthogonalStateWrapper orthogonalStateWrapper = new OrthogonalStateWrapper(s, current, mQState);
 			orthogonalRegions.addAll(orthogonalStateWrapper.getWrappedRegions());
 		}
 		if (!orthogonalRegions.isEmpty()){
@@ -0,0 +1,140 @@
+package comodo2.templates.qpc.c;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+
+import comodo2.engine.Config;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.templates.qpc.Utils;
+import comodo2.templates.qpc.model.TimerGroup;
+
+/**
+ * Allocation of the QTimeEvt instances of a state machine.
+ *
+ * With -c COALESCE_TIMERS the timed states that can never be active at the same time
+ * and have the same timer signal share a single QTimeEvt, armed on state entry and
+ * disarmed on state exit. The signal of a QTimeEvt is never changed once constructed:
+ * QP posts the time event itself, so changing it would also change the signal of a
+ * timeout still queued for a previous state.
+ * Two states are mutually exclusive when they are different substates of the same region
+ * or descend from different substates of the same region, i.e. when they are not
+ * in an ancestor/descendant relation and not in different regions of an orthogonal state.
+ */
+public class TimerCoalescing {
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private Utils mUtils;
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	/**
+	 * @return The QTimeEvt instances of state machine sm, in declaration order.
+	 */
+	public List<TimerGroup> getTimerGroups(final StateMachine sm) {
+		boolean coalesce = Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_OPT_COALESCE_TIMERS);
+		List<TimerGroup> groups = new ArrayList<TimerGroup>();
+		List<List<State>> members = new ArrayList<List<State>>();
+		for (State s : mQStateMachine.getAllStates(sm)) {
+			if (!mQState.hasOutgoingTimerTransition(s)) {
+				continue;
+			}
+			int i = 0;
+			if (coalesce) {
+				while (i < members.size() && !(hasSameTimerSignal(s, members.get(i).get(0)) && isExclusiveWithAll(s, members.get(i)))) {
+					i++;
+				}
+			} else {
+				i = members.size();
+			}
+			if (i == members.size()) {
+				groups.add(new TimerGroup(s.getName()));
+				members.add(new ArrayList<State>());
+			}
+			groups.get(i).addState(s.getName());
+			members.get(i).add(s);
+		}
+		// shared instances are named after their position, the others keep the name of their state
+		int shared = 0;
+		for (int i = 0; i < groups.size(); i++) {
+			if (groups.get(i).isShared()) {
+				TimerGroup g = new TimerGroup("shared" + shared++);
+				for (String stateName : groups.get(i).getStateNames()) {
+					g.addState(stateName);
+				}
+				groups.set(i, g);
+			}
+		}
+		return groups;
+	}
+
+	/**
+	 * @return Map from timed state name to the QTimeEvt instance it uses.
+	 */
+	public Map<String, TimerGroup> getTimerGroupsByState(final StateMachine sm) {
+		Map<String, TimerGroup> res = new LinkedHashMap<String, TimerGroup>();
+		for (TimerGroup g : getTimerGroups(sm)) {
+			for (String stateName : g.getStateNames()) {
+				res.put(stateName, g);
+			}
+		}
+		return res;
+	}
+
+	private boolean hasSameTimerSignal(final State a, final State b) {
+		return mUtils.formatTimeEventName(a.getName()).equals(mUtils.formatTimeEventName(b.getName()));
+	}
+
+	private boolean isExclusiveWithAll(final State s, final List<State> states) {
+		for (State other : states) {
+			if (!isExclusive(s, other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return True if states a and b can never be in the same active configuration.
+	 */
+	public boolean isExclusive(final State a, final State b) {
+		// ancestors of a (including a) indexed by the region containing them
+		Map<Region, State> pathA = new LinkedHashMap<Region, State>();
+		for (State p = a; p != null; p = mQState.getParentState(p)) {
+			pathA.put(p.getContainer(), p);
+		}
+		// the innermost region containing both a and b decides
+		for (State q = b; q != null; q = mQState.getParentState(q)) {
+			State p = pathA.get(q.getContainer());
+			if (p != null) {
+				return p != q;
+			}
+		}
+		// top states of different regions of the state machine
+		return false;
+	}
+}
@@ -1,5 +1,9 @@
 package comodo2.templates.qpc.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 import javax.inject.Inject;
@@ -17,6 +21,7 @@ import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
 
+import comodo2.engine.Config;
 import comodo2.queries.QClass;
 import comodo2.queries.QState;
 import comodo2.queries.QStateMachine;
@@ -49,6 +54,30 @@ public class QpcHeaders implements IGenerator {
 	@Inject
 	private FileDescriptionHeader mFileDescHeader;
 
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
 
     /**
 	 * Generates headers file for execution of the state machine.
@@ -64,9 +93,12 @@ public class QpcHeaders implements IGenerator {
 				TreeSet<String> signalNames = new TreeSet<String>();
 				TreeSet<String> completionEventSignalNames = new TreeSet<String>();
 				TreeSet<String> statesWithTimeEvent = new TreeSet<String>();
+				// signal -> state machines handling it, for -c DENSE_SIGNALS
+				TreeMap<String, TreeSet<String>> subscriptions = new TreeMap<String, TreeSet<String>>();
 				for (final StateMachine sm : mQClass.getStateMachines(c)) {
 					
 					current = new CurrentGeneration(c.getName(), sm.getName());
+					addSubscriptions(subscriptions, sm);
 
 					Iterables.<String>addAll(signalNames, mQStateMachine.getAllSignalNames(sm));
 					Iterables.<String>addAll(completionEventSignalNames, getAllCompletionEventSignalNames(sm));
@@ -75,7 +107,11 @@ public class QpcHeaders implements IGenerator {
 
 					fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getSmQualifiedName() + "_states.h"), this.generateStatesHeader(current, mQStateMachine.getAllStatesQualifiedName(sm)));						
 				}
-				fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getClassName() + "_statechart_signals.h"), this.generateSignalsHeader(current.getClassName(), signalNames, completionEventSignalNames, statesWithTimeEvent));						
+				if (Config.getInstance().hasTargetPlatformCfgOption(Config.QPC_C_OPT_DENSE_SIGNALS)) {
+					fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getClassName() + "_statechart_signals.h"), this.generateDenseSignalsHeader(current.getClassName(), subscriptions));
+				} else {
+					fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getClassName() + "_statechart_signals.h"), this.generateSignalsHeader(current.getClassName(), signalNames, completionEventSignalNames, statesWithTimeEvent));						
+				}
 
 			}
 		}
@@ -115,6 +151,70 @@ public class QpcHeaders implements IGenerator {
 		return st.render();
 	}
 
+	/**
+	 * Generates the header file for the enumeration of signals with dense, contiguous IDs (-c DENSE_SIGNALS).
+	 * Signals (user, timer and completion signals) are grouped by the set of state machines handling them,
+	 * larger sets first, so that each group is a contiguous range. The enumeration ends with
+	 * the CLASSNAME_SIG_END enumerator used to size the tables indexed by signal.
+	 */
+	public CharSequence generateDenseSignalsHeader(final String className, final TreeMap<String, TreeSet<String>> subscriptions){
+		// subscription set -> signals, sorted by decreasing set size then set names
+		TreeMap<List<String>, TreeSet<String>> groups = new TreeMap<List<String>, TreeSet<String>>((a, b) -> {
+			if (a.size() != b.size()) {
+				return b.size() - a.size();
+			}
+			return String.join(",", a).compareTo(String.join(",", b));
+		});
+		for (Map.Entry<String, TreeSet<String>> s : subscriptions.entrySet()) {
+			List<String> key = new ArrayList<String>(s.getValue());
+			if (!groups.containsKey(key)) {
+				groups.put(key, new TreeSet<String>());
+			}
+			groups.get(key).add(s.getKey());
+		}
+
+		String signalsEnumString = "";
+		for (Map.Entry<List<String>, TreeSet<String>> group : groups.entrySet()) {
+			signalsEnumString += "/* " + String.join(", ", group.getKey()) + " */\n";
+			for (String signalName : group.getValue()) {
+				signalsEnumString += signalName + ",\n";
+			}
+			signalsEnumString += "\n";
+		}
+
+		STGroup g = new STGroupFile("resources/qpc_tpl/QpcHeaders.stg");
+		ST st = g.getInstanceOf("SignalsHeader");
+
+		st.add("fileDescriptionHeader", mFileDescHeader.generateFileDescriptionHeader(className, null, false));
+		st.add("className", className);
+		st.add("classNameUpperCase", className.toUpperCase());
+		st.add("denseSignalsEnumDefinition", signalsEnumString);
+		st.add("signalEndName", mUtils.formatSignalEndName(className));
+
+		return st.render();
+	}
+
+	/**
+	 * Adds the signals handled by the given state machine (user signals, timer signals
+	 * of its states and its completion signals) to the signal -> state machines map.
+	 */
+	private void addSubscriptions(final TreeMap<String, TreeSet<String>> subscriptions, final StateMachine sm) {
+		TreeSet<String> signals = new TreeSet<String>();
+		for (String signalName : mQStateMachine.getAllSignalNames(sm)) {
+			signals.add(mUtils.formatSignalName(signalName, current.getClassName()));
+		}
+		for (String stateName : mQStateMachine.getAllStatesWithTimeEvents(sm)) {
+			signals.add(mUtils.formatTimeEventName(stateName));
+		}
+		signals.addAll(getAllCompletionEventSignalNames(sm));
+		for (String signal : signals) {
+			if (!subscriptions.containsKey(signal)) {
+				subscriptions.put(signal, new TreeSet<String>());
+			}
+			subscriptions.get(signal).add(current.getSmQualifiedName());
+		}
+	}
+
 	/**
 	 * Generates the header file for the enumeration of states
 	 */
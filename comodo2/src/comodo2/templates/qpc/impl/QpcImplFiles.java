@@ -45,6 +45,26 @@ public class QpcImplFiles implements IGenerator {
 	@Inject
 	private FileDescriptionHeader mFileDescHeader;
 
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
 
     /**
 	 * Process a UML State Machine associated to a class (classifier behavior)
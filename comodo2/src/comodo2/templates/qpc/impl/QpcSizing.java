@@ -0,0 +1,405 @@
+package comodo2.templates.qpc.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+
+import com.google.common.collect.Iterables;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.FinalState;
+import org.eclipse.uml2.uml.Pseudostate;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.Vertex;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.IGenerator;
+import org.eclipse.xtext.xbase.lib.IteratorExtensions;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.STGroupFile;
+
+import comodo2.engine.Main;
+import comodo2.queries.QClass;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.queries.QTransition;
+import comodo2.templates.qpc.Utils;
+import comodo2.templates.qpc.c.TimerCoalescing;
+import comodo2.templates.qpc.model.CurrentGeneration;
+import comodo2.templates.qpc.traceability.FileDescriptionHeader;
+import comodo2.utils.FilesHelper;
+
+
+/**
+ * Generates (-c SIZING) a header and a text report with the recommended event pool size
+ * and queue depths of the active objects of a class, for the QPC-C and QPC-QM targets.
+ *
+ * A run-to-completion step is modeled as one transition: exit actions of the source
+ * state and its parents, the transition effect, entry actions of the target state, its
+ * parents and its initial substates, and the completion event if the target is final.
+ * Transitions of orthogonal regions triggered by the same signal in the same orthogonal
+ * state are part of the same step (one transition per region). The results are upper bounds:
+ * - publishes per step: events published (Q_NEW + completion) by the worst step
+ * - queue depth: 1 + timers + completion signals + events the other steps can publish
+ *   to the signals the state machine handles
+ * - event pool: sum over the active objects of the Q_NEW events of their worst step
+ */
+public class QpcSizing implements IGenerator {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	public CurrentGeneration current;
+
+	@Inject
+	private FilesHelper mFilesHelper;
+
+	@Inject
+	private TimerCoalescing mTimerCoalescing;
+
+	@Inject
+	private QClass mQClass;
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private QTransition mQTransition;
+
+	@Inject
+	private Utils mUtils;
+
+	@Inject
+	private FileDescriptionHeader mFileDescHeader;
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setTimerCoalescing(final TimerCoalescing timerCoalescing) {
+		mTimerCoalescing = timerCoalescing;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
+	/**
+	 * Sizing of the active object of a state machine, StringTemplate accesses the fields via %sm.name%, ...
+	 */
+	public static class SmSizing {
+		private final String name;
+		private final TreeSet<String> handledSignals = new TreeSet<String>();
+		private final TreeSet<String> completionSignals = new TreeSet<String>();
+		// signal -> maximum number of Q_NEW publications in a single step
+		private final TreeMap<String, Integer> publishedSignals = new TreeMap<String, Integer>();
+		private int timers = 0;
+		private int maxPublishes = 0;
+		private int maxDynamicPublishes = 0;
+		private String worstStep = null;
+		private int queueDepth = 0;
+
+		public SmSizing(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getNameUpperCase() {
+			return name.toUpperCase();
+		}
+
+		public int getTimers() {
+			return timers;
+		}
+
+		public int getMaxPublishes() {
+			return maxPublishes;
+		}
+
+		public int getMaxDynamicPublishes() {
+			return maxDynamicPublishes;
+		}
+
+		public String getWorstStep() {
+			return worstStep;
+		}
+
+		public int getQueueDepth() {
+			return queueDepth;
+		}
+
+		public int getHandledSignalCount() {
+			return handledSignals.size();
+		}
+
+		public Map<String, Integer> getPublishedSignals() {
+			return publishedSignals;
+		}
+	}
+
+	@Override
+	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
+		Iterable<org.eclipse.uml2.uml.Class> _filter = Iterables.<org.eclipse.uml2.uml.Class>filter(IteratorExtensions.<EObject>toIterable(input.getAllContents()), org.eclipse.uml2.uml.Class.class);
+		for (final org.eclipse.uml2.uml.Class c : _filter) {
+			if ((mQClass.isToBeGenerated(c) && mQClass.hasStateMachines(c))) {
+				List<SmSizing> sizings = new ArrayList<SmSizing>();
+				for (final StateMachine sm : mQClass.getStateMachines(c)) {
+					current = new CurrentGeneration(c.getName(), sm.getName());
+					sizings.add(analyze(sm));
+				}
+				int eventPoolSize = computeQueueDepths(sizings);
+
+				fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getClassName() + "_sizing.h"), generateSizingHeader(current.getClassName(), sizings, eventPoolSize));
+				fsa.generateFile(mFilesHelper.toQmImplFilePath(current.getClassName() + "_sizing.txt"), generateSizingReport(current.getClassName(), sizings, eventPoolSize));
+				mLogger.info("Sizing of " + current.getClassName() + ": event pool " + eventPoolSize + " QEvt blocks.");
+			}
+		}
+	}
+
+	/**
+	 * Computes the worst run-to-completion step of the given state machine.
+	 */
+	public SmSizing analyze(final StateMachine sm) {
+		SmSizing sizing = new SmSizing(current.getSmQualifiedName());
+
+		for (String signalName : mQStateMachine.getAllSignalNames(sm)) {
+			sizing.handledSignals.add(mUtils.formatSignalName(signalName, current.getClassName()));
+		}
+		for (State s : mQStateMachine.getAllFinalStates(sm)) {
+			String completionSig = getCompletionSignal(s);
+			sizing.handledSignals.add(completionSig);
+			sizing.completionSignals.add(completionSig);
+		}
+		sizing.timers = mTimerCoalescing.getTimerGroups(sm).size();
+
+		// (step name, published signals); transitions of orthogonal regions on the same signal are merged
+		List<Map.Entry<String, List<String>>> steps = new ArrayList<Map.Entry<String, List<String>>>();
+		LinkedHashMap<State, LinkedHashMap<String, HashMap<Region, List<String>>>> orthogonalSteps = new LinkedHashMap<State, LinkedHashMap<String, HashMap<Region, List<String>>>>();
+		for (Transition t : mQStateMachine.getAllTransitions(sm)) {
+			List<String> published = getStepPublishes(t);
+			Region orthogonalRegion = (t.getSource() instanceof State) ? mQState.getParentOrthogonalRegion((State) t.getSource()) : null;
+			if (orthogonalRegion != null && mQTransition.hasEvent(t)) {
+				State orthogonalState = getOutermostOrthogonalState((State) t.getSource());
+				if (!orthogonalSteps.containsKey(orthogonalState)) {
+					orthogonalSteps.put(orthogonalState, new LinkedHashMap<String, HashMap<Region, List<String>>>());
+				}
+				String eventName = mQTransition.getFirstEventName(t);
+				HashMap<Region, List<String>> regions = orthogonalSteps.get(orthogonalState).get(eventName);
+				if (regions == null) {
+					regions = new HashMap<Region, List<String>>();
+					orthogonalSteps.get(orthogonalState).put(eventName, regions);
+				}
+				Region region = getRegionOf(orthogonalState, (State) t.getSource());
+				if (!regions.containsKey(region) || regions.get(region).size() < published.size()) {
+					regions.put(region, published);
+				}
+			} else {
+				steps.add(new AbstractMap.SimpleEntry<String, List<String>>(getStepName(t), published));
+			}
+		}
+		for (Map.Entry<State, LinkedHashMap<String, HashMap<Region, List<String>>>> o : orthogonalSteps.entrySet()) {
+			for (Map.Entry<String, HashMap<Region, List<String>>> e : o.getValue().entrySet()) {
+				List<String> published = new ArrayList<String>();
+				for (List<String> p : e.getValue().values()) {
+					published.addAll(p);
+				}
+				steps.add(new AbstractMap.SimpleEntry<String, List<String>>(getVertexName(o.getKey()) + " on " + e.getKey(), published));
+			}
+		}
+
+		for (Map.Entry<String, List<String>> step : steps) {
+			int dynamic = 0;
+			TreeMap<String, Integer> counts = new TreeMap<String, Integer>();
+			for (String signal : step.getValue()) {
+				if (!sizing.completionSignals.contains(signal)) {
+					dynamic++;
+					counts.put(signal, counts.containsKey(signal) ? counts.get(signal) + 1 : 1);
+				}
+			}
+			for (Map.Entry<String, Integer> c : counts.entrySet()) {
+				Integer max = sizing.publishedSignals.get(c.getKey());
+				if (max == null || max < c.getValue()) {
+					sizing.publishedSignals.put(c.getKey(), c.getValue());
+				}
+			}
+			if (step.getValue().size() > sizing.maxPublishes) {
+				sizing.maxPublishes = step.getValue().size();
+				sizing.worstStep = step.getKey();
+			}
+			sizing.maxDynamicPublishes = Math.max(sizing.maxDynamicPublishes, dynamic);
+		}
+		return sizing;
+	}
+
+	/**
+	 * Sets the queue depth of each state machine.
+	 * @return the recommended size of the QEvt event pool.
+	 */
+	public int computeQueueDepths(final List<SmSizing> sizings) {
+		int eventPoolSize = 0;
+		for (SmSizing receiver : sizings) {
+			int incoming = 0;
+			for (SmSizing publisher : sizings) {
+				for (Map.Entry<String, Integer> p : publisher.publishedSignals.entrySet()) {
+					if (receiver.handledSignals.contains(p.getKey())) {
+						incoming += p.getValue();
+					}
+				}
+			}
+			receiver.queueDepth = 1 + receiver.timers + receiver.completionSignals.size() + incoming;
+			eventPoolSize += receiver.maxDynamicPublishes;
+		}
+		return Math.max(eventPoolSize, 1);
+	}
+
+	/**
+	 * @return the signals published by the step of transition t: exit actions, effect, entry actions, completion.
+	 */
+	private List<String> getStepPublishes(final Transition t) {
+		List<String> published = new ArrayList<String>();
+		if (t.getSource() instanceof State && !mQTransition.isInternal(t)) {
+			for (State s = (State) t.getSource(); s != null; s = mQState.getParentState(s)) {
+				if (mQState.hasOnExitActions(s)) {
+					published.addAll(getPublishes(s.getExit().getName()));
+				}
+			}
+		}
+		published.addAll(getPublishes(mQTransition.getFirstActionName(t)));
+		if (t.getTarget() instanceof FinalState) {
+			published.add(getCompletionSignal((State) t.getTarget()));
+		} else if (t.getTarget() instanceof State && !mQTransition.isInternal(t)) {
+			State target = (State) t.getTarget();
+			for (State s = target; s != null; s = mQState.getParentState(s)) {
+				if (mQState.hasOnEntryActions(s)) {
+					published.addAll(getPublishes(s.getEntry().getName()));
+				}
+			}
+			for (State s = getInitialSubstate(target); s != null; s = getInitialSubstate(s)) {
+				if (mQState.hasOnEntryActions(s)) {
+					published.addAll(getPublishes(s.getEntry().getName()));
+				}
+			}
+		}
+		return published;
+	}
+
+	private List<String> getPublishes(final String actionName) {
+		List<String> published = new ArrayList<String>();
+		if (actionName == null || actionName.isEmpty()) {
+			return published;
+		}
+		for (String signalName : mUtils.getAllSentSignalsFromAction(actionName)) {
+			published.add(mUtils.formatSignalName(signalName, current.getClassName()));
+		}
+		return published;
+	}
+
+	private State getInitialSubstate(final State s) {
+		if (!s.isComposite() || s.isOrthogonal()) {
+			return null;
+		}
+		Transition t = mQState.getInitialSubstateTransition(s);
+		// the initial transition may target a pseudostate (e.g. choice)
+		return (t != null && t.getTarget() instanceof State) ? (State) t.getTarget() : null;
+	}
+
+	private State getOutermostOrthogonalState(final State s) {
+		State orthogonalState = null;
+		for (State p = mQState.getParentState(s); p != null; p = mQState.getParentState(p)) {
+			if (p.isOrthogonal()) {
+				orthogonalState = p;
+			}
+		}
+		return orthogonalState;
+	}
+
+	private Region getRegionOf(final State orthogonalState, final State s) {
+		Region r = mQState.getParentRegion(s);
+		while (r != null && r.getState() != orthogonalState) {
+			r = mQState.getParentRegion(r.getState());
+		}
+		return r;
+	}
+
+	private String getStepName(final Transition t) {
+		String event = mQTransition.getFirstEventName(t);
+		return getVertexName(t.getSource()) + " -> " + getVertexName(t.getTarget()) + (event.isEmpty() ? "" : " on " + event);
+	}
+
+	private String getVertexName(final Vertex v) {
+		if (v == null) {
+			return "";
+		}
+		if (v.getName() != null && !v.getName().isEmpty()) {
+			return v.getName();
+		}
+		if (v instanceof Pseudostate) {
+			return ((Pseudostate) v).getKind().getLiteral();
+		}
+		return (v instanceof FinalState) ? "final" : "unnamed";
+	}
+
+	private String getCompletionSignal(final State finalState) {
+		if (mQState.isTopState(finalState)) {
+			return "_SIG_" + current.getSmQualifiedName().toUpperCase() + "_COMPLETE_";
+		}
+		return "_SIG_" + mUtils.formatStateEnum(mQState.getFullyQualifiedName(mQState.getParentState(finalState)), current.getSmQualifiedName().toUpperCase()) + "_COMPLETE_";
+	}
+
+	public CharSequence generateSizingHeader(final String className, final List<SmSizing> sizings, final int eventPoolSize) {
+		STGroup g = new STGroupFile("resources/qpc_tpl/QpcSizing.stg");
+		ST st = g.getInstanceOf("SizingHeader");
+		st.add("fileDescriptionHeader", mFileDescHeader.generateFileDescriptionHeader(className, null, false));
+		st.add("className", className);
+		st.add("classNameUpperCase", className.toUpperCase());
+		st.add("sizings", sizings);
+		st.add("eventPoolSize", eventPoolSize);
+		return st.render();
+	}
+
+	public CharSequence generateSizingReport(final String className, final List<SmSizing> sizings, final int eventPoolSize) {
+		STGroup g = new STGroupFile("resources/qpc_tpl/QpcSizing.stg");
+		ST st = g.getInstanceOf("SizingReport");
+		st.add("className", className);
+		st.add("sizings", sizings);
+		st.add("eventPoolSize", eventPoolSize);
+		return st.render();
+	}
+}
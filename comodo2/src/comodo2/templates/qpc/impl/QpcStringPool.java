@@ -0,0 +1,319 @@
+package comodo2.templates.qpc.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import com.google.common.collect.Iterables;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.IGenerator;
+import org.eclipse.xtext.xbase.lib.IteratorExtensions;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.STGroupFile;
+
+import comodo2.engine.Config;
+import comodo2.engine.Main;
+import comodo2.queries.QClass;
+import comodo2.queries.QRegion;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.templates.qpc.Utils;
+import comodo2.templates.qpc.model.CurrentGeneration;
+import comodo2.templates.qpc.traceability.FileDescriptionHeader;
+import comodo2.utils.FilesHelper;
+
+
+/**
+ * Generates (-c STRING_POOL) a single string table with the names of the states, regions
+ * and signals of all the state machines of the current module: <module>_names.h/.c.
+ *
+ * Names are interned (each distinct name is stored once) and a name that is the suffix
+ * of another one is stored inside it, e.g. "off" at the end of "composite:off".
+ * Names are referenced by their byte offset in the table (<module>_NAME_<name> enumerators),
+ * and for each state machine a table maps the state enumeration to the name of the state.
+ * The logging code of the state machines uses these references instead of string literals:
+ * it is only generated when USER_LOGGING is enabled in StateMachineSource (disabled by default),
+ * otherwise the table is only available to the user code, e.g. to print the current state.
+ */
+public class QpcStringPool implements IGenerator {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	/* Framework signals appearing in the logging code */
+	private static final String[] FRAMEWORK_SIGNALS = { "Q_ENTRY_SIG", "Q_EXIT_SIG", "Q_INIT_SIG" };
+
+	public CurrentGeneration current;
+
+	@Inject
+	private FilesHelper mFilesHelper;
+
+	@Inject
+	private QClass mQClass;
+
+	@Inject
+	private QState mQState;
+
+	@Inject
+	private QRegion mQRegion;
+
+	@Inject
+	private QStateMachine mQStateMachine;
+
+	@Inject
+	private Utils mUtils;
+
+	@Inject
+	private FileDescriptionHeader mFileDescHeader;
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQRegion(final QRegion qRegion) {
+		mQRegion = qRegion;
+	}
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setUtils(final Utils utils) {
+		mUtils = utils;
+	}
+
+	public void setFileDescHeader(final FileDescriptionHeader fileDescHeader) {
+		mFileDescHeader = fileDescHeader;
+	}
+
+	/**
+	 * Name of the pool, StringTemplate accesses the fields via %name.id%, %name.offset%, %name.text%
+	 */
+	public static class Name {
+		private final String id;
+		private final String text;
+		private int offset;
+		private boolean stored;
+
+		public Name(String id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public String getEscapedText() {
+			return text.replace("\\", "\\\\").replace("\"", "\\\"");
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		/**
+		 * @return true if the characters of the name are stored at its offset,
+		 * false if the name is the suffix of another name.
+		 */
+		public boolean isStored() {
+			return stored;
+		}
+	}
+
+	/**
+	 * State enumeration of a state machine -> name of the states.
+	 */
+	public static class StateTable {
+		private final String smQualifiedName;
+		private final Map<String, String> states = new LinkedHashMap<String, String>();
+
+		public StateTable(String smQualifiedName) {
+			this.smQualifiedName = smQualifiedName;
+		}
+
+		public String getSmQualifiedName() {
+			return smQualifiedName;
+		}
+
+		public Map<String, String> getStates() {
+			return states;
+		}
+	}
+
+	@Override
+	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
+		Map<String, Name> names = new LinkedHashMap<String, Name>();
+		List<StateTable> stateTables = new ArrayList<StateTable>();
+		for (String signal : FRAMEWORK_SIGNALS) {
+			addName(names, signal);
+		}
+
+		Iterable<org.eclipse.uml2.uml.Class> _filter = Iterables.<org.eclipse.uml2.uml.Class>filter(IteratorExtensions.<EObject>toIterable(input.getAllContents()), org.eclipse.uml2.uml.Class.class);
+		for (final org.eclipse.uml2.uml.Class c : _filter) {
+			if ((mQClass.isToBeGenerated(c) && mQClass.hasStateMachines(c))) {
+				for (final StateMachine sm : mQClass.getStateMachines(c)) {
+					current = new CurrentGeneration(c.getName(), sm.getName());
+					stateTables.add(collectNames(names, sm));
+				}
+			}
+		}
+		if (stateTables.isEmpty()) {
+			return;
+		}
+		int size = layout(names.values());
+		String prefix = mUtils.formatNamePoolPrefix();
+		fsa.generateFile(mFilesHelper.toQmImplFilePath(prefix + "_names.h"), generateNamesHeader(prefix, names.values(), stateTables, size));
+		fsa.generateFile(mFilesHelper.toQmImplFilePath(prefix + "_names.c"), generateNamesSource(prefix, names.values(), stateTables, size));
+
+		int literals = 0;
+		for (Name n : names.values()) {
+			literals += n.getText().length() + 1;
+		}
+		mLogger.info("String pool of " + Config.getInstance().getCurrentModule() + ": " + names.size() + " names, " + size 
+				+ " bytes (" + literals + " bytes as separate literals).");
+	}
+
+	/**
+	 * Adds the state, region and signal names of a state machine.
+	 * @return the table of the state names of the state machine.
+	 */
+	public StateTable collectNames(final Map<String, Name> names, final StateMachine sm) {
+		String smQualifiedName = current.getSmQualifiedName();
+		StateTable table = new StateTable(smQualifiedName);
+		table.states.put(smQualifiedName.toUpperCase() + "__TOP__", addName(names, sm.getName()));
+		for (String stateQualifiedName : mQStateMachine.getAllStatesQualifiedName(sm)) {
+			table.states.put(mUtils.formatStateEnum(stateQualifiedName, smQualifiedName), addName(names, stateQualifiedName));
+		}
+		for (State s : mQStateMachine.getAllOrthogonalStates(sm)) {
+			for (Region r : s.getRegions()) {
+				addName(names, mUtils.formatRegionName(mQRegion.getFullyQualifiedName(r)));
+			}
+		}
+		for (String signalName : mQStateMachine.getAllSignalNames(sm)) {
+			addName(names, mUtils.formatSignalName(signalName, current.getClassName()));
+		}
+		for (String stateName : mQStateMachine.getAllStatesWithTimeEvents(sm)) {
+			addName(names, mUtils.formatTimeEventName(stateName));
+		}
+		for (State s : mQStateMachine.getAllFinalStates(sm)) {
+			addName(names, getCompletionSignal(s));
+		}
+		return table;
+	}
+
+	/**
+	 * @return the identifier of the name (unique, see Utils.formatNameId), added to the pool if needed.
+	 */
+	private String addName(final Map<String, Name> names, final String text) {
+		String id = mUtils.formatNameId(text);
+		if (!names.containsKey(id)) {
+			names.put(id, new Name(id, text));
+		}
+		return id;
+	}
+
+	/**
+	 * Computes the offset of each name: names are sorted by their reversed text so that a name
+	 * is followed by the names it is a suffix of, and only the names that are not a suffix
+	 * of another one are stored.
+	 * @return size of the table in bytes.
+	 */
+	public int layout(final Iterable<Name> names) {
+		List<Name> sorted = new ArrayList<Name>();
+		Iterables.addAll(sorted, names);
+		final Map<Name, String> reversed = new HashMap<Name, String>();
+		for (Name n : sorted) {
+			reversed.put(n, new StringBuilder(n.getText()).reverse().toString());
+		}
+		Collections.sort(sorted, (a, b) -> reversed.get(a).compareTo(reversed.get(b)));
+
+		// hosts are stored, the others are placed inside the next longer name they are a suffix of
+		Name host = null;
+		for (int i = sorted.size() - 1; i >= 0; i--) {
+			Name n = sorted.get(i);
+			n.stored = (host == null || !reversed.get(host).startsWith(reversed.get(n)));
+			if (n.stored) {
+				host = n;
+			}
+		}
+		int size = 0;
+		for (Name n : names) {
+			if (n.stored) {
+				n.offset = size;
+				size += n.getText().length() + 1;
+			}
+		}
+		host = null;
+		for (int i = sorted.size() - 1; i >= 0; i--) {
+			Name n = sorted.get(i);
+			if (n.stored) {
+				host = n;
+			} else {
+				n.offset = host.offset + host.getText().length() - n.getText().length();
+			}
+		}
+		return size;
+	}
+
+	private String getCompletionSignal(final State finalState) {
+		if (mQState.isTopState(finalState)) {
+			return "_SIG_" + current.getSmQualifiedName().toUpperCase() + "_COMPLETE_";
+		}
+		return "_SIG_" + mUtils.formatStateEnum(mQState.getFullyQualifiedName(mQState.getParentState(finalState)), current.getSmQualifiedName().toUpperCase()) + "_COMPLETE_";
+	}
+
+	public CharSequence generateNamesHeader(final String prefix, final Iterable<Name> names, final List<StateTable> stateTables, final int size) {
+		STGroup g = new STGroupFile("resources/qpc_tpl/QpcStringPool.stg");
+		ST st = g.getInstanceOf("NamesHeader");
+		st.add("fileDescriptionHeader", mFileDescHeader.generateFileDescriptionHeader(Config.getInstance().getCurrentModule(), null, false));
+		st.add("prefix", prefix);
+		st.add("prefixUpperCase", prefix.toUpperCase());
+		st.add("idType", size > 0xFFFF ? "uint32_t" : "uint16_t");
+		st.add("names", names);
+		st.add("stateTables", stateTables);
+		st.add("size", size);
+		return st.render();
+	}
+
+	public CharSequence generateNamesSource(final String prefix, final Iterable<Name> names, final List<StateTable> stateTables, final int size) {
+		STGroup g = new STGroupFile("resources/qpc_tpl/QpcStringPool.stg");
+		ST st = g.getInstanceOf("NamesSource");
+		st.add("fileDescriptionHeader", mFileDescHeader.generateFileDescriptionHeader(Config.getInstance().getCurrentModule(), null, false));
+		st.add("prefix", prefix);
+		List<Name> stored = new ArrayList<Name>();
+		for (Name n : names) {
+			if (n.isStored()) {
+				stored.add(n);
+			}
+		}
+		st.add("storedNames", stored);
+		st.add("stateTables", stateTables);
+		st.add("size", size);
+		return st.render();
+	}
+}
@@ -3,6 +3,7 @@ package comodo2.templates.qpc.model;
 import org.apache.log4j.Logger;
 
 import comodo2.engine.Main;
+import comodo2.utils.CallSyntax;
 
 
 /**
@@ -16,12 +17,21 @@ public class FunctionCall implements Comparable<FunctionCall> {
     private String funcName = null;
     private String args = null;
     private String[] argList = null;
+    /** Position of the call in the parsed action/guard string. */
+    private int start = 0;
+    private int end = 0;
     /** Flag indicates whether this function is being used as a Guard. */
     // WARNING: CURRENTLY NOT USED AND NOT DEFINED
     private boolean isGuard = false;
 
 
 
+    public FunctionCall(String functionStr, boolean isGuard, int start, int end){
+        this(functionStr, isGuard);
+        this.start = start;
+        this.end = end;
+    }
+
     public FunctionCall(String functionStr, boolean isGuard){
         this.isGuard = isGuard;
 
@@ -45,7 +55,7 @@ public class FunctionCall implements Comparable<FunctionCall> {
         }
 
         if (this.args != null && this.args.length() > 0) {  // parse arguments into a list
-            argList = args.split(",");
+            argList = CallSyntax.splitArguments(args).toArray(new String[0]);
         } else {
             argList = new String[0]; // empty String list
         }
@@ -104,6 +114,18 @@ public class FunctionCall implements Comparable<FunctionCall> {
         return this.args;
     }
 
+    public int getArgCount(){
+        return this.argList.length;
+    }
+
+    public int getStart(){
+        return this.start;
+    }
+
+    public int getEnd(){
+        return this.end;
+    }
+
     public String toString(){
         String str = this.funcName + "(";
         if (!(this.args == null)){
@@ -17,7 +17,7 @@ import comodo2.templates.qpc.Utils;
 public class OrthogonalStateWrapper {
 
     private Utils mUtils = new Utils();
-    private QState mQState = new QState();
+    private QState mQState;
     
     private String name;
     private State state;
@@ -27,7 +27,11 @@ public class OrthogonalStateWrapper {
     private String bailEvent;
     private String stateQualifiedName;
 
-    public OrthogonalStateWrapper(State s, CurrentGeneration current){
+    /**
+     * @param qState injected query of the caller, a QState created here has no QRegion.
+     */
+    public OrthogonalStateWrapper(State s, CurrentGeneration current, QState qState){
+        this.mQState = qState;
         this.state = s;
         this.stateQualifiedName = mUtils.formatRegionName(mQState.getFullyQualifiedName(s));
         this.name = s.getName();
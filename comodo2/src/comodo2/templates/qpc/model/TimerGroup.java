@@ -0,0 +1,40 @@
+package comodo2.templates.qpc.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * QTimeEvt instance of a state machine and the timed states using it.
+ * Without -c COALESCE_TIMERS each timed state has its own instance, named after the state.
+ * StringTemplate can then access those fields via %timer.name%, %timer.shared%, %timer.stateNames%
+ */
+public class TimerGroup {
+
+    private String name;
+    private List<String> stateNames = new ArrayList<String>();
+
+    public TimerGroup(String name){
+        this.name = name;
+    }
+
+    public void addState(String stateName){
+        this.stateNames.add(stateName);
+    }
+
+    /* Getter methods */
+    public String getName() {
+        return this.name;
+    }
+
+    public List<String> getStateNames() {
+        return this.stateNames;
+    }
+
+    /**
+     * @return True if the QTimeEvt is used by more than one state, i.e. states with the same timer signal (-c COALESCE_TIMERS).
+     */
+    public boolean isShared() {
+        return this.stateNames.size() > 1;
+    }
+}
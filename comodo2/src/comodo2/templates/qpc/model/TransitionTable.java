@@ -0,0 +1,226 @@
+package comodo2.templates.qpc.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Transition tables of a state machine generated with the -c TABLE option.
+ *
+ * Each state gets a const array of rows (signal, guard index, action index, target)
+ * scanned by a generic dispatcher. Guards and actions are generated once as
+ * functions and referenced by index, identical guards/actions share the same index
+ * (index 0 means no guard/action).
+ * With logging, each row also references the name of its signal (a string literal,
+ * or its id in the string pool of the module), traced by the dispatcher like the
+ * switch-cases trace theirs.
+ * StringTemplate accesses the fields via %table.states%, %table.guards%, ...
+ */
+public class TransitionTable {
+
+    /**
+     * Sizes used to estimate the footprint of the tables on a 32 bit target
+     * with the default QPC configuration (Q_SIGNAL_SIZE 2).
+     */
+    private static final int SIGNAL_SIZE = 2;
+    private static final int POINTER_SIZE = 4;
+
+    /**
+     * Transition of a state, i.e. a row of the state table.
+     */
+    public static class Row {
+        private final String signal;
+        private final int guard;
+        private final int action;
+        private final String target;
+        private final String name;
+
+        public Row(String signal, int guard, int action, String target, String name) {
+            this.signal = signal;
+            this.guard = guard;
+            this.action = action;
+            this.target = target;
+            this.name = name;
+        }
+
+        public String getSignal() {
+            return signal;
+        }
+
+        public int getGuard() {
+            return guard;
+        }
+
+        public int getAction() {
+            return action;
+        }
+
+        /** State handler function, null for internal transitions. */
+        public String getTarget() {
+            return target;
+        }
+
+        /** Signal name traced by the dispatcher: C string literal or string pool id (logging only). */
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Rows of the transitions going out of a state.
+     */
+    public static class StateTable {
+        private final String name;
+        private final String stateName;
+        private final List<Row> rows = new ArrayList<Row>();
+
+        public StateTable(String name, String stateName) {
+            this.name = name;
+            this.stateName = stateName;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStateName() {
+            return stateName;
+        }
+
+        public List<Row> getRows() {
+            return rows;
+        }
+    }
+
+    /**
+     * Guard or action function, StringTemplate needs an object to access both index and code.
+     */
+    public static class Function {
+        private final int index;
+        private final String code;
+
+        public Function(int index, String code) {
+            this.index = index;
+            this.code = code;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    private final List<StateTable> states = new ArrayList<StateTable>();
+    private final Map<String, Integer> guards = new LinkedHashMap<String, Integer>();
+    private final Map<String, Integer> actions = new LinkedHashMap<String, Integer>();
+    private final boolean logging;
+    private final String namePool;
+
+    /**
+     * @param logging true if the dispatcher traces the signals.
+     * @param namePool prefix of the string pool holding the signal names, null for string literals.
+     */
+    public TransitionTable(boolean logging, String namePool) {
+        this.logging = logging;
+        this.namePool = namePool;
+    }
+
+    public boolean isLogging() {
+        return logging;
+    }
+
+    public String getNamePool() {
+        return namePool;
+    }
+
+    public void addState(StateTable st) {
+        states.add(st);
+    }
+
+    /**
+     * @return index of the guard function evaluating the given C expression, 0 for no guard.
+     */
+    public int addGuard(String expression) {
+        return add(guards, expression);
+    }
+
+    /**
+     * @return index of the action function executing the given C statements, 0 for no action.
+     */
+    public int addAction(String statements) {
+        return add(actions, statements);
+    }
+
+    private static int add(Map<String, Integer> functions, String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return 0;
+        }
+        Integer index = functions.get(code);
+        if (index == null) {
+            index = functions.size() + 1;
+            functions.put(code, index);
+        }
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return states.isEmpty();
+    }
+
+    public List<StateTable> getStates() {
+        return states;
+    }
+
+    public List<Function> getGuards() {
+        return toFunctions(guards);
+    }
+
+    public List<Function> getActions() {
+        return toFunctions(actions);
+    }
+
+    private static List<Function> toFunctions(Map<String, Integer> functions) {
+        List<Function> list = new ArrayList<Function>();
+        for (Map.Entry<String, Integer> f : functions.entrySet()) {
+            list.add(new Function(f.getValue(), f.getKey()));
+        }
+        return list;
+    }
+
+    /**
+     * @return C type of the guard and action indexes.
+     */
+    public String getIndexType() {
+        return (Math.max(guards.size(), actions.size()) < 256) ? "uint8_t" : "uint16_t";
+    }
+
+    public int getRowCount() {
+        int n = 0;
+        for (StateTable st : states) {
+            n += st.getRows().size();
+        }
+        return n;
+    }
+
+    /**
+     * @return size in bytes of a row, including the padding of the target (and name) pointer.
+     */
+    public int getRowSize() {
+        int indexSize = getIndexType().contentEquals("uint8_t") ? 1 : 2;
+        int size = SIGNAL_SIZE + 2 * indexSize;
+        size = ((size + POINTER_SIZE - 1) / POINTER_SIZE) * POINTER_SIZE;
+        return size + (logging ? 2 : 1) * POINTER_SIZE;
+    }
+
+    /**
+     * @return estimated size in bytes of the const data: rows plus guard and action function pointers.
+     */
+    public int getFootprint() {
+        return getRowCount() * getRowSize() + (guards.size() + actions.size() + 2) * POINTER_SIZE;
+    }
+}
@@ -3,6 +3,8 @@ package comodo2.templates.qpc.qm;
 import com.google.common.base.Objects;
 import com.google.common.collect.Iterables;
 import comodo2.engine.Main;
+import comodo2.metrics.Metrics;
+import comodo2.metrics.StateMachineRecorder;
 import comodo2.queries.QClass;
 import comodo2.queries.QState;
 import comodo2.queries.QStateMachine;
@@ -49,6 +51,26 @@ public class Qm implements IGenerator {
 	
 	@Inject
 	private FilesHelper mFilesHelper;
+
+	public void setQStateMachine(final QStateMachine qStateMachine) {
+		mQStateMachine = qStateMachine;
+	}
+
+	public void setQState(final QState qState) {
+		mQState = qState;
+	}
+
+	public void setQTransition(final QTransition qTransition) {
+		mQTransition = qTransition;
+	}
+
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
 	
 
 	/* #########  QM-specific  ######## */
@@ -73,22 +95,30 @@ public class Qm implements IGenerator {
 	@Override
 	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
 		
+		int visited = 0;
 		final TreeIterator<EObject> allContents = input.getAllContents();
 		while (allContents.hasNext()) {
 			EObject e = allContents.next();
+			visited++;
 			if (e instanceof org.eclipse.uml2.uml.Class) {
 				org.eclipse.uml2.uml.Class c = (org.eclipse.uml2.uml.Class)e; 
 				if ((mQClass.isToBeGenerated(c) && mQClass.hasStateMachines(c))) {
 					for (final StateMachine sm : mQClass.getStateMachines(c)) {
+						StateMachineRecorder recorder = new StateMachineRecorder();
 						smQualifiedName = c.getName() + "_" + sm.getName();
+						CharSequence qm = this.generate(sm);
+						recorder.stop();
 						mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toQmFilePath(sm.getName())));
-						fsa.generateFile(mFilesHelper.toQmFilePath(smQualifiedName), this.generate(sm));						
+						fsa.generateFile(mFilesHelper.toQmFilePath(smQualifiedName), qm);
+						recorder.record(sm.getName(), Iterables.size(mQStateMachine.getAllStates(sm)), Iterables.size(mQStateMachine.getAllTransitions(sm)));
 					}
 				}				
 			}
 		}
+		Metrics.getInstance().count(Metrics.COUNTER_ELEMENTS_VISITED, visited);
 	}
 
+
 	public CharSequence generate(final StateMachine sm) {
 		StringConcatenation str = new StringConcatenation();
 		StringConcatenation strTemp = new StringConcatenation();
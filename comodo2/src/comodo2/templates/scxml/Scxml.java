@@ -1,29 +1,28 @@
 package comodo2.templates.scxml;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.Iterables;
+import comodo2.engine.Config;
 import comodo2.engine.Main;
+import comodo2.ir.ModelCache;
+import comodo2.ir.StateMachineModel;
+import comodo2.ir.StateMachineModelBuilder;
+import comodo2.metrics.Metrics;
+import comodo2.metrics.StateMachineRecorder;
 import comodo2.queries.QClass;
-import comodo2.queries.QRegion;
-import comodo2.queries.QState;
-import comodo2.queries.QStateMachine;
 import comodo2.queries.QStereotype;
-import comodo2.queries.QTransition;
 import comodo2.utils.FilesHelper;
-import comodo2.utils.StateComparator;
-import comodo2.utils.TransitionComparator;
-import java.util.TreeSet;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
 import javax.inject.Inject;
 import org.eclipse.uml2.uml.Element;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.uml2.uml.Pseudostate;
-import org.eclipse.uml2.uml.Region;
-import org.eclipse.uml2.uml.State;
 import org.eclipse.uml2.uml.StateMachine;
-import org.eclipse.uml2.uml.Transition;
 import org.eclipse.xtend2.lib.StringConcatenation;
 import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IGenerator;
@@ -33,25 +32,50 @@ public class Scxml implements IGenerator {
 	private static final Logger mLogger = Logger.getLogger(Main.class);
 
 	@Inject
-	private QStateMachine mQStateMachine;
+	private QClass mQClass;
 
 	@Inject
-	private QRegion mQRegion;
+	private QStereotype mQStereotype;
 
 	@Inject
-	private QState mQState;
+	private FilesHelper mFilesHelper;
 
 	@Inject
-	private QTransition mQTransition;
+	private StateMachineModelBuilder mModelBuilder;
 
 	@Inject
-	private QClass mQClass;
+	private ModelCache mModelCache;
 
-	@Inject
-	private QStereotype mQStereotype;
+	public void setQClass(final QClass qClass) {
+		mQClass = qClass;
+	}
 
-	@Inject
-	private FilesHelper mFilesHelper;
+	public void setQStereotype(final QStereotype qStereotype) {
+		mQStereotype = qStereotype;
+	}
+
+	public void setFilesHelper(final FilesHelper filesHelper) {
+		mFilesHelper = filesHelper;
+	}
+
+	public void setModelBuilder(final StateMachineModelBuilder modelBuilder) {
+		mModelBuilder = modelBuilder;
+	}
+
+	public void setModelCache(final ModelCache modelCache) {
+		mModelCache = modelCache;
+	}
+
+	/**
+	 * Model of the state machine being generated.
+	 */
+	private StateMachineModel mModel;
+
+	/**
+	 * With -c SCXML_COMPACT: fully qualified state name -> short id of the state machine being generated.
+	 */
+	private final Map<String, String> mIds = new LinkedHashMap<String, String>();
+	private boolean mCompact = false;
 
 	/**
 	 * Transform UML State Machine associated to a class (classifier behavior)
@@ -62,73 +86,153 @@ public class Scxml implements IGenerator {
 	 * - the cmdoModule name should have been provided in the configuration
 	 * - have stereotype cmdoComponent
 	 * - have an associated UML State Machine
+	 *
+	 * The document is rendered from the StateMachineModel of the state machine,
+	 * which is also recorded in the model cache when enabled (see ModelCache).
 	 */
 	@Override
 	public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
-/*
-		Iterable<org.eclipse.uml2.uml.Class> _filter = Iterables.<org.eclipse.uml2.uml.Class>filter(IteratorExtensions.<EObject>toIterable(input.getAllContents()), org.eclipse.uml2.uml.Class.class);
-		for (final org.eclipse.uml2.uml.Class e : _filter) {
-			if ((mQClass.isToBeGenerated(e) && mQClass.hasStateMachines(e))) {
-				for (final StateMachine sm : mQClass.getStateMachines(e)) {
-					mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toScxmlFilePath(sm.getName())));
-					fsa.generateFile(mFilesHelper.toScxmlFilePath(sm.getName()), this.generate(sm));
-				}
-			}
+		boolean cache = Config.getInstance().isModelCacheEnabled();
+		if (cache) {
+			mModelCache.putModule(getCacheModule());
 		}
-*/		
-		
+		int visited = 0;
 		final TreeIterator<EObject> allContents = input.getAllContents();
 		while (allContents.hasNext()) {
 			EObject e = allContents.next();
+			visited++;
 			if (e instanceof org.eclipse.uml2.uml.Class) {
 				org.eclipse.uml2.uml.Class c = (org.eclipse.uml2.uml.Class)e; 
 				// Use Element interface for unified UML Class and SysML Block support
 				if ((mQClass.isToBeGenerated((Element)c) && mQClass.hasStateMachines((Element)c))) {
 					for (final StateMachine sm : mQClass.getStateMachines((Element)c)) {
-						mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toScxmlFilePath(sm.getName())));
-						fsa.generateFile(mFilesHelper.toScxmlFilePath(sm.getName()), this.generate(sm));
+						StateMachineRecorder recorder = new StateMachineRecorder();
+						StateMachineModel model = mModelBuilder.build(sm);
+						if (cache) {
+							mModelCache.put(getCacheModule(), model);
+						}
+						generateFiles(model, fsa, recorder);
 					}
 				}				
 			}
 		}
+		Metrics.getInstance().count(Metrics.COUNTER_ELEMENTS_VISITED, visited);
+	}
+
+	/**
+	 * Generates the SCXML documents of the current module from the models
+	 * loaded from the model cache, without the UML model.
+	 */
+	public void doGenerate(final List<StateMachineModel> models, final IFileSystemAccess fsa) {
+		for (final StateMachineModel model : models) {
+			generateFiles(model, fsa, new StateMachineRecorder());
+		}
+	}
+
+	/**
+	 * @return module under which the models of the current module are cached.
+	 */
+	public static String getCacheModule() {
+		String module = Config.getInstance().getCurrentModule();
+		return (module == null) ? "" : module;
 	}
 
-	public CharSequence generate(final StateMachine sm) {
+	private void generateFiles(final StateMachineModel model, final IFileSystemAccess fsa, final StateMachineRecorder recorder) {
+		CharSequence scxml = this.generate(model);
+		CharSequence idMap = mCompact ? printIdMap() : null;
+		recorder.stop();
+		mFilesHelper.makeBackup(mFilesHelper.toAbsolutePath(mFilesHelper.toScxmlFilePath(model.getName())));
+		fsa.generateFile(mFilesHelper.toScxmlFilePath(model.getName()), scxml);
+		if (idMap != null) {
+			fsa.generateFile(mFilesHelper.toScxmlIdMapFilePath(model.getName()), idMap);
+		}
+		recorder.record(model.getName(), model.getModelStateCount(), model.getModelTransitionCount());
+	}
+
+	public CharSequence generate(final StateMachineModel m) {
+		mModel = m;
+		mCompact = Config.getInstance().hasTargetPlatformCfgOption(Config.SCXML_OPT_COMPACT);
+		mIds.clear();
 		StringConcatenation str = new StringConcatenation();
-		str.append(printStateMachineStart(sm));
+		str.append(printStateMachineStart());
 		str.newLineIfNotEmpty();
-		str.append("  " + exploreTopStates(sm), "  ");
+		str.append("  " + exploreTopStates(), "  ");
 		str.newLineIfNotEmpty();
 		str.append(printStateMachineEnd());
 		str.newLineIfNotEmpty();
-		return str;
+		return mCompact ? compact(str) : str;
 	}
 
 	/**
-	 * Start transformation from top level states.
+	 * @return the id of a state, region or history node in the SCXML document:
+	 * its (qualified) name or, with -c SCXML_COMPACT, a short id derived from it.
+	 * The short id is the CRC32 of the name in base 36 so that it does not change
+	 * when other states are added or removed.
 	 */
-	public CharSequence exploreTopStates(final StateMachine sm) {
-		StringConcatenation str = new StringConcatenation();
-		/*
-		final Function1<State, Boolean> _function = (State e) -> {
-			return Boolean.valueOf(mQState.isTopState(e));
-		};
-		final Function1<State, String> _function_1 = (State e) -> {
-			return e.getName();
-		};
-		List<State> _sortBy = IterableExtensions.<State, String>sortBy(IterableExtensions.<State>filter(mQStateMachine.getAllStates(sm), _function), _function_1);
-		for(final State s : _sortBy) {
-			str.append(exploreState(s));
-			str.newLineIfNotEmpty();
+	public String id(final String name) {
+		if (!mCompact || name == null || name.isEmpty()) {
+			return name;
 		}
-		 */
-		TreeSet<State> sortedTopStates = new TreeSet<State>(new StateComparator());
-		for (final State s : Iterables.<State>filter(sm.allOwnedElements(), State.class)) {
-			if (mQState.isTopState(s)) {
-				sortedTopStates.add(s);
+		String id = mIds.get(name);
+		if (id == null) {
+			CRC32 crc = new CRC32();
+			crc.update(name.getBytes(StandardCharsets.UTF_8));
+			id = "s" + Long.toString(crc.getValue(), 36);
+			String unique = id;
+			for (int n = 1; mIds.containsValue(unique); n++) {
+				unique = id + "_" + n;
 			}
+			mIds.put(name, unique);
+			id = unique;
 		}
-		for (final State s : sortedTopStates) {
+		return id;
+	}
+
+	/**
+	 * Removes indentation, line breaks, comments and empty onentry/onexit blocks
+	 * from the generated document.
+	 */
+	public CharSequence compact(final CharSequence document) {
+		StringBuilder str = new StringBuilder();
+		for (String line : document.toString().split("\n")) {
+			String l = line.trim();
+			if (!l.isEmpty() && !(l.startsWith("<!--") && l.endsWith("-->"))) {
+				str.append(l);
+			}
+		}
+		// onentry/onexit blocks left empty (no action and no timer) once the warnings are removed
+		return str.toString().replace("<onentry></onentry>", "").replace("<onexit></onexit>", "") + "\n";
+	}
+
+	/**
+	 * @return the map from the short ids to the qualified names, one "id name" per line.
+	 * Unnamed elements (e.g. regions) are skipped: their name carries no information.
+	 */
+	public CharSequence printIdMap() {
+		StringBuilder str = new StringBuilder();
+		for (Map.Entry<String, String> e : mIds.entrySet()) {
+			if (!isUnnamed(e.getKey())) {
+				str.append(e.getValue()).append(" ").append(e.getKey()).append("\n");
+			}
+		}
+		return str;
+	}
+
+	/**
+	 * @return true if the last segment of the (qualified) name is empty or "null",
+	 * i.e. the element itself has no name.
+	 */
+	private static boolean isUnnamed(final String name) {
+		String last = name.substring(name.lastIndexOf(':') + 1);
+		return last.isEmpty() || last.contentEquals("null");
+	}
+
+	/**
+	 * Start transformation from top level states.
+	 */
+	public CharSequence exploreTopStates() {
+		StringConcatenation str = new StringConcatenation();
+		for (final int s : mModel.getTopStates()) {
 			str.append(exploreState(s));
 			str.newLineIfNotEmpty();			
 		}
@@ -138,21 +242,22 @@ public class Scxml implements IGenerator {
 	/**
 	 * Transform a simple or composite state.
 	 */
-	public CharSequence exploreState(final State s) {
-		if (s.isSimple()) {
+	public CharSequence exploreState(final int s) {
+		byte kind = mModel.getStateKind(s);
+		if (kind == StateMachineModel.KIND_SIMPLE || kind == StateMachineModel.KIND_FINAL) {
 			return exploreSimpleState(s);
-		} else if (s.isComposite()) {
+		} else if (mModel.isComposite(s)) {
 			return exploreCompositeState(s);
 		}
-		return "COMODO2 ERROR transforming " + s.getName() + " state!";
+		return "COMODO2 ERROR transforming " + mModel.getStateName(s) + " state!";
 	}
 
 	/**
 	 * Transform a simple state.
 	 */
-	public CharSequence exploreSimpleState(final State s) {
+	public CharSequence exploreSimpleState(final int s) {
 		StringConcatenation str = new StringConcatenation();
-		if (mQState.isFinal(s)) {
+		if (mModel.getStateKind(s) == StateMachineModel.KIND_FINAL) {
 			str.append(printFinalState(s));
 			str.newLineIfNotEmpty();
 		} else {
@@ -175,32 +280,38 @@ public class Scxml implements IGenerator {
 	 * - have substates (including final pseudo-states)
 	 * - have no substates
 	 */
-	public CharSequence exploreCompositeState(final State s) {
+	public CharSequence exploreCompositeState(final int s) {
 		StringConcatenation str = new StringConcatenation();
-		if (s.isOrthogonal()) {
+		if (mModel.getStateKind(s) == StateMachineModel.KIND_ORTHOGONAL) {
 			str.append(exploreOrthogonalState(s));
 			str.newLineIfNotEmpty();
-		} else if (!Iterables.isEmpty(mQState.getAllNonFinalSubstates(s))) {
+		} else if (mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_NON_FINAL_SUBSTATES)) {
 			str.append(printStateStart(s));
 			str.newLineIfNotEmpty();
-			str.append("  " + printInitial(mQState.getInitialSubstateName(s)), "  ");
+			str.append("  " + printInitial(getStateName(mModel.getInitialSubstate(s))), "  ");
 			str.newLineIfNotEmpty();
-			for(final State ss : mQState.getCompositeSubstates(s)) {
-				str.newLine();
-				str.append("  " + exploreCompositeState(ss), "  ");
-				str.newLineIfNotEmpty();
+			for(final int ss : mModel.getChildren(s)) {
+				if (mModel.isComposite(ss)) {
+					str.newLine();
+					str.append("  " + exploreCompositeState(ss), "  ");
+					str.newLineIfNotEmpty();
+				}
 			}
-			for(final State ss_1 : mQState.getSimpleSubstates(s)) {
-				str.newLine();
-				str.append("  " + exploreSimpleState(ss_1), "  ");
-				str.newLineIfNotEmpty();
+			for(final int ss_1 : mModel.getChildren(s)) {
+				if (!mModel.isComposite(ss_1)) {
+					str.newLine();
+					str.append("  " + exploreSimpleState(ss_1), "  ");
+					str.newLineIfNotEmpty();
+				}
 			}
-			for(final State ss_2 : mQState.getFinalSubstates(s)) {
-				str.newLine();
-				str.append("  " + exploreSimpleState(ss_2), "  ");
-				str.newLineIfNotEmpty();
+			for(final int ss_2 : mModel.getChildren(s)) {
+				if (mModel.getStateKind(ss_2) == StateMachineModel.KIND_FINAL) {
+					str.newLine();
+					str.append("  " + exploreSimpleState(ss_2), "  ");
+					str.newLineIfNotEmpty();
+				}
 			}
-			if (mQState.hasHistory(s)) {
+			if (mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_HISTORY)) {
 				str.newLine();
 				str.append("  " + exploreHistoryState(s), "  ");
 				str.newLineIfNotEmpty();
@@ -218,47 +329,27 @@ public class Scxml implements IGenerator {
 		return str;
 	}
 
-	public CharSequence exploreOrthogonalState(final State s) {
+	public CharSequence exploreOrthogonalState(final int s) {
 		StringConcatenation str = new StringConcatenation();
-		str.append("<parallel id=\"" + mQState.getStateName(s) + "\">");
+		str.append("<parallel id=\"" + id(mModel.getStateName(s)) + "\">");
 		str.newLineIfNotEmpty();
-	/*	
-		final Function1<Region, Boolean> _function = (Region e) -> {
-			Element _owner = e.getOwner();
-			return Boolean.valueOf(Objects.equal(_owner, s));
-		};
-		Iterable<Region> _filter = IterableExtensions.<Region>filter(Iterables.<Region>filter(s.allOwnedElements(), Region.class), _function);
-	*/
-		Iterable<Region> regions = Iterables.<Region>filter(s.allOwnedElements(), Region.class);
-		for(final Region r : regions) {
-			if (r.getOwner() == s) {
-				str.append("  ");
-				str.append("<state id=\"" + mQRegion.getRegionName(r) + "\">");
-				str.newLineIfNotEmpty();
-				str.append("    " + printInitial(mQRegion.getInitialStateName(r)), "    ");
-				str.newLineIfNotEmpty();
-				/*
-				final Function1<State, Boolean> _function_1 = (State e1) -> {
-					Element _owner = e1.getOwner();
-					return Boolean.valueOf(Objects.equal(_owner, r));
-				};
-				Iterable<State> _filter_1 = IterableExtensions.<State>filter(Iterables.<State>filter(r.allOwnedElements(), State.class), _function_1);
-				*/
-				Iterable<State> substates = Iterables.<State>filter(r.allOwnedElements(), State.class);			
-				for(final State substate : substates) {
-					if (Objects.equal(substate.getOwner(), r)) {
-						str.newLine();
-						str.append("    " + exploreState(substate), "\t");
-						str.newLineIfNotEmpty();
-					}
-				}
+		for(final int r : mModel.getRegions(s)) {
+			str.append("  ");
+			str.append("<state id=\"" + id(mModel.getRegionName(r)) + "\">");
+			str.newLineIfNotEmpty();
+			str.append("    " + printInitial(getStateName(mModel.getRegionInitialState(r))), "    ");
+			str.newLineIfNotEmpty();
+			for(final int substate : mModel.getRegionStates(r)) {
 				str.newLine();
-				str.append("  " + printStateEnd(), "  ");
+				str.append("    " + exploreState(substate), "\t");
 				str.newLineIfNotEmpty();
 			}
+			str.newLine();
+			str.append("  " + printStateEnd(), "  ");
+			str.newLineIfNotEmpty();
 		}
 				
-		if (mQState.hasHistory(s)) {
+		if (mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_HISTORY)) {
 			str.append(exploreHistoryState(s));
 			str.newLineIfNotEmpty();
 		}
@@ -271,68 +362,59 @@ public class Scxml implements IGenerator {
 		return str;
 	}
 
-	public CharSequence exploreHistoryState(final State s) {
+	public CharSequence exploreHistoryState(final int s) {
 		String str = "";
-		for (final Pseudostate hs : mQState.getHistory(s)) {
-			str += "<history id=\"" + mQRegion.getRegionName(hs.getContainer()) + ":" +  hs.getName() + "\" type=\"" + mQState.getHistoryTypeName(hs) + "\">\n";
+		for (final int hs : mModel.getHistory(s)) {
+			str += "<history id=\"" + id(mModel.getHistoryId(hs)) + "\" type=\"" + (mModel.getHistoryKind(hs) == StateMachineModel.HISTORY_SHALLOW ? "shallow" : "deep") + "\">\n";
 			// Check if history state has outgoing transitions
-			if (hs.getOutgoings() != null && !hs.getOutgoings().isEmpty() && hs.getOutgoings().get(0).getTarget() != null) {
-				str += "  <transition target=\"" + mQRegion.getRegionName(hs.getOutgoings().get(0).getTarget().getContainer()) + ":" + 
-						hs.getOutgoings().get(0).getTarget().getName() + "\"/>\n";
+			if (mModel.getHistoryTarget(hs) != null) {
+				str += "  <transition target=\"" + id(mModel.getHistoryTarget(hs)) + "\"/>\n";
 			} else {
 				// History state without valid outgoing transition - add comment for debugging
-				str += "  <!-- Warning: History state " + hs.getName() + " has no valid outgoing transition -->\n";
+				str += "  <!-- Warning: History state " + mModel.getHistoryName(hs) + " has no valid outgoing transition -->\n";
 			}
 			str += "</history>\n";
 		}
 		return str;
 	}
 
-	public CharSequence exploreActions(final State s) {
+	public CharSequence exploreActions(final int s) {
 		String str = "";
-		if ((mQState.hasOnEntryActions(s) || mQState.hasTimerTransition(s))) {
+		if ((mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_ENTRY) || mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_TIMER_TRANSITION))) {
 			str += printEntryActions(s);
 		}		
-		if (mQState.hasDoActivities(s)) {
+		if (mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_DO_ACTIVITY)) {
 			str += printDoActivities(s);
 		}
-		if (mQState.hasOnExitActions(s) || mQState.hasTimerTransition(s)) {
+		if (mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_EXIT) || mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_TIMER_TRANSITION)) {
 			str += printExitActions(s);
 		}
 		return str;
 	}
 
-	public CharSequence exploreTransitions(final State s) {
+	public CharSequence exploreTransitions(final int s) {
 		StringConcatenation str = new StringConcatenation();
-		/*
-		final Function1<Transition, String> _function = (Transition e) -> {
-			return e.getName();
-		};
-		List<Transition> _sortBy = IterableExtensions.<Transition, String>sortBy(s.getOutgoings(), _function);
-		*/
-		TreeSet<Transition> sortedTrans = new TreeSet<Transition>(new TransitionComparator());
-		for (final Transition t : s.getOutgoings()) {
-			sortedTrans.add(t);
-		}
-
-		for(final Transition t : sortedTrans) {
-			if (mQTransition.isMalformed(t)) {
+		for(final int t : mModel.getSortedOutgoing(s)) {
+			if (mModel.hasTransitionFlag(t, StateMachineModel.TRANSITION_MALFORMED)) {
 				mLogger.warn("Internal transition from state " + 
-						mQState.getStateName(s) + 
+						mModel.getStateName(s) + 
 						" has no trigger event and no guard, skipped since could introduce infinite loop!");
 			} else {
-				String targetName = mQTransition.getTargetName(t);
+				String targetName = mModel.getTransitionTargetName(t);
+				String eventName = mModel.getTransitionEvent(t);
+				String guardName = mModel.getTransitionGuard(t);
+				boolean hasAction = !Objects.equal(mModel.getTransitionAction(t), "");
 				// Skip transitions with empty targets unless they have events or guards
 				if ((targetName == null || targetName.trim().isEmpty()) && 
-					(mQTransition.getFirstEventName(t) == null || mQTransition.getFirstEventName(t).trim().isEmpty()) &&
-					(mQTransition.getResolvedGuardName(t) == null || mQTransition.getResolvedGuardName(t).trim().isEmpty())) {
-					mLogger.warn("Skipping transition with empty target, event, and guard from state " + mQState.getStateName(s));
+					(eventName == null || eventName.trim().isEmpty()) &&
+					(guardName == null || guardName.trim().isEmpty())) {
+					mLogger.warn("Skipping transition with empty target, event, and guard from state " + mModel.getStateName(s));
 				} else {
-					str.append(printTransitionStart(mQTransition.getFirstEventName(t), mQTransition.getResolvedGuardName(t), targetName, mQTransition.hasAction(t)));
+					str.append(printTransitionStart(eventName, guardName, targetName, hasAction));
 				str.newLineIfNotEmpty();
 					str.newLineIfNotEmpty();
-					if (mQTransition.hasAction(t)) {
-						str.append("  " + printAction(mQTransition.getFirstActionName(t)), "  ");
+					if (hasAction) {
+						str.append("  " + printAction(mModel.getTransitionAction(t)), "  ");
 						str.newLineIfNotEmpty();
 						str.append(printTransitionEnd());
 						str.newLineIfNotEmpty();
@@ -343,11 +425,18 @@ public class Scxml implements IGenerator {
 		return str;
 	}
 
+	/**
+	 * @return name of state s, "" for -1 (no state).
+	 */
+	private String getStateName(final int s) {
+		return (s < 0) ? "" : mModel.getStateName(s);
+	}
+
 	public CharSequence printInitial(final String name) {
 		String str = "<initial>\n";
 		// Only add target if name is not empty
 		if (name != null && !name.trim().isEmpty()) {
-			str += "  <transition target=\"" + name + "\"/>\n";
+			str += "  <transition target=\"" + id(name) + "\"/>\n";
 		} else {
 			// Add comment for debugging empty initial targets
 			str += "  <!-- Warning: Empty initial target -->\n";
@@ -366,7 +455,7 @@ public class Scxml implements IGenerator {
 			str += " cond=\"" + guardName + "\"";
 		}
 		if (!Objects.equal(targetName, "")) {
-			str += " target=\"" + targetName + "\"";
+			str += " target=\"" + id(targetName) + "\"";
 		}
 		if (hasAction) {
 			str += ">";
@@ -380,30 +469,17 @@ public class Scxml implements IGenerator {
 		return "</transition>\n";
 	}
 
-	public CharSequence printEntryActions(final State s) {
+	public CharSequence printEntryActions(final int s) {
 		StringConcatenation str = new StringConcatenation();
 		str.append("<onentry>");
 		str.newLine();
 		str.append("  ");
-		str.append(printAction(s.getEntry().getName()), "  ");
+		str.append(printAction(mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_ENTRY) ? mModel.getEntryName(s) : ""), "  ");
 		str.newLineIfNotEmpty();
-		/*
-		final Function1<Transition, String> _function = (Transition e) -> {
-			return e.getName();
-		};
-		List<Transition> _sortBy = IterableExtensions.<Transition, String>sortBy(s.getOutgoings(), _function);
-		for (final Transition t : _sortBy) {
-			if (mQTransition.isTimerTransitionWithEvent(t)) {
-				str.append("<send target=\"\" type=\"scxml\" sendid=\"\'" + mQState.getStateName(s) + "_" + mQTransition.getEventName(t));
-				str.append("\'\" event=\"\'" + mQTransition.getEventName(t) + "\'\" delay=\"\'" + mQTransition.getTimeEventDuration(t) + "\'\"/>");
-				str.newLineIfNotEmpty();
-			}
-		}
-		 */
-		for (final Transition t : s.getOutgoings()) {
-			if (mQTransition.isTimerTransitionWithEvent(t)) {
-				str.append("<send target=\"\" type=\"scxml\" sendid=\"\'" + mQState.getStateName(s) + "_" + mQTransition.getEventName(t));
-				str.append("\'\" event=\"\'" + mQTransition.getEventName(t) + "\'\" delay=\"\'" + mQTransition.getTimeEventDuration(t) + "\'\"/>");
+		for (final int t : mModel.getOutgoing(s)) {
+			if (mModel.hasTransitionFlag(t, StateMachineModel.TRANSITION_TIMER_WITH_EVENT)) {
+				str.append("<send target=\"\" type=\"scxml\" sendid=\"\'" + id(mModel.getStateName(s)) + "_" + mModel.getTransitionEvent(t));
+				str.append("\'\" event=\"\'" + mModel.getTransitionEvent(t) + "\'\" delay=\"\'" + mModel.getTransitionDuration(t) + "\'\"/>");
 				str.newLineIfNotEmpty();
 			}
 		}
@@ -413,34 +489,17 @@ public class Scxml implements IGenerator {
 		return str;
 	}
 
-	public CharSequence printExitActions(final State s) {
+	public CharSequence printExitActions(final int s) {
 		StringConcatenation str = new StringConcatenation();
 		str.append("<onexit>");
 		str.newLine();
-		str.append("  " + printAction(s.getExit().getName()), "  ");
-
-		/*
-		final Function1<Transition, String> _function = (Transition e) -> {
-			return e.getName();
-		};
-		List<Transition> _sortBy = IterableExtensions.<Transition, String>sortBy(s.getOutgoings(), _function);
-		for (final Transition t : _sortBy) {
-			if (mQTransition.isTimerTransitionWithEvent(t)) {
-				str.append("<cancel sendid=\"\'");
-				str.append(mQState.getStateName(s));
-				str.append("_");
-				str.append(mQTransition.getEventName(t));
-				str.append("\'\"/>");
-				str.newLineIfNotEmpty();
-			}
-		}
-		 */
-		for (final Transition t : s.getOutgoings()) {
-			if (mQTransition.isTimerTransitionWithEvent(t)) {
+		str.append("  " + printAction(mModel.hasStateFlag(s, StateMachineModel.STATE_HAS_EXIT) ? mModel.getExitName(s) : ""), "  ");
+		for (final int t : mModel.getOutgoing(s)) {
+			if (mModel.hasTransitionFlag(t, StateMachineModel.TRANSITION_TIMER_WITH_EVENT)) {
 				str.append("<cancel sendid=\"\'");
-				str.append(mQState.getStateName(s));
+				str.append(id(mModel.getStateName(s)));
 				str.append("_");
-				str.append(mQTransition.getEventName(t));
+				str.append(mModel.getTransitionEvent(t));
 				str.append("\'\"/>");
 				str.newLineIfNotEmpty();
 			}
@@ -459,45 +518,31 @@ public class Scxml implements IGenerator {
 		return "<customActionDomain:" + name + " name=\"" + name + "\"/>\n";
 	}
 
-	public CharSequence printDoActivities(final State s) {
-		return "<invoke id=\"" + s.getDoActivity().getName() + "\"/>\n";
+	public CharSequence printDoActivities(final int s) {
+		return "<invoke id=\"" + mModel.getDoActivityName(s) + "\"/>\n";
 	}
 
-	public CharSequence printStateStart(final State s) {
-		return "<state id=\"" + mQState.getStateName(s) + "\">\n";
+	public CharSequence printStateStart(final int s) {
+		return "<state id=\"" + id(mModel.getStateName(s)) + "\">\n";
 	}
 
 	public CharSequence printStateEnd() {
 		return "</state>\n";
 	}
 
-	public CharSequence printFinalState(final State s) {
-		String stateName = mQState.getStateName(s);
+	public CharSequence printFinalState(final int s) {
+		String stateName = mModel.getStateName(s);
 		// Provide a default name for final states without names
 		if (stateName == null || stateName.trim().isEmpty()) {
 			stateName = "finalState";
 		}
-		return "<final id=\"" + stateName + "\"/>\n";
+		return "<final id=\"" + id(stateName) + "\"/>\n";
 	}
 
-	public CharSequence printStateMachineStart(final StateMachine sm) {
-		String initialState = mQStateMachine.getInitialStateName(sm);
-		// Use the first top-level state if no initial state is found
-		if (initialState == null || initialState.isEmpty()) {
-			for (final State s : Iterables.<State>filter(sm.allOwnedElements(), State.class)) {
-				if (mQState.isTopState(s)) {
-					initialState = mQState.getStateName(s);
-					break;
-				}
-			}
-		}
-		// Fallback to empty if still no state found
-		if (initialState == null) {
-			initialState = "";
-		}
+	public CharSequence printStateMachineStart() {
 		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
 				"<scxml xmlns=\"http://www.w3.org/2005/07/scxml\" xmlns:customActionDomain=\"http://my.custom-actions.domain/CUSTOM\" version=\"1.0\" initial=\"" +
-				initialState + "\">\n";
+				id(mModel.getInitialStateName()) + "\">\n";
 	}
 
 	public CharSequence printStateMachineEnd() {
@@ -1,7 +1,9 @@
 package comodo2.utils;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.TreeSet;
-
 public class Actions {
 	/**
 	 * Return the name of the Action classes.
@@ -33,6 +35,99 @@ public class Actions {
 		return names;
 	}
 
+	/**
+	 * Return the methods called by the actions of a given Action class with the C++ types of their
+	 * arguments (after the context). Calls of the same method with different arguments share one method:
+	 * they must have the same number of arguments and the types are widened (bool -> int -> double).
+	 * E.g. "Actions.Move(1)", "Actions.Move(2.5)" -> Move: [double]
+	 */
+	public TreeMap<String, List<String>> getCallees(final TreeSet<String> actionNames, final String className) {
+		TreeMap<String, List<String>> callees = new TreeMap<String, List<String>>();
+		for (final String m : getMethodNames(actionNames, className)) {
+			String callee = getCalleeName(m);
+			List<String> types = new ArrayList<String>();
+			for (final String arg : getCallArguments(m)) {
+				types.add(getArgumentType(arg));
+			}
+			List<String> prev = callees.get(callee);
+			if (prev == null) {
+				callees.put(callee, types);
+				continue;
+			}
+			if (prev.size() != types.size()) {
+				throw new RuntimeException("Method " + className + "." + callee + " is called with " + prev.size() + " and " + types.size() + " arguments.");
+			}
+			for (int i = 0; i < types.size(); i++) {
+				String type = getWidenedType(prev.get(i), types.get(i));
+				if (type == null) {
+					throw new RuntimeException("Argument " + (i + 1) + " of method " + className + "." + callee + " is passed as "
+							+ prev.get(i) + " and " + types.get(i) + ".");
+				}
+				prev.set(i, type);
+			}
+		}
+		return callees;
+	}
+
+	/**
+	 * Return the type holding the values of both argument types, null if there is none.
+	 * E.g. "int", "double" -> "double", "bool", "int" -> "int", "const std::string&", "int" -> null
+	 */
+	public String getWidenedType(final String type1, final String type2) {
+		if (type1.equals(type2)) {
+			return type1;
+		}
+		final List<String> numeric = Arrays.asList("bool", "int", "double");
+		if (!numeric.contains(type1) || !numeric.contains(type2)) {
+			return null;
+		}
+		return (numeric.indexOf(type1) > numeric.indexOf(type2)) ? type1 : type2;
+	}
+
+	/**
+	 * Return the C++ parameter type for a literal argument of an action/guard call.
+	 * E.g. "\"text\"" -> "const std::string&", "1.5" -> "double", "true" -> "bool", others -> "int"
+	 */
+	public String getArgumentType(final String arg) {
+		if (arg.startsWith("\"")) {
+			return "const std::string&";
+		}
+		if (arg.equals("true") || arg.equals("false")) {
+			return "bool";
+		}
+		if (arg.matches("[-+]?[0-9]*\\.[0-9]+([eE][-+]?[0-9]+)?|[-+]?[0-9]+[eE][-+]?[0-9]+")) {
+			return "double";
+		}
+		return "int";
+	}
+
+	/**
+	 * Return the name of the method called by an action.
+	 * E.g. "IsReady(1)" -> "IsReady"
+	 */
+	public String getCalleeName(final String methodName) {
+		int i = methodName.indexOf("(");
+		return (i < 0 ? methodName : methodName.substring(0, i)).trim();
+	}
+
+	/**
+	 * Return the arguments of the call, split on the commas that are not nested in parentheses or literals
+	 * (see CallSyntax).
+	 * E.g. "Move(1, f(2, 3))" -> ["1", "f(2, 3)"]
+	 */
+	public List<String> getCallArguments(final String methodName) {
+		List<String> args = new ArrayList<String>();
+		int open = methodName.indexOf("(");
+		int close = methodName.lastIndexOf(")");
+		if (open < 0 || close < open || methodName.substring(open + 1, close).trim().isEmpty()) {
+			return args;
+		}
+		for (final String arg : CallSyntax.splitArguments(methodName.substring(open + 1, close))) {
+			args.add(arg.trim());
+		}
+		return args;
+	}
+
 	public TreeSet<String> getMergeClassNames(final TreeSet<String> classNames1, final TreeSet<String> classNames2) {
 		TreeSet<String> names = new TreeSet<String>();
 		names.addAll(classNames1);
@@ -0,0 +1,63 @@
+package comodo2.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scanning of the function calls written in actions and guards, e.g. "Move(1, f(2, 3), \"a,b\")".
+ * Parentheses nested in the arguments and string/character literals are skipped.
+ */
+public final class CallSyntax {
+
+	private CallSyntax() {
+	}
+
+	/**
+	 * @return index of the first of the given characters found from index from that is neither
+	 * nested in parentheses nor in a literal, -1 if none. A ')' closing a parenthesis opened
+	 * before from is found as well.
+	 */
+	public static int indexOfTopLevel(final String str, final int from, final String chars) {
+		int depth = 0;
+		for (int i = from; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (depth == 0 && chars.indexOf(c) >= 0) {
+				return i;
+			}
+			if (c == '"' || c == '\'') {
+				for (i++; i < str.length() && str.charAt(i) != c; i++) {
+					if (str.charAt(i) == '\\') {
+						i++;
+					}
+				}
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return index of the parenthesis closing the one at index open, -1 if none.
+	 */
+	public static int findClosingParenthesis(final String str, final int open) {
+		return indexOfTopLevel(str, open + 1, ")");
+	}
+
+	/**
+	 * @return the arguments of a call, split on the commas that are not nested in parentheses
+	 * or literals. E.g. "1, f(2, 3)" -> ["1", " f(2, 3)"]
+	 */
+	public static List<String> splitArguments(final String args) {
+		List<String> res = new ArrayList<String>();
+		int from = 0;
+		for (int i = indexOfTopLevel(args, 0, ","); i >= 0; i = indexOfTopLevel(args, from, ",")) {
+			res.add(args.substring(from, i));
+			from = i + 1;
+		}
+		res.add(args.substring(from));
+		return res;
+	}
+}
@@ -62,6 +62,14 @@ public class FilesHelper {
 		return getRelativeConfigPath() + toFileName(className) + ".xml";
 	}
 
+	public String toScxmlIdMapFilePath(final String className) {
+		return getRelativeConfigPath() + toFileName(className) + ".ids";
+	}
+
+	public String toComplexityReportFilePath() {
+		return "/" + Config.getInstance().getCurrentModule() + "/complexity.txt";
+	}
+
 	public String toQmFilePath(final String className) {
 		// QM files are XML files that open in the Quantum Modeler
 		return "/" + Config.getInstance().getCurrentModule() + "/" + toFileName(className) + ".qm";
@@ -99,6 +107,7 @@ public class FilesHelper {
 	 * 
 	 * In ALL mode, all files can be generated regardless if they exists already.
 	 * In UPDATE mode, only files that do not exists can be generated.
+	 * Without output directory (in-memory generation, see Comodo) no file exists.
 	 */
 	public boolean skipFile(final String absPath) {
 		if (Config.getInstance().isGenerationModeAll()) {
@@ -106,7 +115,7 @@ public class FilesHelper {
 		}
 		if ( Config.getInstance().isGenerationModeUpdate()) {
 			File src = new File(absPath);
-			if (src.isFile() == false) {
+			if (Config.getInstance().getOutputDirectory() == null || src.isFile() == false) {
 				return false;
 			}
 		}
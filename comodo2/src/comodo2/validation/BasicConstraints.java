@@ -2,6 +2,7 @@ package comodo2.validation;
 
 import java.util.Collections;
 import java.util.List;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.uml2.uml.Model;
 import org.eclipse.uml2.uml.Property;
@@ -12,6 +13,12 @@ import org.eclipse.xtext.validation.CheckType;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 
 public class BasicConstraints extends AbstractDeclarativeValidator {
+	/**
+	 * To be incremented when the semantic of a check changes,
+	 * it invalidates the validation results cached by ValidationEngine.
+	 */
+	public static final int CHECKS_VERSION = 1;
+
 	private UMLPackage pck = UMLPackage.eINSTANCE;
 
 	@Override
@@ -24,6 +31,17 @@ public class BasicConstraints extends AbstractDeclarativeValidator {
 		return false;
 	}
 
+	/**
+	 * Computes in the calling thread the derived values read by the checks
+	 * on the given element. UML2 caches them in a shared CacheAdapter which
+	 * is not thread safe, afterwards the checks can run concurrently.
+	 */
+	public void prepare(final EObject it) {
+		if (it instanceof org.eclipse.uml2.uml.Class && ((org.eclipse.uml2.uml.Class) it).getOwnedAttributes().isEmpty()) {
+			((org.eclipse.uml2.uml.Class) it).getAllAttributes();
+		}
+	}
+
 	@Check(CheckType.NORMAL)
 	public void check_Model(final Model it) {
 		if (it.getName() == null) {
@@ -33,14 +51,15 @@ public class BasicConstraints extends AbstractDeclarativeValidator {
 
 	@Check(CheckType.NORMAL)
 	public void check_Class(final org.eclipse.uml2.uml.Class it) {
-		if (it.getAllAttributes().isEmpty()) {
+		// inherited attributes are collected only when the class has no attribute of its own
+		if (it.getOwnedAttributes().isEmpty() && it.getAllAttributes().isEmpty()) {
 			this.warning("Class " + it.getName() + " does not have any attributes", it, this.pck.getNamedElement_Name());
 		}
 	}
 
 	@Check(CheckType.NORMAL)
 	public void check_Property(final Property it) {
-		if (it.getName() == null) {
+		if (it.getName() == null || it.getName().isEmpty()) {
 			this.error("Property must have a name", it, this.pck.getNamedElement_Name());
 		} else {
 			if (Character.isUpperCase(it.getName().charAt(0))) {
@@ -0,0 +1,114 @@
+package comodo2.validation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.Generalization;
+
+/**
+ * Computes a 64 bit hash of the content of a model element, used as
+ * key of the validation cache.
+ *
+ * The hash covers what the checks of BasicConstraints can observe:
+ * - the values of all non derived, non transient attributes
+ * - the identity (URI) of the referenced and contained elements,
+ *   but not the content of the contained elements
+ * - for classifiers, the hash of the general classifiers since the
+ *   checks look at inherited members
+ *
+ * Not thread safe: hashes are computed by the thread preparing the validation.
+ */
+public class ContentHasher {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Map<EObject, Long> mHashes = new HashMap<EObject, Long>();
+	private final Set<EObject> mInProgress = new HashSet<EObject>();
+
+	public long hash(final EObject e) {
+		Long h = mHashes.get(e);
+		if (h != null) {
+			return h;
+		}
+		if (!mInProgress.add(e)) {
+			// cyclic generalization
+			return FNV_OFFSET;
+		}
+		long hash = mix(FNV_OFFSET, e.eClass().getName());
+		for (EStructuralFeature f : e.eClass().getEAllStructuralFeatures()) {
+			if (f.isDerived() || f.isTransient() || !e.eIsSet(f)) {
+				continue;
+			}
+			hash = mix(hash, f.getName());
+			Object value = e.eGet(f, false);
+			if (f instanceof EAttribute) {
+				hash = mix(hash, String.valueOf(value));
+			} else if (f instanceof EReference) {
+				if (f.isMany()) {
+					for (Object o : (List<?>) value) {
+						hash = mix(hash, identity((EObject) o));
+					}
+				} else {
+					hash = mix(hash, identity((EObject) value));
+				}
+			}
+		}
+		if (e instanceof Classifier) {
+			for (Generalization g : ((Classifier) e).getGeneralizations()) {
+				if (g.getGeneral() != null) {
+					hash = mix(hash, hash(g.getGeneral()));
+				}
+			}
+		}
+		mInProgress.remove(e);
+		mHashes.put(e, hash);
+		return hash;
+	}
+
+	/**
+	 * @return the URI fragment identifying the element inside its resource,
+	 * the proxy URI for unresolved elements.
+	 */
+	public static String identity(final EObject e) {
+		if (e == null) {
+			return "null";
+		}
+		if (e.eIsProxy()) {
+			return ((InternalEObject) e).eProxyURI().toString();
+		}
+		Resource r = e.eResource();
+		if (r == null) {
+			return e.eClass().getName();
+		}
+		return r.getURI().lastSegment() + "#" + r.getURIFragment(e);
+	}
+
+	private static long mix(long hash, final String s) {
+		for (int i = 0; i < s.length(); i++) {
+			hash ^= s.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		hash ^= 0xff;
+		hash *= FNV_PRIME;
+		return hash;
+	}
+
+	private static long mix(long hash, final long value) {
+		for (int i = 0; i < 8; i++) {
+			hash ^= (value >>> (i * 8)) & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,161 @@
+package comodo2.validation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.xtext.diagnostics.Severity;
+
+import comodo2.engine.Main;
+
+/**
+ * Validation results of the model elements, indexed by element identity
+ * (see ContentHasher.identity) and valid as long as the element content
+ * hash is unchanged.
+ *
+ * The cache is stored as a text file:
+ *   # comodo2-validation <signature>
+ *   E <identity> <hash>
+ *   I <severity> <code> <message>
+ * where each E line is followed by the I lines of the issues found on the element.
+ * Fields are separated by tabs. The signature identifies the set of checks
+ * and the model: a cache written with different checks or for another model
+ * is discarded.
+ */
+public class ValidationCache {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	private static final String HEADER = "# comodo2-validation ";
+
+	/**
+	 * Issue as stored in the cache, without reference to the model element.
+	 */
+	public static class CachedIssue {
+		public final Severity severity;
+		public final String code;
+		public final String message;
+
+		public CachedIssue(Severity severity, String code, String message) {
+			this.severity = severity;
+			this.code = code;
+			this.message = message;
+		}
+	}
+
+	private static class Entry {
+		final long hash;
+		final List<CachedIssue> issues;
+
+		Entry(long hash, List<CachedIssue> issues) {
+			this.hash = hash;
+			this.issues = issues;
+		}
+	}
+
+	private final String mSignature;
+	private final Map<String, Entry> mEntries = new HashMap<String, Entry>();
+	private boolean mModified = false;
+
+	public ValidationCache(final String signature) {
+		mSignature = signature;
+	}
+
+	/**
+	 * @return the cached issues of the element or null if the element
+	 * is not in the cache or its content changed.
+	 */
+	public List<CachedIssue> get(final String identity, final long hash) {
+		Entry e = mEntries.get(identity);
+		if (e == null || e.hash != hash) {
+			return null;
+		}
+		return e.issues;
+	}
+
+	public void put(final String identity, final long hash, final List<CachedIssue> issues) {
+		mEntries.put(identity, new Entry(hash, issues.isEmpty() ? Collections.<CachedIssue>emptyList() : issues));
+		mModified = true;
+	}
+
+	public int size() {
+		return mEntries.size();
+	}
+
+	public void load(final Path path) {
+		if (path == null || !Files.exists(path)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line = reader.readLine();
+			if (line == null || !line.contentEquals(HEADER + mSignature)) {
+				mLogger.debug("Validation cache <" + path + "> written by different checks or for another model, ignored.");
+				return;
+			}
+			List<CachedIssue> issues = null;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split("\t", -1);
+				if (fields[0].contentEquals("E") && fields.length == 3) {
+					issues = new ArrayList<CachedIssue>();
+					mEntries.put(unescape(fields[1]), new Entry(Long.parseUnsignedLong(fields[2], 16), issues));
+				} else if (fields[0].contentEquals("I") && fields.length == 4 && issues != null) {
+					issues.add(new CachedIssue(Severity.valueOf(fields[1]), fields[2].isEmpty() ? null : unescape(fields[2]), unescape(fields[3])));
+				} else {
+					throw new IOException("malformed line: " + line);
+				}
+			}
+			mLogger.debug("Loaded " + mEntries.size() + " validation results from <" + path + ">");
+		} catch (IOException | IllegalArgumentException e) {
+			mLogger.warn("Could not read validation cache <" + path + ">: " + e.getMessage());
+			mEntries.clear();
+		}
+	}
+
+	public void save(final Path path) {
+		if (path == null || !mModified) {
+			return;
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write(HEADER + mSignature);
+			writer.newLine();
+			for (Map.Entry<String, Entry> e : mEntries.entrySet()) {
+				writer.write("E\t" + escape(e.getKey()) + "\t" + Long.toHexString(e.getValue().hash));
+				writer.newLine();
+				for (CachedIssue i : e.getValue().issues) {
+					writer.write("I\t" + i.severity.name() + "\t" + (i.code == null ? "" : escape(i.code)) + "\t" + escape(i.message));
+					writer.newLine();
+				}
+			}
+			mModified = false;
+		} catch (IOException e) {
+			mLogger.warn("Could not write validation cache <" + path + ">: " + e.getMessage());
+		}
+	}
+
+	private static String escape(final String s) {
+		return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+	}
+
+	private static String unescape(final String s) {
+		StringBuilder str = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '\\' && i + 1 < s.length()) {
+				char n = s.charAt(++i);
+				str.append(n == 't' ? '\t' : n == 'n' ? '\n' : n == 'r' ? '\r' : n);
+			} else {
+				str.append(c);
+			}
+		}
+		return str.toString();
+	}
+}
@@ -0,0 +1,336 @@
+package comodo2.validation;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.inject.Inject;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.AbstractValidationDiagnostic;
+import org.eclipse.xtext.validation.CancelableDiagnostician;
+import org.eclipse.xtext.validation.Check;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+import comodo2.engine.Config;
+import comodo2.engine.Main;
+import comodo2.metrics.Metrics;
+import comodo2.queries.ModelIndex;
+import comodo2.validation.ValidationCache.CachedIssue;
+
+/**
+ * Runs the BasicConstraints checks on the input model.
+ *
+ * The elements to validate are split in shards (subtrees of the model packages)
+ * which are validated concurrently on a thread pool. With --validation-cache the
+ * results are cached per element content hash (see ContentHasher) in a file
+ * written for the canonical path of the model, so that on the next run only
+ * new or modified elements are validated again.
+ *
+ * In FULL mode all the elements of the model are validated, in FAST mode only
+ * the elements contained in the cmdoModule packages given with the -m option
+ * (located through the shared ModelIndex). Profiles and libraries are never visited.
+ *
+ * EMF/UML2 models are not thread safe for concurrent reads that populate
+ * caches: proxies are resolved and the derived values read by the checks
+ * are computed (BasicConstraints.prepare) in the calling thread, the workers
+ * only evaluate the checks.
+ */
+public class ValidationEngine {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	public static final String CACHE_NAME = "validation";
+
+	/**
+	 * Consecutive small subtrees are merged in shards of at least this number of elements.
+	 */
+	private static final int MIN_SHARD_SIZE = 256;
+
+	@Inject
+	private BasicConstraints mBasicConstraints;
+
+	@Inject
+	private ModelIndex mModelIndex;
+
+	/**
+	 * Elements of a shard, in model order, with their identity and content hash.
+	 */
+	private static class Shard {
+		final List<EObject> elements = new ArrayList<EObject>();
+		final List<String> identities = new ArrayList<String>();
+		final List<Long> hashes = new ArrayList<Long>();
+		final List<List<CachedIssue>> results = new ArrayList<List<CachedIssue>>();
+		int misses = 0;
+	}
+
+	public synchronized List<Issue> validate(final Resource resource, final CheckMode mode, final CancelIndicator monitor) {
+		ValidationCache lookup = new ValidationCache(getCacheSignature());
+		lookup.load(getCachePath());
+		// in FULL mode the cache is rebuilt so that removed elements are dropped
+		ValidationCache cache = Config.getInstance().isValidationModeFast() ? lookup : new ValidationCache(getCacheSignature());
+		List<Package> scope = getScope(resource);
+		for (Package p : scope) {
+			EcoreUtil.resolveAll(p);
+		}
+		List<Shard> shards = createShards(scope);
+
+		ContentHasher hasher = new ContentHasher();
+		int elements = 0;
+		int misses = 0;
+		for (Shard shard : shards) {
+			for (int i = 0; i < shard.elements.size(); i++) {
+				EObject e = shard.elements.get(i);
+				String identity = ContentHasher.identity(e);
+				long hash = hasher.hash(e);
+				List<CachedIssue> cached = lookup.get(identity, hash);
+				shard.identities.add(identity);
+				shard.hashes.add(hash);
+				shard.results.add(cached);
+				if (cached == null) {
+					mBasicConstraints.prepare(e);
+					shard.misses++;
+					Metrics.getInstance().cacheMiss(CACHE_NAME);
+				} else {
+					Metrics.getInstance().cacheHit(CACHE_NAME);
+				}
+			}
+			elements += shard.elements.size();
+			misses += shard.misses;
+		}
+		mLogger.debug("Validating " + misses + " of " + elements + " elements in "
+				+ shards.size() + " shards (" + Config.getInstance().getValidationMode() + ")");
+
+		runChecks(shards, mode, monitor);
+
+		List<Issue> issues = new ArrayList<Issue>();
+		for (Shard shard : shards) {
+			for (int i = 0; i < shard.elements.size(); i++) {
+				List<CachedIssue> elementIssues = shard.results.get(i);
+				if (elementIssues == null) {
+					// canceled
+					continue;
+				}
+				cache.put(shard.identities.get(i), shard.hashes.get(i), elementIssues);
+				for (CachedIssue ci : elementIssues) {
+					issues.add(toIssue(ci, shard.elements.get(i)));
+				}
+			}
+		}
+		cache.save(getCachePath());
+		Metrics.getInstance().count("validated-elements", misses);
+		return issues;
+	}
+
+	/**
+	 * @return the packages whose elements have to be validated: the selected
+	 * cmdoModule packages in FAST mode, the packages of the model otherwise.
+	 * Nested packages already covered by another one are removed.
+	 */
+	protected List<Package> getScope(final Resource resource) {
+		List<Package> candidates = new ArrayList<Package>();
+		if (Config.getInstance().isValidationModeFast()) {
+			candidates.addAll(mModelIndex.getSelectedModulePackages(resource));
+			if (candidates.isEmpty()) {
+				mLogger.warn("No cmdoModule package selected for validation, use the -m option.");
+			}
+		} else {
+			for (EObject root : resource.getContents()) {
+				if (root instanceof Package && !mModelIndex.isLibrary((Package) root)) {
+					candidates.add((Package) root);
+				}
+			}
+		}
+		List<Package> scope = new ArrayList<Package>();
+		for (Package p : candidates) {
+			if (!scope.contains(p) && !isContainedIn(p, candidates)) {
+				scope.add(p);
+			}
+		}
+		return scope;
+	}
+
+	private static boolean isContainedIn(final EObject e, final List<Package> packages) {
+		for (EObject c = e.eContainer(); c != null; c = c.eContainer()) {
+			if (packages.contains(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Splits the given packages in shards: each package is visited recursively,
+	 * every other owned element contributes its whole subtree to the current shard.
+	 */
+	private List<Shard> createShards(final List<Package> scope) {
+		List<Shard> shards = new ArrayList<Shard>();
+		for (Package p : scope) {
+			addToShards(p, shards);
+		}
+		return shards;
+	}
+
+	private void addToShards(final Package p, final List<Shard> shards) {
+		currentShard(shards).elements.add(p);
+		for (EObject c : p.eContents()) {
+			if (c instanceof Package) {
+				addToShards((Package) c, shards);
+			} else if (c instanceof Element) {
+				Shard shard = currentShard(shards);
+				shard.elements.add(c);
+				TreeIterator<EObject> it = c.eAllContents();
+				while (it.hasNext()) {
+					shard.elements.add(it.next());
+				}
+			}
+		}
+	}
+
+	private Shard currentShard(final List<Shard> shards) {
+		if (shards.isEmpty() || shards.get(shards.size() - 1).elements.size() >= MIN_SHARD_SIZE) {
+			shards.add(new Shard());
+		}
+		return shards.get(shards.size() - 1);
+	}
+
+	/**
+	 * Evaluates the checks on the elements without cached result.
+	 */
+	private void runChecks(final List<Shard> shards, final CheckMode mode, final CancelIndicator monitor) {
+		List<Shard> work = new ArrayList<Shard>();
+		for (Shard shard : shards) {
+			if (shard.misses > 0) {
+				work.add(shard);
+			}
+		}
+		if (work.isEmpty()) {
+			return;
+		}
+		int threads = Math.min(work.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			for (Shard shard : work) {
+				validateShard(shard, mode, monitor);
+			}
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread t = new Thread(r, "comodo2-validation");
+			t.setDaemon(true);
+			return t;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (Shard shard : work) {
+				futures.add(executor.submit(() -> validateShard(shard, mode, monitor)));
+			}
+			for (Future<?> f : futures) {
+				f.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Validation failed: " + e.getCause().getMessage(), e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void validateShard(final Shard shard, final CheckMode mode, final CancelIndicator monitor) {
+		Map<Object, Object> context = new HashMap<Object, Object>();
+		context.put(CheckMode.KEY, mode);
+		context.put(CancelableDiagnostician.CANCEL_INDICATOR, monitor);
+		for (int i = 0; i < shard.elements.size(); i++) {
+			if (shard.results.get(i) != null) {
+				continue;
+			}
+			if (monitor != null && monitor.isCanceled()) {
+				return;
+			}
+			EObject e = shard.elements.get(i);
+			BasicDiagnostic chain = new BasicDiagnostic();
+			mBasicConstraints.validate(e.eClass(), e, chain, context);
+			List<CachedIssue> result = new ArrayList<CachedIssue>();
+			for (Diagnostic d : chain.getChildren()) {
+				String code = (d instanceof AbstractValidationDiagnostic) ? ((AbstractValidationDiagnostic) d).getIssueCode() : null;
+				result.add(new CachedIssue(toSeverity(d.getSeverity()), code, d.getMessage()));
+			}
+			shard.results.set(i, result);
+		}
+	}
+
+	private static Severity toSeverity(final int severity) {
+		if (severity == Diagnostic.ERROR) {
+			return Severity.ERROR;
+		} else if (severity == Diagnostic.WARNING) {
+			return Severity.WARNING;
+		}
+		return Severity.INFO;
+	}
+
+	private static Issue toIssue(final CachedIssue ci, final EObject e) {
+		Issue.IssueImpl issue = new Issue.IssueImpl();
+		issue.setSeverity(ci.severity);
+		issue.setCode(ci.code);
+		issue.setMessage(ci.message);
+		issue.setType(CheckType.NORMAL);
+		issue.setUriToProblem(EcoreUtil.getURI(e));
+		return issue;
+	}
+
+	/**
+	 * @return the cache file given with --validation-cache, null if results are not cached.
+	 */
+	private Path getCachePath() {
+		return Config.getInstance().getValidationCacheFilepath();
+	}
+
+	/**
+	 * @return identifier of the checks and of the model, to discard caches
+	 * written by other checks or for another model.
+	 */
+	private String getCacheSignature() {
+		Path model = Config.getInstance().getModelFilepath();
+		String path;
+		try {
+			path = model.toFile().getCanonicalPath();
+		} catch (IOException e) {
+			path = model.toAbsolutePath().normalize().toString();
+		}
+		return getChecksSignature() + " " + path;
+	}
+
+	/**
+	 * @return identifier of the set of checks.
+	 */
+	private String getChecksSignature() {
+		TreeSet<String> checks = new TreeSet<String>();
+		for (Method m : mBasicConstraints.getClass().getMethods()) {
+			if (m.isAnnotationPresent(Check.class)) {
+				checks.add(m.getName());
+			}
+		}
+		return BasicConstraints.CHECKS_VERSION + " " + String.join(",", checks);
+	}
+}
@@ -0,0 +1,411 @@
+package comodo2.workflows;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.parser.IEncodingProvider;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+
+import comodo2.ir.ModelCache;
+import comodo2.ir.StateMachineModelBuilder;
+import comodo2.queries.QClass;
+import comodo2.queries.QEvent;
+import comodo2.queries.QInterface;
+import comodo2.queries.QPackage;
+import comodo2.queries.QRegion;
+import comodo2.queries.QSignal;
+import comodo2.queries.QState;
+import comodo2.queries.QStateMachine;
+import comodo2.queries.QStereotype;
+import comodo2.queries.QTransition;
+import comodo2.queries.ModelIndex;
+import comodo2.queries.CrossReferenceIndex;
+import comodo2.queries.StereotypeIndex;
+import comodo2.templates.ComplexityReport;
+import comodo2.templates.Root;
+import comodo2.templates.elt.Elt;
+import comodo2.templates.elt.cpp.MalAsync;
+import comodo2.templates.elt.cpp.RadAction;
+import comodo2.templates.elt.cpp.RadActionMgr;
+import comodo2.templates.elt.cpp.RadActionsStd;
+import comodo2.templates.elt.cpp.RadActivity;
+import comodo2.templates.elt.cpp.RadConfig;
+import comodo2.templates.elt.cpp.RadDataContext;
+import comodo2.templates.elt.cpp.RadDbInterface;
+import comodo2.templates.elt.cpp.RadLogger;
+import comodo2.templates.elt.cpp.RadMain;
+import comodo2.templates.elt.cpp.RadStateTables;
+import comodo2.templates.elt.txt.RadLog;
+import comodo2.templates.elt.waf.MalWscript;
+import comodo2.templates.elt.waf.RadWscript;
+import comodo2.templates.elt.xml.Mal;
+import comodo2.templates.elt.yaml.RadCfg;
+import comodo2.templates.elt.yaml.RadEv;
+import comodo2.templates.qpc.Qpc;
+import comodo2.templates.qpc.Utils;
+import comodo2.templates.qpc.c.AnalysisContext;
+import comodo2.templates.qpc.c.StateMachineHeader;
+import comodo2.templates.qpc.c.StateMachineSource;
+import comodo2.templates.qpc.c.TimerCoalescing;
+import comodo2.templates.qpc.impl.QpcHeaders;
+import comodo2.templates.qpc.impl.QpcImplFiles;
+import comodo2.templates.qpc.impl.QpcSizing;
+import comodo2.templates.qpc.impl.QpcStringPool;
+import comodo2.templates.qpc.qm.Qm;
+import comodo2.templates.qpc.traceability.FileDescriptionHeader;
+import comodo2.templates.scxml.Scxml;
+import comodo2.utils.Actions;
+import comodo2.utils.FilesHelper;
+
+/**
+ * Object graph of the generator built without the Guice injector (--static-wiring option).
+ *
+ * Same classes as the ones injected starting from Root (see UMLGeneratorModule), created
+ * with new and wired with their setters. Each class has a single instance living as long
+ * as this object, while Guice creates one instance per injection point: queries are
+ * stateless and templates only keep the state of the state machine being generated,
+ * so sharing them does not change the output.
+ *
+ * The model validation depends on the Xtext validator and still needs the injector.
+ */
+public class GeneratorComponents {
+
+	/* queries */
+	private final StereotypeIndex mStereotypeIndex = new StereotypeIndex();
+	private final QStereotype mQStereotype = new QStereotype();
+	private final QPackage mQPackage = new QPackage();
+	private final QClass mQClass = new QClass();
+	private final QInterface mQInterface = new QInterface();
+	private final QSignal mQSignal = new QSignal();
+	private final QEvent mQEvent = new QEvent();
+	private final QRegion mQRegion = new QRegion();
+	private final QState mQState = new QState();
+	private final QTransition mQTransition = new QTransition();
+	private final QStateMachine mQStateMachine = new QStateMachine();
+	private final ModelIndex mModelIndex = new ModelIndex();
+	private final CrossReferenceIndex mCrossReferenceIndex = new CrossReferenceIndex();
+
+	/* helpers */
+	private final FilesHelper mFilesHelper = new FilesHelper();
+	private final Actions mActions = new Actions();
+	private final ModelCache mModelCache = new ModelCache();
+	private final StateMachineModelBuilder mModelBuilder = new StateMachineModelBuilder();
+
+	/* SCXML */
+	private final Scxml mScxml = new Scxml();
+
+	/* ELT */
+	private final Elt mElt = new Elt();
+	private final RadStateTables mRadStateTables = new RadStateTables();
+	private final RadCfg mRadCfg = new RadCfg();
+	private final RadEv mRadEv = new RadEv();
+	private final RadLog mRadLog = new RadLog();
+	private final RadActivity mRadActivity = new RadActivity();
+	private final RadAction mRadAction = new RadAction();
+	private final RadActionsStd mRadActionsStd = new RadActionsStd();
+	private final RadActionMgr mRadActionMgr = new RadActionMgr();
+	private final RadConfig mRadConfig = new RadConfig();
+	private final RadDataContext mRadDataContext = new RadDataContext();
+	private final RadDbInterface mRadDbInterface = new RadDbInterface();
+	private final RadLogger mRadLogger = new RadLogger();
+	private final RadMain mRadMain = new RadMain();
+	private final RadWscript mRadWscript = new RadWscript();
+	private final Mal mMal = new Mal();
+	private final MalAsync mMalAsync = new MalAsync();
+	private final MalWscript mMalWscript = new MalWscript();
+	private final comodo2.templates.elt.cpp.Types mCppTypes = new comodo2.templates.elt.cpp.Types();
+	private final comodo2.templates.elt.xml.Types mXmlTypes = new comodo2.templates.elt.xml.Types();
+	private final comodo2.templates.elt.yaml.Types mYamlTypes = new comodo2.templates.elt.yaml.Types();
+
+	/* QPC */
+	private final Qpc mQpc = new Qpc();
+	private final Qm mQm = new Qm();
+	private final StateMachineSource mStateMachineSource = new StateMachineSource();
+	private final StateMachineHeader mStateMachineHeader = new StateMachineHeader();
+	private final QpcImplFiles mQpcImplFiles = new QpcImplFiles();
+	private final QpcHeaders mQpcHeaders = new QpcHeaders();
+	private final AnalysisContext mAnalysisContext = new AnalysisContext();
+	private final QpcSizing mQpcSizing = new QpcSizing();
+	private final QpcStringPool mQpcStringPool = new QpcStringPool();
+	private final TimerCoalescing mTimerCoalescing = new TimerCoalescing();
+	private final Utils mUtils = new Utils();
+	private final FileDescriptionHeader mFileDescHeader = new FileDescriptionHeader();
+
+	private final ComplexityReport mComplexityReport = new ComplexityReport();
+	private final Root mRoot = new Root();
+
+	public GeneratorComponents() {
+		wireQueries();
+		wireScxml();
+		wireElt();
+		wireQpc();
+
+		mComplexityReport.setQClass(mQClass);
+		mComplexityReport.setQStateMachine(mQStateMachine);
+		mComplexityReport.setQState(mQState);
+		mComplexityReport.setQRegion(mQRegion);
+		mComplexityReport.setQTransition(mQTransition);
+		mComplexityReport.setFilesHelper(mFilesHelper);
+
+		mRoot.setScxmlTemplate(mScxml);
+		mRoot.setEltTemplate(mElt);
+		mRoot.setQpcTemplate(mQpc);
+		mRoot.setComplexityReport(mComplexityReport);
+	}
+
+	private void wireQueries() {
+		mQStereotype.setIndex(mStereotypeIndex);
+		mModelIndex.setQStereotype(mQStereotype);
+		mCrossReferenceIndex.setModelIndex(mModelIndex);
+
+		mQPackage.setQStereotype(mQStereotype);
+		mQPackage.setCrossReferenceIndex(mCrossReferenceIndex);
+
+		mQClass.setQStereotype(mQStereotype);
+		mQClass.setQPackage(mQPackage);
+
+		mQInterface.setQStereotype(mQStereotype);
+		mQInterface.setQPackage(mQPackage);
+		mQInterface.setCrossReferenceIndex(mCrossReferenceIndex);
+
+		mQRegion.setQState(mQState);
+
+		mQState.setQRegion(mQRegion);
+		mQState.setQTransition(mQTransition);
+		mQState.setQStereotype(mQStereotype);
+
+		mQTransition.setQRegion(mQRegion);
+		mQTransition.setQState(mQState);
+		mQTransition.setQEvent(mQEvent);
+		mQTransition.setCrossReferenceIndex(mCrossReferenceIndex);
+
+		mQStateMachine.setQState(mQState);
+		mQStateMachine.setQTransition(mQTransition);
+		mQStateMachine.setQStereotype(mQStereotype);
+
+		mModelBuilder.setQStateMachine(mQStateMachine);
+		mModelBuilder.setQState(mQState);
+		mModelBuilder.setQRegion(mQRegion);
+		mModelBuilder.setQTransition(mQTransition);
+	}
+
+	private void wireScxml() {
+		mScxml.setQClass(mQClass);
+		mScxml.setQStereotype(mQStereotype);
+		mScxml.setFilesHelper(mFilesHelper);
+		mScxml.setModelBuilder(mModelBuilder);
+		mScxml.setModelCache(mModelCache);
+	}
+
+	private void wireElt() {
+		mElt.setScxmlTemplate(mScxml);
+		mElt.setRadStateTablesTemplate(mRadStateTables);
+		mElt.setRadCfgTemplate(mRadCfg);
+		mElt.setRadEvTemplate(mRadEv);
+		mElt.setRadLogTemplate(mRadLog);
+		mElt.setRadActivityTemplate(mRadActivity);
+		mElt.setRadActionTemplate(mRadAction);
+		mElt.setRadActionsStdTemplate(mRadActionsStd);
+		mElt.setRadActionMgrTemplate(mRadActionMgr);
+		mElt.setRadConfigTemplate(mRadConfig);
+		mElt.setRadDataContextTemplate(mRadDataContext);
+		mElt.setRadDbInterfaceTemplate(mRadDbInterface);
+		mElt.setRadLoggerTemplate(mRadLogger);
+		mElt.setRadMainTemplate(mRadMain);
+		mElt.setRadWscriptTemplate(mRadWscript);
+		mElt.setMalTemplate(mMal);
+		mElt.setMalAsyncTemplate(mMalAsync);
+		mElt.setMalWscriptTemplate(mMalWscript);
+
+		mRadStateTables.setQClass(mQClass);
+		mRadStateTables.setQStateMachine(mQStateMachine);
+		mRadStateTables.setQState(mQState);
+		mRadStateTables.setQRegion(mQRegion);
+		mRadStateTables.setQTransition(mQTransition);
+		mRadStateTables.setFilesHelper(mFilesHelper);
+
+		mRadCfg.setQClass(mQClass);
+		mRadCfg.setFilesHelper(mFilesHelper);
+
+		mRadEv.setQClass(mQClass);
+		mRadEv.setQTransition(mQTransition);
+		mRadEv.setQStereotype(mQStereotype);
+		mRadEv.setQSignal(mQSignal);
+		mRadEv.setQInterface(mQInterface);
+		mRadEv.setTypes(mYamlTypes);
+		mRadEv.setFilesHelper(mFilesHelper);
+
+		mRadLog.setQClass(mQClass);
+		mRadLog.setFilesHelper(mFilesHelper);
+
+		mRadActivity.setQClass(mQClass);
+		mRadActivity.setQStateMachine(mQStateMachine);
+		mRadActivity.setFilesHelper(mFilesHelper);
+
+		mRadAction.setQClass(mQClass);
+		mRadAction.setQStateMachine(mQStateMachine);
+		mRadAction.setFilesHelper(mFilesHelper);
+		mRadAction.setActions(mActions);
+
+		mRadActionsStd.setQClass(mQClass);
+		mRadActionsStd.setFilesHelper(mFilesHelper);
+
+		mRadActionMgr.setQClass(mQClass);
+		mRadActionMgr.setQStateMachine(mQStateMachine);
+		mRadActionMgr.setFilesHelper(mFilesHelper);
+		mRadActionMgr.setActions(mActions);
+
+		mRadConfig.setQClass(mQClass);
+		mRadConfig.setFilesHelper(mFilesHelper);
+
+		mRadDataContext.setQClass(mQClass);
+		mRadDataContext.setFilesHelper(mFilesHelper);
+
+		mRadDbInterface.setQClass(mQClass);
+		mRadDbInterface.setFilesHelper(mFilesHelper);
+
+		mRadLogger.setQClass(mQClass);
+		mRadLogger.setFilesHelper(mFilesHelper);
+
+		mRadMain.setQClass(mQClass);
+		mRadMain.setQInterface(mQInterface);
+		mRadMain.setFilesHelper(mFilesHelper);
+		mRadMain.setQSignal(mQSignal);
+		mRadMain.setQStereotype(mQStereotype);
+
+		mRadWscript.setQClass(mQClass);
+		mRadWscript.setQInterface(mQInterface);
+		mRadWscript.setQPackage(mQPackage);
+		mRadWscript.setFilesHelper(mFilesHelper);
+
+		mMal.setQStereotype(mQStereotype);
+		mMal.setQInterface(mQInterface);
+		mMal.setQPackage(mQPackage);
+		mMal.setQSignal(mQSignal);
+		mMal.setTypes(mXmlTypes);
+		mMal.setFilesHelper(mFilesHelper);
+
+		mMalAsync.setQClass(mQClass);
+		mMalAsync.setQSignal(mQSignal);
+		mMalAsync.setQInterface(mQInterface);
+		mMalAsync.setTypes(mCppTypes);
+		mMalAsync.setFilesHelper(mFilesHelper);
+
+		mMalWscript.setQInterface(mQInterface);
+		mMalWscript.setQPackage(mQPackage);
+		mMalWscript.setFilesHelper(mFilesHelper);
+	}
+
+	private void wireQpc() {
+		mQpc.setQm(mQm);
+		mQpc.setStateMachineSource(mStateMachineSource);
+		mQpc.setStateMachineHeader(mStateMachineHeader);
+		mQpc.setQpcImplFiles(mQpcImplFiles);
+		mQpc.setQpcHeaders(mQpcHeaders);
+		mQpc.setAnalysisContext(mAnalysisContext);
+		mQpc.setQpcSizing(mQpcSizing);
+		mQpc.setQpcStringPool(mQpcStringPool);
+
+		mQm.setQStateMachine(mQStateMachine);
+		mQm.setQState(mQState);
+		mQm.setQTransition(mQTransition);
+		mQm.setQClass(mQClass);
+		mQm.setFilesHelper(mFilesHelper);
+
+		mTimerCoalescing.setQState(mQState);
+		mTimerCoalescing.setQStateMachine(mQStateMachine);
+		mTimerCoalescing.setUtils(mUtils);
+
+		mAnalysisContext.setQClass(mQClass);
+		mAnalysisContext.setFilesHelper(mFilesHelper);
+
+		mStateMachineSource.setQStateMachine(mQStateMachine);
+		mStateMachineSource.setQState(mQState);
+		mStateMachineSource.setQRegion(mQRegion);
+		mStateMachineSource.setQTransition(mQTransition);
+		mStateMachineSource.setQClass(mQClass);
+		mStateMachineSource.setUtils(mUtils);
+		mStateMachineSource.setFileDescHeader(mFileDescHeader);
+		mStateMachineSource.setFilesHelper(mFilesHelper);
+		mStateMachineSource.setTimerCoalescing(mTimerCoalescing);
+
+		mStateMachineHeader.setQClass(mQClass);
+		mStateMachineHeader.setQState(mQState);
+		mStateMachineHeader.setQRegion(mQRegion);
+		mStateMachineHeader.setUtils(mUtils);
+		mStateMachineHeader.setQStateMachine(mQStateMachine);
+		mStateMachineHeader.setFilesHelper(mFilesHelper);
+		mStateMachineHeader.setTimerCoalescing(mTimerCoalescing);
+		mStateMachineHeader.setFileDescHeader(mFileDescHeader);
+
+		mQpcImplFiles.setFilesHelper(mFilesHelper);
+		mQpcImplFiles.setQClass(mQClass);
+		mQpcImplFiles.setQStateMachine(mQStateMachine);
+		mQpcImplFiles.setUtils(mUtils);
+		mQpcImplFiles.setFileDescHeader(mFileDescHeader);
+
+		mQpcHeaders.setFilesHelper(mFilesHelper);
+		mQpcHeaders.setQClass(mQClass);
+		mQpcHeaders.setQState(mQState);
+		mQpcHeaders.setQStateMachine(mQStateMachine);
+		mQpcHeaders.setUtils(mUtils);
+		mQpcHeaders.setFileDescHeader(mFileDescHeader);
+
+		mQpcSizing.setFilesHelper(mFilesHelper);
+		mQpcSizing.setTimerCoalescing(mTimerCoalescing);
+		mQpcSizing.setQClass(mQClass);
+		mQpcSizing.setQState(mQState);
+		mQpcSizing.setQStateMachine(mQStateMachine);
+		mQpcSizing.setQTransition(mQTransition);
+		mQpcSizing.setUtils(mUtils);
+		mQpcSizing.setFileDescHeader(mFileDescHeader);
+
+		mQpcStringPool.setFilesHelper(mFilesHelper);
+		mQpcStringPool.setQClass(mQClass);
+		mQpcStringPool.setQState(mQState);
+		mQpcStringPool.setQRegion(mQRegion);
+		mQpcStringPool.setQStateMachine(mQStateMachine);
+		mQpcStringPool.setUtils(mUtils);
+		mQpcStringPool.setFileDescHeader(mFileDescHeader);
+	}
+
+	/**
+	 * Registers the UML resource factory and the path maps (see GeneratorStandaloneSetup.register).
+	 * The Xtext resource service provider is not registered.
+	 */
+	public void register() {
+		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("uml", new UMLResourceFactory());
+		new GeneratorStandaloneSetup().registerUMLPathMaps();
+	}
+
+	public Root getRoot() {
+		return mRoot;
+	}
+
+	public ModelCache getModelCache() {
+		return mModelCache;
+	}
+
+	public StereotypeIndex getStereotypeIndex() {
+		return mStereotypeIndex;
+	}
+
+	public ModelIndex getModelIndex() {
+		return mModelIndex;
+	}
+
+	public CrossReferenceIndex getCrossReferenceIndex() {
+		return mCrossReferenceIndex;
+	}
+
+	public ResourceSet createResourceSet() {
+		return new UMLResourceSet();
+	}
+
+	public JavaIoFileSystemAccess createFileSystemAccess(final String outputPath) {
+		JavaIoFileSystemAccess fsa = new JavaIoFileSystemAccess(IResourceServiceProvider.Registry.INSTANCE, new IEncodingProvider.Runtime());
+		fsa.setWriteTrace(false);
+		fsa.setOutputPath(outputPath);
+		return fsa;
+	}
+}
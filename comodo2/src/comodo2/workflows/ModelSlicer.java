@@ -0,0 +1,315 @@
+package comodo2.workflows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EModelElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.ProfileApplication;
+import org.eclipse.uml2.uml.util.UMLUtil;
+
+import comodo2.engine.Config;
+import comodo2.engine.Main;
+import comodo2.ir.ModelCache;
+import comodo2.queries.ModelIndex;
+
+/**
+ * Extracts from the input model the elements needed to generate the modules
+ * selected with -m (--model-slice option) and stores them in a standalone
+ * UML file that the next runs load instead of the model.
+ *
+ * The slice contains:
+ * - the selected cmdoModule packages,
+ * - the elements they refer to, transitively (realized interfaces, signals,
+ *   imported packages, property types, ...). An element directly owned by a
+ *   package is copied as a whole, e.g. a component for one of its states,
+ * - the packages containing the above, with only their profile applications
+ *   and comments,
+ * - the stereotype applications of the copied elements.
+ * Profiles and libraries stay in their own files: the slice refers to them
+ * with paths relative to the slice file, which should be written next to the model.
+ *
+ * The elements keep their XMI ids. The key of the slice (hash of the model
+ * file and modules) is stored as an annotation of the first root element,
+ * removed when the slice is loaded.
+ */
+public class ModelSlicer {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	private static final String ANNOTATION_SOURCE = "comodo2.slice";
+	private static final String ANNOTATION_KEY = "key";
+
+	/**
+	 * @return the key of the slice of the configured model file for the selected modules.
+	 */
+	public static String getKey() throws IOException {
+		return Long.toHexString(ModelCache.hashFile(Config.getInstance().getModelFilepath())) + " " + Config.getInstance().getModulesStr();
+	}
+
+	/**
+	 * Loads the slice if it was written for the given key. The slice takes the URI
+	 * of the model so that it is processed as the configured input model.
+	 * @return the slice resource, or null if the file does not exist or was written for another key.
+	 */
+	public Resource load(final ResourceSet resourceSet, final Path slicePath, final URI modelURI, final String key) {
+		if (slicePath == null || !Files.exists(slicePath)) {
+			return null;
+		}
+		Resource slice = new UMLResourceFactory().createResource(URI.createFileURI(slicePath.toAbsolutePath().toString()));
+		resourceSet.getResources().add(slice);
+		try {
+			slice.load(resourceSet.getLoadOptions());
+		} catch (IOException e) {
+			mLogger.warn("Could not read model slice <" + slicePath + ">: " + e.getMessage());
+			unload(resourceSet, slice);
+			return null;
+		}
+		EAnnotation annotation = getKeyAnnotation(slice);
+		if (annotation == null || !key.contentEquals(String.valueOf(annotation.getDetails().get(ANNOTATION_KEY)))) {
+			mLogger.debug("Model slice <" + slicePath + "> written for another model or modules, ignored.");
+			unload(resourceSet, slice);
+			return null;
+		}
+		EcoreUtil.remove(annotation);
+		slice.setURI(modelURI);
+		slice.setModified(false);
+		return slice;
+	}
+
+	/**
+	 * Writes the slice of the model for the modules selected with -m.
+	 */
+	public void save(final Resource model, final ModelIndex index, final Path slicePath, final String key) {
+		Set<EObject> whole = new HashSet<EObject>();
+		Set<EObject> kept = new HashSet<EObject>();
+		computeClosure(model, index, whole, kept);
+
+		Resource slice = new UMLResourceFactory().createResource(URI.createFileURI(slicePath.toAbsolutePath().toString()));
+		EcoreUtil.Copier copier = new SliceCopier(whole, kept);
+		for (EObject root : model.getContents()) {
+			if (kept.contains(root)) {
+				slice.getContents().add(copier.copy(root));
+			}
+		}
+		copier.copyReferences();
+		if (model instanceof XMLResource && slice instanceof XMLResource) {
+			for (Map.Entry<EObject, EObject> e : copier.entrySet()) {
+				((XMLResource) slice).setID(e.getValue(), ((XMLResource) model).getID(e.getKey()));
+			}
+		}
+		if (!slice.getContents().isEmpty() && slice.getContents().get(0) instanceof EModelElement) {
+			EcoreUtil.setAnnotation((EModelElement) slice.getContents().get(0), ANNOTATION_SOURCE, ANNOTATION_KEY, key);
+		}
+		try {
+			slice.save(null);
+			mLogger.debug("Model slice written to <" + slicePath + "> (" + copier.size() + " objects)");
+		} catch (IOException e) {
+			mLogger.warn("Could not write model slice <" + slicePath + ">: " + e.getMessage());
+		}
+		slice.getContents().clear();
+	}
+
+	/**
+	 * Computes the objects of the model resource to be copied.
+	 * @param whole elements needed by the selected modules, with all their contents.
+	 * @param kept the above, their containers and the stereotype applications of these.
+	 */
+	private static void computeClosure(final Resource model, final ModelIndex index, final Set<EObject> whole, final Set<EObject> kept) {
+		Set<EObject> applications = new HashSet<EObject>();
+		Deque<EObject> pending = new ArrayDeque<EObject>();
+
+		for (Package p : index.getSelectedModulePackages(model)) {
+			addWhole(p, model, whole, kept, pending);
+		}
+		while (!pending.isEmpty()) {
+			while (!pending.isEmpty()) {
+				EObject e = pending.poll();
+				visitReferences(e, model, whole, kept, pending);
+				for (TreeIterator<EObject> it = e.eAllContents(); it.hasNext();) {
+					visitReferences(it.next(), model, whole, kept, pending);
+				}
+			}
+			/*
+			 * The containers keep their profile applications and comments.
+			 */
+			for (EObject c : new HashSet<EObject>(kept)) {
+				if (isCovered(c, whole)) {
+					continue;
+				}
+				for (EObject child : c.eContents()) {
+					if (child instanceof ProfileApplication || child instanceof Comment || child instanceof EAnnotation) {
+						addWhole(child, model, whole, kept, pending);
+					}
+				}
+			}
+			for (EObject root : model.getContents()) {
+				EObject base = UMLUtil.getBaseElement(root);
+				if (base != null && !applications.contains(root) && (kept.contains(base) || isCovered(base, whole))) {
+					applications.add(root);
+					kept.add(root);
+					visitReferences(root, model, whole, kept, pending);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the elements of the model referred to by the given element.
+	 */
+	private static void visitReferences(final EObject o, final Resource model, final Set<EObject> whole,
+			final Set<EObject> kept, final Deque<EObject> pending) {
+		for (EReference ref : o.eClass().getEAllReferences()) {
+			if (ref.isContainment() || ref.isContainer() || ref.isDerived() || !ref.isChangeable() || !o.eIsSet(ref)) {
+				continue;
+			}
+			Object value = o.eGet(ref, false);
+			Iterator<?> targets = ref.isMany() ? ((InternalEList<?>) value).basicIterator() : Collections.singleton(value).iterator();
+			while (targets.hasNext()) {
+				EObject t = (EObject) targets.next();
+				if (t != null && !t.eIsProxy() && t.eResource() == model) {
+					addWhole(getUnit(t), model, whole, kept, pending);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the element directly owned by a package containing the given element,
+	 * or the element itself if it is a package or a root.
+	 */
+	private static EObject getUnit(final EObject e) {
+		EObject unit = e;
+		while (!(unit instanceof Package) && unit.eContainer() != null && !(unit.eContainer() instanceof Package)) {
+			unit = unit.eContainer();
+		}
+		return unit;
+	}
+
+	private static void addWhole(final EObject e, final Resource model, final Set<EObject> whole,
+			final Set<EObject> kept, final Deque<EObject> pending) {
+		if (e.eResource() != model || isCovered(e, whole)) {
+			return;
+		}
+		whole.add(e);
+		pending.add(e);
+		for (EObject c = e; c != null; c = c.eContainer()) {
+			kept.add(c);
+		}
+	}
+
+	/**
+	 * @return true if the element or one of its containers is copied with all its contents.
+	 */
+	private static boolean isCovered(final EObject e, final Set<EObject> whole) {
+		for (EObject c = e; c != null; c = c.eContainer()) {
+			if (whole.contains(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static EAnnotation getKeyAnnotation(final Resource slice) {
+		if (slice.getContents().isEmpty() || !(slice.getContents().get(0) instanceof EModelElement)) {
+			return null;
+		}
+		return ((EModelElement) slice.getContents().get(0)).getEAnnotation(ANNOTATION_SOURCE);
+	}
+
+	private static void unload(final ResourceSet resourceSet, final Resource slice) {
+		slice.unload();
+		resourceSet.getResources().remove(slice);
+	}
+
+	/**
+	 * Copies only the contents that are part of the slice, the references to
+	 * profiles and libraries are kept as they are.
+	 */
+	private static class SliceCopier extends EcoreUtil.Copier {
+		private static final long serialVersionUID = 1L;
+
+		private final Set<EObject> mWhole;
+		private final Set<EObject> mKept;
+
+		/**
+		 * @param whole elements copied with all their contents.
+		 * @param kept the above, their containers and the stereotype applications.
+		 */
+		SliceCopier(final Set<EObject> whole, final Set<EObject> kept) {
+			super(false, true);
+			mWhole = whole;
+			mKept = kept;
+		}
+
+		@Override
+		protected void copyContainment(final EReference ref, final EObject object, final EObject copyObject) {
+			if (!object.eIsSet(ref)) {
+				return;
+			}
+			if (ref.isMany()) {
+				@SuppressWarnings("unchecked")
+				List<EObject> target = (List<EObject>) copyObject.eGet(getTarget(ref));
+				for (Object child : (List<?>) object.eGet(ref)) {
+					if (isKept((EObject) child)) {
+						target.add(copy((EObject) child));
+					}
+				}
+			} else {
+				EObject child = (EObject) object.eGet(ref);
+				if (child != null && isKept(child)) {
+					copyObject.eSet(getTarget(ref), copy(child));
+				}
+			}
+		}
+
+		/**
+		 * Copying a containment may already set a reference subsetted by its
+		 * opposite (e.g. the client of an InterfaceRealization): values present
+		 * are not added again.
+		 */
+		@Override
+		protected void copyReference(final EReference ref, final EObject object, final EObject copyObject) {
+			if (!ref.isMany() || !object.eIsSet(ref)) {
+				super.copyReference(ref, object, copyObject);
+				return;
+			}
+			@SuppressWarnings("unchecked")
+			List<EObject> target = (List<EObject>) copyObject.eGet(getTarget(ref), false);
+			for (Object o : (List<?>) object.eGet(ref, resolveProxies)) {
+				EObject value = get(o);
+				if (value == null && useOriginalReferences && ref.getEOpposite() == null) {
+					value = (EObject) o;
+				}
+				if (value != null && !target.contains(value)) {
+					target.add(value);
+				}
+			}
+		}
+
+		private boolean isKept(final EObject e) {
+			return mKept.contains(e) || isCovered(e, mWhole);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package comodo2.workflows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.uml2.common.util.CacheAdapter;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.util.UMLUtil;
+
+import comodo2.engine.Main;
+import comodo2.queries.StereotypeIndex;
+
+/**
+ * Unloads the profiles of the input model once the applied stereotypes are
+ * in the StereotypeIndex (--low-memory option).
+ *
+ * Candidates are the resources containing only profiles, and the UML metamodels.
+ * A candidate referred to by the model or a library (e.g. a property typed by a
+ * profile data type) stays loaded since the generation reads it. The references
+ * to the elements of the unloaded profiles, e.g. applied profiles or stereotype
+ * generalizations of the profiles kept, are replaced by new proxies: the unloaded
+ * objects keep their children, so the old ones would retain the whole profile.
+ * A proxy resolved later loads its profile again.
+ *
+ * The stereotype applications are removed from the resources that stay loaded:
+ * they are instances of the EClasses defined by the profiles.
+ * The model must not be used for anything else than generation afterwards
+ * (validation, saving, stereotype tagged values).
+ */
+public class ProfileUnloader {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	private static final String UML_METAMODELS = "pathmap://UML_METAMODELS/";
+
+	/**
+	 * Reference from a resource staying loaded to an element of a profile.
+	 */
+	private static class Link {
+		final EStructuralFeature.Setting setting;
+		final EObject target;
+
+		Link(final EStructuralFeature.Setting setting, final EObject target) {
+			this.setting = setting;
+			this.target = target;
+		}
+	}
+
+	public void unload(final Resource model, final StereotypeIndex index) {
+		ResourceSet resourceSet = model.getResourceSet();
+		index.build(resourceSet);
+
+		Set<Resource> profiles = new LinkedHashSet<Resource>();
+		for (Resource r : resourceSet.getResources()) {
+			if (r != model && isProfileResource(r)) {
+				profiles.add(r);
+			}
+		}
+		int removed = 0;
+		for (Resource r : resourceSet.getResources()) {
+			if (!profiles.contains(r)) {
+				removed += removeStereotypeApplications(r);
+			}
+		}
+
+		/*
+		 * Profiles kept may in turn refer to other profiles.
+		 */
+		List<Link> links = new ArrayList<Link>();
+		Set<Resource> referenced = new LinkedHashSet<Resource>();
+		for (Resource r : resourceSet.getResources()) {
+			if (!profiles.contains(r)) {
+				findReferences(r, profiles, false, referenced, links);
+			}
+		}
+		while (!referenced.isEmpty()) {
+			List<Resource> kept = new ArrayList<Resource>(referenced);
+			profiles.removeAll(kept);
+			referenced.clear();
+			for (Resource r : kept) {
+				removed += removeStereotypeApplications(r);
+				findReferences(r, profiles, true, referenced, links);
+			}
+		}
+
+		for (Link l : links) {
+			if (!profiles.contains(l.target.eResource())) {
+				continue;
+			}
+			InternalEObject proxy = (InternalEObject) EcoreUtil.create(l.target.eClass());
+			proxy.eSetProxyURI(EcoreUtil.getURI(l.target));
+			EcoreUtil.replace(l.setting, l.target, proxy);
+		}
+		long objects = 0;
+		for (Resource r : profiles) {
+			for (TreeIterator<EObject> it = r.getAllContents(); it.hasNext(); it.next()) {
+				objects++;
+			}
+			r.unload();
+			resourceSet.getResources().remove(r);
+		}
+		index.prune();
+		CacheAdapter.getInstance().clear();
+		UMLResourceSet.clearFeatureMap(resourceSet);
+		mLogger.debug("Unloaded " + profiles.size() + " profile resource(s) (" + objects + " objects), removed "
+				+ removed + " stereotype application(s), " + index.size() + " element(s) indexed.");
+	}
+
+	/**
+	 * @return true if the resource contains only profiles and stereotype applications,
+	 * or is a UML metamodel.
+	 */
+	private static boolean isProfileResource(final Resource r) {
+		if (r.getURI() != null && r.getURI().toString().startsWith(UML_METAMODELS)) {
+			return true;
+		}
+		boolean profile = false;
+		for (EObject o : r.getContents()) {
+			if (o instanceof Profile) {
+				profile = true;
+			} else if (UMLUtil.getBaseElement(o) == null) {
+				return false;
+			}
+		}
+		return profile;
+	}
+
+	/**
+	 * Visits the references of the elements of the resource to the elements of the profiles.
+	 * @param fromProfile true if the resource is a profile kept, any reference can be replaced by a proxy;
+	 * otherwise only the applied profiles and the profile definitions.
+	 * @param referenced profiles that have to stay loaded.
+	 * @param links references to be replaced by proxies.
+	 */
+	private static void findReferences(final Resource r, final Set<Resource> profiles, final boolean fromProfile,
+			final Set<Resource> referenced, final List<Link> links) {
+		for (TreeIterator<EObject> it = r.getAllContents(); it.hasNext();) {
+			InternalEObject o = (InternalEObject) it.next();
+			for (EReference ref : o.eClass().getEAllReferences()) {
+				if (ref.isContainment() || ref.isContainer() || ref.isDerived() || !ref.isChangeable() || !o.eIsSet(ref)) {
+					continue;
+				}
+				Object value = o.eGet(ref, false);
+				Iterator<?> targets = ref.isMany() ? ((InternalEList<?>) value).basicIterator() : Collections.singleton(value).iterator();
+				while (targets.hasNext()) {
+					EObject t = (EObject) targets.next();
+					if (t == null) {
+						continue;
+					}
+					if (t.eIsProxy()) {
+						/*
+						 * Not resolved yet, the profile would be loaded again when resolved.
+						 */
+						Resource target = r.getResourceSet().getResource(((InternalEObject) t).eProxyURI().trimFragment(), false);
+						if (profiles.contains(target) && !isProfileLink(ref, fromProfile)) {
+							referenced.add(target);
+						}
+						continue;
+					}
+					if (!profiles.contains(t.eResource())) {
+						continue;
+					}
+					if (isProfileLink(ref, fromProfile)) {
+						links.add(new Link(o.eSetting(ref), t));
+					} else {
+						referenced.add(t.eResource());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return true if the reference can be replaced by a proxy.
+	 */
+	private static boolean isProfileLink(final EReference ref, final boolean fromProfile) {
+		return ref.getEOpposite() == null && (fromProfile || ref == UMLPackage.Literals.PROFILE_APPLICATION__APPLIED_PROFILE
+				|| ref == EcorePackage.Literals.EANNOTATION__REFERENCES);
+	}
+
+	/**
+	 * @return number of stereotype applications removed from the resource.
+	 */
+	private static int removeStereotypeApplications(final Resource r) {
+		int removed = 0;
+		List<EObject> contents = r.getContents();
+		for (int i = contents.size() - 1; i >= 0; i--) {
+			if (UMLUtil.getBaseElement(contents.get(i)) != null) {
+				contents.remove(i);
+				removed++;
+			}
+		}
+		return removed;
+	}
+}
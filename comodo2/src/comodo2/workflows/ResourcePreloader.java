@@ -0,0 +1,200 @@
+package comodo2.workflows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.w3c.dom.Document;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+
+import comodo2.engine.Main;
+
+/**
+ * Parses the input model and the profiles defining its stereotypes in
+ * parallel (--parallel-load option), while the model is loaded.
+ *
+ * The files are found by scanning the header of the model, then of each
+ * profile found: the xsi:schemaLocation of the stereotype definitions.
+ * These are the files loaded with the model anyway; the other references
+ * (libraries, profiles referred to by a profile only) are loaded as usual.
+ *
+ * The threads only build the DOM of the files: the UML objects are still
+ * created by the thread loading the model, in the usual order, from the DOM
+ * of each resource (see UMLResourceImplExt). The EMF and UML2 caches shared
+ * by the resources are therefore never accessed concurrently.
+ * A file that cannot be parsed here is loaded from its stream.
+ */
+public class ResourcePreloader {
+
+	private static final Logger mLogger = Logger.getLogger(Main.class);
+
+	/**
+	 * Load option holding the documents being parsed, by resource URI.
+	 */
+	public static final String OPTION_PARSED_DOCUMENTS = "comodo2.parsedDocuments";
+
+	private static final Pattern SCHEMA_LOCATION = Pattern.compile("xsi:schemaLocation=\"([^\"]*)\"");
+
+	private static final int HEADER_SIZE = 65536;
+
+	/**
+	 * DOM of a file and its size.
+	 */
+	public static class ParsedDocument {
+		public final Document document;
+		public final long bytes;
+
+		ParsedDocument(final Document document, final long bytes) {
+			this.document = document;
+			this.bytes = bytes;
+		}
+	}
+
+	private ExecutorService mExecutor;
+	private Map<URI, Future<ParsedDocument>> mDocuments;
+
+	/**
+	 * Starts parsing the model and the profiles it depends on, transitively.
+	 * The documents are taken from the load options of the resource set by the
+	 * resources when loaded.
+	 */
+	public void preload(final ResourceSet resourceSet, final URI modelURI) {
+		List<URI> files = discover(resourceSet, modelURI);
+		int threads = Math.max(1, Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+		mExecutor = Executors.newFixedThreadPool(threads, r -> {
+			Thread t = new Thread(r, "comodo2-preload");
+			t.setDaemon(true);
+			return t;
+		});
+		mDocuments = new ConcurrentHashMap<URI, Future<ParsedDocument>>();
+		for (URI uri : files) {
+			mDocuments.put(uri, mExecutor.submit(() -> parse(resourceSet, uri)));
+		}
+		mExecutor.shutdown();
+		resourceSet.getLoadOptions().put(OPTION_PARSED_DOCUMENTS, mDocuments);
+		mLogger.debug("Parsing " + files.size() + " file(s) on " + threads + " thread(s).");
+	}
+
+	/**
+	 * Drops the documents not used by the loading of the model.
+	 */
+	public void release(final ResourceSet resourceSet) {
+		if (mDocuments == null) {
+			return;
+		}
+		resourceSet.getLoadOptions().remove(OPTION_PARSED_DOCUMENTS);
+		if (!mDocuments.isEmpty()) {
+			mLogger.debug(mDocuments.size() + " parsed file(s) not used: " + mDocuments.keySet());
+		}
+		for (Future<ParsedDocument> f : mDocuments.values()) {
+			f.cancel(true);
+		}
+		mDocuments.clear();
+		mExecutor.shutdownNow();
+	}
+
+	/**
+	 * @return the document parsed for the resource, removed from the load options,
+	 * or null if the resource has to be loaded from its stream.
+	 */
+	public static ParsedDocument take(final Map<?, ?> options, final URI uri) {
+		Object documents = (options != null) ? options.get(OPTION_PARSED_DOCUMENTS) : null;
+		if (!(documents instanceof Map)) {
+			return null;
+		}
+		Object future = ((Map<?, ?>) documents).remove(uri);
+		if (!(future instanceof Future)) {
+			return null;
+		}
+		try {
+			return (ParsedDocument) ((Future<?>) future).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			mLogger.debug("Could not preload <" + uri + ">: " + e.getCause().getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * @return the model and the profiles it depends on, transitively, not already loaded in the resource set.
+	 */
+	private static List<URI> discover(final ResourceSet resourceSet, final URI modelURI) {
+		List<URI> files = new ArrayList<URI>();
+		List<URI> queue = new ArrayList<URI>();
+		queue.add(modelURI);
+		for (int i = 0; i < queue.size(); i++) {
+			URI uri = queue.get(i);
+			if (files.contains(uri) || !isLoadable(resourceSet, uri)) {
+				continue;
+			}
+			byte[] header;
+			try (InputStream in = resourceSet.getURIConverter().createInputStream(uri)) {
+				header = ByteStreams.toByteArray(ByteStreams.limit(in, HEADER_SIZE));
+			} catch (IOException e) {
+				mLogger.debug("Could not preload <" + uri + ">: " + e.getMessage());
+				continue;
+			}
+			files.add(uri);
+			queue.addAll(getSchemaLocations(uri, new String(header, StandardCharsets.UTF_8)));
+		}
+		return files;
+	}
+
+	/**
+	 * @return true if the URI is a file to load: not loaded yet, nor a registered EPackage.
+	 */
+	private static boolean isLoadable(final ResourceSet resourceSet, final URI uri) {
+		if (resourceSet.getResource(uri, false) != null || resourceSet.getPackageRegistry().getEPackage(uri.toString()) != null) {
+			return false;
+		}
+		return "file".equals(resourceSet.getURIConverter().normalize(uri).scheme());
+	}
+
+	/**
+	 * @return the files of the schema locations declared by the root element of the file.
+	 */
+	private static List<URI> getSchemaLocations(final URI uri, final String text) {
+		List<URI> locations = new ArrayList<URI>();
+		int root = text.indexOf("<xmi:XMI");
+		int end = (root < 0) ? -1 : text.indexOf('>', root);
+		if (end < 0) {
+			return locations;
+		}
+		Matcher m = SCHEMA_LOCATION.matcher(text.substring(root, end));
+		if (m.find()) {
+			String[] pairs = m.group(1).trim().split("\\s+");
+			for (int i = 1; i < pairs.length; i += 2) {
+				URI location = URI.createURI(pairs[i]).trimFragment();
+				locations.add((location.isRelative() && uri.isHierarchical()) ? location.resolve(uri) : location);
+			}
+		}
+		return locations;
+	}
+
+	private static ParsedDocument parse(final ResourceSet resourceSet, final URI uri) throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		try (CountingInputStream in = new CountingInputStream(resourceSet.getURIConverter().createInputStream(uri))) {
+			Document document = factory.newDocumentBuilder().parse(in);
+			return new ParsedDocument(document, in.getCount());
+		}
+	}
+}
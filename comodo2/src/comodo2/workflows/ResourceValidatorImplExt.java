@@ -3,6 +3,8 @@ package comodo2.workflows;
 import java.util.Collections;
 import java.util.List;
 
+import javax.inject.Inject;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.uml2.uml.Model;
@@ -14,11 +16,21 @@ import org.eclipse.xtext.validation.CheckMode;
 import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.validation.ResourceValidatorImpl;
 
+import comodo2.engine.Config;
+import comodo2.queries.ModelIndex;
+import comodo2.validation.ValidationEngine;
+
 /**
  * Enhanced Resource Validator with Cameo 2024r3 compatibility
  * Handles newer profile structures and validation scenarios
  */
 public class ResourceValidatorImplExt extends ResourceValidatorImpl {
+
+	@Inject
+	private ValidationEngine mValidationEngine;
+
+	@Inject
+	private ModelIndex mModelIndex;
 	
 	@Override
 	public List<Issue> validate(Resource resource, CheckMode mode, CancelIndicator mon) 
@@ -35,6 +47,14 @@ public class ResourceValidatorImplExt extends ResourceValidatorImpl {
 			return Collections.emptyList();
 		}
 		
+		// Validation requested from the command line, profile and library resources are skipped
+		if (Config.getInstance().isValidationEnabled()) {
+			if (!mModelIndex.isModelResource(resource)) {
+				return Collections.emptyList();
+			}
+			return mValidationEngine.validate(resource, mode, mon);
+		}
+		
 		// Enhanced validation for Cameo 2024r3 models
 		if (rootElement instanceof Model) {
 			Model model = (Model) rootElement;
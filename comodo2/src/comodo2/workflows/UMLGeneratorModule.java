@@ -8,20 +8,31 @@ import org.eclipse.xtext.generator.IOutputConfigurationProvider;
 import org.eclipse.xtext.naming.DefaultDeclarativeQualifiedNameProvider;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
 import org.eclipse.xtext.resource.IResourceFactory;
+import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.generic.AbstractGenericResourceRuntimeModule;
 import org.eclipse.xtext.service.SingletonBinding;
 import org.eclipse.xtext.validation.IResourceValidator;
 
+import comodo2.ir.ModelCache;
+import comodo2.queries.CrossReferenceIndex;
+import comodo2.queries.ModelIndex;
+import comodo2.queries.StereotypeIndex;
 import comodo2.templates.Root;
 import comodo2.validation.BasicConstraints;
+import comodo2.validation.ValidationEngine;
 
 
 /**
  * Guice module to keep track of the injected dependencies:
  * - UMLResourceFactory ???
+ * - UMLResourceSet sharing the parsers between the resources of a model
  * 
  * - ResourceValidatorImplExt to run the validation rules
  * - BasicConstraints validation rules
+ * - ValidationEngine running the checks in parallel
+ * - ModelIndex shared index of the cmdoModule packages
+ * - CrossReferenceIndex first signal of the transitions of the modules to generate
+ * - ModelCache state machine models kept between runs
  * 
  * - Root template for the code generator
  * - OutputConfigurationProvider
@@ -46,6 +57,10 @@ public class UMLGeneratorModule extends AbstractGenericResourceRuntimeModule {
 		return "uml";
 	}
 
+	public Class<? extends XtextResourceSet> bindXtextResourceSet() {
+		return UMLResourceSet.class;
+	}
+
 	public Class<? extends IResourceFactory> bindIResourceFactory() {
 		return UMLResourceFactory.class;
 	}
@@ -64,6 +79,31 @@ public class UMLGeneratorModule extends AbstractGenericResourceRuntimeModule {
 		return BasicConstraints.class;
 	}
 	
+	@SingletonBinding
+	public Class<? extends ValidationEngine> bindValidationEngine() {
+		return ValidationEngine.class;
+	}
+
+	@SingletonBinding
+	public Class<? extends ModelIndex> bindModelIndex() {
+		return ModelIndex.class;
+	}
+
+	@SingletonBinding
+	public Class<? extends CrossReferenceIndex> bindCrossReferenceIndex() {
+		return CrossReferenceIndex.class;
+	}
+
+	@SingletonBinding
+	public Class<? extends ModelCache> bindModelCache() {
+		return ModelCache.class;
+	}
+
+	@SingletonBinding
+	public Class<? extends StereotypeIndex> bindStereotypeIndex() {
+		return StereotypeIndex.class;
+	}
+
 	public Class<? extends IGenerator> bindIGenerator() {
 		return Root.class;
 	}
@@ -10,6 +10,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.uml2.uml.internal.resource.UMLResourceFactoryImpl;
+import org.eclipse.uml2.uml.resource.UMLResource;
 import org.eclipse.xtext.resource.IResourceFactory;
 
 /**
@@ -39,6 +40,16 @@ public class UMLResourceFactory extends UMLResourceFactoryImpl implements IResou
         NAMESPACE_MAPPINGS.put("http://www.nomagic.com/magicdraw/UML/2.5.1", "NOMAGIC_UML");
     }
     
+    /**
+     * Creates the instrumented UML resource (see UMLResourceImplExt).
+     */
+    @Override
+    public Resource createResourceGen(URI uri) {
+        UMLResourceImplExt resource = new UMLResourceImplExt(uri);
+        resource.setEncoding(UMLResource.DEFAULT_ENCODING);
+        return resource;
+    }
+
     @Override
     public Resource createResource(URI uri) {
         XMIResourceImpl resource = (XMIResourceImpl) super.createResource(uri);
@@ -57,6 +68,9 @@ public class UMLResourceFactory extends UMLResourceFactoryImpl implements IResou
         
         // Enhanced namespace processing for Cameo 2024r3
         loadOptions.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, Boolean.TRUE);
+
+        // Resolve IDREFs at the end of the document
+        loadOptions.put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
         
         return resource;
     }
@@ -0,0 +1,55 @@
+package comodo2.workflows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+
+import com.google.common.io.CountingInputStream;
+
+import comodo2.metrics.Metrics;
+import comodo2.metrics.ResourceLoadEvent;
+
+/**
+ * UML resource created by UMLResourceFactory.
+ * 
+ * Records the parsing of each resource (model, profiles and libraries)
+ * as a ResourceLoadEvent and in the Metrics report.
+ * The resource is created from the DOM of the file instead of the stream
+ * when the file was parsed beforehand (see ResourcePreloader).
+ */
+public class UMLResourceImplExt extends UMLResourceImpl {
+
+	public UMLResourceImplExt(URI uri) {
+		super(uri);
+	}
+
+	@Override
+	public void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
+		ResourcePreloader.ParsedDocument parsed = ResourcePreloader.take(options, getURI());
+		ResourceLoadEvent event = new ResourceLoadEvent();
+		if (!event.isEnabled() && !Metrics.getInstance().isEnabled()) {
+			doLoad(inputStream, parsed, options);
+			return;
+		}
+		CountingInputStream countingStream = new CountingInputStream(inputStream);
+		event.begin();
+		doLoad(countingStream, parsed, options);
+		event.end();
+		event.uri = getURI().toString();
+		event.bytes = (parsed != null) ? parsed.bytes : countingStream.getCount();
+		event.commit();
+		Metrics.getInstance().count(Metrics.COUNTER_RESOURCES_LOADED, 1);
+		Metrics.getInstance().count(Metrics.COUNTER_BYTES_LOADED, event.bytes);
+	}
+
+	private void doLoad(InputStream inputStream, ResourcePreloader.ParsedDocument parsed, Map<?, ?> options) throws IOException {
+		if (parsed != null) {
+			doLoad(parsed.document, options);
+		} else {
+			super.doLoad(inputStream, options);
+		}
+	}
+}
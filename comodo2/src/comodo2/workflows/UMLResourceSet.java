@@ -0,0 +1,38 @@
+package comodo2.workflows;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+/**
+ * Resource set of a model with its profiles and libraries.
+ *
+ * The resources of the set share a pool of SAX parsers and handlers and the
+ * lookup of the features by XML element and attribute name (load options), so
+ * the profiles applied by the model are loaded with the parser and the feature
+ * lookups of the model. Both are dropped with the set: the dynamic EClasses of
+ * the profiles of a model are not retained by the next one.
+ */
+public class UMLResourceSet extends XtextResourceSet {
+
+	public UMLResourceSet() {
+		getLoadOptions().put(XMLResource.OPTION_USE_PARSER_POOL, new XMLParserPoolImpl(true));
+		getLoadOptions().put(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP, Collections.synchronizedMap(new HashMap<Object, Object>()));
+	}
+
+	/**
+	 * Forgets the features found for the element and attribute names, e.g. when
+	 * the profiles are unloaded: the map would retain their EClasses.
+	 */
+	public static void clearFeatureMap(final ResourceSet resourceSet) {
+		Object map = resourceSet.getLoadOptions().get(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP);
+		if (map instanceof Map) {
+			((Map<?, ?>) map).clear();
+		}
+	}
+}
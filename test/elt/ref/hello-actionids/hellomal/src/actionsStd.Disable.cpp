@@ -0,0 +1,45 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.Disable class source file.
+ */
+
+#include <hellomal/actionsStd.Disable.hpp>
+#include <hellomal/dataContext.hpp>
+#include <hellomal/dbInterface.hpp>
+
+#include <events.rad.hpp>
+
+#include <rad/assert.hpp>
+#include <rad/exceptions.hpp>
+#include <rad/mal/publisher.hpp>
+
+#include <chrono>
+
+namespace hellomal {
+
+ActionsStd.Disable::ActionsStd.Disable(const std::string& id, rad::SMAdapter& sm, DataContext& data)
+    : rad::ThreadActivity(id), m_sm(sm), m_data(data) {
+    RAD_TRACE(GetLogger());
+}
+
+ActionsStd.Disable::~ActionsStd.Disable() { RAD_TRACE(GetLogger()); }
+
+void ActionsStd.Disable::Run() {
+    /*
+     * Inside the thread we use dedicated logger to be able
+     * to enable/disable logs independently from the main thread.
+     */
+    RAD_TRACE(m_logger);
+
+    using namespace std::chrono_literals;
+    while (IsStopRequested() == false) {
+        LOG4CPLUS_DEBUG(m_logger, "ActionsStd.Disable is working... ");
+        std::this_thread::sleep_for(1s);
+    }
+}
+
+}  // namespace hellomal
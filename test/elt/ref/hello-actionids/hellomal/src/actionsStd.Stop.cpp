@@ -0,0 +1,45 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.Stop class source file.
+ */
+
+#include <hellomal/actionsStd.Stop.hpp>
+#include <hellomal/dataContext.hpp>
+#include <hellomal/dbInterface.hpp>
+
+#include <events.rad.hpp>
+
+#include <rad/assert.hpp>
+#include <rad/exceptions.hpp>
+#include <rad/mal/publisher.hpp>
+
+#include <chrono>
+
+namespace hellomal {
+
+ActionsStd.Stop::ActionsStd.Stop(const std::string& id, rad::SMAdapter& sm, DataContext& data)
+    : rad::ThreadActivity(id), m_sm(sm), m_data(data) {
+    RAD_TRACE(GetLogger());
+}
+
+ActionsStd.Stop::~ActionsStd.Stop() { RAD_TRACE(GetLogger()); }
+
+void ActionsStd.Stop::Run() {
+    /*
+     * Inside the thread we use dedicated logger to be able
+     * to enable/disable logs independently from the main thread.
+     */
+    RAD_TRACE(m_logger);
+
+    using namespace std::chrono_literals;
+    while (IsStopRequested() == false) {
+        LOG4CPLUS_DEBUG(m_logger, "ActionsStd.Stop is working... ");
+        std::this_thread::sleep_for(1s);
+    }
+}
+
+}  // namespace hellomal
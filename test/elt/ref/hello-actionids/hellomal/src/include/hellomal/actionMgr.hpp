@@ -0,0 +1,118 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionMgr class header file.
+ */
+#ifndef HELLOMAL_ACTIONMGR_HPP_
+#define HELLOMAL_ACTIONMGR_HPP_
+
+#include <rad/actionMgr.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <boost/asio.hpp>
+
+#include <array>
+#include <cstdint>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class is responsible for the life-cycle management of
+ * actions and activities.
+ */
+class ActionMgr : public rad::ActionMgr {
+   public:
+    /**
+     * Default constructor.
+     */
+    ActionMgr();
+
+    /**
+     * Default destructor.
+     */
+    virtual ~ActionMgr();
+
+    /**
+     * Method to instantiate the action objects.
+     *
+     * @param[in] ios Event loop.
+     * @param[in] sm SM adapter used to inject internal events.
+     * @param[in] the_data Data shared within the application among actions and activities.
+     */
+    void CreateActions(boost::asio::io_service& ios, rad::SMAdapter& sm, DataContext& the_data);
+
+    /**
+     * Method to instantiate activity objects.
+     *
+     * @param[in] the_data Data shared within the application.
+     * @param[in] sm Reference to the State Machine adapter needed to trigger internal events.
+     */
+    void CreateActivities(rad::SMAdapter& sm, DataContext& the_data);
+
+    /**
+     * Compile-time ids of the action (ACTION_) and guard (GUARD_) callbacks:
+     * the actions first, then the guards, each in the order of their names.
+     */
+    enum CallbackId : std::uint16_t {
+        ACTION_ActionsStd_Disable = 0,
+        ACTION_ActionsStd_Enable = 1,
+        ACTION_ActionsStd_Exit = 2,
+        ACTION_ActionsStd_ExitNoReply = 3,
+        ACTION_ActionsStd_GetState = 4,
+        ACTION_ActionsStd_Init = 5,
+        ACTION_ActionsStd_Reset = 6,
+        ACTION_ActionsStd_SetLogLevel = 7,
+        ACTION_ActionsStd_Stop = 8,
+        CALLBACK_COUNT
+    };
+
+    /**
+     * The actions have the ids [0, ACTION_COUNT), the guards [ACTION_COUNT, CALLBACK_COUNT).
+     */
+    static constexpr std::uint16_t ACTION_COUNT = 9U;
+
+    /**
+     * Callback names ("Group.Method") indexed by CallbackId, sorted among the actions and among the guards.
+     */
+    static const char* const CALLBACK_NAMES[CALLBACK_COUNT];
+
+    /**
+     * Resolves an action name of the SCXML document by binary search in CALLBACK_NAMES,
+     * to be done once when the state machine is loaded.
+     *
+     * @param[in] name Action name ("Group.Method").
+     * @return Id of the action, CALLBACK_COUNT if the name is unknown.
+     */
+    static CallbackId FindActionId(const char* name);
+
+    /**
+     * Resolves a guard name of the SCXML document, see FindActionId().
+     *
+     * @param[in] name Guard name ("Group.Method").
+     * @return Id of the guard, CALLBACK_COUNT if the name is unknown.
+     */
+    static CallbackId FindGuardId(const char* name);
+
+    /**
+     * @param[in] id Id of the callback.
+     * @return Callback created by CreateActions(), nullptr before.
+     */
+    scxml4cpp::Action* GetCallback(CallbackId id) const { return m_callbacks[id]; }
+
+    ActionMgr(const ActionMgr&) = delete;             //! Disable copy constructor
+    ActionMgr& operator=(const ActionMgr&) = delete;  //! Disable assignment operator
+
+   private:
+    static CallbackId FindCallbackId(const char* name, std::uint16_t first, std::uint16_t last);
+
+    std::array<scxml4cpp::Action*, CALLBACK_COUNT> m_callbacks{};
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONMGR_HPP_
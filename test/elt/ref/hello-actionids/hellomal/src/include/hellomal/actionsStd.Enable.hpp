@@ -0,0 +1,55 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.Enable class header file.
+ */
+#ifndef HELLOMAL_ACTIONSSTD.ENABLE_HPP_
+#define HELLOMAL_ACTIONSSTD.ENABLE_HPP_
+
+#include <hellomal/logger.hpp>
+
+#include <rad/activity.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <string>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class contains the implementation of the do-activity used
+ * to simulate the axes movements.
+ */
+class ActionsStd.Enable : public rad::ThreadActivity {
+   public:
+    /**
+     * Constructor.
+     *
+     * @param[in] id Name of the activity.
+     * @param[in] sm State Machine facade.
+     * @param[in] data Data shared within the application among actions and activities.
+     */
+    ActionsStd.Enable(const std::string& id, rad::SMAdapter& sm, DataContext& data);
+    virtual ~ActionsStd.Enable();
+
+    /**
+     * Thread implementation method.
+     */
+    void Run() override;
+
+    ActionsStd.Enable(const ActionsStd.Enable&) = delete;             //! Disable copy constructor
+    ActionsStd.Enable& operator=(const ActionsStd.Enable&) = delete;  //! Disable assignment operator
+
+   private:
+    log4cplus::Logger m_logger = log4cplus::Logger::getInstance(LOGGER_NAME + ".ActionsStd.Enable");
+    rad::SMAdapter& m_sm;
+    DataContext& m_data;
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONSSTD.ENABLE_HPP_
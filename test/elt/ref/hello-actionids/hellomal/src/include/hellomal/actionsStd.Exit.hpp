@@ -0,0 +1,55 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.Exit class header file.
+ */
+#ifndef HELLOMAL_ACTIONSSTD.EXIT_HPP_
+#define HELLOMAL_ACTIONSSTD.EXIT_HPP_
+
+#include <hellomal/logger.hpp>
+
+#include <rad/activity.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <string>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class contains the implementation of the do-activity used
+ * to simulate the axes movements.
+ */
+class ActionsStd.Exit : public rad::ThreadActivity {
+   public:
+    /**
+     * Constructor.
+     *
+     * @param[in] id Name of the activity.
+     * @param[in] sm State Machine facade.
+     * @param[in] data Data shared within the application among actions and activities.
+     */
+    ActionsStd.Exit(const std::string& id, rad::SMAdapter& sm, DataContext& data);
+    virtual ~ActionsStd.Exit();
+
+    /**
+     * Thread implementation method.
+     */
+    void Run() override;
+
+    ActionsStd.Exit(const ActionsStd.Exit&) = delete;             //! Disable copy constructor
+    ActionsStd.Exit& operator=(const ActionsStd.Exit&) = delete;  //! Disable assignment operator
+
+   private:
+    log4cplus::Logger m_logger = log4cplus::Logger::getInstance(LOGGER_NAME + ".ActionsStd.Exit");
+    rad::SMAdapter& m_sm;
+    DataContext& m_data;
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONSSTD.EXIT_HPP_
@@ -0,0 +1,55 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.SetLogLevel class header file.
+ */
+#ifndef HELLOMAL_ACTIONSSTD.SETLOGLEVEL_HPP_
+#define HELLOMAL_ACTIONSSTD.SETLOGLEVEL_HPP_
+
+#include <hellomal/logger.hpp>
+
+#include <rad/activity.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <string>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class contains the implementation of the do-activity used
+ * to simulate the axes movements.
+ */
+class ActionsStd.SetLogLevel : public rad::ThreadActivity {
+   public:
+    /**
+     * Constructor.
+     *
+     * @param[in] id Name of the activity.
+     * @param[in] sm State Machine facade.
+     * @param[in] data Data shared within the application among actions and activities.
+     */
+    ActionsStd.SetLogLevel(const std::string& id, rad::SMAdapter& sm, DataContext& data);
+    virtual ~ActionsStd.SetLogLevel();
+
+    /**
+     * Thread implementation method.
+     */
+    void Run() override;
+
+    ActionsStd.SetLogLevel(const ActionsStd.SetLogLevel&) = delete;             //! Disable copy constructor
+    ActionsStd.SetLogLevel& operator=(const ActionsStd.SetLogLevel&) = delete;  //! Disable assignment operator
+
+   private:
+    log4cplus::Logger m_logger = log4cplus::Logger::getInstance(LOGGER_NAME + ".ActionsStd.SetLogLevel");
+    rad::SMAdapter& m_sm;
+    DataContext& m_data;
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONSSTD.SETLOGLEVEL_HPP_
@@ -0,0 +1,55 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.Stop class header file.
+ */
+#ifndef HELLOMAL_ACTIONSSTD.STOP_HPP_
+#define HELLOMAL_ACTIONSSTD.STOP_HPP_
+
+#include <hellomal/logger.hpp>
+
+#include <rad/activity.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <string>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class contains the implementation of the do-activity used
+ * to simulate the axes movements.
+ */
+class ActionsStd.Stop : public rad::ThreadActivity {
+   public:
+    /**
+     * Constructor.
+     *
+     * @param[in] id Name of the activity.
+     * @param[in] sm State Machine facade.
+     * @param[in] data Data shared within the application among actions and activities.
+     */
+    ActionsStd.Stop(const std::string& id, rad::SMAdapter& sm, DataContext& data);
+    virtual ~ActionsStd.Stop();
+
+    /**
+     * Thread implementation method.
+     */
+    void Run() override;
+
+    ActionsStd.Stop(const ActionsStd.Stop&) = delete;             //! Disable copy constructor
+    ActionsStd.Stop& operator=(const ActionsStd.Stop&) = delete;  //! Disable assignment operator
+
+   private:
+    log4cplus::Logger m_logger = log4cplus::Logger::getInstance(LOGGER_NAME + ".ActionsStd.Stop");
+    rad::SMAdapter& m_sm;
+    DataContext& m_data;
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONSSTD.STOP_HPP_
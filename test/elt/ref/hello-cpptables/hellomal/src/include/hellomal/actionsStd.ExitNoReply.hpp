@@ -0,0 +1,55 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief ActionsStd.ExitNoReply class header file.
+ */
+#ifndef HELLOMAL_ACTIONSSTD.EXITNOREPLY_HPP_
+#define HELLOMAL_ACTIONSSTD.EXITNOREPLY_HPP_
+
+#include <hellomal/logger.hpp>
+
+#include <rad/activity.hpp>
+#include <rad/smAdapter.hpp>
+
+#include <string>
+
+namespace hellomal {
+
+class DataContext;
+
+/**
+ * This class contains the implementation of the do-activity used
+ * to simulate the axes movements.
+ */
+class ActionsStd.ExitNoReply : public rad::ThreadActivity {
+   public:
+    /**
+     * Constructor.
+     *
+     * @param[in] id Name of the activity.
+     * @param[in] sm State Machine facade.
+     * @param[in] data Data shared within the application among actions and activities.
+     */
+    ActionsStd.ExitNoReply(const std::string& id, rad::SMAdapter& sm, DataContext& data);
+    virtual ~ActionsStd.ExitNoReply();
+
+    /**
+     * Thread implementation method.
+     */
+    void Run() override;
+
+    ActionsStd.ExitNoReply(const ActionsStd.ExitNoReply&) = delete;             //! Disable copy constructor
+    ActionsStd.ExitNoReply& operator=(const ActionsStd.ExitNoReply&) = delete;  //! Disable assignment operator
+
+   private:
+    log4cplus::Logger m_logger = log4cplus::Logger::getInstance(LOGGER_NAME + ".ActionsStd.ExitNoReply");
+    rad::SMAdapter& m_sm;
+    DataContext& m_data;
+};
+
+}  // namespace hellomal
+
+#endif  // HELLOMAL_ACTIONSSTD.EXITNOREPLY_HPP_
@@ -0,0 +1,213 @@
+/**
+ * @file
+ * @ingroup hellomal
+ * @copyright ESO - European Southern Observatory
+ * @author
+ *
+ * @brief Precomputed tables of the sm state machine (-c CPPTABLES).
+ *
+ * Generated from the same model as the SCXML document: states are numbered in
+ * document order, regions of parallel states are compound states.
+ * Variable length data is stored in flat arrays indexed by offset tables:
+ * the transitions of state s are TRANSITIONS[TRANSITION_OFFSETS[s]] to
+ * TRANSITIONS[TRANSITION_OFFSETS[s+1]-1], in document order (priority order).
+ * The same layout is used for the exit and entry sets of transition t.
+ */
+#ifndef HELLOMAL_SM_TABLES_HPP_
+#define HELLOMAL_SM_TABLES_HPP_
+
+#include <cstdint>
+
+namespace hellomal {
+namespace sm_tables {
+
+enum State : std::uint16_t {
+    STATE_Off = 0,
+    STATE_On = 1,
+    STATE_NotOperational = 2,
+    STATE_NotReady = 3,
+    STATE_Ready = 4,
+    STATE_Operational = 5,
+    STATE_Idle = 6
+};
+
+enum Event : std::uint16_t {
+    EVENT_StdCmds_Exit = 0,
+    EVENT_StdCmds_Reset = 1,
+    EVENT_Events_CtrlC = 2,
+    EVENT_StdCmds_GetState = 3,
+    EVENT_StdCmds_SetLogLevel = 4,
+    EVENT_StdCmds_Init = 5,
+    EVENT_StdCmds_Enable = 6,
+    EVENT_StdCmds_Disable = 7,
+    EVENT_StdCmds_Stop = 8
+};
+
+enum Kind : std::uint8_t {
+    KIND_ATOMIC = 0,
+    KIND_COMPOUND,
+    KIND_PARALLEL,
+    KIND_FINAL
+};
+
+constexpr std::uint16_t STATE_COUNT = 7;
+constexpr std::uint16_t EVENT_COUNT = 9;
+constexpr std::uint16_t TRANSITION_COUNT = 9;
+constexpr State NO_STATE = static_cast<State>(0xFFFF);
+constexpr Event NO_EVENT = static_cast<Event>(0xFFFF);  // eventless transition
+
+/**
+ * Transition of the SCXML document.
+ * guard and action are indexes in GUARD_NAMES and ACTION_NAMES (0 = none).
+ * target is NO_STATE for targetless transitions; dynamic transitions target
+ * a pseudostate (choice, history, ...) that has to be resolved at run-time,
+ * their entry and exit sets are empty.
+ */
+struct Transition {
+    State source;
+    Event event;
+    std::uint16_t guard;
+    std::uint16_t action;
+    State target;
+    bool dynamic;
+};
+
+/* SCXML ids of the states, e.g. to report the active configuration */
+constexpr const char* STATE_IDS[] = {
+    "Off",
+    "On",
+    "NotOperational",
+    "NotReady",
+    "Ready",
+    "Operational",
+    "Idle"
+};
+
+constexpr const char* EVENT_NAMES[] = {
+    "StdCmds.Exit",
+    "StdCmds.Reset",
+    "Events.CtrlC",
+    "StdCmds.GetState",
+    "StdCmds.SetLogLevel",
+    "StdCmds.Init",
+    "StdCmds.Enable",
+    "StdCmds.Disable",
+    "StdCmds.Stop"
+};
+
+constexpr const char* GUARD_NAMES[] = {
+    ""
+};
+
+constexpr const char* ACTION_NAMES[] = {
+    "",
+    "ActionsStd.Exit",
+    "ActionsStd.Reset",
+    "ActionsStd.ExitNoReply",
+    "ActionsStd.GetState",
+    "ActionsStd.SetLogLevel",
+    "ActionsStd.Init",
+    "ActionsStd.Enable",
+    "ActionsStd.Disable",
+    "ActionsStd.Stop"
+};
+
+constexpr Kind KIND[] = {
+    KIND_FINAL,
+    KIND_COMPOUND,
+    KIND_COMPOUND,
+    KIND_ATOMIC,
+    KIND_ATOMIC,
+    KIND_COMPOUND,
+    KIND_ATOMIC
+};
+
+/* Parent state, NO_STATE for top states */
+constexpr State PARENT[] = {
+    NO_STATE,
+    NO_STATE,
+    STATE_On,
+    STATE_NotOperational,
+    STATE_NotOperational,
+    STATE_On,
+    STATE_Operational
+};
+
+/* Initial substate of compound states, NO_STATE otherwise */
+constexpr State INITIAL[] = {
+    NO_STATE,
+    STATE_NotOperational,
+    STATE_NotReady,
+    NO_STATE,
+    NO_STATE,
+    STATE_Idle,
+    NO_STATE
+};
+
+/* Index in ACTION_NAMES of the entry and exit actions (0 = none) */
+constexpr std::uint16_t ENTRY_ACTION[] = { 0, 0, 0, 0, 0, 0, 0 };
+constexpr std::uint16_t EXIT_ACTION[] = { 0, 0, 0, 0, 0, 0, 0 };
+
+constexpr Transition TRANSITIONS[] = {
+    { STATE_On, EVENT_StdCmds_Exit, 0, 1, STATE_Off, false },
+    { STATE_On, EVENT_StdCmds_Reset, 0, 2, STATE_NotReady, false },
+    { STATE_On, EVENT_Events_CtrlC, 0, 3, STATE_Off, false },
+    { STATE_On, EVENT_StdCmds_GetState, 0, 4, NO_STATE, false },
+    { STATE_On, EVENT_StdCmds_SetLogLevel, 0, 5, NO_STATE, false },
+    { STATE_NotReady, EVENT_StdCmds_Init, 0, 6, STATE_Ready, false },
+    { STATE_Ready, EVENT_StdCmds_Enable, 0, 7, STATE_Operational, false },
+    { STATE_Operational, EVENT_StdCmds_Disable, 0, 8, STATE_Ready, false },
+    { STATE_Idle, EVENT_StdCmds_Stop, 0, 9, STATE_Ready, false }
+};
+constexpr std::uint16_t TRANSITION_OFFSETS[] = { 0, 0, 5, 5, 6, 7, 8, 9 };
+
+/*
+ * States exited by a transition, innermost first: the source and its ancestors
+ * up to the transition domain. The active descendants of each of these states
+ * are exited before it.
+ */
+constexpr State EXIT_SET[] = {
+    STATE_On,
+    STATE_On,
+    STATE_On,
+    STATE_NotReady,
+    STATE_Ready,
+    STATE_NotOperational,
+    STATE_Operational,
+    STATE_Idle,
+    STATE_Operational
+};
+constexpr std::uint16_t EXIT_OFFSETS[] = { 0, 1, 2, 3, 3, 3, 4, 6, 7, 9 };
+
+/*
+ * States entered by a transition, in entry order: the path from the transition
+ * domain to the target, the other regions of the parallel states on the path
+ * and the default entry (initial substates) of the target.
+ */
+constexpr State ENTRY_SET[] = {
+    STATE_Off,
+    STATE_On,
+    STATE_NotOperational,
+    STATE_NotReady,
+    STATE_Off,
+    STATE_Ready,
+    STATE_Operational,
+    STATE_Idle,
+    STATE_NotOperational,
+    STATE_Ready,
+    STATE_NotOperational,
+    STATE_Ready
+};
+constexpr std::uint16_t ENTRY_OFFSETS[] = { 0, 1, 4, 5, 5, 5, 6, 8, 10, 12 };
+
+/* States entered when the state machine starts, in entry order */
+constexpr State INITIAL_CONFIGURATION[] = {
+    STATE_On,
+    STATE_NotOperational,
+    STATE_NotReady
+};
+
+}  // namespace sm_tables
+}  // namespace hellomal
+
+#endif  // HELLOMAL_SM_TABLES_HPP_
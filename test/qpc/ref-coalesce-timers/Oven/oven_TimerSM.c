@@ -0,0 +1,224 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ * - Generated State Machine (Comodo Component):
+ *      TimerSM
+ * 
+ *
+ * ############### Requirements ###############
+ *  Implements: 
+ * - https://<traceability-service-hostname>/724776 
+ * - https://<traceability-service-hostname>/724777 
+ *
+ * ############################################
+ *
+ */
+
+
+ 
+#include <stdio.h>
+#include <string.h>
+#include <log_event.h>
+#include <assert.h>
+#include <oven_TimerSM.h>
+#include <oven_TimerSM_impl.h>
+
+
+
+
+
+/**
+ * oven_TimerSM Constructor
+ */
+oven_TimerSM *oven_TimerSM_constructor (oven_TimerSM *me, const char *objNameNew, oven_TimerSM_impl *implObj, QActive *active) {
+    QActive_ctor((QActive *)me, (QStateHandler )&oven_TimerSM_initial);
+    strncpy(me->objName, objNameNew, 128);
+    strncat(me->objName, ":oven_TimerSM", 128-strlen(me->objName));
+    me->impl = implObj;
+    if (0 == active) {  // self IS the active object
+        me->active = (QActive *)me;
+    } else {  // set containing machine as active object
+        me->active = active;
+    }
+    oven_TimerSM_impl_set_qactive(me->impl, me->active);  // give impl access to parent QActive
+
+    // Timer events initialized here
+    QTimeEvt_ctor(&(me->IdleRelativeTimer), IDLE_TIMER_SIG);
+    QTimeEvt_ctor(&(me->shared0RelativeTimer), SETTLE_TIMER_SIG);
+
+    // State is initially at TOP
+    me->myState = OVEN_TIMERSM__TOP__;
+
+    return me;
+}
+
+oven_TimerSM_impl *oven_TimerSM_get_impl (oven_TimerSM *me) {
+    return me->impl;
+}
+
+oven_TimerSM_state oven_TimerSM_get_current_state (oven_TimerSM *me) {
+    return me->myState;
+}
+
+/**
+ * initial state definition
+ */
+QState oven_TimerSM_initial (oven_TimerSM *me, QEvt const *e) {
+    // Subscribe to all the signals to which this state machine needs to respond.
+	if (me->active == (QActive *)me) {
+		QActive_subscribe(me->active, OVEN_COOL_SIG);
+		QActive_subscribe(me->active, OVEN_HEAT_SIG);
+	}
+
+    return Q_TRAN(&oven_TimerSM_Idle);
+}
+
+/**
+ * Cooling state definition
+ */
+QState oven_TimerSM_Cooling (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_INIT_SIG:
+            return Q_TRAN(&oven_TimerSM_Cooling_Settle);
+
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_COOLING;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+        case OVEN_HEAT_SIG:
+            return Q_TRAN(&oven_TimerSM_Heating);
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * Settle state definition
+ */
+QState oven_TimerSM_Cooling_Settle (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_COOLING_SETTLE;
+            QTimeEvt_postIn(&(me->shared0RelativeTimer), me->active, 3s);
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            QTimeEvt_disarm(&(me->shared0RelativeTimer));
+            return Q_HANDLED();
+
+        case SETTLE_TIMER_SIG:
+            return Q_TRAN(&oven_TimerSM_Cooling_Cold);
+
+
+    }
+    return Q_SUPER(&oven_TimerSM_Cooling);
+}
+
+/**
+ * Cold state definition
+ */
+QState oven_TimerSM_Cooling_Cold (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_COOLING_COLD;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    return Q_SUPER(&oven_TimerSM_Cooling);
+}
+
+/**
+ * Heating state definition
+ */
+QState oven_TimerSM_Heating (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_INIT_SIG:
+            return Q_TRAN(&oven_TimerSM_Heating_Settle);
+
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_HEATING;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+        case OVEN_COOL_SIG:
+            return Q_TRAN(&oven_TimerSM_Cooling);
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * Settle state definition
+ */
+QState oven_TimerSM_Heating_Settle (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_HEATING_SETTLE;
+            QTimeEvt_postIn(&(me->shared0RelativeTimer), me->active, 2s);
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            QTimeEvt_disarm(&(me->shared0RelativeTimer));
+            return Q_HANDLED();
+
+        case SETTLE_TIMER_SIG:
+            return Q_TRAN(&oven_TimerSM_Heating_Hot);
+
+
+    }
+    return Q_SUPER(&oven_TimerSM_Heating);
+}
+
+/**
+ * Hot state definition
+ */
+QState oven_TimerSM_Heating_Hot (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_HEATING_HOT;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    return Q_SUPER(&oven_TimerSM_Heating);
+}
+
+/**
+ * Idle state definition
+ */
+QState oven_TimerSM_Idle (oven_TimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = OVEN_TIMERSM_IDLE;
+            QTimeEvt_postIn(&(me->IdleRelativeTimer), me->active, 1s);
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            QTimeEvt_disarm(&(me->IdleRelativeTimer));
+            return Q_HANDLED();
+
+        case IDLE_TIMER_SIG:
+            return Q_TRAN(&oven_TimerSM_Heating);
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
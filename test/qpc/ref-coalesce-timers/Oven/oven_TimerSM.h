@@ -0,0 +1,98 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ * - Generated State Machine (Comodo Component):
+ *      TimerSM
+ * 
+ *
+ * ############### Requirements ###############
+ *  Implements: 
+ * - https://<traceability-service-hostname>/724776 
+ * - https://<traceability-service-hostname>/724777 
+ *
+ * ############################################
+ *
+ */
+
+
+ 
+
+#ifndef OVEN_TIMERSM_H_
+#define OVEN_TIMERSM_H_
+
+#include <stdbool.h>
+#include <qf_port.h>
+#include <qassert.h>
+#include <oven_statechart_signals.h>
+#include <oven_TimerSM_states.h>
+#include <oven_TimerSM_impl.h>
+
+
+/**
+ * Declare the state machine struct, encapsulating the extended state variables.
+ * It tracks any timers, owned orthogonal regions, history states, substates.
+ */
+typedef struct oven_TimerSM {
+    QActive super;  // C-style inheritance
+    QActive *active;  // containing machine if this is a submachine instance
+    char objName[128];
+    oven_TimerSM_impl *impl;
+    enum oven_TimerSM_state myState;
+
+    /* Completion event for exiting from composite/orthogonal/submachine state */
+    QCompletionEvt OVEN_TIMERSM_COMPLETION_EVENT_;
+
+    /* Bail event to terminate orthogonal/submachine substate */
+    QEvt OVEN_TIMERSM_BAIL_EVENT_;
+
+    /* TimeEvents object instances (only relative timers are supported) */
+    QTimeEvt IdleRelativeTimer;
+    QTimeEvt shared0RelativeTimer;  // shared by Settle, Settle
+
+
+} oven_TimerSM;
+
+
+/** 
+ * oven_TimerSM Constructor
+ *
+ * This State machine constructor is responsible for initializing
+ * the object, allocating and initializing any orthogonal regions, 
+ * and initializing the timers.
+ */
+oven_TimerSM *oven_TimerSM_constructor (oven_TimerSM *me, const char *objNameNew, oven_TimerSM_impl *implObj, QActive *active);
+
+/**
+  * Returns the instance of the Implementation class for this QActive.
+  */
+oven_TimerSM_impl *oven_TimerSM_get_impl (oven_TimerSM *me);
+
+/**
+ * Returns the unique enum representing the current state of this machine.
+ */
+oven_TimerSM_state oven_TimerSM_get_current_state (oven_TimerSM *me);
+
+/**
+ * Method to initialize state machine (equivalent to initial pseudostate)
+ */
+QState oven_TimerSM_initial (oven_TimerSM *me, QEvt const *e);
+
+/**
+ * State methods
+ */
+QState oven_TimerSM_Idle(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Heating(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Heating_Settle(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Heating_Hot(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Cooling(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Cooling_Settle(oven_TimerSM *me, QEvt const *e); 
+QState oven_TimerSM_Cooling_Cold(oven_TimerSM *me, QEvt const *e); 
+
+
+
+
+#endif /* OVEN_TIMERSM_H_ */
@@ -0,0 +1,45 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ * - Generated State Machine (Comodo Component):
+ *      timerSM
+ * 
+ */
+
+
+ 
+
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+#include <log_event.h>
+#include <qf_port.h>
+#include <qassert.h>
+#include <assert.h>
+#include <oven_TimerSM_impl.h>
+#include <oven_statechart_signals.h>
+
+
+oven_TimerSM_impl *oven_TimerSM_impl_constructor (oven_TimerSM_impl *mepl) {
+    strncpy(mepl->machineName, "oven_TimerSM", 128);
+    mepl->machineName[128-1] = '\0';  // null-terminate to be sure
+
+    // AttributeMapper_init(mepl);
+
+
+    return mepl;
+}
+
+void oven_TimerSM_impl_set_qactive (oven_TimerSM_impl *mepl, QActive *active) {
+    mepl->active = active;
+}
+
+
+////////////////////////////////////////////
+// Action and guard implementation methods
+////////////////////////////////////////////
+
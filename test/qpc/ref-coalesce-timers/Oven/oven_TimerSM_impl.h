@@ -0,0 +1,40 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ * - Generated State Machine (Comodo Component):
+ *      timerSM
+ * 
+ */
+
+
+ 
+
+#ifndef OVEN_TIMERSM_IMPL_H
+#define OVEN_TIMERSM_IMPL_H
+
+#include <qf_port.h>
+#include <qassert.h>
+
+
+typedef struct oven_TimerSM_impl {
+    char machineName[128];
+    /** Cache of pointer to the container QActive object, for ease of access */
+    QActive *active;
+
+
+
+} oven_TimerSM_impl;
+
+oven_TimerSM_impl *oven_TimerSM_impl_constructor (oven_TimerSM_impl *mepl);  // Default constructor
+void oven_TimerSM_impl_set_qactive (oven_TimerSM_impl *mepl, QActive *active);
+
+////////////////////////////////////////////
+// Action and guard implementation methods
+////////////////////////////////////////////
+
+#endif  /* OVEN_TIMERSM_IMPL_H */
+
@@ -0,0 +1,36 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ * - Generated State Machine (Comodo Component):
+ *      timerSM
+ * 
+ */
+
+
+ 
+
+#ifndef OVEN_TIMERSM_STATES_H_
+#define OVEN_TIMERSM_STATES_H_
+
+/**
+ * Enumerate all the states that the state machine may be in at any given time.
+ * An addition to the Samek pattern, state enums facilitate convenient
+ * query of current state a State Machine is in at a given moment.
+ */
+typedef enum oven_TimerSM_state {
+    OVEN_TIMERSM__TOP__, /* Top = 0 */
+    OVEN_TIMERSM_COOLING,
+    OVEN_TIMERSM_COOLING_COLD,
+    OVEN_TIMERSM_COOLING_SETTLE,
+    OVEN_TIMERSM_HEATING,
+    OVEN_TIMERSM_HEATING_HOT,
+    OVEN_TIMERSM_HEATING_SETTLE,
+    OVEN_TIMERSM_IDLE,
+
+} oven_TimerSM_state;
+
+#endif /* OVEN_TIMERSM_STATES_H_ */
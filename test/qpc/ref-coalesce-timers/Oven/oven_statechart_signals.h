@@ -0,0 +1,52 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      oven
+ *
+ */
+
+
+ 
+
+#ifndef OVEN_STATECHART_SIGNALS_H_
+#define OVEN_STATECHART_SIGNALS_H_
+
+enum oven_statechart_signals {
+    /* "During" signal */
+    DURING = Q_USER_SIG,
+
+    /* User defined signals */
+    OVEN_COOL_SIG,
+    OVEN_HEAT_SIG,
+
+    /* Timer Event signals */
+    IDLE_TIMER_SIG,
+    SETTLE_TIMER_SIG,
+
+    /* Maximum signal id */
+    Q_BAIL_SIG = 0x7FFFFFF-1 /* Internal: terminate region/submachine */,
+    MAX_SIG    = 0x7FFFFFF   /* Last possible ID! */
+};
+
+/**
+ * Completion Event used to signal completion of, and thus enable exiting
+ * out of, Composite and SubMachine States.  For Submachine State, event carries
+ * the ID of instance -- enum value of containing substate -- that terminated.
+ * If applicable, Substate event also carries exit point used.
+ * 
+ * Making this a C Union ensures that just enough memory is allocated to
+ * contain the largest event type.
+ */
+typedef union {
+    struct {
+        QEvt super;  // C-style inheritance: QEvt is base type
+        int32_t substate;   // containing substate for Submachine completion
+        int32_t exitPoint;  // exitPoint used to exit Submachine, if applicable
+    } completion_evt;
+
+    QEvt base_evt;  // Mission-defined base event
+} QCompletionEvt;
+
+#endif /* OVEN_STATECHART_SIGNALS_H_ */
@@ -0,0 +1,40 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ * - Generated State Machine (Comodo Component):
+ *      multiOrtho
+ * 
+ */
+
+
+ 
+
+#ifndef BLINKYCHOICE_MULTIORTHO_IMPL_H
+#define BLINKYCHOICE_MULTIORTHO_IMPL_H
+
+#include <qf_port.h>
+#include <qassert.h>
+
+
+typedef struct blinkyChoice_multiOrtho_impl {
+    char machineName[128];
+    /** Cache of pointer to the container QActive object, for ease of access */
+    QActive *active;
+
+
+
+} blinkyChoice_multiOrtho_impl;
+
+blinkyChoice_multiOrtho_impl *blinkyChoice_multiOrtho_impl_constructor (blinkyChoice_multiOrtho_impl *mepl);  // Default constructor
+void blinkyChoice_multiOrtho_impl_set_qactive (blinkyChoice_multiOrtho_impl *mepl, QActive *active);
+
+////////////////////////////////////////////
+// Action and guard implementation methods
+////////////////////////////////////////////
+
+#endif  /* BLINKYCHOICE_MULTIORTHO_IMPL_H */
+
@@ -0,0 +1,77 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ */
+
+
+ 
+
+#ifndef BLINKYCHOICE_STATECHART_SIGNALS_H_
+#define BLINKYCHOICE_STATECHART_SIGNALS_H_
+
+enum blinkyChoice_statechart_signals {
+    /* "During" signal */
+    DURING = Q_USER_SIG,
+
+    /* User defined, timer and state-machine internal signals, grouped by handling state machines */
+    /* blinkyChoice_AbsoluteTimerSM, blinkyChoice_RelativeTimerSM, blinkyChoice_historySM, blinkyChoice_mode, blinkyChoice_multiOrtho, blinkyChoice_orthogonal */
+    BLINKYCHOICE_TURN_OFF_SIG,
+
+    /* blinkyChoice_historySM, blinkyChoice_mode, blinkyChoice_multiOrtho, blinkyChoice_orthogonal */
+    BLINKYCHOICE_TURN_ON_SIG,
+    BLINKYCHOICE_WIF_HEY_SIG,
+
+    /* blinkyChoice_AbsoluteTimerSM, blinkyChoice_RelativeTimerSM */
+    INITSTATE_TIMER_SIG,
+
+    /* blinkyChoice_RelativeTimerSM */
+    _SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_,
+
+    /* blinkyChoice_historySM */
+    ON_TIMER_SIG,
+    _SIG_BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_COMPLETE_,
+
+    /* blinkyChoice_mode */
+    _SIG_BLINKYCHOICE_MODE_COMPLETE_,
+
+    /* blinkyChoice_multiOrtho */
+    _SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_COMPLETE_,
+    _SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_COMPLETE_,
+
+    /* blinkyChoice_orthogonal */
+    STATE2_TIMER_SIG,
+    _SIG_BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_COMPLETE_,
+
+
+    /* End of the dense signal range */
+    BLINKYCHOICE_SIG_END,
+
+    /* Maximum signal id */
+    Q_BAIL_SIG = 0x7FFFFFF-1 /* Internal: terminate region/submachine */,
+    MAX_SIG    = 0x7FFFFFF   /* Last possible ID! */
+};
+
+/**
+ * Completion Event used to signal completion of, and thus enable exiting
+ * out of, Composite and SubMachine States.  For Submachine State, event carries
+ * the ID of instance -- enum value of containing substate -- that terminated.
+ * If applicable, Substate event also carries exit point used.
+ * 
+ * Making this a C Union ensures that just enough memory is allocated to
+ * contain the largest event type.
+ */
+typedef union {
+    struct {
+        QEvt super;  // C-style inheritance: QEvt is base type
+        int32_t substate;   // containing substate for Submachine completion
+        int32_t exitPoint;  // exitPoint used to exit Submachine, if applicable
+    } completion_evt;
+
+    QEvt base_evt;  // Mission-defined base event
+} QCompletionEvt;
+
+#endif /* BLINKYCHOICE_STATECHART_SIGNALS_H_ */
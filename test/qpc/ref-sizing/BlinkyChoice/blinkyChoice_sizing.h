@@ -0,0 +1,48 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ */
+
+
+ 
+
+#ifndef BLINKYCHOICE_SIZING_H_
+#define BLINKYCHOICE_SIZING_H_
+
+/*
+ * Event pool and queue sizing (-c SIZING).
+ * Upper bounds computed from the model, see blinkyChoice_sizing.txt for the details.
+ */
+/* blinkyChoice_mode: 4 handled signals, 0 timers, worst step: choice -> finalState0 */
+#define BLINKYCHOICE_MODE_QUEUE_DEPTH 4U
+#define BLINKYCHOICE_MODE_MAX_PUBLISH_PER_RTC 3U
+
+/* blinkyChoice_historySM: 4 handled signals, 1 timers, worst step: choice -> finalState0 */
+#define BLINKYCHOICE_HISTORYSM_QUEUE_DEPTH 5U
+#define BLINKYCHOICE_HISTORYSM_MAX_PUBLISH_PER_RTC 1U
+
+/* blinkyChoice_orthogonal: 4 handled signals, 1 timers, worst step: orthogonalState on TURN_ON */
+#define BLINKYCHOICE_ORTHOGONAL_QUEUE_DEPTH 5U
+#define BLINKYCHOICE_ORTHOGONAL_MAX_PUBLISH_PER_RTC 2U
+
+/* blinkyChoice_RelativeTimerSM: 2 handled signals, 1 timers, worst step: Relative_state1 -> finalState0 on TURN_OFF */
+#define BLINKYCHOICE_RELATIVETIMERSM_QUEUE_DEPTH 3U
+#define BLINKYCHOICE_RELATIVETIMERSM_MAX_PUBLISH_PER_RTC 1U
+
+/* blinkyChoice_AbsoluteTimerSM: 1 handled signals, 1 timers, worst step: - */
+#define BLINKYCHOICE_ABSOLUTETIMERSM_QUEUE_DEPTH 2U
+#define BLINKYCHOICE_ABSOLUTETIMERSM_MAX_PUBLISH_PER_RTC 0U
+
+/* blinkyChoice_multiOrtho: 5 handled signals, 0 timers, worst step: unnamedState0 on TURN_OFF */
+#define BLINKYCHOICE_MULTIORTHO_QUEUE_DEPTH 5U
+#define BLINKYCHOICE_MULTIORTHO_MAX_PUBLISH_PER_RTC 2U
+
+
+/* Dynamic events (Q_NEW) in flight when every active object runs its worst step */
+#define BLINKYCHOICE_EVENT_POOL_SIZE 2U
+
+#endif /* BLINKYCHOICE_SIZING_H_ */
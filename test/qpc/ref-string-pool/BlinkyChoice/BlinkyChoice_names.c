@@ -0,0 +1,139 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      BlinkyChoice
+ *
+ */
+
+
+ 
+
+#include <BlinkyChoice_names.h>
+#include <blinkyChoice_mode_states.h>
+#include <blinkyChoice_historySM_states.h>
+#include <blinkyChoice_orthogonal_states.h>
+#include <blinkyChoice_RelativeTimerSM_states.h>
+#include <blinkyChoice_AbsoluteTimerSM_states.h>
+#include <blinkyChoice_multiOrtho_states.h>
+
+static const char BlinkyChoice_names[1283] = 
+    "Q_ENTRY_SIG\0" /* 0 */
+    "Q_EXIT_SIG\0" /* 12 */
+    "Q_INIT_SIG\0" /* 23 */
+    "mode\0" /* 34 */
+    "unnamedState0\0" /* 39 */
+    "BLINKYCHOICE_TURN_OFF_SIG\0" /* 53 */
+    "BLINKYCHOICE_TURN_ON_SIG\0" /* 79 */
+    "BLINKYCHOICE_WIF_HEY_SIG\0" /* 104 */
+    "_SIG_BLINKYCHOICE_MODE_COMPLETE_\0" /* 129 */
+    "historySM\0" /* 162 */
+    "backup\0" /* 172 */
+    "composite\0" /* 179 */
+    "composite::off\0" /* 189 */
+    "composite::off::finalState0\0" /* 204 */
+    "composite::off::offInternaal\0" /* 232 */
+    "composite::off::subsubstate\0" /* 261 */
+    "composite::on\0" /* 289 */
+    "initState\0" /* 303 */
+    "ON_TIMER_SIG\0" /* 313 */
+    "_SIG_BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_COMPLETE_\0" /* 326 */
+    "orthogonal\0" /* 378 */
+    "init\0" /* 389 */
+    "orthogonalState\0" /* 394 */
+    "orthogonalState:region1:finalState0\0" /* 410 */
+    "orthogonalState:region1:state1\0" /* 446 */
+    "orthogonalState:region2:finalState1\0" /* 477 */
+    "orthogonalState:region2:state2\0" /* 513 */
+    "orthogonalState_region1\0" /* 544 */
+    "orthogonalState_region2\0" /* 568 */
+    "STATE2_TIMER_SIG\0" /* 592 */
+    "_SIG_BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_COMPLETE_\0" /* 609 */
+    "RelativeTimerSM\0" /* 664 */
+    "Relative_state1\0" /* 680 */
+    "INITSTATE_TIMER_SIG\0" /* 696 */
+    "_SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_\0" /* 716 */
+    "AbsoluteTimerSM\0" /* 760 */
+    "Absolute_state2\0" /* 776 */
+    "multiOrtho\0" /* 792 */
+    "hryoo\0" /* 803 */
+    "unnamedState0:region1:finalState0\0" /* 809 */
+    "unnamedState0:region1:state1\0" /* 843 */
+    "unnamedState0:region2:finalState1\0" /* 872 */
+    "unnamedState0:region2:state2\0" /* 906 */
+    "unnamedState1\0" /* 935 */
+    "unnamedState1:region3:finalState2\0" /* 949 */
+    "unnamedState1:region3:unnamedState2\0" /* 983 */
+    "unnamedState1:region4:finalState3\0" /* 1019 */
+    "unnamedState1:region4:unnamedState3\0" /* 1053 */
+    "unnamedState0_region1\0" /* 1089 */
+    "unnamedState0_region2\0" /* 1111 */
+    "unnamedState1_region3\0" /* 1133 */
+    "unnamedState1_region4\0" /* 1155 */
+    "_SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_COMPLETE_\0" /* 1177 */
+    "_SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_COMPLETE_\0" /* 1230 */
+;
+
+const char *BlinkyChoice_name(BlinkyChoice_name_id id) {
+    return &BlinkyChoice_names[id];
+}
+
+
+const BlinkyChoice_name_id blinkyChoice_mode_state_names[] = {
+    [BLINKYCHOICE_MODE__TOP__] = BlinkyChoice_NAME_mode,
+    [BLINKYCHOICE_MODE_FINALSTATE0] = BlinkyChoice_NAME_finalState0,
+    [BLINKYCHOICE_MODE_OFF] = BlinkyChoice_NAME_off,
+    [BLINKYCHOICE_MODE_ON] = BlinkyChoice_NAME_on,
+    [BLINKYCHOICE_MODE_UNNAMEDSTATE0] = BlinkyChoice_NAME_unnamedState0
+};
+
+const BlinkyChoice_name_id blinkyChoice_historySM_state_names[] = {
+    [BLINKYCHOICE_HISTORYSM__TOP__] = BlinkyChoice_NAME_historySM,
+    [BLINKYCHOICE_HISTORYSM_BACKUP] = BlinkyChoice_NAME_backup,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE] = BlinkyChoice_NAME_composite,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF] = BlinkyChoice_NAME_composite__off,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_FINALSTATE0] = BlinkyChoice_NAME_composite__off__finalState0,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_OFFINTERNAAL] = BlinkyChoice_NAME_composite__off__offInternaal,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_SUBSUBSTATE] = BlinkyChoice_NAME_composite__off__subsubstate,
+    [BLINKYCHOICE_HISTORYSM_COMPOSITE_ON] = BlinkyChoice_NAME_composite__on,
+    [BLINKYCHOICE_HISTORYSM_INITSTATE] = BlinkyChoice_NAME_initState
+};
+
+const BlinkyChoice_name_id blinkyChoice_orthogonal_state_names[] = {
+    [BLINKYCHOICE_ORTHOGONAL__TOP__] = BlinkyChoice_NAME_orthogonal,
+    [BLINKYCHOICE_ORTHOGONAL_INIT] = BlinkyChoice_NAME_init,
+    [BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE] = BlinkyChoice_NAME_orthogonalState,
+    [BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_REGION1_FINALSTATE0] = BlinkyChoice_NAME_orthogonalState_region1_finalState0,
+    [BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_REGION1_STATE1] = BlinkyChoice_NAME_orthogonalState_region1_state1,
+    [BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_REGION2_FINALSTATE1] = BlinkyChoice_NAME_orthogonalState_region2_finalState1,
+    [BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_REGION2_STATE2] = BlinkyChoice_NAME_orthogonalState_region2_state2
+};
+
+const BlinkyChoice_name_id blinkyChoice_RelativeTimerSM_state_names[] = {
+    [BLINKYCHOICE_RELATIVETIMERSM__TOP__] = BlinkyChoice_NAME_RelativeTimerSM,
+    [BLINKYCHOICE_RELATIVETIMERSM_RELATIVE_STATE1] = BlinkyChoice_NAME_Relative_state1,
+    [BLINKYCHOICE_RELATIVETIMERSM_FINALSTATE0] = BlinkyChoice_NAME_finalState0,
+    [BLINKYCHOICE_RELATIVETIMERSM_INITSTATE] = BlinkyChoice_NAME_initState
+};
+
+const BlinkyChoice_name_id blinkyChoice_AbsoluteTimerSM_state_names[] = {
+    [BLINKYCHOICE_ABSOLUTETIMERSM__TOP__] = BlinkyChoice_NAME_AbsoluteTimerSM,
+    [BLINKYCHOICE_ABSOLUTETIMERSM_ABSOLUTE_STATE2] = BlinkyChoice_NAME_Absolute_state2,
+    [BLINKYCHOICE_ABSOLUTETIMERSM_INITSTATE] = BlinkyChoice_NAME_initState
+};
+
+const BlinkyChoice_name_id blinkyChoice_multiOrtho_state_names[] = {
+    [BLINKYCHOICE_MULTIORTHO__TOP__] = BlinkyChoice_NAME_multiOrtho,
+    [BLINKYCHOICE_MULTIORTHO_HRYOO] = BlinkyChoice_NAME_hryoo,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0] = BlinkyChoice_NAME_unnamedState0,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_REGION1_FINALSTATE0] = BlinkyChoice_NAME_unnamedState0_region1_finalState0,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_REGION1_STATE1] = BlinkyChoice_NAME_unnamedState0_region1_state1,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_REGION2_FINALSTATE1] = BlinkyChoice_NAME_unnamedState0_region2_finalState1,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_REGION2_STATE2] = BlinkyChoice_NAME_unnamedState0_region2_state2,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1] = BlinkyChoice_NAME_unnamedState1,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_REGION3_FINALSTATE2] = BlinkyChoice_NAME_unnamedState1_region3_finalState2,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_REGION3_UNNAMEDSTATE2] = BlinkyChoice_NAME_unnamedState1_region3_unnamedState2,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_REGION4_FINALSTATE3] = BlinkyChoice_NAME_unnamedState1_region4_finalState3,
+    [BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_REGION4_UNNAMEDSTATE3] = BlinkyChoice_NAME_unnamedState1_region4_unnamedState3
+};
@@ -0,0 +1,98 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      BlinkyChoice
+ *
+ */
+
+
+ 
+
+#ifndef BLINKYCHOICE_NAMES_H_
+#define BLINKYCHOICE_NAMES_H_
+
+#include <stdint.h>
+
+/*
+ * Names of the states, regions and signals of the module (-c STRING_POOL).
+ * A name is identified by its offset in the string table (1283 bytes),
+ * names that are the suffix of another name share its characters.
+ */
+typedef uint16_t BlinkyChoice_name_id;
+
+enum BlinkyChoice_names {
+    BlinkyChoice_NAME_Q_ENTRY_SIG = 0U, /* Q_ENTRY_SIG */
+    BlinkyChoice_NAME_Q_EXIT_SIG = 12U, /* Q_EXIT_SIG */
+    BlinkyChoice_NAME_Q_INIT_SIG = 23U, /* Q_INIT_SIG */
+    BlinkyChoice_NAME_mode = 34U, /* mode */
+    BlinkyChoice_NAME_finalState0 = 831U, /* finalState0 */
+    BlinkyChoice_NAME_off = 200U, /* off */
+    BlinkyChoice_NAME_on = 300U, /* on */
+    BlinkyChoice_NAME_unnamedState0 = 39U, /* unnamedState0 */
+    BlinkyChoice_NAME_BLINKYCHOICE_TURN_OFF_SIG = 53U, /* BLINKYCHOICE_TURN_OFF_SIG */
+    BlinkyChoice_NAME_BLINKYCHOICE_TURN_ON_SIG = 79U, /* BLINKYCHOICE_TURN_ON_SIG */
+    BlinkyChoice_NAME_BLINKYCHOICE_WIF_HEY_SIG = 104U, /* BLINKYCHOICE_WIF_HEY_SIG */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_MODE_COMPLETE_ = 129U, /* _SIG_BLINKYCHOICE_MODE_COMPLETE_ */
+    BlinkyChoice_NAME_historySM = 162U, /* historySM */
+    BlinkyChoice_NAME_backup = 172U, /* backup */
+    BlinkyChoice_NAME_composite = 179U, /* composite */
+    BlinkyChoice_NAME_composite__off = 189U, /* composite::off */
+    BlinkyChoice_NAME_composite__off__finalState0 = 204U, /* composite::off::finalState0 */
+    BlinkyChoice_NAME_composite__off__offInternaal = 232U, /* composite::off::offInternaal */
+    BlinkyChoice_NAME_composite__off__subsubstate = 261U, /* composite::off::subsubstate */
+    BlinkyChoice_NAME_composite__on = 289U, /* composite::on */
+    BlinkyChoice_NAME_initState = 303U, /* initState */
+    BlinkyChoice_NAME_ON_TIMER_SIG = 313U, /* ON_TIMER_SIG */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_COMPLETE_ = 326U, /* _SIG_BLINKYCHOICE_HISTORYSM_COMPOSITE_OFF_COMPLETE_ */
+    BlinkyChoice_NAME_orthogonal = 378U, /* orthogonal */
+    BlinkyChoice_NAME_init = 389U, /* init */
+    BlinkyChoice_NAME_orthogonalState = 394U, /* orthogonalState */
+    BlinkyChoice_NAME_orthogonalState_region1_finalState0 = 410U, /* orthogonalState:region1:finalState0 */
+    BlinkyChoice_NAME_orthogonalState_region1_state1 = 446U, /* orthogonalState:region1:state1 */
+    BlinkyChoice_NAME_orthogonalState_region2_finalState1 = 477U, /* orthogonalState:region2:finalState1 */
+    BlinkyChoice_NAME_orthogonalState_region2_state2 = 513U, /* orthogonalState:region2:state2 */
+    BlinkyChoice_NAME_orthogonalState_region1 = 544U, /* orthogonalState_region1 */
+    BlinkyChoice_NAME_orthogonalState_region2 = 568U, /* orthogonalState_region2 */
+    BlinkyChoice_NAME_STATE2_TIMER_SIG = 592U, /* STATE2_TIMER_SIG */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_COMPLETE_ = 609U, /* _SIG_BLINKYCHOICE_ORTHOGONAL_ORTHOGONALSTATE_COMPLETE_ */
+    BlinkyChoice_NAME_RelativeTimerSM = 664U, /* RelativeTimerSM */
+    BlinkyChoice_NAME_Relative_state1 = 680U, /* Relative_state1 */
+    BlinkyChoice_NAME_INITSTATE_TIMER_SIG = 696U, /* INITSTATE_TIMER_SIG */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_ = 716U, /* _SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_ */
+    BlinkyChoice_NAME_AbsoluteTimerSM = 760U, /* AbsoluteTimerSM */
+    BlinkyChoice_NAME_Absolute_state2 = 776U, /* Absolute_state2 */
+    BlinkyChoice_NAME_multiOrtho = 792U, /* multiOrtho */
+    BlinkyChoice_NAME_hryoo = 803U, /* hryoo */
+    BlinkyChoice_NAME_unnamedState0_region1_finalState0 = 809U, /* unnamedState0:region1:finalState0 */
+    BlinkyChoice_NAME_unnamedState0_region1_state1 = 843U, /* unnamedState0:region1:state1 */
+    BlinkyChoice_NAME_unnamedState0_region2_finalState1 = 872U, /* unnamedState0:region2:finalState1 */
+    BlinkyChoice_NAME_unnamedState0_region2_state2 = 906U, /* unnamedState0:region2:state2 */
+    BlinkyChoice_NAME_unnamedState1 = 935U, /* unnamedState1 */
+    BlinkyChoice_NAME_unnamedState1_region3_finalState2 = 949U, /* unnamedState1:region3:finalState2 */
+    BlinkyChoice_NAME_unnamedState1_region3_unnamedState2 = 983U, /* unnamedState1:region3:unnamedState2 */
+    BlinkyChoice_NAME_unnamedState1_region4_finalState3 = 1019U, /* unnamedState1:region4:finalState3 */
+    BlinkyChoice_NAME_unnamedState1_region4_unnamedState3 = 1053U, /* unnamedState1:region4:unnamedState3 */
+    BlinkyChoice_NAME_unnamedState0_region1 = 1089U, /* unnamedState0_region1 */
+    BlinkyChoice_NAME_unnamedState0_region2 = 1111U, /* unnamedState0_region2 */
+    BlinkyChoice_NAME_unnamedState1_region3 = 1133U, /* unnamedState1_region3 */
+    BlinkyChoice_NAME_unnamedState1_region4 = 1155U, /* unnamedState1_region4 */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_COMPLETE_ = 1177U, /* _SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE0_COMPLETE_ */
+    BlinkyChoice_NAME__SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_COMPLETE_ = 1230U, /* _SIG_BLINKYCHOICE_MULTIORTHO_UNNAMEDSTATE1_COMPLETE_ */
+};
+
+/**
+ * @return the null-terminated name with the given id.
+ */
+const char *BlinkyChoice_name(BlinkyChoice_name_id id);
+
+/* State enumeration -> name of the state */
+extern const BlinkyChoice_name_id blinkyChoice_mode_state_names[];
+extern const BlinkyChoice_name_id blinkyChoice_historySM_state_names[];
+extern const BlinkyChoice_name_id blinkyChoice_orthogonal_state_names[];
+extern const BlinkyChoice_name_id blinkyChoice_RelativeTimerSM_state_names[];
+extern const BlinkyChoice_name_id blinkyChoice_AbsoluteTimerSM_state_names[];
+extern const BlinkyChoice_name_id blinkyChoice_multiOrtho_state_names[];
+
+#endif /* BLINKYCHOICE_NAMES_H_ */
@@ -0,0 +1,184 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ * - Generated State Machine (Comodo Component):
+ *      AbsoluteTimerSM
+ * 
+ *
+ * ############### Requirements ###############
+ *  Implements: 
+ * - https://<traceability-service-hostname>/724776 
+ * - https://<traceability-service-hostname>/724777 
+ *
+ * ############################################
+ *
+ */
+
+
+ 
+#include <stdio.h>
+#include <string.h>
+#include <log_event.h>
+#include <assert.h>
+#include <blinkyChoice_AbsoluteTimerSM.h>
+#include <blinkyChoice_AbsoluteTimerSM_impl.h>
+
+
+
+
+
+/**
+ * blinkyChoice_AbsoluteTimerSM Constructor
+ */
+blinkyChoice_AbsoluteTimerSM *blinkyChoice_AbsoluteTimerSM_constructor (blinkyChoice_AbsoluteTimerSM *me, const char *objNameNew, blinkyChoice_AbsoluteTimerSM_impl *implObj, QActive *active) {
+    QActive_ctor((QActive *)me, (QStateHandler )&blinkyChoice_AbsoluteTimerSM_initial);
+    strncpy(me->objName, objNameNew, 128);
+    strncat(me->objName, ":blinkyChoice_AbsoluteTimerSM", 128-strlen(me->objName));
+    me->impl = implObj;
+    if (0 == active) {  // self IS the active object
+        me->active = (QActive *)me;
+    } else {  // set containing machine as active object
+        me->active = active;
+    }
+    blinkyChoice_AbsoluteTimerSM_impl_set_qactive(me->impl, me->active);  // give impl access to parent QActive
+
+    // Timer events initialized here
+    QTimeEvt_ctor(&(me->initStateRelativeTimer), INITSTATE_TIMER_SIG);
+
+    // State is initially at TOP
+    me->myState = BLINKYCHOICE_ABSOLUTETIMERSM__TOP__;
+
+    return me;
+}
+
+blinkyChoice_AbsoluteTimerSM_impl *blinkyChoice_AbsoluteTimerSM_get_impl (blinkyChoice_AbsoluteTimerSM *me) {
+    return me->impl;
+}
+
+blinkyChoice_AbsoluteTimerSM_state blinkyChoice_AbsoluteTimerSM_get_current_state (blinkyChoice_AbsoluteTimerSM *me) {
+    return me->myState;
+}
+
+/**
+ * Transition tables (-c TABLE)
+ *
+ * 2 transitions in 2 state tables, 0 guards, 0 actions.
+ * Estimated const data: 24 bytes (32 bit target, 8 bytes per row).
+ */
+typedef bool (*blinkyChoice_AbsoluteTimerSM_guard)(blinkyChoice_AbsoluteTimerSM * const me, QEvt const * const e);
+typedef void (*blinkyChoice_AbsoluteTimerSM_action)(blinkyChoice_AbsoluteTimerSM * const me, QEvt const * const e);
+
+typedef struct {
+    QSignal sig;
+    uint8_t guard;   /* index in blinkyChoice_AbsoluteTimerSM_guards, 0 = no guard */
+    uint8_t action;  /* index in blinkyChoice_AbsoluteTimerSM_actions, 0 = no action */
+    QStateHandler target;  /* NULL = internal transition */
+} blinkyChoice_AbsoluteTimerSM_transition;
+
+static blinkyChoice_AbsoluteTimerSM_guard const blinkyChoice_AbsoluteTimerSM_guards[] = {
+    NULL,
+};
+
+static blinkyChoice_AbsoluteTimerSM_action const blinkyChoice_AbsoluteTimerSM_actions[] = {
+    NULL,
+};
+
+/* Absolute_state2 */
+static blinkyChoice_AbsoluteTimerSM_transition const blinkyChoice_AbsoluteTimerSM_Absolute_state2_table[] = {
+    { BLINKYCHOICE_TURN_OFF_SIG, 0, 0, Q_STATE_CAST(&blinkyChoice_AbsoluteTimerSM_initState) }
+};
+
+/* initState */
+static blinkyChoice_AbsoluteTimerSM_transition const blinkyChoice_AbsoluteTimerSM_initState_table[] = {
+    { INITSTATE_TIMER_SIG, 0, 0, Q_STATE_CAST(&blinkyChoice_AbsoluteTimerSM_Absolute_state2) }
+};
+
+
+/**
+ * Generic dispatcher: looks up the signal of e in the transition table of a state.
+ * Rows with the same signal are evaluated in order, the first one whose guard holds is taken.
+ * If the signal is in the table but no guard holds, the event is handled (not passed to the superstate).
+ * @return true if the event was handled, with the QPC return status in *status.
+ */
+static bool blinkyChoice_AbsoluteTimerSM_dispatch (blinkyChoice_AbsoluteTimerSM * const me, QEvt const * const e,
+        blinkyChoice_AbsoluteTimerSM_transition const * const table, uint_fast16_t const n, QState * const status) {
+    bool matched = false;
+    for (uint_fast16_t i = 0U; i < n; ++i) {
+        if (table[i].sig != e->sig) {
+            continue;
+        }
+        matched = true;
+        if ((table[i].guard != 0U) && !(*blinkyChoice_AbsoluteTimerSM_guards[table[i].guard])(me, e)) {
+            continue;
+        }
+        if (table[i].action != 0U) {
+            (*blinkyChoice_AbsoluteTimerSM_actions[table[i].action])(me, e);
+        }
+        *status = (table[i].target == NULL) ? Q_HANDLED() : Q_TRAN(table[i].target);
+        return true;
+    }
+    if (matched) {
+        *status = Q_HANDLED();
+    }
+    return matched;
+}
+
+/**
+ * initial state definition
+ */
+QState blinkyChoice_AbsoluteTimerSM_initial (blinkyChoice_AbsoluteTimerSM *me, QEvt const *e) {
+    // Subscribe to all the signals to which this state machine needs to respond.
+	if (me->active == (QActive *)me) {
+		QActive_subscribe(me->active, BLINKYCHOICE_TURN_OFF_SIG);
+	}
+
+    return Q_TRAN(&blinkyChoice_AbsoluteTimerSM_initState);
+}
+
+/**
+ * Absolute_state2 state definition
+ */
+QState blinkyChoice_AbsoluteTimerSM_Absolute_state2 (blinkyChoice_AbsoluteTimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_ABSOLUTETIMERSM_ABSOLUTE_STATE2;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    QState status;
+    if (blinkyChoice_AbsoluteTimerSM_dispatch(me, e, blinkyChoice_AbsoluteTimerSM_Absolute_state2_table, Q_DIM(blinkyChoice_AbsoluteTimerSM_Absolute_state2_table), &status)) {
+        return status;
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * initState state definition
+ */
+QState blinkyChoice_AbsoluteTimerSM_initState (blinkyChoice_AbsoluteTimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_ABSOLUTETIMERSM_INITSTATE;
+            QTimeEvt_postIn(&(me->initStateRelativeTimer), me->active, 6s);
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            QTimeEvt_disarm(&(me->initStateRelativeTimer));
+            return Q_HANDLED();
+
+
+    }
+    QState status;
+    if (blinkyChoice_AbsoluteTimerSM_dispatch(me, e, blinkyChoice_AbsoluteTimerSM_initState_table, Q_DIM(blinkyChoice_AbsoluteTimerSM_initState_table), &status)) {
+        return status;
+    }
+    return Q_SUPER(&QHsm_top);
+}
@@ -0,0 +1,203 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ * - Generated State Machine (Comodo Component):
+ *      RelativeTimerSM
+ * 
+ *
+ * ############### Requirements ###############
+ *  Implements: 
+ * - https://<traceability-service-hostname>/724776 
+ * - https://<traceability-service-hostname>/724777 
+ *
+ * ############################################
+ *
+ */
+
+
+ 
+#include <stdio.h>
+#include <string.h>
+#include <log_event.h>
+#include <assert.h>
+#include <blinkyChoice_RelativeTimerSM.h>
+#include <blinkyChoice_RelativeTimerSM_impl.h>
+
+
+
+
+
+/**
+ * blinkyChoice_RelativeTimerSM Constructor
+ */
+blinkyChoice_RelativeTimerSM *blinkyChoice_RelativeTimerSM_constructor (blinkyChoice_RelativeTimerSM *me, const char *objNameNew, blinkyChoice_RelativeTimerSM_impl *implObj, QActive *active) {
+    QActive_ctor((QActive *)me, (QStateHandler )&blinkyChoice_RelativeTimerSM_initial);
+    strncpy(me->objName, objNameNew, 128);
+    strncat(me->objName, ":blinkyChoice_RelativeTimerSM", 128-strlen(me->objName));
+    me->impl = implObj;
+    if (0 == active) {  // self IS the active object
+        me->active = (QActive *)me;
+    } else {  // set containing machine as active object
+        me->active = active;
+    }
+    blinkyChoice_RelativeTimerSM_impl_set_qactive(me->impl, me->active);  // give impl access to parent QActive
+
+    // Timer events initialized here
+    QTimeEvt_ctor(&(me->initStateRelativeTimer), INITSTATE_TIMER_SIG);
+
+    // State is initially at TOP
+    me->myState = BLINKYCHOICE_RELATIVETIMERSM__TOP__;
+
+    return me;
+}
+
+blinkyChoice_RelativeTimerSM_impl *blinkyChoice_RelativeTimerSM_get_impl (blinkyChoice_RelativeTimerSM *me) {
+    return me->impl;
+}
+
+blinkyChoice_RelativeTimerSM_state blinkyChoice_RelativeTimerSM_get_current_state (blinkyChoice_RelativeTimerSM *me) {
+    return me->myState;
+}
+
+/**
+ * Transition tables (-c TABLE)
+ *
+ * 1 transitions in 1 state tables, 0 guards, 0 actions.
+ * Estimated const data: 16 bytes (32 bit target, 8 bytes per row).
+ */
+typedef bool (*blinkyChoice_RelativeTimerSM_guard)(blinkyChoice_RelativeTimerSM * const me, QEvt const * const e);
+typedef void (*blinkyChoice_RelativeTimerSM_action)(blinkyChoice_RelativeTimerSM * const me, QEvt const * const e);
+
+typedef struct {
+    QSignal sig;
+    uint8_t guard;   /* index in blinkyChoice_RelativeTimerSM_guards, 0 = no guard */
+    uint8_t action;  /* index in blinkyChoice_RelativeTimerSM_actions, 0 = no action */
+    QStateHandler target;  /* NULL = internal transition */
+} blinkyChoice_RelativeTimerSM_transition;
+
+static blinkyChoice_RelativeTimerSM_guard const blinkyChoice_RelativeTimerSM_guards[] = {
+    NULL,
+};
+
+static blinkyChoice_RelativeTimerSM_action const blinkyChoice_RelativeTimerSM_actions[] = {
+    NULL,
+};
+
+/* initState */
+static blinkyChoice_RelativeTimerSM_transition const blinkyChoice_RelativeTimerSM_initState_table[] = {
+    { INITSTATE_TIMER_SIG, 0, 0, Q_STATE_CAST(&blinkyChoice_RelativeTimerSM_Relative_state1) }
+};
+
+
+/**
+ * Generic dispatcher: looks up the signal of e in the transition table of a state.
+ * Rows with the same signal are evaluated in order, the first one whose guard holds is taken.
+ * If the signal is in the table but no guard holds, the event is handled (not passed to the superstate).
+ * @return true if the event was handled, with the QPC return status in *status.
+ */
+static bool blinkyChoice_RelativeTimerSM_dispatch (blinkyChoice_RelativeTimerSM * const me, QEvt const * const e,
+        blinkyChoice_RelativeTimerSM_transition const * const table, uint_fast16_t const n, QState * const status) {
+    bool matched = false;
+    for (uint_fast16_t i = 0U; i < n; ++i) {
+        if (table[i].sig != e->sig) {
+            continue;
+        }
+        matched = true;
+        if ((table[i].guard != 0U) && !(*blinkyChoice_RelativeTimerSM_guards[table[i].guard])(me, e)) {
+            continue;
+        }
+        if (table[i].action != 0U) {
+            (*blinkyChoice_RelativeTimerSM_actions[table[i].action])(me, e);
+        }
+        *status = (table[i].target == NULL) ? Q_HANDLED() : Q_TRAN(table[i].target);
+        return true;
+    }
+    if (matched) {
+        *status = Q_HANDLED();
+    }
+    return matched;
+}
+
+/**
+ * initial state definition
+ */
+QState blinkyChoice_RelativeTimerSM_initial (blinkyChoice_RelativeTimerSM *me, QEvt const *e) {
+    // Subscribe to all the signals to which this state machine needs to respond.
+	if (me->active == (QActive *)me) {
+		QActive_subscribe(me->active, BLINKYCHOICE_TURN_OFF_SIG);
+		QActive_subscribe(me->active, _SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_);
+	}
+
+    return Q_TRAN(&blinkyChoice_RelativeTimerSM_initState);
+}
+
+/**
+ * Relative_state1 state definition
+ */
+QState blinkyChoice_RelativeTimerSM_Relative_state1 (blinkyChoice_RelativeTimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_RELATIVETIMERSM_RELATIVE_STATE1;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+        case BLINKYCHOICE_TURN_OFF_SIG:
+
+            me->BLINKYCHOICE_RELATIVETIMERSM_COMPLETION_EVENT_.completion_evt.super.sig = _SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_;
+            me->BLINKYCHOICE_RELATIVETIMERSM_COMPLETION_EVENT_.completion_evt.substate = NULL;  // Comodo functionality not implemented
+            QF_publish_(&(me->BLINKYCHOICE_RELATIVETIMERSM_COMPLETION_EVENT_.base_evt));
+            return Q_TRAN(&blinkyChoice_RelativeTimerSM_finalState0);
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * finalState0 state definition
+ */
+QState blinkyChoice_RelativeTimerSM_finalState0 (blinkyChoice_RelativeTimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case _SIG_BLINKYCHOICE_RELATIVETIMERSM_COMPLETE_:
+            return Q_HANDLED();
+
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_RELATIVETIMERSM_FINALSTATE0;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * initState state definition
+ */
+QState blinkyChoice_RelativeTimerSM_initState (blinkyChoice_RelativeTimerSM *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_RELATIVETIMERSM_INITSTATE;
+            QTimeEvt_postIn(&(me->initStateRelativeTimer), me->active, 5s);
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            QTimeEvt_disarm(&(me->initStateRelativeTimer));
+            return Q_HANDLED();
+
+
+    }
+    QState status;
+    if (blinkyChoice_RelativeTimerSM_dispatch(me, e, blinkyChoice_RelativeTimerSM_initState_table, Q_DIM(blinkyChoice_RelativeTimerSM_initState_table), &status)) {
+        return status;
+    }
+    return Q_SUPER(&QHsm_top);
+}
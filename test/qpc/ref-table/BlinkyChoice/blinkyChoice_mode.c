@@ -0,0 +1,254 @@
+/* 
+ * This code was generated by Comodo (https://github.com/Open-MBEE/Comodo) 
+ * using the QPC-C Target Platform
+ *
+ * - Generated Class (Comodo Module):
+ *      blinkyChoice
+ *
+ * - Generated State Machine (Comodo Component):
+ *      mode
+ * 
+ *
+ * ############### Requirements ###############
+ *  Implements: 
+ * - https://<traceability-service-hostname>/724776 
+ * - https://<traceability-service-hostname>/724777 
+ *
+ * ############################################
+ *
+ */
+
+
+ 
+#include <stdio.h>
+#include <string.h>
+#include <log_event.h>
+#include <assert.h>
+#include <blinkyChoice_mode.h>
+#include <blinkyChoice_mode_impl.h>
+
+
+
+
+
+/**
+ * blinkyChoice_mode Constructor
+ */
+blinkyChoice_mode *blinkyChoice_mode_constructor (blinkyChoice_mode *me, const char *objNameNew, blinkyChoice_mode_impl *implObj, QActive *active) {
+    QActive_ctor((QActive *)me, (QStateHandler )&blinkyChoice_mode_initial);
+    strncpy(me->objName, objNameNew, 128);
+    strncat(me->objName, ":blinkyChoice_mode", 128-strlen(me->objName));
+    me->impl = implObj;
+    if (0 == active) {  // self IS the active object
+        me->active = (QActive *)me;
+    } else {  // set containing machine as active object
+        me->active = active;
+    }
+    blinkyChoice_mode_impl_set_qactive(me->impl, me->active);  // give impl access to parent QActive
+
+    // State is initially at TOP
+    me->myState = BLINKYCHOICE_MODE__TOP__;
+
+    return me;
+}
+
+blinkyChoice_mode_impl *blinkyChoice_mode_get_impl (blinkyChoice_mode *me) {
+    return me->impl;
+}
+
+blinkyChoice_mode_state blinkyChoice_mode_get_current_state (blinkyChoice_mode *me) {
+    return me->myState;
+}
+
+/**
+ * Transition tables (-c TABLE)
+ *
+ * 2 transitions in 2 state tables, 0 guards, 0 actions.
+ * Estimated const data: 24 bytes (32 bit target, 8 bytes per row).
+ */
+typedef bool (*blinkyChoice_mode_guard)(blinkyChoice_mode * const me, QEvt const * const e);
+typedef void (*blinkyChoice_mode_action)(blinkyChoice_mode * const me, QEvt const * const e);
+
+typedef struct {
+    QSignal sig;
+    uint8_t guard;   /* index in blinkyChoice_mode_guards, 0 = no guard */
+    uint8_t action;  /* index in blinkyChoice_mode_actions, 0 = no action */
+    QStateHandler target;  /* NULL = internal transition */
+} blinkyChoice_mode_transition;
+
+static blinkyChoice_mode_guard const blinkyChoice_mode_guards[] = {
+    NULL,
+};
+
+static blinkyChoice_mode_action const blinkyChoice_mode_actions[] = {
+    NULL,
+};
+
+/* off */
+static blinkyChoice_mode_transition const blinkyChoice_mode_off_table[] = {
+    { BLINKYCHOICE_TURN_ON_SIG, 0, 0, Q_STATE_CAST(&blinkyChoice_mode_on) }
+};
+
+/* on */
+static blinkyChoice_mode_transition const blinkyChoice_mode_on_table[] = {
+    { BLINKYCHOICE_TURN_OFF_SIG, 0, 0, Q_STATE_CAST(&blinkyChoice_mode_off) }
+};
+
+
+/**
+ * Generic dispatcher: looks up the signal of e in the transition table of a state.
+ * Rows with the same signal are evaluated in order, the first one whose guard holds is taken.
+ * If the signal is in the table but no guard holds, the event is handled (not passed to the superstate).
+ * @return true if the event was handled, with the QPC return status in *status.
+ */
+static bool blinkyChoice_mode_dispatch (blinkyChoice_mode * const me, QEvt const * const e,
+        blinkyChoice_mode_transition const * const table, uint_fast16_t const n, QState * const status) {
+    bool matched = false;
+    for (uint_fast16_t i = 0U; i < n; ++i) {
+        if (table[i].sig != e->sig) {
+            continue;
+        }
+        matched = true;
+        if ((table[i].guard != 0U) && !(*blinkyChoice_mode_guards[table[i].guard])(me, e)) {
+            continue;
+        }
+        if (table[i].action != 0U) {
+            (*blinkyChoice_mode_actions[table[i].action])(me, e);
+        }
+        *status = (table[i].target == NULL) ? Q_HANDLED() : Q_TRAN(table[i].target);
+        return true;
+    }
+    if (matched) {
+        *status = Q_HANDLED();
+    }
+    return matched;
+}
+
+/**
+ * initial state definition
+ */
+QState blinkyChoice_mode_initial (blinkyChoice_mode *me, QEvt const *e) {
+    // Subscribe to all the signals to which this state machine needs to respond.
+	if (me->active == (QActive *)me) {
+		QActive_subscribe(me->active, BLINKYCHOICE_TURN_OFF_SIG);
+		QActive_subscribe(me->active, BLINKYCHOICE_TURN_ON_SIG);
+		QActive_subscribe(me->active, BLINKYCHOICE_WIF_HEY_SIG);
+		QActive_subscribe(me->active, _SIG_BLINKYCHOICE_MODE_COMPLETE_);
+	}
+
+    return Q_TRAN(&blinkyChoice_mode_unnamedState0);
+}
+
+/**
+ * finalState0 state definition
+ */
+QState blinkyChoice_mode_finalState0 (blinkyChoice_mode *me, QEvt const *e) {
+    switch (e->sig) {
+        case _SIG_BLINKYCHOICE_MODE_COMPLETE_:
+            return Q_HANDLED();
+
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_MODE_FINALSTATE0;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * off state definition
+ */
+QState blinkyChoice_mode_off (blinkyChoice_mode *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_MODE_OFF;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+        case BLINKYCHOICE_TURN_OFF_SIG:
+            if (blinkyChoice_mode_impl_hey(me->impl)){
+                return Q_TRAN(&blinkyChoice_mode_finalState0);
+            }
+
+            me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.completion_evt.super.sig = _SIG_BLINKYCHOICE_MODE_COMPLETE_;
+            me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.completion_evt.substate = NULL;  // Comodo functionality not implemented
+            QF_publish_(&(me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.base_evt));
+            return Q_HANDLED();
+
+
+    }
+    QState status;
+    if (blinkyChoice_mode_dispatch(me, e, blinkyChoice_mode_off_table, Q_DIM(blinkyChoice_mode_off_table), &status)) {
+        return status;
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * on state definition
+ */
+QState blinkyChoice_mode_on (blinkyChoice_mode *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_MODE_ON;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+
+    }
+    QState status;
+    if (blinkyChoice_mode_dispatch(me, e, blinkyChoice_mode_on_table, Q_DIM(blinkyChoice_mode_on_table), &status)) {
+        return status;
+    }
+    return Q_SUPER(&QHsm_top);
+}
+
+/**
+ * unnamedState0 state definition
+ */
+QState blinkyChoice_mode_unnamedState0 (blinkyChoice_mode *me, QEvt const *e) {
+    switch (e->sig) {
+        case Q_ENTRY_SIG:
+            me->myState = BLINKYCHOICE_MODE_UNNAMEDSTATE0;
+            return Q_HANDLED();
+
+        case Q_EXIT_SIG:
+            return Q_HANDLED();
+
+        case BLINKYCHOICE_WIF_HEY_SIG:
+            blinkyChoice_mode_impl_hello(me->impl);
+            if (blinkyChoice_mode_impl_heyoooo(me->impl, GUARD1, GUARD2)){
+                return Q_TRAN(&blinkyChoice_mode_on);
+            }
+            if (blinkyChoice_mode_impl_hyiiiqqq(me->impl)){
+                if (blinkyChoice_mode_impl_uuuueee(me->impl)){
+                    blinkyChoice_mode_impl_hello(me->impl);
+                    blinkyChoice_mode_impl_hiiiii(me->impl, AWC_2, AWWWW);
+                    QEvt *newEv0 = Q_NEW(QEvt, BLINKYCHOICE_WIF_HEY_SIG);
+                    QF_publish_(newEv0);
+                    QEvt *newEv1 = Q_NEW(QEvt, BLINKYCHOICE_TURN_ON_SIG);
+                    QF_publish_(newEv1);
+                    me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.completion_evt.super.sig = _SIG_BLINKYCHOICE_MODE_COMPLETE_;
+                    me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.completion_evt.substate = NULL;  // Comodo functionality not implemented
+                    QF_publish_(&(me->BLINKYCHOICE_MODE_COMPLETION_EVENT_.base_evt));
+                    return Q_TRAN(&blinkyChoice_mode_finalState0);
+                }
+                else {
+                    return Q_TRAN(&blinkyChoice_mode_on);
+                }
+            }
+
+            return Q_HANDLED();
+
+
+    }
+    return Q_SUPER(&QHsm_top);
+}